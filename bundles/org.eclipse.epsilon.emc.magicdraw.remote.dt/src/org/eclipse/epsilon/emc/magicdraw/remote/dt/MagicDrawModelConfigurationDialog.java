@@ -15,6 +15,10 @@ import java.io.File;
 import org.eclipse.epsilon.common.dt.launching.dialogs.AbstractCachedModelConfigurationDialog;
 import org.eclipse.epsilon.common.dt.util.DialogUtil;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
+import org.eclipse.epsilon.emc.magicdraw.remote.MDAccessPlan;
+import org.eclipse.epsilon.emc.magicdraw.remote.MDAccessProfiler;
+import org.eclipse.epsilon.emc.magicdraw.remote.MDCallPolicy;
+import org.eclipse.epsilon.emc.magicdraw.remote.MDRequestDispatcher;
 import org.eclipse.epsilon.emc.magicdraw.remote.MagicDrawModel;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ModifyEvent;
@@ -34,9 +38,23 @@ public class MagicDrawModelConfigurationDialog extends AbstractCachedModelConfig
 
 	private Text hostText;
 	private Text portText;
+	private Text socketPathText;
+	private Button inProcessCheck;
+	private Text channelCountText;
+	private Text replicasText;
+	private Text deadlinesText;
+	private Text maxAttemptsText;
+	private Text retryCodesText;
+	private Text hedgingPercentileText;
 	private Text rootHyperlinkText;
 
 	private Button closeOnDisposalCheck;
+	private Button lazyDecodingCheck;
+	private Button lazyExtentsCheck;
+	private Text prefetchTypesText;
+	private Text adaptivePrefetchThresholdText;
+	private Text accessPlanText;
+	private Text maxConcurrentRequestsText;
 	private Text projectURLText;
 
 	@Override
@@ -97,6 +115,54 @@ public class MagicDrawModelConfigurationDialog extends AbstractCachedModelConfig
 		closeOnDisposalCheck = new Button(groupContent, SWT.CHECK);		
 		closeOnDisposalCheck.setLayoutData(fillHorizontal(2));		
 
+		Label lazyDecodingLabel = new Label(groupContent, SWT.NONE);
+		lazyDecodingLabel.setText("Lazy element decoding:");
+		lazyDecodingLabel.setToolTipText("If checked, model elements in large collections will only be decoded when accessed");
+		lazyDecodingCheck = new Button(groupContent, SWT.CHECK);
+		lazyDecodingCheck.setLayoutData(fillHorizontal(2));
+		lazyDecodingCheck.setSelection(true);
+
+		Label lazyExtentsLabel = new Label(groupContent, SWT.NONE);
+		lazyExtentsLabel.setText("Lazy extents:");
+		lazyExtentsLabel.setToolTipText("If checked, the instances of a type will only be fetched when needed, "
+				+ "and their number will be computed inside MagicDraw");
+		lazyExtentsCheck = new Button(groupContent, SWT.CHECK);
+		lazyExtentsCheck.setLayoutData(fillHorizontal(2));
+		lazyExtentsCheck.setSelection(true);
+
+		Label prefetchTypesLabel = new Label(groupContent, SWT.NONE);
+		prefetchTypesLabel.setText("Prefetched types:");
+		prefetchTypesLabel.setToolTipText("Comma-separated list of types whose instances should be fetched "
+				+ "in a single request while loading the model (e.g. 'Class, Property, Association')");
+		prefetchTypesText = new Text(groupContent, SWT.BORDER);
+		prefetchTypesText.setLayoutData(fillHorizontal(2));
+
+		Label adaptivePrefetchThresholdLabel = new Label(groupContent, SWT.NONE);
+		adaptivePrefetchThresholdLabel.setText("Adaptive prefetch threshold:");
+		adaptivePrefetchThresholdLabel.setToolTipText("Number of elements of a type that need to have a feature read "
+				+ "before that feature is fetched in the background for the other elements of that type (0 disables this)");
+		adaptivePrefetchThresholdText = new Text(groupContent, SWT.BORDER);
+		adaptivePrefetchThresholdText.setLayoutData(fillHorizontal(2));
+		adaptivePrefetchThresholdText.setText(MDAccessProfiler.DEFAULT_THRESHOLD + "");
+
+		Label accessPlanLabel = new Label(groupContent, SWT.NONE);
+		accessPlanLabel.setText("Access plan:");
+		accessPlanLabel.setToolTipText("Comma-separated list of Type.feature entries that should be fetched "
+				+ "in bulk while loading the model (e.g. 'Class.name, Class.isAbstract, Property.type')");
+		accessPlanText = new Text(groupContent, SWT.BORDER);
+		accessPlanText.setLayoutData(fillHorizontal(2));
+		accessPlanText.addModifyListener(new ModifyListener() {
+			@Override
+			public void modifyText(ModifyEvent e) {
+				setErrorMessage(null);
+				try {
+					MDAccessPlan.parse(accessPlanText.getText());
+				} catch (IllegalArgumentException ex) {
+					setErrorMessage(ex.getMessage());
+				}
+			}
+		});
+
 		groupContent.layout();
 		groupContent.pack();
 	}
@@ -146,6 +212,74 @@ public class MagicDrawModelConfigurationDialog extends AbstractCachedModelConfig
 			}
 		});
 
+		Label socketPathLabel = new Label(groupContent, SWT.NONE);
+		socketPathLabel.setText("Unix socket path: ");
+		socketPathLabel.setToolTipText("If set, connects through this Unix domain socket instead of the host and port (Linux only)");
+
+		socketPathText = new Text(groupContent, SWT.BORDER);
+		socketPathText.setLayoutData(fillHorizontal());
+
+		Label inProcessLabel = new Label(groupContent, SWT.NONE);
+		inProcessLabel.setText("In-process: ");
+		inProcessLabel.setToolTipText("Calls the plugin directly instead of connecting to it: only for scripts running inside MagicDraw");
+
+		inProcessCheck = new Button(groupContent, SWT.CHECK);
+		inProcessCheck.setLayoutData(fillHorizontal());
+
+		Label channelCountLabel = new Label(groupContent, SWT.NONE);
+		channelCountLabel.setText("Connections: ");
+		channelCountLabel.setToolTipText("Number of connections to spread the requests over (shared with other models using the same server)");
+
+		channelCountText = new Text(groupContent, SWT.BORDER);
+		channelCountText.setLayoutData(fillHorizontal());
+		channelCountText.setText("1");
+
+		Label replicasLabel = new Label(groupContent, SWT.NONE);
+		replicasLabel.setText("Read replicas: ");
+		replicasLabel.setToolTipText("Comma-separated host:port list of other MagicDraw instances with the same project open, to spread reads over");
+
+		replicasText = new Text(groupContent, SWT.BORDER);
+		replicasText.setLayoutData(fillHorizontal());
+
+		Label deadlinesLabel = new Label(groupContent, SWT.NONE);
+		deadlinesLabel.setText("Deadlines (ms): ");
+		deadlinesLabel.setToolTipText("Comma-separated method=millis list of call deadlines, using 'default' for the other methods (e.g. default=30000,allOf=120000). "
+			+ "By default, calls have a deadline of " + MDCallPolicy.DEFAULT_DEADLINE_MILLIS + " ms, and long-running calls such as allOf have "
+			+ MDCallPolicy.DEFAULT_LONG_RUNNING_DEADLINE_MILLIS + " ms");
+
+		deadlinesText = new Text(groupContent, SWT.BORDER);
+		deadlinesText.setLayoutData(fillHorizontal());
+
+		Label maxAttemptsLabel = new Label(groupContent, SWT.NONE);
+		maxAttemptsLabel.setText("Max. attempts: ");
+		maxAttemptsLabel.setToolTipText("Maximum number of times a read is sent, including retries and hedged attempts (1 disables them)");
+
+		maxAttemptsText = new Text(groupContent, SWT.BORDER);
+		maxAttemptsText.setLayoutData(fillHorizontal());
+		maxAttemptsText.setText(MDCallPolicy.DEFAULT_MAX_ATTEMPTS + "");
+
+		Label retryCodesLabel = new Label(groupContent, SWT.NONE);
+		retryCodesLabel.setText("Retry on: ");
+		retryCodesLabel.setToolTipText("Comma-separated list of the gRPC status codes of the failed reads to retry (UNAVAILABLE if empty, e.g. UNAVAILABLE,DEADLINE_EXCEEDED)");
+
+		retryCodesText = new Text(groupContent, SWT.BORDER);
+		retryCodesText.setLayoutData(fillHorizontal());
+
+		Label hedgingPercentileLabel = new Label(groupContent, SWT.NONE);
+		hedgingPercentileLabel.setText("Hedging percentile: ");
+		hedgingPercentileLabel.setToolTipText("Latency percentile after which a second attempt of a read is sent to another connection or replica (empty disables hedging)");
+
+		hedgingPercentileText = new Text(groupContent, SWT.BORDER);
+		hedgingPercentileText.setLayoutData(fillHorizontal());
+
+		Label maxConcurrentRequestsLabel = new Label(groupContent, SWT.NONE);
+		maxConcurrentRequestsLabel.setText("Max. concurrent requests: ");
+		maxConcurrentRequestsLabel.setToolTipText("Maximum number of asynchronous requests that can be in flight at the same time");
+
+		maxConcurrentRequestsText = new Text(groupContent, SWT.BORDER);
+		maxConcurrentRequestsText.setLayoutData(fillHorizontal());
+		maxConcurrentRequestsText.setText(MDRequestDispatcher.DEFAULT_MAX_IN_FLIGHT + "");
+
 		groupContent.layout();
 		groupContent.pack();
 	}
@@ -157,9 +291,23 @@ public class MagicDrawModelConfigurationDialog extends AbstractCachedModelConfig
 
 		hostText.setText(properties.getProperty(MagicDrawModel.PROPERTY_HOST, ModelServiceConstants.DEFAULT_HOST));
 		portText.setText(properties.getProperty(MagicDrawModel.PROPERTY_PORT, ModelServiceConstants.DEFAULT_PORT + ""));
+		socketPathText.setText(properties.getProperty(MagicDrawModel.PROPERTY_SOCKET_PATH, ""));
+		inProcessCheck.setSelection(properties.getBooleanProperty(MagicDrawModel.PROPERTY_IN_PROCESS, false));
+		channelCountText.setText(properties.getProperty(MagicDrawModel.PROPERTY_CHANNEL_COUNT, "1"));
+		replicasText.setText(properties.getProperty(MagicDrawModel.PROPERTY_REPLICAS, ""));
+		deadlinesText.setText(properties.getProperty(MagicDrawModel.PROPERTY_DEADLINES, ""));
+		maxAttemptsText.setText(properties.getProperty(MagicDrawModel.PROPERTY_MAX_ATTEMPTS, MDCallPolicy.DEFAULT_MAX_ATTEMPTS + ""));
+		retryCodesText.setText(properties.getProperty(MagicDrawModel.PROPERTY_RETRY_CODES, ""));
+		hedgingPercentileText.setText(properties.getProperty(MagicDrawModel.PROPERTY_HEDGING_PERCENTILE, ""));
 		rootHyperlinkText.setText(properties.getProperty(MagicDrawModel.PROPERTY_ROOT_HYPERLINK));
 		closeOnDisposalCheck.setSelection(properties.getBooleanProperty(MagicDrawModel.PROPERTY_CLOSE_ON_DISPOSAL, false));
 		projectURLText.setText(properties.getProperty(MagicDrawModel.PROPERTY_PROJECT_URL, ""));
+		lazyDecodingCheck.setSelection(properties.getBooleanProperty(MagicDrawModel.PROPERTY_LAZY_DECODING, true));
+		lazyExtentsCheck.setSelection(properties.getBooleanProperty(MagicDrawModel.PROPERTY_LAZY_EXTENTS, true));
+		prefetchTypesText.setText(properties.getProperty(MagicDrawModel.PROPERTY_PREFETCH_TYPES, ""));
+		adaptivePrefetchThresholdText.setText(properties.getProperty(MagicDrawModel.PROPERTY_ADAPTIVE_PREFETCH_THRESHOLD, MDAccessProfiler.DEFAULT_THRESHOLD + ""));
+		accessPlanText.setText(properties.getProperty(MagicDrawModel.PROPERTY_ACCESS_PLAN, ""));
+		maxConcurrentRequestsText.setText(properties.getProperty(MagicDrawModel.PROPERTY_MAX_CONCURRENT_REQUESTS, MDRequestDispatcher.DEFAULT_MAX_IN_FLIGHT + ""));
 	}
 
 	@Override
@@ -168,9 +316,23 @@ public class MagicDrawModelConfigurationDialog extends AbstractCachedModelConfig
 
 		properties.put(MagicDrawModel.PROPERTY_HOST, hostText.getText());
 		properties.put(MagicDrawModel.PROPERTY_PORT, portText.getText());
+		properties.put(MagicDrawModel.PROPERTY_SOCKET_PATH, socketPathText.getText());
+		properties.put(MagicDrawModel.PROPERTY_IN_PROCESS, inProcessCheck.getSelection());
+		properties.put(MagicDrawModel.PROPERTY_CHANNEL_COUNT, channelCountText.getText());
+		properties.put(MagicDrawModel.PROPERTY_REPLICAS, replicasText.getText());
+		properties.put(MagicDrawModel.PROPERTY_DEADLINES, deadlinesText.getText());
+		properties.put(MagicDrawModel.PROPERTY_MAX_ATTEMPTS, maxAttemptsText.getText());
+		properties.put(MagicDrawModel.PROPERTY_RETRY_CODES, retryCodesText.getText());
+		properties.put(MagicDrawModel.PROPERTY_HEDGING_PERCENTILE, hedgingPercentileText.getText());
 		properties.put(MagicDrawModel.PROPERTY_ROOT_HYPERLINK, rootHyperlinkText.getText());
 		properties.put(MagicDrawModel.PROPERTY_CLOSE_ON_DISPOSAL, closeOnDisposalCheck.getSelection());
 		properties.put(MagicDrawModel.PROPERTY_PROJECT_URL, projectURLText.getText());
+		properties.put(MagicDrawModel.PROPERTY_LAZY_DECODING, lazyDecodingCheck.getSelection());
+		properties.put(MagicDrawModel.PROPERTY_LAZY_EXTENTS, lazyExtentsCheck.getSelection());
+		properties.put(MagicDrawModel.PROPERTY_PREFETCH_TYPES, prefetchTypesText.getText());
+		properties.put(MagicDrawModel.PROPERTY_ADAPTIVE_PREFETCH_THRESHOLD, adaptivePrefetchThresholdText.getText());
+		properties.put(MagicDrawModel.PROPERTY_ACCESS_PLAN, accessPlanText.getText());
+		properties.put(MagicDrawModel.PROPERTY_MAX_CONCURRENT_REQUESTS, maxConcurrentRequestsText.getText());
 	}
 
 }
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <p>Types and features that a script is known to access, so that
+ * {@link MagicDrawModel} can fetch them in bulk while loading the model. Plans
+ * can be built from the results of a static analysis of the script, or
+ * declared by hand.</p>
+ *
+ * <p>The textual form is a comma-separated list of {@code Type.feature}
+ * entries (e.g. {@code Class.name, Class.isAbstract, uml::Property.type}).
+ * An entry with only a type name fetches its extent, without any features.</p>
+ */
+public class MDAccessPlan {
+
+	private final Map<String, Set<String>> features = new LinkedHashMap<>();
+
+	/**
+	 * Parses the textual form of an access plan.
+	 *
+	 * @throws IllegalArgumentException An entry has an empty type or feature name.
+	 */
+	public static MDAccessPlan parse(String text) {
+		final MDAccessPlan plan = new MDAccessPlan();
+		if (text == null) {
+			return plan;
+		}
+
+		for (String entry : text.split(",")) {
+			entry = entry.trim();
+			if (entry.isEmpty()) {
+				continue;
+			}
+
+			// Type names may be qualified with '::', but never contain '.'
+			final int iDot = entry.lastIndexOf('.');
+			if (iDot < 0) {
+				plan.addType(entry);
+			} else {
+				final String typeName = entry.substring(0, iDot).trim();
+				final String featureName = entry.substring(iDot + 1).trim();
+				if (typeName.isEmpty() || featureName.isEmpty()) {
+					throw new IllegalArgumentException(String.format("Invalid access plan entry '%s'", entry));
+				}
+				plan.addFeature(typeName, featureName);
+			}
+		}
+		return plan;
+	}
+
+	/**
+	 * Adds the extent of a type (including subtypes) to the plan.
+	 */
+	public MDAccessPlan addType(String typeName) {
+		features.computeIfAbsent(typeName, (k) -> new LinkedHashSet<>());
+		return this;
+	}
+
+	/**
+	 * Adds a feature of the instances of a type (including subtypes) to the plan.
+	 */
+	public MDAccessPlan addFeature(String typeName, String featureName) {
+		features.computeIfAbsent(typeName, (k) -> new LinkedHashSet<>()).add(featureName);
+		return this;
+	}
+
+	public boolean isEmpty() {
+		return features.isEmpty();
+	}
+
+	/**
+	 * Returns the types whose extents are in the plan, in the order they were added.
+	 */
+	public List<String> getTypeNames() {
+		return new ArrayList<>(features.keySet());
+	}
+
+	/**
+	 * Returns the features of a type in the plan, in the order they were added.
+	 */
+	public List<String> getFeatureNames(String typeName) {
+		final Set<String> typeFeatures = features.get(typeName);
+		return typeFeatures == null ? Collections.emptyList() : new ArrayList<>(typeFeatures);
+	}
+
+	/**
+	 * Returns the textual form of the plan, which {@link #parse(String)} accepts.
+	 */
+	@Override
+	public String toString() {
+		final List<String> entries = new ArrayList<>();
+		for (Map.Entry<String, Set<String>> entry : features.entrySet()) {
+			if (entry.getValue().isEmpty()) {
+				entries.add(entry.getKey());
+			}
+			for (String featureName : entry.getValue()) {
+				entries.add(entry.getKey() + "." + featureName);
+			}
+		}
+		return String.join(", ", entries);
+	}
+
+}
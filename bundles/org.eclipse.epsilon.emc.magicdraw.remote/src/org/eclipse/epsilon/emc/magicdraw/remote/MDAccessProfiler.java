@@ -0,0 +1,306 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc.ModelServiceBlockingStub;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * <p>Watches which features are read remotely from each type of element and,
+ * once a feature has been read from enough elements of a type, fetches that
+ * feature in the background for all the other elements of that type in the
+ * extents fetched so far. Later reads are answered by the
+ * {@link MDFeatureValueCache} of the model.</p>
+ *
+ * <p>The {@link Statistics} show whether the prefetched values were used.</p>
+ */
+public class MDAccessProfiler {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(MDAccessProfiler.class);
+
+	public static final int DEFAULT_THRESHOLD = 50;
+	public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+	/**
+	 * Snapshot of the counters of the profiler.
+	 */
+	public static class Statistics {
+		private final long prefetches, requests, prefetchedValues, hits;
+
+		Statistics(long prefetches, long requests, long prefetchedValues, long hits) {
+			this.prefetches = prefetches;
+			this.requests = requests;
+			this.prefetchedValues = prefetchedValues;
+			this.hits = hits;
+		}
+
+		/** Number of times a feature was prefetched for a type. */
+		public long getPrefetches() {
+			return prefetches;
+		}
+
+		/** Number of requests sent to MagicDraw by the prefetches. */
+		public long getRequests() {
+			return requests;
+		}
+
+		/** Number of feature values received by the prefetches. */
+		public long getPrefetchedValues() {
+			return prefetchedValues;
+		}
+
+		/** Number of reads answered by a prefetched value. */
+		public long getHits() {
+			return hits;
+		}
+
+		/** Fraction of the prefetched values which were read, or 0 if nothing was prefetched. */
+		public double getHitRatio() {
+			return prefetchedValues == 0 ? 0 : (double) hits / prefetchedValues;
+		}
+
+		@Override
+		public String toString() {
+			return "Statistics [prefetches=" + prefetches + ", requests=" + requests
+				+ ", prefetchedValues=" + prefetchedValues + ", hits=" + hits + "]";
+		}
+	}
+
+	private final MagicDrawModel model;
+
+	private volatile int threshold = DEFAULT_THRESHOLD;
+	private volatile int batchSize = DEFAULT_BATCH_SIZE;
+
+	/** Extents fetched so far, by the request which fetched them. */
+	private final Map<Object, List<MDModelElement>> extents = new ConcurrentHashMap<>();
+
+	/** Remote reads by (type name, feature name), since the last prefetch of that pair. */
+	private final Map<List<String>, AtomicInteger> readCounts = new ConcurrentHashMap<>();
+	private final Set<List<String>> inFlight = ConcurrentHashMap.newKeySet();
+
+	/** IDs of the elements with a prefetched value that has not been read yet, by feature name. */
+	private final Map<String, Set<ByteString>> unreadPrefetches = new ConcurrentHashMap<>();
+
+	private final AtomicLong prefetches = new AtomicLong();
+	private final AtomicLong requests = new AtomicLong();
+	private final AtomicLong prefetchedValues = new AtomicLong();
+	private final AtomicLong hits = new AtomicLong();
+
+	private ExecutorService executor;
+
+	public MDAccessProfiler(MagicDrawModel model) {
+		this.model = model;
+	}
+
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * Changes the number of remote reads of a feature from elements of the same
+	 * type that trigger a prefetch of that feature. 0 disables prefetching.
+	 */
+	public void setThreshold(int threshold) {
+		this.threshold = threshold;
+	}
+
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Changes the maximum number of elements whose values are fetched with each request.
+	 */
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	public boolean isEnabled() {
+		return threshold > 0;
+	}
+
+	/**
+	 * Tells the profiler about an extent fetched from MagicDraw, whose elements
+	 * may have their features prefetched. The extent replaces any previous one
+	 * fetched by an equal {@code request}, so fetching the same types again
+	 * (e.g. with caching disabled) does not make the profiler grow.
+	 */
+	public void addExtent(Object request, List<MDModelElement> extent) {
+		if (isEnabled()) {
+			extents.put(request, extent);
+		}
+	}
+
+	/**
+	 * Records a read of a feature which had to be sent to MagicDraw.
+	 */
+	public void recordRemoteRead(MDModelElement element, String featureName) {
+		// The prefetch uses the client as it is now: the model clears it when disposed
+		final ModelServiceBlockingStub client = model.client;
+		if (!isEnabled() || client == null) {
+			return;
+		}
+
+		final List<String> key = Arrays.asList(element.getTypeName(), featureName);
+		final int count = readCounts.computeIfAbsent(key, (k) -> new AtomicInteger()).incrementAndGet();
+		if (count >= threshold && inFlight.add(key)) {
+			final List<MDModelElement> candidates = findCandidates(element.getTypeName(), featureName);
+			if (candidates.isEmpty()) {
+				inFlight.remove(key);
+				readCounts.remove(key);
+			} else {
+				prefetches.incrementAndGet();
+				getExecutor().execute(() -> prefetch(key, candidates, client));
+			}
+		}
+	}
+
+	/**
+	 * Records a read of a feature which was answered by the feature value cache.
+	 */
+	public void recordCacheHit(MDModelElement element, String featureName) {
+		final Set<ByteString> unread = unreadPrefetches.get(featureName);
+		if (unread != null && unread.remove(element.getElementIDBytes())) {
+			hits.incrementAndGet();
+		}
+	}
+
+	public Statistics getStatistics() {
+		return new Statistics(prefetches.get(), requests.get(), prefetchedValues.get(), hits.get());
+	}
+
+	/**
+	 * Forgets all extents and reads, and resets the counters.
+	 */
+	public void clear() {
+		extents.clear();
+		readCounts.clear();
+		unreadPrefetches.clear();
+		prefetches.set(0);
+		requests.set(0);
+		prefetchedValues.set(0);
+		hits.set(0);
+	}
+
+	/**
+	 * Stops the background thread, dropping any pending prefetches.
+	 */
+	public synchronized void shutdown() {
+		if (executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+		clear();
+	}
+
+	private synchronized ExecutorService getExecutor() {
+		if (executor == null) {
+			executor = Executors.newSingleThreadExecutor((r) -> {
+				Thread t = new Thread(r, "MagicDraw EMC prefetcher");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return executor;
+	}
+
+	/*
+	 * Runs in the thread of the script, as the extents may be changed by
+	 * CachedModel while the script runs.
+	 */
+	private List<MDModelElement> findCandidates(String typeName, String featureName) {
+		final Set<ByteString> seen = new HashSet<>();
+		final List<MDModelElement> candidates = new ArrayList<>();
+		for (List<MDModelElement> extent : extents.values()) {
+			for (MDModelElement element : extent) {
+				if (typeName.equals(element.getTypeName())
+						&& seen.add(element.getElementIDBytes())
+						&& !model.featureValueCache.contains(element, featureName)) {
+					candidates.add(element);
+				}
+			}
+		}
+		return candidates;
+	}
+
+	private void prefetch(List<String> key, List<MDModelElement> candidates, ModelServiceBlockingStub client) {
+		final String featureName = key.get(1);
+		final long generation = model.featureValueCache.getGeneration();
+
+		try {
+			for (int start = 0; start < candidates.size() && !Thread.currentThread().isInterrupted(); start += batchSize) {
+				final List<MDModelElement> batch = candidates.subList(start, Math.min(candidates.size(), start + batchSize));
+
+				final FeatureValuesRequest.Builder request = FeatureValuesRequest.newBuilder().addFeatureNames(featureName);
+				for (MDModelElement element : batch) {
+					request.addElementIDsBytes(element.getElementIDBytes());
+				}
+				final FeatureValuesResult result = client.getFeatureValues(request.build());
+				requests.incrementAndGet();
+
+				final Map<MDModelElement, Object> values = new HashMap<>();
+				for (int i = 0; i < batch.size(); i++) {
+					final Value value = result.getElements(i).getValues(0);
+					if (value.getValueCase() != Value.ValueCase.NOTDEFINED) {
+						values.put(batch.get(i), model.getPropertyGetter().decodeValue(value));
+					}
+				}
+
+				if (!model.featureValueCache.putAll(generation, featureName, values)) {
+					// The model changed while we were fetching: these values may be stale
+					break;
+				}
+
+				final Set<ByteString> unread = unreadPrefetches.computeIfAbsent(featureName, (k) -> ConcurrentHashMap.newKeySet());
+				for (MDModelElement element : values.keySet()) {
+					unread.add(element.getElementIDBytes());
+				}
+				prefetchedValues.addAndGet(values.size());
+			}
+		} catch (RuntimeException ex) {
+			// Prefetching is only an optimisation: the script will fetch the values itself
+			LOGGER.warn(String.format("Could not prefetch feature '%s' of type '%s'", featureName, key.get(0)), ex);
+		} finally {
+			readCounts.remove(key);
+			inFlight.remove(key);
+		}
+	}
+
+	/**
+	 * Waits until the prefetches started so far have finished.
+	 */
+	void awaitPrefetches(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+		getExecutor().submit(() -> {}).get(timeout, unit);
+	}
+
+}
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import io.grpc.Status;
+
+/**
+ * <p>Deadlines, retries and hedging for the calls sent to MagicDraw, as applied
+ * by {@link MDCallPolicyChannel}.</p>
+ *
+ * <p>Deadlines can be set per method, with a default for the other methods.
+ * Each attempt of a call gets its own deadline, so a MagicDraw instance which
+ * stops responding (e.g. while showing a modal dialog) does not block the
+ * caller forever. By default, calls have a deadline of
+ * {@link #DEFAULT_DEADLINE_MILLIS}, except for the
+ * {@link #LONG_RUNNING_METHODS}, which have a deadline of
+ * {@link #DEFAULT_LONG_RUNNING_DEADLINE_MILLIS}, and the
+ * {@link #CHANGE_METHODS}, which have no deadline unless one is set for them
+ * explicitly: MagicDraw may still apply a change after its deadline has
+ * passed, so the caller would not know whether the model was changed.</p>
+ *
+ * <p>Only the methods in {@link #IDEMPOTENT_METHODS} are retried or hedged.
+ * Failed attempts are retried with exponential backoff if their status code
+ * is one of the retryable codes: by default, only if MagicDraw was
+ * unavailable. Retrying calls which missed their deadline or were rejected
+ * because MagicDraw was overloaded would add even more load to it, so these
+ * codes have to be enabled explicitly. If hedging is enabled, a second
+ * attempt is sent when the first one takes longer than the given percentile
+ * of the recent latencies of that method, and the first response to arrive
+ * is used.</p>
+ */
+public class MDCallPolicy {
+
+	/**
+	 * Methods which only read from the model, and can therefore be sent
+	 * more than once.
+	 */
+	public static final Set<String> IDEMPOTENT_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		"allOf", "allOfMany", "getElementByID", "getEnumerationValue", "getEnumerationValues",
+		"getFeatureValue", "getFeatureValues", "getType", "navigate", "getReferrers",
+		"getElementsByName", "getElementsByQualifiedName", "count", "exists", "getTypeHistogram",
+		"getProfiles", "getProfile", "getStereotype", "listSize", "listGet",
+		"containmentSize", "containmentRange", "getProjectInfo")));
+
+	/**
+	 * Methods which may walk large parts of the model or work on the whole
+	 * project, and have a longer deadline by default.
+	 */
+	public static final Set<String> LONG_RUNNING_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		"allOf", "allOfMany", "getTypeHistogram", "getSubtree", "runScript",
+		"openProject", "saveProject", "closeSession")));
+
+	/**
+	 * Methods which change the model, and do not use the default deadline.
+	 */
+	public static final Set<String> CHANGE_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		"createInstance", "deleteInstance", "setFeatureValue", "listSet", "listAdd", "listRemove",
+		"listMoveObject", "listClear")));
+
+	/** Key for the default deadline in {@link #parseDeadlines(String)}. */
+	public static final String DEFAULT_DEADLINE_KEY = "default";
+
+	public static final long DEFAULT_DEADLINE_MILLIS = 60_000;
+	public static final long DEFAULT_LONG_RUNNING_DEADLINE_MILLIS = 600_000;
+
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 100;
+	public static final long DEFAULT_MAX_BACKOFF_MILLIS = 5_000;
+
+	private volatile long defaultDeadlineMillis = DEFAULT_DEADLINE_MILLIS;
+	private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+	private Set<Status.Code> retryableCodes = EnumSet.of(Status.Code.UNAVAILABLE);
+	private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+	private long initialBackoffMillis = DEFAULT_INITIAL_BACKOFF_MILLIS;
+	private long maxBackoffMillis = DEFAULT_MAX_BACKOFF_MILLIS;
+	private double hedgingPercentile;
+
+	public MDCallPolicy() {
+		for (String methodName : LONG_RUNNING_METHODS) {
+			deadlines.put(methodName, DEFAULT_LONG_RUNNING_DEADLINE_MILLIS);
+		}
+	}
+
+	/**
+	 * Returns the deadline in milliseconds for each attempt of a call to
+	 * {@code methodName}, or 0 if it has none.
+	 */
+	public long getDeadlineMillis(String methodName) {
+		final Long deadline = deadlines.get(methodName);
+		if (deadline != null) {
+			return deadline;
+		}
+		return CHANGE_METHODS.contains(methodName) ? 0 : defaultDeadlineMillis;
+	}
+
+	public long getDefaultDeadlineMillis() {
+		return defaultDeadlineMillis;
+	}
+
+	/**
+	 * Changes the deadline for the methods without their own deadline, except
+	 * for the {@link #CHANGE_METHODS}. 0 means no deadline.
+	 */
+	public void setDefaultDeadlineMillis(long millis) {
+		this.defaultDeadlineMillis = Math.max(0, millis);
+	}
+
+	/**
+	 * Returns the methods with their own deadline, and their deadlines in
+	 * milliseconds.
+	 */
+	public Map<String, Long> getDeadlines() {
+		return Collections.unmodifiableMap(deadlines);
+	}
+
+	/**
+	 * Changes the deadline for {@code methodName}. 0 means no deadline, even
+	 * if there is a default one.
+	 */
+	public void setDeadlineMillis(String methodName, long millis) {
+		deadlines.put(methodName, Math.max(0, millis));
+	}
+
+	/**
+	 * Sets the deadlines from a comma-separated list of {@code method=millis}
+	 * pairs, using {@link #DEFAULT_DEADLINE_KEY} as the method for the default
+	 * deadline (e.g. {@code default=30000,allOf=120000}).
+	 *
+	 * @throws IllegalArgumentException
+	 *             The list is not in the expected format.
+	 */
+	public void parseDeadlines(String text) {
+		for (String entry : text.split(",")) {
+			entry = entry.trim();
+			if (entry.isEmpty()) {
+				continue;
+			}
+
+			final String[] parts = entry.split("=");
+			final long millis;
+			try {
+				if (parts.length != 2) {
+					throw new NumberFormatException();
+				}
+				millis = Long.parseLong(parts[1].trim());
+			} catch (NumberFormatException ex) {
+				throw new IllegalArgumentException(String.format(
+					"Invalid deadline '%s': it should be of the form method=millis", entry));
+			}
+
+			final String methodName = parts[0].trim();
+			if (DEFAULT_DEADLINE_KEY.equals(methodName)) {
+				setDefaultDeadlineMillis(millis);
+			} else {
+				setDeadlineMillis(methodName, millis);
+			}
+		}
+	}
+
+	/**
+	 * Returns the deadlines in the format of {@link #parseDeadlines(String)}.
+	 */
+	public String formatDeadlines() {
+		final StringBuilder sb = new StringBuilder();
+		sb.append(DEFAULT_DEADLINE_KEY).append('=').append(defaultDeadlineMillis);
+		for (Map.Entry<String, Long> entry : deadlines.entrySet()) {
+			sb.append(',').append(entry.getKey()).append('=').append(entry.getValue());
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the status codes of the failed attempts which are retried.
+	 */
+	public Set<Status.Code> getRetryableCodes() {
+		return Collections.unmodifiableSet(retryableCodes);
+	}
+
+	/**
+	 * Changes the status codes of the failed attempts which are retried. Only
+	 * {@link Status.Code#UNAVAILABLE} is retried by default.
+	 */
+	public void setRetryableCodes(Set<Status.Code> codes) {
+		this.retryableCodes = codes.isEmpty() ? EnumSet.noneOf(Status.Code.class) : EnumSet.copyOf(codes);
+	}
+
+	/**
+	 * Sets the retryable status codes from a comma-separated list of their
+	 * names, regardless of case (e.g. {@code UNAVAILABLE,DEADLINE_EXCEEDED}).
+	 *
+	 * @throws IllegalArgumentException
+	 *             One of the names is not a valid status code.
+	 */
+	public void parseRetryableCodes(String text) {
+		final Set<Status.Code> codes = EnumSet.noneOf(Status.Code.class);
+		for (String entry : text.split(",")) {
+			entry = entry.trim();
+			if (!entry.isEmpty()) {
+				try {
+					codes.add(Status.Code.valueOf(entry.toUpperCase(Locale.ROOT)));
+				} catch (IllegalArgumentException ex) {
+					throw new IllegalArgumentException(String.format("Invalid status code '%s'", entry));
+				}
+			}
+		}
+		setRetryableCodes(codes);
+	}
+
+	/**
+	 * Returns the retryable status codes in the format of {@link #parseRetryableCodes(String)}.
+	 */
+	public String formatRetryableCodes() {
+		return retryableCodes.stream().map(Status.Code::name).collect(Collectors.joining(","));
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Changes how many times a call to an idempotent method may be sent,
+	 * including the first attempt and any hedged attempt. 1 disables retries
+	 * and hedging.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		this.maxAttempts = Math.max(1, maxAttempts);
+	}
+
+	public long getInitialBackoffMillis() {
+		return initialBackoffMillis;
+	}
+
+	/**
+	 * Changes how long to wait before the first retry. The wait doubles after
+	 * each retry, up to {@link #getMaxBackoffMillis()}, and is randomized to
+	 * avoid retrying many calls at the same time.
+	 */
+	public void setInitialBackoffMillis(long millis) {
+		this.initialBackoffMillis = Math.max(0, millis);
+	}
+
+	public long getMaxBackoffMillis() {
+		return maxBackoffMillis;
+	}
+
+	public void setMaxBackoffMillis(long millis) {
+		this.maxBackoffMillis = Math.max(0, millis);
+	}
+
+	public double getHedgingPercentile() {
+		return hedgingPercentile;
+	}
+
+	/**
+	 * Changes the percentile (between 0 and 100, exclusive) of the recent
+	 * latencies of a method after which a second attempt is sent. 0 (the
+	 * default) disables hedging. Hedging only makes sense if the calls can
+	 * go to different connections or MagicDraw instances.
+	 */
+	public void setHedgingPercentile(double percentile) {
+		if (percentile < 0 || percentile >= 100) {
+			throw new IllegalArgumentException("The hedging percentile should be between 0 and 100 (exclusive)");
+		}
+		this.hedgingPercentile = percentile;
+	}
+
+	/**
+	 * Returns {@code true} if calls to {@code methodName} can be retried or hedged.
+	 */
+	public boolean isRetryable(String methodName) {
+		return maxAttempts > 1 && IDEMPOTENT_METHODS.contains(methodName);
+	}
+
+	/**
+	 * Returns {@code true} if a failed attempt with the given status can be retried.
+	 */
+	public boolean isRetryable(Status status) {
+		return retryableCodes.contains(status.getCode());
+	}
+
+	/**
+	 * Returns how long to wait before retrying after {@code retries} previous
+	 * retries, without randomization.
+	 */
+	long getBackoffMillis(int retries) {
+		final double backoff = initialBackoffMillis * Math.pow(2, retries);
+		return (long) Math.min(backoff, maxBackoffMillis);
+	}
+
+}
@@ -0,0 +1,530 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.Deadline;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * <p>Channel which applies a {@link MDCallPolicy} to the calls sent through
+ * another channel: it sets their deadlines, retries the failed attempts of
+ * idempotent calls, and hedges the slow ones.</p>
+ *
+ * <p>Hedged attempts are sent through the same channel as the first one, so
+ * they only help if that channel can send them to a different connection or
+ * MagicDraw instance (e.g. a {@link MDReplicaRouter}, which sends them to the
+ * least busy instance).</p>
+ *
+ * <p>The latency of each call as seen by the caller (including its retries and
+ * hedged attempts) is recorded per method, and reported by {@link #getStatistics()}.</p>
+ */
+public class MDCallPolicyChannel extends Channel {
+
+	/**
+	 * Snapshot of the counters and recent latencies of a {@link MDCallPolicyChannel}.
+	 */
+	public static class Statistics {
+		private final long calls, retries, hedges, hedgesWon, deadlinesExceeded;
+		private final Map<String, long[]> latencies;
+
+		Statistics(long calls, long retries, long hedges, long hedgesWon, long deadlinesExceeded, Map<String, long[]> latencies) {
+			this.calls = calls;
+			this.retries = retries;
+			this.hedges = hedges;
+			this.hedgesWon = hedgesWon;
+			this.deadlinesExceeded = deadlinesExceeded;
+			this.latencies = latencies;
+		}
+
+		/** Number of calls made through the channel. */
+		public long getCalls() {
+			return calls;
+		}
+
+		/** Number of attempts sent again after a failed attempt. */
+		public long getRetries() {
+			return retries;
+		}
+
+		/** Number of second attempts sent while the first one was still running. */
+		public long getHedges() {
+			return hedges;
+		}
+
+		/** Number of hedged attempts which responded before the first attempt. */
+		public long getHedgesWon() {
+			return hedgesWon;
+		}
+
+		/** Number of calls which failed because they exceeded their deadline. */
+		public long getDeadlinesExceeded() {
+			return deadlinesExceeded;
+		}
+
+		/** Names of the methods with recorded latencies. */
+		public Set<String> getMethods() {
+			return Collections.unmodifiableSet(latencies.keySet());
+		}
+
+		/**
+		 * Returns the given percentile (between 0 and 100) of the recent latencies
+		 * of {@code methodName}, in milliseconds, or {@link Double#NaN} if no calls
+		 * to that method have been recorded.
+		 */
+		public double getPercentileMillis(String methodName, double percentile) {
+			final long[] sorted = latencies.get(methodName);
+			return sorted == null ? Double.NaN : percentile(sorted, percentile) / 1e6;
+		}
+
+		/**
+		 * Returns the given percentile (between 0 and 100) of the recent latencies
+		 * of all methods, in milliseconds, or {@link Double#NaN} if no calls have
+		 * been recorded.
+		 */
+		public double getPercentileMillis(double percentile) {
+			int size = 0;
+			for (long[] sorted : latencies.values()) {
+				size += sorted.length;
+			}
+			if (size == 0) {
+				return Double.NaN;
+			}
+
+			final long[] all = new long[size];
+			int pos = 0;
+			for (long[] sorted : latencies.values()) {
+				System.arraycopy(sorted, 0, all, pos, sorted.length);
+				pos += sorted.length;
+			}
+			Arrays.sort(all);
+			return percentile(all, percentile) / 1e6;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(
+				"Statistics [calls=%d, retries=%d, hedges=%d, hedgesWon=%d, deadlinesExceeded=%d, p50=%.3fms, p90=%.3fms, p99=%.3fms]",
+				calls, retries, hedges, hedgesWon, deadlinesExceeded,
+				getPercentileMillis(50), getPercentileMillis(90), getPercentileMillis(99));
+		}
+	}
+
+	/** Number of recent latencies kept for each method. */
+	private static final int LATENCY_WINDOW_SIZE = 1_024;
+
+	/** Minimum number of latencies of a method before its calls are hedged. */
+	private static final int MIN_HEDGING_SAMPLES = 50;
+
+	/** Number of new latencies after which the hedging threshold is computed again. */
+	private static final int HEDGING_THRESHOLD_REFRESH = 32;
+
+	private static final Status CALL_CANCELLED = Status.CANCELLED.withDescription("Another attempt of the call completed first");
+
+	/**
+	 * Ring buffer with the most recent latencies of a method.
+	 */
+	private static class LatencyWindow {
+		private final long[] samples = new long[LATENCY_WINDOW_SIZE];
+		private long count;
+		private long thresholdCount = -1;
+		private long threshold = -1;
+
+		synchronized void record(long nanos) {
+			samples[(int) (count++ % samples.length)] = nanos;
+		}
+
+		synchronized long[] sorted() {
+			final long[] sorted = Arrays.copyOf(samples, (int) Math.min(count, samples.length));
+			Arrays.sort(sorted);
+			return sorted;
+		}
+
+		/**
+		 * Returns the given percentile in nanoseconds, or -1 if there are not
+		 * enough samples yet. It is only computed again after some new samples.
+		 */
+		synchronized long threshold(double percentile) {
+			if (count < MIN_HEDGING_SAMPLES) {
+				return -1;
+			}
+			if (thresholdCount < 0 || count - thresholdCount >= HEDGING_THRESHOLD_REFRESH) {
+				threshold = percentile(sorted(), percentile);
+				thresholdCount = count;
+			}
+			return threshold;
+		}
+
+		synchronized void clear() {
+			count = 0;
+			thresholdCount = -1;
+			threshold = -1;
+		}
+	}
+
+	private static class TimerHolder {
+		static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(r -> {
+			final Thread t = new Thread(r, "MagicDraw call retries");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	private final Channel delegate;
+	private final MDCallPolicy policy;
+	private final boolean hedging;
+
+	private final ConcurrentMap<String, LatencyWindow> callLatencies = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, LatencyWindow> attemptLatencies = new ConcurrentHashMap<>();
+	private final AtomicLong calls = new AtomicLong();
+	private final AtomicLong retries = new AtomicLong();
+	private final AtomicLong hedges = new AtomicLong();
+	private final AtomicLong hedgesWon = new AtomicLong();
+	private final AtomicLong deadlinesExceeded = new AtomicLong();
+
+	/**
+	 * Creates a new channel.
+	 *
+	 * @param delegate
+	 *            Channel to send the calls through.
+	 * @param policy
+	 *            Policy to apply to the calls. Later changes to it apply to
+	 *            later calls.
+	 * @param multipleTargets
+	 *            {@code true} if {@code delegate} can send the attempts of a call
+	 *            to different connections or MagicDraw instances. Otherwise, calls
+	 *            are never hedged.
+	 */
+	public MDCallPolicyChannel(Channel delegate, MDCallPolicy policy, boolean multipleTargets) {
+		this.delegate = delegate;
+		this.policy = policy;
+		this.hedging = multipleTargets;
+	}
+
+	public Statistics getStatistics() {
+		final Map<String, long[]> latencies = new TreeMap<>();
+		for (Map.Entry<String, LatencyWindow> entry : callLatencies.entrySet()) {
+			final long[] sorted = entry.getValue().sorted();
+			if (sorted.length > 0) {
+				latencies.put(entry.getKey(), sorted);
+			}
+		}
+		return new Statistics(calls.get(), retries.get(), hedges.get(), hedgesWon.get(), deadlinesExceeded.get(), latencies);
+	}
+
+	/**
+	 * Resets the counters and the latencies reported by {@link #getStatistics()}.
+	 * The latencies used to decide when to hedge calls are kept.
+	 */
+	public void clearStatistics() {
+		calls.set(0);
+		retries.set(0);
+		hedges.set(0);
+		hedgesWon.set(0);
+		deadlinesExceeded.set(0);
+		for (LatencyWindow window : callLatencies.values()) {
+			window.clear();
+		}
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+		final String methodName = MethodDescriptor.extractBareMethodName(methodDescriptor.getFullMethodName());
+		calls.incrementAndGet();
+
+		if (methodDescriptor.getType() == MethodDescriptor.MethodType.UNARY && policy.isRetryable(methodName)) {
+			return new RetryingCall<>(methodDescriptor, callOptions, methodName);
+		}
+
+		final long startNanos = System.nanoTime();
+		return new SimpleForwardingClientCall<ReqT, RespT>(delegate.newCall(methodDescriptor, withDeadline(callOptions, methodName))) {
+			@Override
+			public void start(Listener<RespT> responseListener, Metadata headers) {
+				super.start(new SimpleForwardingClientCallListener<RespT>(responseListener) {
+					@Override
+					public void onClose(Status status, Metadata trailers) {
+						recordCall(methodName, status, System.nanoTime() - startNanos);
+						super.onClose(status, trailers);
+					}
+				}, headers);
+			}
+		};
+	}
+
+	@Override
+	public String authority() {
+		return delegate.authority();
+	}
+
+	private CallOptions withDeadline(CallOptions callOptions, String methodName) {
+		final long millis = policy.getDeadlineMillis(methodName);
+		if (millis <= 0) {
+			return callOptions;
+		}
+
+		// A deadline set by the caller (e.g. from the timeout of a remote script) takes precedence
+		if (callOptions.getDeadline() != null) {
+			return callOptions;
+		}
+		return callOptions.withDeadline(Deadline.after(millis, TimeUnit.MILLISECONDS));
+	}
+
+	private void recordCall(String methodName, Status status, long nanos) {
+		callLatencies.computeIfAbsent(methodName, k -> new LatencyWindow()).record(nanos);
+		if (status.getCode() == Status.Code.DEADLINE_EXCEEDED) {
+			deadlinesExceeded.incrementAndGet();
+		}
+	}
+
+	private static long percentile(long[] sorted, double percentile) {
+		final int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+	}
+
+	/**
+	 * Unary call which buffers its request, so it can be sent in several
+	 * attempts. Only the response of one attempt is passed on to the caller.
+	 */
+	private class RetryingCall<ReqT, RespT> extends ClientCall<ReqT, RespT> {
+
+		private final MethodDescriptor<ReqT, RespT> methodDescriptor;
+		private final CallOptions callOptions;
+		private final String methodName;
+
+		private Listener<RespT> listener;
+		private Metadata headers;
+		private ReqT request;
+		private long startNanos;
+
+		// Guarded by this
+		private final List<Attempt> running = new ArrayList<>();
+		private int attempts;
+		private boolean cancelled, committed;
+		private ScheduledFuture<?> pendingTimer;
+
+		RetryingCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions, String methodName) {
+			this.methodDescriptor = methodDescriptor;
+			this.callOptions = callOptions;
+			this.methodName = methodName;
+		}
+
+		@Override
+		public void start(Listener<RespT> responseListener, Metadata headers) {
+			this.listener = responseListener;
+			this.headers = headers;
+			this.startNanos = System.nanoTime();
+		}
+
+		@Override
+		public void request(int numMessages) {
+			// Each attempt requests its own response
+		}
+
+		@Override
+		public void sendMessage(ReqT message) {
+			this.request = message;
+		}
+
+		@Override
+		public void halfClose() {
+			startAttempt(false);
+		}
+
+		@Override
+		public void cancel(String message, Throwable cause) {
+			final List<Attempt> toCancel;
+			final boolean closeNow;
+			synchronized (this) {
+				if (committed || cancelled) {
+					return;
+				}
+				cancelled = true;
+				cancelTimer();
+				toCancel = new ArrayList<>(running);
+
+				// Without running attempts, nothing else would close the call
+				closeNow = toCancel.isEmpty();
+				committed = closeNow;
+			}
+
+			for (Attempt attempt : toCancel) {
+				attempt.call.cancel(message, cause);
+			}
+			if (closeNow) {
+				final Status status = Status.CANCELLED.withDescription(message).withCause(cause);
+				recordCall(methodName, status, System.nanoTime() - startNanos);
+				listener.onClose(status, new Metadata());
+			}
+		}
+
+		private void startAttempt(boolean hedge) {
+			final Attempt attempt;
+			synchronized (this) {
+				pendingTimer = null;
+				if (committed || cancelled) {
+					return;
+				}
+
+				attempts++;
+				attempt = new Attempt(hedge);
+				running.add(attempt);
+
+				if (attempts == 1 && hedging && policy.getHedgingPercentile() > 0 && policy.getMaxAttempts() > 1) {
+					final long threshold = attemptLatencies
+						.computeIfAbsent(methodName, k -> new LatencyWindow())
+						.threshold(policy.getHedgingPercentile());
+					if (threshold >= 0) {
+						pendingTimer = TimerHolder.TIMER.schedule(this::startHedge, threshold, TimeUnit.NANOSECONDS);
+					}
+				}
+			}
+
+			attempt.start();
+		}
+
+		private void startHedge() {
+			synchronized (this) {
+				if (committed || cancelled) {
+					return;
+				}
+				hedges.incrementAndGet();
+			}
+			startAttempt(true);
+		}
+
+		private void finish(Attempt attempt, Status status, Metadata trailers) {
+			final List<Attempt> losers;
+			synchronized (this) {
+				running.remove(attempt);
+				if (committed) {
+					return;
+				}
+
+				if (status.isOk()) {
+					attemptLatencies.computeIfAbsent(methodName, k -> new LatencyWindow())
+						.record(System.nanoTime() - attempt.startNanos);
+				} else if (!cancelled && policy.isRetryable(status) && !isCallerDeadlineExpired()) {
+					if (!running.isEmpty()) {
+						// Wait for the other attempt instead
+						return;
+					} else if (attempts < policy.getMaxAttempts()) {
+						cancelTimer();
+						final long backoff = policy.getBackoffMillis(attempts - 1);
+						final long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+						retries.incrementAndGet();
+						pendingTimer = TimerHolder.TIMER.schedule(() -> startAttempt(false), delay, TimeUnit.MILLISECONDS);
+						return;
+					}
+				}
+
+				committed = true;
+				cancelTimer();
+				losers = new ArrayList<>(running);
+				running.clear();
+			}
+
+			for (Attempt loser : losers) {
+				loser.call.cancel(CALL_CANCELLED.getDescription(), null);
+			}
+
+			if (status.isOk() && attempt.hedge) {
+				hedgesWon.incrementAndGet();
+			}
+			recordCall(methodName, status, System.nanoTime() - startNanos);
+			if (status.isOk()) {
+				listener.onHeaders(attempt.responseHeaders != null ? attempt.responseHeaders : new Metadata());
+				if (attempt.response != null) {
+					listener.onMessage(attempt.response);
+				}
+			}
+			listener.onClose(status, trailers);
+		}
+
+		private boolean isCallerDeadlineExpired() {
+			return callOptions.getDeadline() != null && callOptions.getDeadline().isExpired();
+		}
+
+		private void cancelTimer() {
+			if (pendingTimer != null) {
+				pendingTimer.cancel(false);
+				pendingTimer = null;
+			}
+		}
+
+		/**
+		 * One of the attempts of the call, which keeps its response until it is
+		 * known to be the first one to complete.
+		 */
+		private class Attempt extends ClientCall.Listener<RespT> {
+			final boolean hedge;
+			final ClientCall<ReqT, RespT> call;
+			final long startNanos = System.nanoTime();
+			Metadata responseHeaders;
+			RespT response;
+
+			Attempt(boolean hedge) {
+				this.hedge = hedge;
+				this.call = delegate.newCall(methodDescriptor, withDeadline(callOptions, methodName));
+			}
+
+			void start() {
+				final Metadata attemptHeaders = new Metadata();
+				attemptHeaders.merge(headers);
+				try {
+					call.start(this, attemptHeaders);
+					call.request(2);
+					call.sendMessage(request);
+					call.halfClose();
+				} catch (RuntimeException ex) {
+					call.cancel("Failed to start the attempt", ex);
+				}
+			}
+
+			@Override
+			public void onHeaders(Metadata headers) {
+				this.responseHeaders = headers;
+			}
+
+			@Override
+			public void onMessage(RespT message) {
+				this.response = message;
+			}
+
+			@Override
+			public void onClose(Status status, Metadata trailers) {
+				finish(this, status, trailers);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,245 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+
+/**
+ * <p>Shares gRPC channels between the models that talk to the same MagicDraw
+ * server, so loading and disposing several models does not set up and tear
+ * down a connection every time.</p>
+ *
+ * <p>Channels are reference-counted by key (e.g. host, port and transport
+ * options). Once the last model releases a channel, it is kept open for an
+ * idle timeout in case another model needs it, and then shut down without
+ * waiting for it to terminate.</p>
+ *
+ * <p>Each key can have several sub-channels (i.e. connections). Calls are
+ * spread over them in round-robin order, so many concurrent calls are not
+ * limited by a single connection.</p>
+ */
+public class MDChannelRegistry {
+
+	public static final long DEFAULT_IDLE_TIMEOUT_MILLIS = 30_000;
+
+	private static final MDChannelRegistry DEFAULT = new MDChannelRegistry(DEFAULT_IDLE_TIMEOUT_MILLIS);
+
+	/**
+	 * Reference to a shared channel. It must be released with {@link #close()}
+	 * once it is no longer needed.
+	 */
+	public class Lease implements AutoCloseable {
+		private final Entry entry;
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private Lease(Entry entry) {
+			this.entry = entry;
+		}
+
+		/**
+		 * Returns the channel to create stubs from.
+		 */
+		public Channel getChannel() {
+			return entry.channel;
+		}
+
+		/**
+		 * Releases this reference to the channel. Further calls do nothing.
+		 */
+		@Override
+		public void close() {
+			if (released.compareAndSet(false, true)) {
+				release(entry);
+			}
+		}
+	}
+
+	private static class Entry {
+		final Object key;
+		final ManagedChannel[] subChannels;
+		final Channel channel;
+		int references;
+		ScheduledFuture<?> pendingShutdown;
+
+		Entry(Object key, ManagedChannel[] subChannels) {
+			this.key = key;
+			this.subChannels = subChannels;
+			this.channel = subChannels.length == 1 ? subChannels[0] : new RoundRobinChannel(subChannels);
+		}
+
+		boolean isShutdown() {
+			for (ManagedChannel c : subChannels) {
+				if (c.isShutdown()) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void shutdown() {
+			for (ManagedChannel c : subChannels) {
+				c.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Channel which sends each call through the next of its sub-channels.
+	 */
+	private static class RoundRobinChannel extends Channel {
+		private final ManagedChannel[] subChannels;
+		private final AtomicInteger next = new AtomicInteger();
+
+		RoundRobinChannel(ManagedChannel[] subChannels) {
+			this.subChannels = subChannels;
+		}
+
+		@Override
+		public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+			final int i = Math.floorMod(next.getAndIncrement(), subChannels.length);
+			return subChannels[i].newCall(methodDescriptor, callOptions);
+		}
+
+		@Override
+		public String authority() {
+			return subChannels[0].authority();
+		}
+	}
+
+	private final long idleTimeoutMillis;
+	private final Map<Object, Entry> entries = new HashMap<>();
+	private ScheduledExecutorService scheduler;
+
+	/**
+	 * Creates a new registry. Most code should use {@link #getDefault()} instead.
+	 *
+	 * @param idleTimeoutMillis
+	 *            Milliseconds that a channel is kept open after its last reference
+	 *            is released. If zero or less, it is shut down right away.
+	 */
+	public MDChannelRegistry(long idleTimeoutMillis) {
+		this.idleTimeoutMillis = idleTimeoutMillis;
+	}
+
+	/**
+	 * Returns the registry shared by all models in this JVM.
+	 */
+	public static MDChannelRegistry getDefault() {
+		return DEFAULT;
+	}
+
+	/**
+	 * Returns a reference to the channel for {@code key}, creating it with
+	 * {@code subChannels} calls to {@code factory} if there is no open channel
+	 * for that key yet. Keys must implement {@link Object#equals(Object)} and
+	 * {@link Object#hashCode()}, and should include everything that affects
+	 * the channels created by {@code factory}.
+	 */
+	public synchronized Lease acquire(Object key, int subChannels, Supplier<ManagedChannel> factory) {
+		Entry entry = entries.get(key);
+		if (entry != null && entry.isShutdown()) {
+			// Shut down from outside the registry: start over
+			cancelPendingShutdown(entry);
+			entry.shutdown();
+			entry = null;
+		}
+
+		if (entry == null) {
+			final ManagedChannel[] channels = new ManagedChannel[Math.max(1, subChannels)];
+			for (int i = 0; i < channels.length; i++) {
+				channels[i] = factory.get();
+			}
+			entry = new Entry(key, channels);
+			entries.put(key, entry);
+		}
+
+		cancelPendingShutdown(entry);
+		entry.references++;
+		return new Lease(entry);
+	}
+
+	/**
+	 * Returns the number of channels in the registry, whether in use or idle.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Shuts down the channels which are not referenced by any model, without
+	 * waiting for their idle timeout.
+	 */
+	public synchronized void shutdownIdle() {
+		for (Entry entry : entries.values().toArray(new Entry[0])) {
+			if (entry.references == 0) {
+				shutdown(entry);
+			}
+		}
+	}
+
+	private synchronized void release(Entry entry) {
+		entry.references--;
+		if (entry.references > 0 || entries.get(entry.key) != entry) {
+			return;
+		}
+
+		if (idleTimeoutMillis <= 0) {
+			shutdown(entry);
+		} else {
+			entry.pendingShutdown = getScheduler().schedule(() -> {
+				synchronized (MDChannelRegistry.this) {
+					if (entry.references == 0) {
+						shutdown(entry);
+					}
+				}
+			}, idleTimeoutMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void shutdown(Entry entry) {
+		cancelPendingShutdown(entry);
+		entries.remove(entry.key, entry);
+		entry.shutdown();
+	}
+
+	private void cancelPendingShutdown(Entry entry) {
+		if (entry.pendingShutdown != null) {
+			entry.pendingShutdown.cancel(false);
+			entry.pendingShutdown = null;
+		}
+	}
+
+	private ScheduledExecutorService getScheduler() {
+		if (scheduler == null) {
+			scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+				final Thread t = new Thread(r, "MagicDraw channel registry");
+				t.setDaemon(true);
+				return t;
+			});
+		}
+		return scheduler;
+	}
+
+}
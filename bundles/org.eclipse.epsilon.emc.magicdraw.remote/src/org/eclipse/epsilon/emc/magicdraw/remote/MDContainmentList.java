@@ -0,0 +1,96 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection;
+
+/**
+ * <p>Read-only list over the contents of an element in MagicDraw (as in
+ * {@code eContents} or {@code eAllContents}), which fetches its elements in
+ * pages as they are accessed. Expressions such as {@code x.eContents.first()}
+ * only need to fetch the first page.</p>
+ *
+ * <p>The size is fetched once, on first use: like other collections received
+ * from MagicDraw, the list does not reflect later changes to the model.</p>
+ *
+ * <p>Pages are fetched without holding any locks, so threads reading different
+ * parts of the list (e.g. in Epsilon's parallel modules) do not wait for each
+ * other. Threads which need the same missing page at once may fetch it more
+ * than once, but they all end up using the same copy.</p>
+ */
+public class MDContainmentList extends AbstractList<MDModelElement> implements RandomAccess {
+
+	static final int PAGE_SIZE = 500;
+
+	private final MagicDrawModel model;
+	private final ContainmentList list;
+
+	/** Set before {@code size}, so it is visible to any thread that sees the size. */
+	private AtomicReferenceArray<MDModelElement[]> pages;
+	private volatile int size = -1;
+
+	public MDContainmentList(MagicDrawModel model, ContainmentList list) {
+		this.model = model;
+		this.list = list;
+	}
+
+	@Override
+	public int size() {
+		if (size < 0) {
+			synchronized (this) {
+				if (size < 0) {
+					final int fetchedSize = model.client.containmentSize(list).getValue();
+					pages = new AtomicReferenceArray<>((fetchedSize + PAGE_SIZE - 1) / PAGE_SIZE);
+					size = fetchedSize;
+				}
+			}
+		}
+		return size;
+	}
+
+	@Override
+	public MDModelElement get(int index) {
+		if (index < 0 || index >= size()) {
+			throw new IndexOutOfBoundsException(String.format("Index %d is out of bounds for size %d", index, size));
+		}
+
+		final int iPage = index / PAGE_SIZE;
+		if (pages.get(iPage) == null) {
+			pages.compareAndSet(iPage, null, fetchPage(iPage));
+		}
+		final MDModelElement[] page = pages.get(iPage);
+		if (index % PAGE_SIZE >= page.length) {
+			throw new IndexOutOfBoundsException("The contents of the element have changed since its size was fetched");
+		}
+		return page[index % PAGE_SIZE];
+	}
+
+	private MDModelElement[] fetchPage(int iPage) {
+		final ModelElementCollection response = model.client.containmentRange(ContainmentRange.newBuilder()
+			.setList(list)
+			.setStart(iPage * PAGE_SIZE)
+			.setCount(PAGE_SIZE)
+			.build());
+
+		final MDModelElement[] page = new MDModelElement[response.getValuesCount()];
+		for (int i = 0; i < page.length; i++) {
+			page[i] = new MDModelElement(model, response.getValues(i));
+		}
+		return page;
+	}
+
+}
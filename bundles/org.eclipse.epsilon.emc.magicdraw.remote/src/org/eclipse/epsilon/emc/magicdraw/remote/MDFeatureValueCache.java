@@ -0,0 +1,134 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.ByteString;
+
+/**
+ * <p>Local copy of feature values fetched in bulk from MagicDraw (e.g. by
+ * {@link MagicDrawModel#fetchSubtree(MDModelElement, int, List, List)}), which
+ * {@link MagicDrawPropertyGetter} uses before asking MagicDraw.</p>
+ *
+ * <p>Entries are keyed by element ID, so all proxies for the same element
+ * share them. The model clears the whole cache on any change made through
+ * the driver: changes made directly in MagicDraw are not noticed.</p>
+ *
+ * <p>The cache can be read concurrently without locking (e.g. from Epsilon's
+ * parallel modules): use {@link #lookup(MDModelElement, String)} to check for
+ * a value and read it in one step.</p>
+ */
+public class MDFeatureValueCache {
+
+	/** Returned by {@link #lookup(MDModelElement, String)} for values which are not cached. */
+	public static final Object NOT_CACHED = new Object();
+
+	/** Stands for a {@code null} value, as the maps do not allow {@code null}s. */
+	private static final Object NULL = new Object();
+
+	private final Map<ByteString, Map<String, Object>> values = new ConcurrentHashMap<>();
+
+	/** Incremented on every {@link #clear()}, so background fetches can tell if their values are stale. */
+	private volatile long generation;
+
+	public boolean contains(MDModelElement element, String featureName) {
+		final Map<String, Object> elementValues = values.get(element.getElementIDBytes());
+		return elementValues != null && elementValues.containsKey(featureName);
+	}
+
+	/**
+	 * Returns the cached value, or {@code null} if it is not cached (use
+	 * {@link #contains(MDModelElement, String)} to tell both cases apart).
+	 * Lists of model elements are copied, so they can be changed freely.
+	 */
+	public Object get(MDModelElement element, String featureName) {
+		final Object value = lookup(element, featureName);
+		return value == NOT_CACHED ? null : value;
+	}
+
+	/**
+	 * Returns the cached value, or {@link #NOT_CACHED} if it is not cached. Unlike
+	 * calling {@link #contains(MDModelElement, String)} and then
+	 * {@link #get(MDModelElement, String)}, this cannot be confused by another
+	 * thread clearing the cache in between.
+	 */
+	public Object lookup(MDModelElement element, String featureName) {
+		final Map<String, Object> elementValues = values.get(element.getElementIDBytes());
+		if (elementValues == null) {
+			return NOT_CACHED;
+		}
+
+		final Object value = elementValues.get(featureName);
+		if (value == null) {
+			return NOT_CACHED;
+		} else if (value == NULL) {
+			return null;
+		} else if (value instanceof ElementList) {
+			return new ArrayList<>(((ElementList) value).elements);
+		}
+		return value;
+	}
+
+	public void put(MDModelElement element, String featureName, Object value) {
+		values.computeIfAbsent(element.getElementIDBytes(), (k) -> new ConcurrentHashMap<>())
+			.put(featureName, value == null ? NULL : value);
+	}
+
+	/**
+	 * Caches a read-only list of model elements, such as {@code eContents}.
+	 */
+	public void putElements(MDModelElement element, String featureName, List<MDModelElement> elements) {
+		put(element, featureName, new ElementList(elements));
+	}
+
+	/**
+	 * Caches the values of a feature for several elements, as long as the cache
+	 * has not been cleared since {@link #getGeneration()} returned {@code generation}.
+	 *
+	 * @return {@code true} if the values were cached, {@code false} otherwise.
+	 */
+	public synchronized boolean putAll(long generation, String featureName, Map<MDModelElement, Object> elementValues) {
+		if (generation != this.generation) {
+			return false;
+		}
+		for (Map.Entry<MDModelElement, Object> entry : elementValues.entrySet()) {
+			put(entry.getKey(), featureName, entry.getValue());
+		}
+		return true;
+	}
+
+	public long getGeneration() {
+		return generation;
+	}
+
+	public int size() {
+		return values.size();
+	}
+
+	public synchronized void clear() {
+		values.clear();
+		generation++;
+	}
+
+	private static class ElementList {
+		private final List<MDModelElement> elements;
+
+		ElementList(List<MDModelElement> elements) {
+			this.elements = Collections.unmodifiableList(elements);
+		}
+	}
+
+}
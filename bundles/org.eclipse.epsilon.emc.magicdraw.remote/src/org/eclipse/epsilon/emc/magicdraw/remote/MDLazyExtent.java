@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.Function;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest;
+
+/**
+ * <p>Extent of a type which is only fetched from MagicDraw when its elements
+ * are needed. Until then, {@link #size()} and {@link #isEmpty()} are answered
+ * by MagicDraw without transferring the elements, so expressions such as
+ * {@code X.all.size()} or {@code X.all.isEmpty()} are cheap.</p>
+ *
+ * <p>{@code CachedModel} adds and removes elements from this extent after they
+ * have been created or deleted in MagicDraw. If the elements have not been
+ * fetched yet, this only forgets the known size: the elements fetched later
+ * will already reflect the change. Other modifications fetch the elements
+ * first.</p>
+ *
+ * <p>Once the elements have been fetched, reads do not take any locks, so the
+ * extent can be shared by the threads of Epsilon's parallel modules. When the
+ * model is in concurrent mode, modifications are applied to a copy of the
+ * elements which then replaces the original, so threads that are reading or
+ * iterating over the extent never see it half-modified.</p>
+ */
+public class MDLazyExtent extends AbstractList<MDModelElement> implements RandomAccess {
+
+	private final MagicDrawModel model;
+	private final AllOfRequest request;
+
+	private volatile List<MDModelElement> elements;
+	private int knownSize = -1;
+
+	public MDLazyExtent(MagicDrawModel model, AllOfRequest request) {
+		this.model = model;
+		this.request = request;
+	}
+
+	/**
+	 * Returns {@code true} if the elements of the extent have been fetched already.
+	 */
+	public boolean isLoaded() {
+		return elements != null;
+	}
+
+	@Override
+	public int size() {
+		final List<MDModelElement> loaded = elements;
+		if (loaded != null) {
+			return loaded.size();
+		}
+
+		synchronized (this) {
+			if (elements != null) {
+				return elements.size();
+			}
+			if (knownSize < 0) {
+				knownSize = model.count(request);
+			}
+			return knownSize;
+		}
+	}
+
+	@Override
+	public boolean isEmpty() {
+		final List<MDModelElement> loaded = elements;
+		if (loaded != null) {
+			return loaded.isEmpty();
+		}
+
+		synchronized (this) {
+			if (elements != null) {
+				return elements.isEmpty();
+			}
+			if (knownSize < 0) {
+				return !model.exists(request);
+			}
+			return knownSize == 0;
+		}
+	}
+
+	/*
+	 * Iterating over the extent needs all its elements anyway: we fetch them
+	 * upfront, rather than asking MagicDraw for the size first.
+	 */
+
+	@Override
+	public Iterator<MDModelElement> iterator() {
+		return load().iterator();
+	}
+
+	@Override
+	public Spliterator<MDModelElement> spliterator() {
+		return load().spliterator();
+	}
+
+	@Override
+	public MDModelElement get(int index) {
+		return load().get(index);
+	}
+
+	@Override
+	public MDModelElement set(int index, MDModelElement element) {
+		return modify(l -> l.set(index, element));
+	}
+
+	@Override
+	public synchronized boolean add(MDModelElement element) {
+		if (elements == null) {
+			// MagicDraw already includes the new element in the extent
+			knownSize = -1;
+			modCount++;
+			return true;
+		}
+		return super.add(element);
+	}
+
+	@Override
+	public synchronized boolean remove(Object o) {
+		if (elements == null) {
+			// MagicDraw no longer includes the deleted element in the extent
+			knownSize = -1;
+			modCount++;
+			return true;
+		}
+
+		// Go through remove(int), as the iterator of the elements would change them in place
+		final int index = elements.indexOf(o);
+		if (index < 0) {
+			return false;
+		}
+		remove(index);
+		return true;
+	}
+
+	@Override
+	public void add(int index, MDModelElement element) {
+		modify(l -> {
+			l.add(index, element);
+			return null;
+		});
+		modCount++;
+	}
+
+	@Override
+	public MDModelElement remove(int index) {
+		MDModelElement removed = modify(l -> l.remove(index));
+		modCount++;
+		return removed;
+	}
+
+	private synchronized <R> R modify(Function<List<MDModelElement>, R> change) {
+		List<MDModelElement> target = load();
+		if (model.isConcurrent()) {
+			target = new ArrayList<>(target);
+		}
+		final R result = change.apply(target);
+		elements = target;
+		return result;
+	}
+
+	private List<MDModelElement> load() {
+		final List<MDModelElement> loaded = elements;
+		if (loaded != null) {
+			return loaded;
+		}
+
+		synchronized (this) {
+			if (elements == null) {
+				elements = model.fetchAllOf(request);
+				knownSize = -1;
+			}
+			return elements;
+		}
+	}
+
+}
@@ -14,12 +14,24 @@ import java.util.Objects;
 
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement;
 
+import com.google.protobuf.ByteString;
+
+/**
+ * <p>Proxy for a model element inside MagicDraw.</p>
+ *
+ * <p>The proxy keeps the {@link ModelElement} message it was created from, and
+ * only turns its fields into strings when they are requested. IDs are sent back
+ * to MagicDraw in their original {@link ByteString} form, so proxies that are
+ * only passed around by a script never need to decode them.</p>
+ */
 public class MDModelElement {
 
 	private final Object model;
-	private final String typeName;
-	private final String metamodelUri;
-	private final String elementID;
+	private final ModelElement element;
+
+	private String typeName;
+	private String metamodelUri;
+	private String elementID;
 
 	/**
 	 * @param magicDrawModel
@@ -27,9 +39,7 @@ public class MDModelElement {
 	 */
 	public MDModelElement(MagicDrawModel model, ModelElement e) {
 		this.model = model;
-		this.typeName = e.getTypeName();
-		this.metamodelUri = e.getMetamodelUri();
-		this.elementID = e.getElementID();
+		this.element = e;
 	}
 
 	public Object getModel() {
@@ -37,20 +47,43 @@ public class MDModelElement {
 	}
 
 	public String getTypeName() {
+		if (typeName == null) {
+			typeName = element.getTypeNameBytes().toStringUtf8();
+		}
 		return typeName;
 	}
 
 	public String getMetamodelUri() {
+		if (metamodelUri == null) {
+			metamodelUri = element.getMetamodelUriBytes().toStringUtf8();
+		}
 		return metamodelUri;
 	}
 
 	public String getElementID() {
+		if (elementID == null) {
+			elementID = element.getElementIDBytes().toStringUtf8();
+		}
 		return elementID;
 	}
 
+	/**
+	 * Returns the ID of the element in the same form it was received from MagicDraw.
+	 */
+	public ByteString getElementIDBytes() {
+		return element.getElementIDBytes();
+	}
+
+	/**
+	 * Returns the API message that this proxy was created from, which can be sent back to MagicDraw as is.
+	 */
+	public ModelElement toModelElement() {
+		return element;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(elementID, metamodelUri, model, typeName);
+		return Objects.hash(element.getElementIDBytes(), element.getMetamodelUriBytes(), model, element.getTypeNameBytes());
 	}
 
 	@Override
@@ -62,14 +95,16 @@ public class MDModelElement {
 		if (getClass() != obj.getClass())
 			return false;
 		MDModelElement other = (MDModelElement) obj;
-		return Objects.equals(elementID, other.elementID) && Objects.equals(metamodelUri, other.metamodelUri)
-				&& Objects.equals(model, other.model) && Objects.equals(typeName, other.typeName);
+		return Objects.equals(element.getElementIDBytes(), other.element.getElementIDBytes())
+				&& Objects.equals(element.getMetamodelUriBytes(), other.element.getMetamodelUriBytes())
+				&& Objects.equals(model, other.model)
+				&& Objects.equals(element.getTypeNameBytes(), other.element.getTypeNameBytes());
 	}
 
 	@Override
 	public String toString() {
-		return "MDModelElement [typeName=" + typeName + ", metamodelUri=" + metamodelUri + ", elementID=" + elementID + "]";
+		return "MDModelElement [typeName=" + getTypeName() + ", metamodelUri=" + getMetamodelUri() + ", elementID=" + getElementID() + "]";
 	}
 
-	
+
 }
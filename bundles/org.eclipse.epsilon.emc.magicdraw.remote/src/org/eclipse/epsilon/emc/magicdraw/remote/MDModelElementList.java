@@ -0,0 +1,109 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection;
+
+/**
+ * <p>List view over a {@link ModelElementCollection} received from MagicDraw.
+ * The {@link MDModelElement} proxies are only created when each position is
+ * accessed for the first time, so scripts that only look at a few elements of
+ * a large extent do not pay for decoding all of them.</p>
+ *
+ * <p>The list can be modified (e.g. by {@code CachedModel} when new instances
+ * are created): on the first modification, all remaining elements are decoded
+ * into a regular {@link ArrayList}, which is used from then onwards.</p>
+ *
+ * <p>Reads do not take any locks, so the list can be shared by the threads of
+ * Epsilon's parallel modules: if several threads decode the same position at
+ * once, they all end up with the same proxy. Modifications are serialized, and
+ * when the model is in concurrent mode they are applied to a copy of the
+ * elements which then replaces the original, so concurrent readers never see
+ * the list half-modified.</p>
+ */
+public class MDModelElementList extends AbstractList<MDModelElement> implements RandomAccess {
+
+	private final MagicDrawModel model;
+	private final ModelElementCollection collection;
+	private final AtomicReferenceArray<MDModelElement> decoded;
+	private volatile List<MDModelElement> materialized;
+
+	public MDModelElementList(MagicDrawModel model, ModelElementCollection collection) {
+		this.model = model;
+		this.collection = collection;
+		this.decoded = new AtomicReferenceArray<>(collection.getValuesCount());
+	}
+
+	@Override
+	public MDModelElement get(int index) {
+		final List<MDModelElement> elements = materialized;
+		if (elements != null) {
+			return elements.get(index);
+		}
+
+		final MDModelElement element = decoded.get(index);
+		if (element != null) {
+			return element;
+		}
+		decoded.compareAndSet(index, null, new MDModelElement(model, collection.getValues(index)));
+		return decoded.get(index);
+	}
+
+	@Override
+	public int size() {
+		final List<MDModelElement> elements = materialized;
+		return elements != null ? elements.size() : decoded.length();
+	}
+
+	@Override
+	public MDModelElement set(int index, MDModelElement element) {
+		return modify(l -> l.set(index, element));
+	}
+
+	@Override
+	public void add(int index, MDModelElement element) {
+		modify(l -> {
+			l.add(index, element);
+			return null;
+		});
+		modCount++;
+	}
+
+	@Override
+	public MDModelElement remove(int index) {
+		MDModelElement removed = modify(l -> l.remove(index));
+		modCount++;
+		return removed;
+	}
+
+	private synchronized <R> R modify(Function<List<MDModelElement>, R> change) {
+		List<MDModelElement> target = materialized;
+		if (target == null) {
+			target = new ArrayList<>(decoded.length());
+			for (int i = 0; i < decoded.length(); i++) {
+				target.add(get(i));
+			}
+		} else if (model.isConcurrent()) {
+			target = new ArrayList<>(target);
+		}
+		final R result = change.apply(target);
+		materialized = target;
+		return result;
+	}
+
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest;
+
+/**
+ * <p>Builds {@link Predicate}s that MagicDraw can evaluate while scanning the
+ * model, for use with {@link MagicDrawModel#selectAllOfKind(String, Predicate)}
+ * and {@link MagicDrawModel#selectAllOfType(String, Predicate)}.</p>
+ *
+ * <p>An instance can be obtained from EOL through {@code Model.getPredicates()}:
+ * for example, {@code Class.all.select(c | c.name.startsWith('Sensor') and not c.isAbstract)}
+ * can be written as:</p>
+ *
+ * <pre>
+ * var p = Model.getPredicates();
+ * Model.selectAllOfKind('Class', p.and(p.startsWith('name', 'Sensor'), p.eq('isAbstract', false)));
+ * </pre>
+ */
+public class MDPredicates {
+
+	private final MagicDrawModel model;
+
+	public MDPredicates(MagicDrawModel model) {
+		this.model = model;
+	}
+
+	public Predicate eq(String featureName, Object value) {
+		return compare(featureName, Operator.EQUALS, value);
+	}
+
+	public Predicate ne(String featureName, Object value) {
+		return compare(featureName, Operator.NOT_EQUALS, value);
+	}
+
+	public Predicate lt(String featureName, Object value) {
+		return compare(featureName, Operator.LESS_THAN, value);
+	}
+
+	public Predicate le(String featureName, Object value) {
+		return compare(featureName, Operator.LESS_OR_EQUAL, value);
+	}
+
+	public Predicate gt(String featureName, Object value) {
+		return compare(featureName, Operator.GREATER_THAN, value);
+	}
+
+	public Predicate ge(String featureName, Object value) {
+		return compare(featureName, Operator.GREATER_OR_EQUAL, value);
+	}
+
+	public Predicate and(Predicate left, Predicate right) {
+		return and(Arrays.asList(left, right));
+	}
+
+	public Predicate and(Collection<Predicate> operands) {
+		return Predicate.newBuilder()
+			.setConjunction(PredicateCollection.newBuilder().addAllValues(operands))
+			.build();
+	}
+
+	public Predicate or(Predicate left, Predicate right) {
+		return or(Arrays.asList(left, right));
+	}
+
+	public Predicate or(Collection<Predicate> operands) {
+		return Predicate.newBuilder()
+			.setDisjunction(PredicateCollection.newBuilder().addAllValues(operands))
+			.build();
+	}
+
+	public Predicate not(Predicate operand) {
+		return Predicate.newBuilder().setNegation(operand).build();
+	}
+
+	public Predicate isNull(String featureName) {
+		return Predicate.newBuilder().setIsNull(featureName).build();
+	}
+
+	public Predicate startsWith(String featureName, String prefix) {
+		return startsWith(featureName, prefix, false);
+	}
+
+	public Predicate startsWith(String featureName, String prefix, boolean ignoreCase) {
+		return Predicate.newBuilder().setStartsWith(stringTest(featureName, prefix, ignoreCase)).build();
+	}
+
+	public Predicate contains(String featureName, String substring) {
+		return contains(featureName, substring, false);
+	}
+
+	public Predicate contains(String featureName, String substring, boolean ignoreCase) {
+		return Predicate.newBuilder().setContains(stringTest(featureName, substring, ignoreCase)).build();
+	}
+
+	public Predicate isKindOf(String typeName) {
+		return Predicate.newBuilder().setIsKindOf(typeName).build();
+	}
+
+	public Predicate isTypeOf(String typeName) {
+		return Predicate.newBuilder().setIsTypeOf(typeName).build();
+	}
+
+	private Predicate compare(String featureName, Operator operator, Object value) {
+		return Predicate.newBuilder().setComparison(FeatureComparison.newBuilder()
+			.setFeatureName(featureName)
+			.setOperator(operator)
+			.setValue(model.encoder.encode(value))
+		).build();
+	}
+
+	private StringTest stringTest(String featureName, String value, boolean ignoreCase) {
+		return StringTest.newBuilder()
+			.setFeatureName(featureName)
+			.setValue(value)
+			.setIgnoreCase(ignoreCase)
+			.build();
+	}
+
+}
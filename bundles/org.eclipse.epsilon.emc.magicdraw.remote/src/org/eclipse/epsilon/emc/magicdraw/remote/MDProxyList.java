@@ -33,38 +33,35 @@ public class MDProxyList extends AbstractList<Object> {
 
 	@Override
 	public int size() {
-		return model.client.listSize(proxyList).getValue();
+		return model.coalesce("listSize", proxyList, model.client::listSize).getValue();
 	}
 
 	@Override
 	public Object get(int index) {
-		Value value = model.client.listGet(createListPosition(index));
+		Value value = model.coalesce("listGet", createListPosition(index), model.client::listGet);
 		return model.getPropertyGetter().decodeValue(value);
 	}
 
 	@Override
 	public Object set(int index, Object element) {
-		model.ensureSessionOpened();
 		Value value = model.encoder.encode(element);
-		Value oldValue = model.client.listSet(createListPositionValue(index, value));
+		Value oldValue = model.change(() -> model.client.listSet(createListPositionValue(index, value)));
 		return model.getPropertyGetter().decodeValue(oldValue);
 	}
 
 	@Override
 	public void add(int index, Object element) {
-		model.ensureSessionOpened();
 		Value value = model.encoder.encode(element);
-		model.client.listAdd(createListPositionValue(index, value));
+		model.change(() -> model.client.listAdd(createListPositionValue(index, value)));
 	}
 
 	@Override
 	public boolean add(Object element) {
-		model.ensureSessionOpened();
 		Value value = model.encoder.encode(element);
 
 		// Do not specify an insertion position: the server will implicitly add it at the end.
 		// This avoids having a useless call to size() every time we add at the end.
-		model.client.listAdd(ListPositionValue.newBuilder().setList(proxyList).setValue(value).build());
+		model.change(() -> model.client.listAdd(ListPositionValue.newBuilder().setList(proxyList).setValue(value).build()));
 
 		// NOTE: cannot support boolean return currently, would need to add specific API for add-at-end
 		return true;
@@ -72,15 +69,13 @@ public class MDProxyList extends AbstractList<Object> {
 
 	@Override
 	public Object remove(int index) {
-		model.ensureSessionOpened();
-		Value oldValue = model.client.listRemove(createListPosition(index));
+		Value oldValue = model.change(() -> model.client.listRemove(createListPosition(index)));
 		return model.getPropertyGetter().decodeValue(oldValue);
 	}
 
 	@Override
 	public void clear() {
-		model.ensureSessionOpened();
-		model.client.listClear(proxyList);
+		model.change(() -> model.client.listClear(proxyList));
 	}
 
 	private ListPosition createListPosition(int index) {
@@ -99,9 +94,8 @@ public class MDProxyList extends AbstractList<Object> {
 	/* EList-inspired operations */
 	
 	public void move(int newPosition, Object e) {
-		model.ensureSessionOpened();
 		final Value value = model.encoder.encode(e);
-		model.client.listMoveObject(createListPositionValue(newPosition, value));
+		model.change(() -> model.client.listMoveObject(createListPositionValue(newPosition, value)));
 	}
 
 	/*
@@ -0,0 +1,161 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ForwardingClientCall.SimpleForwardingClientCall;
+import io.grpc.ForwardingClientCallListener.SimpleForwardingClientCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+/**
+ * <p>Channel which spreads reads over several MagicDraw instances with the same
+ * project open. Each read goes to the instance with the fewest calls in flight
+ * from this router, taking turns between instances that are equally busy.</p>
+ *
+ * <p>Changes to the model, editing sessions and project operations always go
+ * to the primary instance (the first one). The other instances would not see
+ * those changes, so after the first of them, all calls go to the primary
+ * instance as well.</p>
+ */
+public class MDReplicaRouter extends Channel {
+
+	/**
+	 * Methods which can only be sent to the primary instance. These are the
+	 * same as the writes of the plugin.
+	 */
+	public static final Set<String> PRIMARY_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		"createInstance", "deleteInstance", "setFeatureValue",
+		"listSet", "listAdd", "listRemove", "listMoveObject", "listClear",
+		"openSession", "closeSession", "cancelSession",
+		"openProject", "closeProject", "saveProject")));
+
+	private final String[] names;
+	private final Channel[] channels;
+	private final AtomicInteger[] inFlight;
+	private final AtomicLong[] sent;
+	private final AtomicInteger nextStart = new AtomicInteger();
+	private volatile boolean primaryOnly;
+
+	/**
+	 * Creates a new router.
+	 *
+	 * @param names
+	 *            Names of the instances, for {@link #getSentCalls()}.
+	 * @param channels
+	 *            Channels to the instances, in the same order as their names.
+	 *            The first one is the primary instance.
+	 */
+	public MDReplicaRouter(List<String> names, List<? extends Channel> channels) {
+		if (names.size() != channels.size() || channels.isEmpty()) {
+			throw new IllegalArgumentException("There should be one name per channel, and at least one channel");
+		}
+
+		this.names = names.toArray(new String[0]);
+		this.channels = channels.toArray(new Channel[0]);
+		this.inFlight = new AtomicInteger[this.channels.length];
+		this.sent = new AtomicLong[this.channels.length];
+		for (int i = 0; i < this.channels.length; i++) {
+			inFlight[i] = new AtomicInteger();
+			sent[i] = new AtomicLong();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if all calls are going to the primary instance,
+	 * because a change has been sent to it.
+	 */
+	public boolean isPrimaryOnly() {
+		return primaryOnly;
+	}
+
+	/**
+	 * Returns the number of calls sent to each instance, by name, starting
+	 * with the primary instance.
+	 */
+	public Map<String, Long> getSentCalls() {
+		final Map<String, Long> result = new LinkedHashMap<>();
+		for (int i = 0; i < names.length; i++) {
+			result.put(names[i], sent[i].get());
+		}
+		return result;
+	}
+
+	@Override
+	public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+		final String methodName = MethodDescriptor.extractBareMethodName(methodDescriptor.getFullMethodName());
+		if (PRIMARY_METHODS.contains(methodName)) {
+			primaryOnly = true;
+		}
+
+		final int target = primaryOnly ? 0 : leastBusy();
+		sent[target].incrementAndGet();
+		inFlight[target].incrementAndGet();
+
+		final AtomicBoolean done = new AtomicBoolean();
+		final Runnable finish = () -> {
+			if (done.compareAndSet(false, true)) {
+				inFlight[target].decrementAndGet();
+			}
+		};
+
+		return new SimpleForwardingClientCall<ReqT, RespT>(channels[target].newCall(methodDescriptor, callOptions)) {
+			@Override
+			public void start(Listener<RespT> responseListener, Metadata headers) {
+				try {
+					super.start(new SimpleForwardingClientCallListener<RespT>(responseListener) {
+						@Override
+						public void onClose(Status status, Metadata trailers) {
+							finish.run();
+							super.onClose(status, trailers);
+						}
+					}, headers);
+				} catch (RuntimeException ex) {
+					finish.run();
+					throw ex;
+				}
+			}
+		};
+	}
+
+	@Override
+	public String authority() {
+		return channels[0].authority();
+	}
+
+	private int leastBusy() {
+		// Start from a different instance each time, so ties are broken in turns
+		final int start = Math.floorMod(nextStart.getAndIncrement(), channels.length);
+		int best = start;
+		for (int i = 1; i < channels.length; i++) {
+			final int candidate = (start + i) % channels.length;
+			if (inFlight[candidate].get() < inFlight[best].get()) {
+				best = candidate;
+			}
+		}
+		return best;
+	}
+
+}
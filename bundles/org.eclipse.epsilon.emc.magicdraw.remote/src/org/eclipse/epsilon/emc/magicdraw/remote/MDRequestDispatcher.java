@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+
+/**
+ * <p>Issues asynchronous requests to MagicDraw, with at most a certain number
+ * of them in flight at a time. Requests beyond that limit are queued without
+ * blocking the caller, and are started in order as earlier ones complete.</p>
+ *
+ * <p>All requests share the same channel, so the ones in flight are multiplexed
+ * over the same HTTP/2 connection.</p>
+ */
+public class MDRequestDispatcher {
+
+	public static final int DEFAULT_MAX_IN_FLIGHT = 64;
+
+	private final int maxInFlight;
+	/** Each entry starts a request, returning {@code false} if it did not need to stay in flight. */
+	private final Queue<BooleanSupplier> queued = new ArrayDeque<>();
+	private int inFlight;
+
+	public MDRequestDispatcher(int maxInFlight) {
+		if (maxInFlight < 1) {
+			throw new IllegalArgumentException("At least one request must be allowed in flight");
+		}
+		this.maxInFlight = maxInFlight;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	public synchronized int getQueued() {
+		return queued.size();
+	}
+
+	/**
+	 * Starts a request as soon as there is room for it. Cancelling the returned
+	 * future cancels the request if it has started already.
+	 *
+	 * @param call Starts the request (e.g. through a future stub).
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<ListenableFuture<T>> call) {
+		final CompletableFuture<T> result = new CompletableFuture<>();
+		final BooleanSupplier start = () -> start(call, result);
+
+		boolean startNow = false;
+		synchronized (this) {
+			if (inFlight < maxInFlight) {
+				inFlight++;
+				startNow = true;
+			} else {
+				queued.add(start);
+			}
+		}
+
+		if (startNow && !start.getAsBoolean()) {
+			release();
+		}
+		return result;
+	}
+
+	private <T> boolean start(Supplier<ListenableFuture<T>> call, CompletableFuture<T> result) {
+		if (result.isDone()) {
+			// Cancelled while it was queued
+			return false;
+		}
+
+		final ListenableFuture<T> future;
+		try {
+			future = call.get();
+		} catch (RuntimeException ex) {
+			result.completeExceptionally(ex);
+			return false;
+		}
+
+		result.whenComplete((v, t) -> {
+			if (result.isCancelled()) {
+				future.cancel(true);
+			}
+		});
+		Futures.addCallback(future, new FutureCallback<T>() {
+			@Override
+			public void onSuccess(T value) {
+				release();
+				result.complete(value);
+			}
+
+			@Override
+			public void onFailure(Throwable t) {
+				release();
+				result.completeExceptionally(t);
+			}
+		}, MoreExecutors.directExecutor());
+		return true;
+	}
+
+	/**
+	 * Hands the slot of a completed request to the next queued one that needs it,
+	 * or frees it if there is none.
+	 */
+	private void release() {
+		while (true) {
+			final BooleanSupplier next;
+			synchronized (this) {
+				next = queued.poll();
+				if (next == null) {
+					inFlight--;
+					return;
+				}
+			}
+			if (next.getAsBoolean()) {
+				return;
+			}
+		}
+	}
+
+}
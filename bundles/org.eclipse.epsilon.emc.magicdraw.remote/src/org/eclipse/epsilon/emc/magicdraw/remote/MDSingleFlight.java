@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * <p>Coalesces identical calls made at the same time from several threads: the
+ * first thread runs the call, and the others wait for it and share its result
+ * (or its exception), instead of running the call themselves.</p>
+ *
+ * <p>Only calls in flight are coalesced: once a call completes, the next one
+ * with the same key runs again. Results are not cached.</p>
+ */
+public class MDSingleFlight<K, V> {
+
+	/**
+	 * Snapshot of the counters of a {@link MDSingleFlight}.
+	 */
+	public static class Statistics {
+		private final long calls, coalesced;
+
+		Statistics(long calls, long coalesced) {
+			this.calls = calls;
+			this.coalesced = coalesced;
+		}
+
+		/** Number of calls which were actually run. */
+		public long getCalls() {
+			return calls;
+		}
+
+		/** Number of calls which waited for an identical one instead of running. */
+		public long getCoalesced() {
+			return coalesced;
+		}
+
+		/** Fraction of the calls which were saved by coalescing, or 0 if there were no calls. */
+		public double getSavedRatio() {
+			final long total = calls + coalesced;
+			return total == 0 ? 0 : (double) coalesced / total;
+		}
+
+		@Override
+		public String toString() {
+			return "Statistics [calls=" + calls + ", coalesced=" + coalesced + "]";
+		}
+	}
+
+	private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+	private final AtomicLong calls = new AtomicLong();
+	private final AtomicLong coalesced = new AtomicLong();
+
+	/**
+	 * Runs {@code call}, unless an identical call (with an equal key) is already
+	 * in flight, in which case it waits for that call and returns its result.
+	 * All calls for the same key are expected to be equivalent.
+	 */
+	public V call(K key, Supplier<V> call) {
+		final CompletableFuture<V> mine = new CompletableFuture<>();
+		final CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+		if (existing != null) {
+			coalesced.incrementAndGet();
+			try {
+				return existing.join();
+			} catch (CompletionException ex) {
+				// Rethrow the original exception, as the thread running the call did
+				if (ex.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) ex.getCause();
+				} else if (ex.getCause() instanceof Error) {
+					throw (Error) ex.getCause();
+				}
+				throw ex;
+			}
+		}
+
+		calls.incrementAndGet();
+		try {
+			final V result = call.get();
+			mine.complete(result);
+			return result;
+		} catch (RuntimeException | Error ex) {
+			mine.completeExceptionally(ex);
+			throw ex;
+		} finally {
+			inFlight.remove(key, mine);
+		}
+	}
+
+	/**
+	 * Makes later calls run again, rather than waiting for the calls in flight.
+	 * This should be done after any change that could make their results stale.
+	 * The threads already waiting still receive the results of those calls.
+	 */
+	public void forgetInFlight() {
+		inFlight.clear();
+	}
+
+	public Statistics getStatistics() {
+		return new Statistics(calls.get(), coalesced.get());
+	}
+
+	/**
+	 * Resets the counters.
+	 */
+	public void clearStatistics() {
+		calls.set(0);
+		coalesced.set(0);
+	}
+
+}
@@ -10,35 +10,75 @@
  *******************************************************************************/
 package org.eclipse.epsilon.emc.magicdraw.remote;
 
-import java.net.InetSocketAddress;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.eclipse.epsilon.common.util.StringProperties;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.Builder;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.Empty;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest;
-import org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc.ModelServiceBlockingStub;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc.ModelServiceFutureStub;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceTransports;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
 import org.eclipse.epsilon.eol.exceptions.models.EolEnumerationValueNotFoundException;
 import org.eclipse.epsilon.eol.exceptions.models.EolModelElementTypeNotFoundException;
@@ -53,14 +93,16 @@ import org.slf4j.LoggerFactory;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.google.rpc.ErrorInfo;
 
+import io.grpc.Channel;
 import io.grpc.ManagedChannel;
 import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.Status.Code;
 import io.grpc.StatusRuntimeException;
-import io.grpc.netty.NettyChannelBuilder;
 import io.grpc.protobuf.ProtoUtils;
 
 /**
@@ -94,6 +136,78 @@ import io.grpc.protobuf.ProtoUtils;
  * interact repeatedly with it.</li>
  * <li>You can use {@link #setRootElementHyperlink(String)} to limit the scope
  * of the model to a specific package within the project.</li>
+ * <li>By default, collections of model elements received from MagicDraw are
+ * decoded lazily, creating each {@link MDModelElement} on first access. Use
+ * {@link #setLazyDecoding(boolean)} to decode them all upfront instead.</li>
+ * <li>By default, extents are only fetched when their elements are needed, so
+ * {@code X.all.size()} and {@code X.all.isEmpty()} are computed by MagicDraw.
+ * Use {@link #setLazyExtents(boolean)} to change this.</li>
+ * <li>If you know which types your script will use, you can list them with
+ * {@link #setPrefetchTypes(List)}: all their extents will be fetched with a
+ * single request while loading the model.</li>
+ * <li>If you know which features your script will read as well, an access
+ * plan set with {@link #setAccessPlan(MDAccessPlan)} fetches them in bulk
+ * while loading the model, along with the extents of their types.</li>
+ * <li>Filters can be evaluated inside MagicDraw with
+ * {@link #selectAllOfKind(String, Predicate)}, using the predicates from
+ * {@link #getPredicates()}.</li>
+ * <li>Chains of references (e.g. ancestors or generalization hierarchies) can
+ * be followed by MagicDraw in one request with
+ * {@link #navigate(Collection, List, boolean, int)}.</li>
+ * <li>Containment subtrees can be fetched in one request with
+ * {@link #fetchSubtree(MDModelElement, int, List, List)}: later reads of
+ * {@code eContents}, {@code eContainer} and the fetched features within the
+ * subtree will not need further requests.</li>
+ * <li>{@code eContents} and {@code eAllContents} are fetched in pages as they
+ * are accessed. Use {@link #getContents(MDModelElement, String, boolean)} to
+ * have MagicDraw only return the contents of a certain type.</li>
+ * <li>Scripts that need to visit many elements can be run inside MagicDraw
+ * with {@link #runRemote(String, Map)}, only transferring their results.</li>
+ * <li>Once a feature has been read from MagicDraw for enough elements of a
+ * type (see {@link #setAdaptivePrefetchThreshold(int)}), it is fetched in the
+ * background for the other elements of that type in the extents fetched so far.
+ * {@link #getAccessProfiler()} reports whether these prefetches paid off.</li>
+ * <li>Java code can issue many reads concurrently through the {@code *Async}
+ * methods (e.g. {@link #getFeatureValueAsync(MDModelElement, String)}), which
+ * return {@link CompletableFuture}s. At most {@link #getMaxConcurrentRequests()}
+ * of them are in flight at a time, sharing the same connection.</li>
+ * <li>The elements that reference an element can be found with
+ * {@link #getReferrers(MDModelElement, List)}, or from EOL through the
+ * {@code eReferrers} property. MagicDraw builds an index for this on first
+ * use, which it keeps up to date until the project is closed.</li>
+ * <li>Named elements can be looked up by name or qualified name with
+ * {@link #getElementsByName(String)} and {@link #getElementByQualifiedName(String)},
+ * which MagicDraw answers from an index instead of scanning the model.</li>
+ * <li>The model can be queried from several threads at once, as done by
+ * Epsilon's parallel modules (e.g. {@code EvlModuleParallelElements}). Reads
+ * do not take any model-wide locks. Use {@link #setConcurrent(boolean)} so the
+ * caches of {@link CachedModel} are thread-safe as well: extents are still
+ * fetched lazily and shared between threads. Identical reads sent
+ * at the same time share a single request (see {@link #getCoalescingStatistics()}).</li>
+ * <li>If MagicDraw runs on the same Linux host, {@link #setSocketPath(String)}
+ * connects through a Unix domain socket instead of TCP, which has lower latency
+ * for small requests. The plugin must listen on the same socket. On other
+ * platforms, the host and port are used instead.</li>
+ * <li>Scripts run from inside MagicDraw (e.g. from a macro) can use
+ * {@link #setInProcess(boolean)} to call the plugin directly within the same
+ * JVM, without going through the network or serializing any messages. The
+ * requests are still handled by the plugin in the same way.</li>
+ * <li>Models connecting to the same server share their connections through
+ * {@link MDChannelRegistry#getDefault()}, so loading and disposing several
+ * models does not reconnect every time. {@link #setChannelCount(int)} spreads
+ * the requests over several connections.</li>
+ * <li>Reads can be spread over several MagicDraw instances with the same
+ * project open, listed with {@link #setReplicas(List)}. Changes, editing
+ * sessions and project operations always go to the main instance (from
+ * {@link #getHost()} and {@link #getPort()}), and so do all the calls after
+ * the first change. Loading the model fails if any of the instances has a
+ * different project open.</li>
+ * <li>Calls can have per-method deadlines, so a MagicDraw instance which stops
+ * responding does not block the script forever. Idempotent reads are retried
+ * with backoff if they fail or exceed their deadline, and slow reads can be
+ * hedged by sending a second attempt to another connection or instance (see
+ * {@link #setCallPolicy(MDCallPolicy)}). {@link #getCallStatistics()} reports
+ * the latency percentiles of the calls.</li>
  * </ul>
  */
 public class MagicDrawModel extends CachedModel<MDModelElement> {
@@ -105,23 +219,91 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 			.maximumSize(HAS_TYPE_CACHE_SIZE)
 			.build(new GetTypeCacheLoader());
 
-	private ManagedChannel channel;
+	private static final long REMOTE_SCRIPT_DEADLINE_SLACK_MILLIS = 5_000;
+
+	private static final int ENUMERATION_CACHE_SIZE = 100;
+	private final LoadingCache<String, Map<String, MDEnumerationLiteral>> enumerationCache = CacheBuilder.newBuilder()
+			.maximumSize(ENUMERATION_CACHE_SIZE)
+			.build(new EnumerationCacheLoader());
+
+	/*
+	 * Profiles and stereotypes are looked up repeatedly by scripts (e.g. once per
+	 * element in a transformation rule), so we memoise them for the current project.
+	 * See invalidateProfileCaches() for when they are dropped.
+	 */
+	private volatile List<MDModelElement> profilesCache;
+	private final Map<String, MDModelElement> profileCache = new ConcurrentHashMap<>();
+	private final Map<List<String>, MDModelElement> stereotypeCache = new ConcurrentHashMap<>();
+
+	private MDChannelRegistry.Lease channelLease;
+	private final List<MDChannelRegistry.Lease> replicaLeases = new ArrayList<>();
+	private MDReplicaRouter replicaRouter;
+	private MDCallPolicyChannel callChannel;
 	protected ModelServiceBlockingStub client;
+	protected ModelServiceFutureStub asyncClient;
+	private MDRequestDispatcher dispatcher;
+	private int maxConcurrentRequests = MDRequestDispatcher.DEFAULT_MAX_IN_FLIGHT;
 
 	public static final String PROPERTY_HOST = "server.host";
 	public static final String PROPERTY_PORT = "server.port";
+	public static final String PROPERTY_SOCKET_PATH = "server.socketPath";
+	public static final String PROPERTY_IN_PROCESS = "server.inProcess";
+	public static final String PROPERTY_CHANNEL_COUNT = "server.channelCount";
+	public static final String PROPERTY_REPLICAS = "server.replicas";
+	public static final String PROPERTY_DEADLINES = "call.deadlines";
+	public static final String PROPERTY_MAX_ATTEMPTS = "call.maxAttempts";
+	public static final String PROPERTY_RETRY_CODES = "call.retryCodes";
+	public static final String PROPERTY_HEDGING_PERCENTILE = "call.hedgingPercentile";
 	public static final String PROPERTY_ROOT_HYPERLINK = "root.hyperlink";
 	public static final String PROPERTY_PROJECT_URL = "project.url";
 	public static final String PROPERTY_CLOSE_ON_DISPOSAL = "closeOnDisposal";
+	public static final String PROPERTY_LAZY_DECODING = "lazyDecoding";
+	public static final String PROPERTY_PREFETCH_TYPES = "prefetchTypes";
+	public static final String PROPERTY_LAZY_EXTENTS = "lazyExtents";
+	public static final String PROPERTY_ADAPTIVE_PREFETCH_THRESHOLD = "adaptivePrefetchThreshold";
+	public static final String PROPERTY_ACCESS_PLAN = "accessPlan";
+	public static final String PROPERTY_MAX_CONCURRENT_REQUESTS = "maxConcurrentRequests";
+
+	/** Maximum number of elements whose feature values are fetched with each request. */
+	private static final int FEATURE_PREFETCH_BATCH_SIZE = 1_000;
+
+	/** Types whose instances can contain (or be) profiles and stereotypes. */
+	private static final Set<String> PROFILE_TYPES = new HashSet<>(Arrays.asList(
+		"uml::Profile", "uml::Stereotype", "uml::Package", "uml::Model"));
 
 	private String host = ModelServiceConstants.DEFAULT_HOST;
 	private int port = ModelServiceConstants.DEFAULT_PORT;
+	private String socketPath;
+	private boolean inProcess;
+	private int channelCount = 1;
+	private List<String> replicas = new ArrayList<>();
+	private MDCallPolicy callPolicy = new MDCallPolicy();
 	private String rootElementHyperlink;
 	private String projectURL;
 	private boolean closedOnDisposal;
+	private boolean lazyDecoding = true;
+	private boolean lazyExtents = true;
+	private List<String> prefetchTypes = Collections.emptyList();
+	private MDAccessPlan accessPlan = new MDAccessPlan();
+
+	/*
+	 * Extents fetched by prefetchExtents(...), which have not been handed over
+	 * to CachedModel yet. Entries are removed as they are used.
+	 */
+	private final Map<String, List<MDModelElement>> prefetchedKinds = new ConcurrentHashMap<>();
+	private final Map<String, List<MDModelElement>> prefetchedTypes = new ConcurrentHashMap<>();
 
 	protected final ValueEncoder encoder = new ValueEncoder();
 
+	/** Feature values fetched in bulk, e.g. by {@link #fetchSubtree(MDModelElement, int, List, List)}. */
+	protected final MDFeatureValueCache featureValueCache = new MDFeatureValueCache();
+
+	/** Prefetches features into {@link #featureValueCache} based on how the script reads them. */
+	protected final MDAccessProfiler accessProfiler = new MDAccessProfiler(this);
+
+	/** Shares the responses of identical read requests sent at the same time from several threads. */
+	protected final MDSingleFlight<List<Object>, Object> requestCoalescer = new MDSingleFlight<>();
+
 	/**
 	 * <p>Thread-safe way of ensuring we have a session opened when needed.</p>
 	 *
@@ -142,10 +324,17 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 		 * If a session has not been opened yet by this model, it will ask MagicDraw to open one.
 		 * This may fail if MagicDraw already had an editing session opened from before.
 		 */
-		public synchronized void ensureOpened() {
-			if (!active) {
-				client.openSession(OpenSessionRequest.newBuilder().setDescription("Epsilon EMC driver").build());
-				active = true;
+		public void ensureOpened() {
+			if (active) {
+				// Avoid locking once the session is open, as every change goes through here
+				return;
+			}
+
+			synchronized (this) {
+				if (!active) {
+					client.openSession(OpenSessionRequest.newBuilder().setDescription("Epsilon EMC driver").build());
+					active = true;
+				}
 			}
 		}
 
@@ -166,6 +355,11 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 			if (active) {
 				client.cancelSession(Empty.newBuilder().build());
 				active = false;
+
+				// Rolling back may have undone the creation of profiles or stereotypes
+				invalidateProfileCaches();
+				featureValueCache.clear();
+				requestCoalescer.forgetInFlight();
 			}
 		}
 	}
@@ -214,6 +408,94 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 		this.port = port;
 	}
 
+	public String getSocketPath() {
+		return socketPath;
+	}
+
+	/**
+	 * Changes the path of the Unix domain socket used to talk to MagicDraw. If
+	 * {@code null} or empty, or if domain sockets are not available on this
+	 * platform, the driver connects to {@link #getHost()}:{@link #getPort()}
+	 * through TCP instead.
+	 */
+	public void setSocketPath(String socketPath) {
+		this.socketPath = socketPath;
+	}
+
+	public boolean isInProcess() {
+		return inProcess;
+	}
+
+	/**
+	 * Changes whether the driver talks to the plugin in-process, rather than through
+	 * {@link #getSocketPath()} or {@link #getHost()}:{@link #getPort()}. This only
+	 * works when the driver runs inside the MagicDraw JVM, and shares the gRPC
+	 * classes of the plugin: otherwise, loading the model will fail.
+	 */
+	public void setInProcess(boolean inProcess) {
+		this.inProcess = inProcess;
+	}
+
+	public int getChannelCount() {
+		return channelCount;
+	}
+
+	/**
+	 * Changes how many connections are used to talk to MagicDraw (1 by default).
+	 * Requests are spread over them in round-robin order. These connections are
+	 * shared with the other models using the same server and channel count.
+	 * This takes effect the next time the model is loaded.
+	 */
+	public void setChannelCount(int channelCount) {
+		this.channelCount = Math.max(1, channelCount);
+	}
+
+	public List<String> getReplicas() {
+		return replicas;
+	}
+
+	/**
+	 * Changes the other MagicDraw instances that reads can be sent to, as
+	 * {@code host:port} strings (the port can be omitted if it is the default
+	 * one). They must have the same project open as the main instance. This
+	 * takes effect the next time the model is loaded.
+	 */
+	public void setReplicas(List<String> replicas) {
+		this.replicas = new ArrayList<>(replicas);
+	}
+
+	/**
+	 * Returns the router which spreads reads over the main instance and the
+	 * replicas, or {@code null} if there are no replicas or the model has not
+	 * been loaded.
+	 */
+	public MDReplicaRouter getReplicaRouter() {
+		return replicaRouter;
+	}
+
+	public MDCallPolicy getCallPolicy() {
+		return callPolicy;
+	}
+
+	/**
+	 * Changes the deadlines, retries and hedging of the calls to MagicDraw.
+	 * Changes to the policy apply to the calls made after them. Hedging only
+	 * takes effect with several connections (see {@link #setChannelCount(int)})
+	 * or replicas (see {@link #setReplicas(List)}).
+	 */
+	public void setCallPolicy(MDCallPolicy callPolicy) {
+		this.callPolicy = callPolicy == null ? new MDCallPolicy() : callPolicy;
+	}
+
+	/**
+	 * Returns the number of calls sent to MagicDraw since the model was loaded,
+	 * their retries and hedged attempts, and the percentiles of their recent
+	 * latencies, or {@code null} if the model has not been loaded.
+	 */
+	public MDCallPolicyChannel.Statistics getCallStatistics() {
+		return callChannel == null ? null : callChannel.getStatistics();
+	}
+
 	public String getProjectURL() {
 		return projectURL;
 	}
@@ -230,32 +512,322 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 		this.closedOnDisposal = newValue;
 	}
 
+	public boolean isLazyDecoding() {
+		return lazyDecoding;
+	}
+
+	/**
+	 * Changes whether collections of model elements will be decoded lazily ({@code true}, the
+	 * default) or eagerly ({@code false}). Lazy decoding reduces the allocations needed to
+	 * receive large extents, when the script only visits some of their elements.
+	 */
+	public void setLazyDecoding(boolean lazyDecoding) {
+		this.lazyDecoding = lazyDecoding;
+	}
+
+	public boolean isLazyExtents() {
+		return lazyExtents;
+	}
+
+	/**
+	 * Changes whether extents will only be fetched from MagicDraw when their
+	 * elements are needed ({@code true}, the default). While not fetched, their
+	 * size is computed by MagicDraw without transferring the elements.
+	 */
+	public void setLazyExtents(boolean lazyExtents) {
+		this.lazyExtents = lazyExtents;
+	}
+
+	public int getMaxConcurrentRequests() {
+		return maxConcurrentRequests;
+	}
+
+	/**
+	 * Changes how many asynchronous requests (e.g. from {@link #getFeatureValueAsync(MDModelElement, String)})
+	 * can be in flight at the same time. Further requests are queued until
+	 * earlier ones complete. This takes effect the next time the model is loaded.
+	 */
+	public void setMaxConcurrentRequests(int maxConcurrentRequests) {
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
+	public MDAccessPlan getAccessPlan() {
+		return accessPlan;
+	}
+
+	/**
+	 * Changes the types and features that will be fetched in bulk while loading
+	 * the model, before the script starts. The plan can be built from a static
+	 * analysis of the script, or parsed from its textual form with
+	 * {@link MDAccessPlan#parse(String)}.
+	 */
+	public void setAccessPlan(MDAccessPlan accessPlan) {
+		this.accessPlan = accessPlan == null ? new MDAccessPlan() : accessPlan;
+	}
+
+	public int getAdaptivePrefetchThreshold() {
+		return accessProfiler.getThreshold();
+	}
+
+	/**
+	 * Changes how many elements of a type need to have a feature read from
+	 * MagicDraw before that feature is fetched in the background for the other
+	 * elements of that type in the extents fetched so far. 0 disables this.
+	 */
+	public void setAdaptivePrefetchThreshold(int threshold) {
+		accessProfiler.setThreshold(threshold);
+	}
+
+	/**
+	 * Returns how many read requests were sent to MagicDraw, and how many were
+	 * saved by sharing the response of an identical request sent at the same
+	 * time from another thread. The counters are reset when the model is loaded.
+	 */
+	public MDSingleFlight.Statistics getCoalescingStatistics() {
+		return requestCoalescer.getStatistics();
+	}
+
+	/**
+	 * Returns the profiler behind adaptive prefetching, which can be used to
+	 * change its batch size or check whether its prefetches were used.
+	 */
+	public MDAccessProfiler getAccessProfiler() {
+		return accessProfiler;
+	}
+
+	public List<String> getPrefetchTypes() {
+		return prefetchTypes;
+	}
+
+	/**
+	 * Changes the types whose extents (all instances and instances of exactly
+	 * that type) will be fetched while loading the model, with a single request
+	 * and a single traversal of the model in MagicDraw.
+	 */
+	public void setPrefetchTypes(List<String> prefetchTypes) {
+		this.prefetchTypes = prefetchTypes == null ? Collections.emptyList() : prefetchTypes;
+	}
+
+	/**
+	 * <p>Fetches the extents of several types with a single request, and uses them
+	 * to populate the caches of {@link CachedModel} for {@code X.all} and
+	 * {@code X.allOfType}.</p>
+	 *
+	 * <p>If caching is disabled, the extents will only be used by the next request
+	 * for each of them.</p>
+	 */
+	public void prefetchExtents(Collection<String> types) throws EolModelElementTypeNotFoundException {
+		fetchExtents(types);
+	}
+
+	/**
+	 * Implements {@link #prefetchExtents(Collection)}, returning the instances of
+	 * each type (including subtypes) by type name, as given.
+	 */
+	private Map<String, List<MDModelElement>> fetchExtents(Collection<String> types) throws EolModelElementTypeNotFoundException {
+		final Map<String, List<MDModelElement>> kinds = new HashMap<>();
+		if (types.isEmpty()) {
+			return kinds;
+		}
+
+		final AllOfManyRequest request = AllOfManyRequest.newBuilder()
+			.addAllTypeNames(types)
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink)
+			.build();
+
+		final ExtentCollection response;
+		try {
+			response = client.allOfMany(request);
+		} catch (StatusRuntimeException ex) {
+			throw translateTypeNotFound(ex, String.join(", ", types));
+		}
+
+		final List<MDModelElement> elements = decodeElements(response.getElements());
+		for (TypeExtent extent : response.getExtentsList()) {
+			final List<MDModelElement> kind = select(elements, extent.getKindIndicesList());
+			kinds.put(extent.getTypeName(), kind);
+			prefetchedKinds.put(extent.getTypeName(), kind);
+			prefetchedTypes.put(extent.getTypeName(), select(elements, extent.getTypeIndicesList()));
+		}
+		accessProfiler.addExtent(request, elements);
+
+		if (isCachingEnabled()) {
+			for (TypeExtent extent : response.getExtentsList()) {
+				getAllOfKind(extent.getTypeName());
+				getAllOfType(extent.getTypeName());
+			}
+
+			// Drop anything that was not needed as it was cached already
+			prefetchedKinds.clear();
+			prefetchedTypes.clear();
+		}
+
+		return kinds;
+	}
+
+	/**
+	 * Fetches the values of several features for a collection of elements, with
+	 * one request per batch of elements. Later reads of those features from
+	 * those elements will not need further requests, until the model is changed
+	 * through the driver.
+	 */
+	public void prefetchFeatures(Collection<MDModelElement> elements, List<String> featureNames) {
+		final List<MDModelElement> pending = new ArrayList<>(elements);
+		for (int start = 0; start < pending.size(); start += FEATURE_PREFETCH_BATCH_SIZE) {
+			final List<MDModelElement> batch = pending.subList(start, Math.min(pending.size(), start + FEATURE_PREFETCH_BATCH_SIZE));
+
+			final FeatureValuesRequest.Builder request = FeatureValuesRequest.newBuilder().addAllFeatureNames(featureNames);
+			for (MDModelElement element : batch) {
+				request.addElementIDsBytes(element.getElementIDBytes());
+			}
+			final FeatureValuesResult result = client.getFeatureValues(request.build());
+
+			for (int i = 0; i < batch.size(); i++) {
+				final ProjectedElement pe = result.getElements(i);
+				for (int j = 0; j < featureNames.size(); j++) {
+					final Value value = pe.getValues(j);
+					if (value.getValueCase() != Value.ValueCase.NOTDEFINED) {
+						featureValueCache.put(batch.get(i), featureNames.get(j), getPropertyGetter().decodeValue(value));
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns a factory of predicates for {@link #selectAllOfKind(String, Predicate)}
+	 * and {@link #selectAllOfType(String, Predicate)}.
+	 */
+	public MDPredicates getPredicates() {
+		return new MDPredicates(this);
+	}
+
+	/**
+	 * Returns the instances of a type (including subtypes) which match the
+	 * predicate. The predicate is evaluated by MagicDraw, so only the matching
+	 * elements are transferred. Results are not cached.
+	 */
+	public List<MDModelElement> selectAllOfKind(String type, Predicate filter) throws EolModelElementTypeNotFoundException {
+		return selectAllOf(type, false, filter);
+	}
+
+	/**
+	 * Returns the instances of exactly a type which match the predicate. The
+	 * predicate is evaluated by MagicDraw, so only the matching elements are
+	 * transferred. Results are not cached.
+	 */
+	public List<MDModelElement> selectAllOfType(String type, Predicate filter) throws EolModelElementTypeNotFoundException {
+		return selectAllOf(type, true, filter);
+	}
+
+	private List<MDModelElement> selectAllOf(String type, boolean onlyExactType, Predicate filter) throws EolModelElementTypeNotFoundException {
+		AllOfRequest request = AllOfRequest.newBuilder()
+			.setTypeName(type)
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink)
+			.setOnlyExactType(onlyExactType)
+			.setFilter(filter)
+			.build();
+
+		return getAllOfFromModel(request);
+	}
+
+	private List<MDModelElement> select(List<MDModelElement> elements, List<Integer> positions) {
+		final List<MDModelElement> selected = new ArrayList<>(positions.size());
+		for (int position : positions) {
+			selected.add(elements.get(position));
+		}
+		return selected;
+	}
+
 	/**
 	 * Returns the list of all the Profile objects available in the project (whether in the primary model or not).
 	 */
 	public List<MDModelElement> getProfiles() {
-		ModelElementCollection profiles = client.getProfiles(Empty.newBuilder().build());
-		return profiles.getValuesList().stream()
-			.map(e -> new MDModelElement(this, e))
-			.collect(Collectors.toList());
+		List<MDModelElement> profiles = profilesCache;
+		if (profiles == null) {
+			ModelElementCollection response = client.getProfiles(Empty.newBuilder().build());
+			profiles = Collections.unmodifiableList(decodeElements(response));
+			profilesCache = profiles;
+		}
+		return profiles;
 	}
 
 	/**
 	 * Returns the Profile object for a given URI, anywhere in the project (whether in the primary model or not).
 	 */
 	public MDModelElement getProfile(String uri) {
-		ModelElement profile = client.getProfile(ProfileRequest.newBuilder().setUri(uri).build());
-		return new MDModelElement(this, profile);
+		return profileCache.computeIfAbsent(uri, (key) -> {
+			ModelElement profile = client.getProfile(ProfileRequest.newBuilder().setUri(key).build());
+			return new MDModelElement(this, profile);
+		});
 	}
 
 	/**
 	 * Returns the Stereotype object for a given profile URI and stereotype name, anywhere in the project, and including sub-profiles of the given profile.
 	 */
 	public MDModelElement getStereotype(String profileURI, String stereotypeName) {
-		ModelElement stereotype = client.getStereotype(ProfileStereotypeRequest.newBuilder()
-			.setProfileURI(profileURI)
-			.setStereotypeName(stereotypeName).build());
-		return new MDModelElement(this, stereotype);
+		return stereotypeCache.computeIfAbsent(Arrays.asList(profileURI, stereotypeName), (key) -> {
+			ModelElement stereotype = client.getStereotype(ProfileStereotypeRequest.newBuilder()
+				.setProfileURI(profileURI)
+				.setStereotypeName(stereotypeName).build());
+			return new MDModelElement(this, stereotype);
+		});
+	}
+
+	/**
+	 * Drops the memoised results of {@link #getProfiles()}, {@link #getProfile(String)}
+	 * and {@link #getStereotype(String, String)}. This is done automatically when the
+	 * model is loaded, when the editing session is cancelled, and when elements that
+	 * may affect the available profiles are created, deleted or modified.
+	 */
+	public void invalidateProfileCaches() {
+		profilesCache = null;
+		profileCache.clear();
+		stereotypeCache.clear();
+	}
+
+	/**
+	 * Returns {@code true} if changes to instances of the given type may change the results
+	 * of profile and stereotype lookups.
+	 */
+	protected boolean affectsProfiles(String typeName) {
+		return PROFILE_TYPES.contains(typeName);
+	}
+
+	/**
+	 * Creates the channel used to talk to MagicDraw. By default, this is an
+	 * in-process channel if {@link #isInProcess()} is set, a plaintext connection
+	 * through the Unix domain socket at {@link #getSocketPath()} if set and
+	 * supported, or a plaintext TCP connection to {@link #getHost()}:{@link #getPort()}.
+	 * Subclasses can override this to use other transports (e.g. an in-process
+	 * server for testing), together with {@link #getChannelKey()}.
+	 */
+	protected ManagedChannel createChannel() {
+		if (inProcess) {
+			return ModelServiceTransports.newInProcessChannelBuilder().build();
+		}
+		if (socketPath != null && !socketPath.trim().isEmpty() && !ModelServiceTransports.usesDomainSocket(socketPath)) {
+			LOGGER.warn("Unix domain sockets are not available on this platform: connecting to {}:{} instead", host, port);
+		}
+		return ModelServiceTransports.newChannelBuilder(host, port, socketPath).build();
+	}
+
+	/**
+	 * Returns the key under which the channels from {@link #createChannel()} are
+	 * shared with other models in {@link MDChannelRegistry#getDefault()}. Models
+	 * with equal keys share the same channels. Subclasses that override
+	 * {@link #createChannel()} should override this as well.
+	 */
+	protected Object getChannelKey() {
+		return Arrays.asList(inProcess, socketPath, host, port, channelCount);
+	}
+
+	/**
+	 * Creates a channel to one of the replicas. By default, this is a plaintext
+	 * TCP connection to {@code host:port}.
+	 */
+	protected ManagedChannel createReplicaChannel(String host, int port) {
+		return ModelServiceTransports.newChannelBuilder(host, port, null).build();
 	}
 
 	@Override
@@ -269,20 +841,121 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 
 	@Override
 	protected void loadModel() throws EolModelLoadingException {
+		// Reloading without disposing first should not keep the previous channels in use
+		releaseChannels();
+
 		// Connect to MagicDraw
-		channel = NettyChannelBuilder.forAddress(new InetSocketAddress(host, port)).usePlaintext().build();
-		client = ModelServiceGrpc.newBlockingStub(channel);
+		channelLease = MDChannelRegistry.getDefault().acquire(getChannelKey(), channelCount, this::createChannel);
 		try {
+			useChannel(new MDCallPolicyChannel(channelLease.getChannel(), callPolicy, channelCount > 1));
+			dispatcher = new MDRequestDispatcher(maxConcurrentRequests);
+
 			client.ping(Empty.newBuilder().build());
 			if (projectURL != null && projectURL.trim().length() > 0) {
 				client.openProject(ProjectLocation.newBuilder().setFileURL(projectURL).build());
 			}
+
+			if (!replicas.isEmpty()) {
+				useChannel(new MDCallPolicyChannel(connectReplicas(), callPolicy, true));
+			}
 		} catch (StatusRuntimeException ex) {
+			releaseChannels();
 			throw new EolModelLoadingException(ex, this);
+		} catch (EolModelLoadingException | RuntimeException ex) {
+			releaseChannels();
+			throw ex;
 		}
 
 		// Invalidate all caches
 		getTypeCache.invalidateAll();
+		enumerationCache.invalidateAll();
+		invalidateProfileCaches();
+		featureValueCache.clear();
+		accessProfiler.clear();
+		requestCoalescer.clearStatistics();
+		prefetchedKinds.clear();
+		prefetchedTypes.clear();
+
+		try {
+			// The extents in the access plan are fetched with the same request as the prefetched types
+			final Set<String> types = new LinkedHashSet<>(prefetchTypes);
+			types.addAll(accessPlan.getTypeNames());
+			final Map<String, List<MDModelElement>> kinds = fetchExtents(types);
+
+			for (String typeName : accessPlan.getTypeNames()) {
+				final List<String> featureNames = accessPlan.getFeatureNames(typeName);
+				if (!featureNames.isEmpty()) {
+					prefetchFeatures(kinds.get(typeName), featureNames);
+				}
+			}
+		} catch (EolModelElementTypeNotFoundException | StatusRuntimeException ex) {
+			releaseChannels();
+			throw new EolModelLoadingException(ex, this);
+		}
+	}
+
+	private void useChannel(MDCallPolicyChannel channel) {
+		callChannel = channel;
+		client = ModelServiceGrpc.newBlockingStub(channel);
+		asyncClient = ModelServiceGrpc.newFutureStub(channel);
+	}
+
+	/**
+	 * Connects to the replicas, checks that they have the same project open as
+	 * the main instance, and returns a router over all of them.
+	 */
+	private Channel connectReplicas() throws EolModelLoadingException {
+		final ProjectInfo expected = client.getProjectInfo(Empty.getDefaultInstance());
+
+		final List<String> names = new ArrayList<>();
+		final List<Channel> channels = new ArrayList<>();
+		names.add(inProcess ? "in-process" : socketPath != null && !socketPath.trim().isEmpty() ? socketPath : host + ":" + port);
+		channels.add(channelLease.getChannel());
+
+		try {
+			for (String replica : replicas) {
+				final int iColon = replica.lastIndexOf(':');
+				final String replicaHost = iColon < 0 ? replica : replica.substring(0, iColon);
+				final int replicaPort;
+				try {
+					replicaPort = iColon < 0 ? ModelServiceConstants.DEFAULT_PORT : Integer.parseInt(replica.substring(iColon + 1));
+				} catch (NumberFormatException ex) {
+					throw new EolModelLoadingException(new IllegalArgumentException(
+						String.format("Invalid replica '%s': it should be of the form host:port", replica), ex), this);
+				}
+
+				// Replicas never share a channel with a main instance, even if they have the same address
+				final MDChannelRegistry.Lease lease = MDChannelRegistry.getDefault().acquire(
+					Arrays.asList("replica", replicaHost, replicaPort, channelCount), channelCount,
+					() -> createReplicaChannel(replicaHost, replicaPort));
+				replicaLeases.add(lease);
+
+				// Check the replica with the same deadlines and retries as any other call
+				final ModelServiceBlockingStub replicaClient = ModelServiceGrpc.newBlockingStub(
+					new MDCallPolicyChannel(lease.getChannel(), callPolicy, channelCount > 1));
+				if (projectURL != null && projectURL.trim().length() > 0) {
+					replicaClient.openProject(ProjectLocation.newBuilder().setFileURL(projectURL).build());
+				}
+				final ProjectInfo actual = replicaClient.getProjectInfo(Empty.getDefaultInstance());
+				if (!expected.getPrimaryModelID().equals(actual.getPrimaryModelID()) || !expected.getName().equals(actual.getName())) {
+					throw new EolModelLoadingException(new IllegalStateException(String.format(
+						"Replica %s has project '%s' open (primary model %s), but the main instance has '%s' (primary model %s)",
+						replica, actual.getName(), actual.getPrimaryModelID(), expected.getName(), expected.getPrimaryModelID())), this);
+				}
+
+				names.add(replica);
+				channels.add(lease.getChannel());
+			}
+		} catch (EolModelLoadingException | RuntimeException ex) {
+			for (MDChannelRegistry.Lease lease : replicaLeases) {
+				lease.close();
+			}
+			replicaLeases.clear();
+			throw ex;
+		}
+
+		replicaRouter = new MDReplicaRouter(names, channels);
+		return replicaRouter;
 	}
 
 	@Override
@@ -291,26 +964,73 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
  
 		setHost(properties.getProperty(PROPERTY_HOST, ModelServiceConstants.DEFAULT_HOST));
 		setPort(properties.getIntegerProperty(PROPERTY_PORT, ModelServiceConstants.DEFAULT_PORT));
+		setSocketPath(properties.getProperty(PROPERTY_SOCKET_PATH, ""));
+		setInProcess(properties.getBooleanProperty(PROPERTY_IN_PROCESS, false));
+		setChannelCount(properties.getIntegerProperty(PROPERTY_CHANNEL_COUNT, 1));
+		setReplicas(splitList(properties.getProperty(PROPERTY_REPLICAS, "")));
 		setRootElementHyperlink(properties.getProperty(PROPERTY_ROOT_HYPERLINK));
 		setProjectURL(properties.getProperty(PROPERTY_PROJECT_URL));
 		setClosedOnDisposal(properties.getBooleanProperty(PROPERTY_CLOSE_ON_DISPOSAL, false));
+		setLazyDecoding(properties.getBooleanProperty(PROPERTY_LAZY_DECODING, true));
+		setLazyExtents(properties.getBooleanProperty(PROPERTY_LAZY_EXTENTS, true));
+		setPrefetchTypes(splitList(properties.getProperty(PROPERTY_PREFETCH_TYPES, "")));
+		setAdaptivePrefetchThreshold(properties.getIntegerProperty(PROPERTY_ADAPTIVE_PREFETCH_THRESHOLD, MDAccessProfiler.DEFAULT_THRESHOLD));
+		setMaxConcurrentRequests(properties.getIntegerProperty(PROPERTY_MAX_CONCURRENT_REQUESTS, MDRequestDispatcher.DEFAULT_MAX_IN_FLIGHT));
+		try {
+			setAccessPlan(MDAccessPlan.parse(properties.getProperty(PROPERTY_ACCESS_PLAN, "")));
+
+			final MDCallPolicy policy = new MDCallPolicy();
+			policy.parseDeadlines(properties.getProperty(PROPERTY_DEADLINES, ""));
+			policy.setMaxAttempts(properties.getIntegerProperty(PROPERTY_MAX_ATTEMPTS, MDCallPolicy.DEFAULT_MAX_ATTEMPTS));
+			final String retryCodes = properties.getProperty(PROPERTY_RETRY_CODES, "").trim();
+			if (!retryCodes.isEmpty()) {
+				policy.parseRetryableCodes(retryCodes);
+			}
+			final String hedgingPercentile = properties.getProperty(PROPERTY_HEDGING_PERCENTILE, "").trim();
+			if (!hedgingPercentile.isEmpty()) {
+				policy.setHedgingPercentile(Double.parseDouble(hedgingPercentile));
+			}
+			setCallPolicy(policy);
+		} catch (IllegalArgumentException ex) {
+			throw new EolModelLoadingException(ex, this);
+		}
 
 		load();
 	}
 
+	private static List<String> splitList(String commaSeparated) {
+		final List<String> result = new ArrayList<>();
+		for (String item : commaSeparated.split(",")) {
+			if (!item.trim().isEmpty()) {
+				result.add(item.trim());
+			}
+		}
+		return result;
+	}
+
 	@Override
 	public Object getEnumerationValue(String enumeration, String label) throws EolEnumerationValueNotFoundException {
-		final GetEnumerationValueRequest request = GetEnumerationValueRequest.newBuilder()
-			.setEnumeration(enumeration)
-			.setLabel(label)
-			.build();
-
+		// All the literals of the enumeration are fetched in one go on first use
+		final Map<String, MDEnumerationLiteral> literals;
 		try {
-			final EnumerationValue response = client.getEnumerationValue(request);
-			return new MDEnumerationLiteral(response);
-		} catch (StatusRuntimeException ex) {
+			literals = enumerationCache.getUnchecked(enumeration);
+		} catch (UncheckedExecutionException ex) {
+			if (ex.getCause() instanceof StatusRuntimeException) {
+				final StatusRuntimeException cause = (StatusRuntimeException) ex.getCause();
+				if (cause.getStatus().getCode() == Code.INVALID_ARGUMENT) {
+					// MagicDraw could not find the enumeration
+					throw new EolEnumerationValueNotFoundException(enumeration, label, name);
+				}
+				throw cause;
+			}
+			throw ex;
+		}
+
+		final MDEnumerationLiteral literal = literals.get(label);
+		if (literal == null) {
 			throw new EolEnumerationValueNotFoundException(enumeration, label, name);
 		}
+		return literal;
 	}
 
 	@Override
@@ -321,7 +1041,7 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 	@Override
 	public Object getElementById(String id) {
 		final GetElementByIDRequest request = GetElementByIDRequest.newBuilder().setElementID(id).build();
-		final ModelElement response = client.getElementByID(request);
+		final ModelElement response = coalesce("getElementByID", request, client::getElementByID);
 		return new MDModelElement(this, response);
 	}
 
@@ -347,14 +1067,14 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 
 	@Override
 	public boolean isInstantiable(String type) {
-		return getTypeCache.getUnchecked(type)
+		return findType(type)
 			.map(e -> !e.getIsAbstract())
 			.orElse(false);
 	}
 
 	@Override
 	public boolean hasType(String type) {
-		return getTypeCache.getUnchecked(type).isPresent();
+		return findType(type).isPresent();
 	}
 
 	@Override
@@ -381,15 +1101,37 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 	@Override
 	protected Collection<MDModelElement> getAllOfTypeFromModel(String type)
 			throws EolModelElementTypeNotFoundException {
+		final List<MDModelElement> prefetched = prefetchedTypes.remove(type);
+		if (prefetched != null) {
+			return prefetched;
+		}
 		return getAllOfFromModel(type, true);
 	}
 
 	@Override
 	protected Collection<MDModelElement> getAllOfKindFromModel(String kind)
 			throws EolModelElementTypeNotFoundException {
+		final List<MDModelElement> prefetched = prefetchedKinds.remove(kind);
+		if (prefetched != null) {
+			return prefetched;
+		}
 		return getAllOfFromModel(kind, false);
 	}
 
+	/*
+	 * In concurrent mode, CachedModel would copy each extent into a concurrent
+	 * collection, which would fetch lazy extents and decode all the elements
+	 * of lazily decoded lists right away. Our lists can already be shared
+	 * between threads, so we keep them as they are.
+	 */
+	@Override
+	protected Collection<MDModelElement> wrap(Collection<MDModelElement> collection) {
+		if (collection instanceof MDLazyExtent || collection instanceof MDModelElementList) {
+			return collection;
+		}
+		return super.wrap(collection);
+	}
+
 	private Collection<MDModelElement> getAllOfFromModel(String type, boolean onlyExactType) throws EolModelElementTypeNotFoundException {
 		AllOfRequest request = AllOfRequest.newBuilder()
 			.setTypeName(type)
@@ -397,44 +1139,562 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 			.setOnlyExactType(onlyExactType)
 			.build();
 
+		if (lazyExtents) {
+			// Report missing types right away, rather than on first use of the extent
+			if (!hasType(type)) {
+				throw new EolModelElementTypeNotFoundException(getName(), type);
+			}
+			return new MDLazyExtent(this, request);
+		}
+
 		return getAllOfFromModel(request);
 	}
 
-	private Collection<MDModelElement> getAllOfFromModel(AllOfRequest request) throws EolModelElementTypeNotFoundException {
+	/**
+	 * Fetches the elements of an extent whose type has been checked already.
+	 */
+	List<MDModelElement> fetchAllOf(AllOfRequest request) {
 		try {
-			ModelElementCollection response = client.allOf(request);
-			List<MDModelElement> elements = new ArrayList<>(response.getValuesCount());
-			for (ModelElement e : response.getValuesList()) {
-				elements.add(new MDModelElement(this, e));
+			return getAllOfFromModel(request);
+		} catch (EolModelElementTypeNotFoundException e) {
+			throw new IllegalStateException(e.getMessage(), e);
+		}
+	}
+
+	int count(AllOfRequest request) {
+		return coalesce("count", request, client::count).getValue();
+	}
+
+	boolean exists(AllOfRequest request) {
+		return coalesce("exists", request, client::exists).getValue();
+	}
+
+	/**
+	 * Returns the number of instances of a type (including subtypes), without
+	 * transferring them from MagicDraw.
+	 */
+	public int countAllOfKind(String type) throws EolModelElementTypeNotFoundException {
+		return countAllOf(type, false);
+	}
+
+	/**
+	 * Returns the number of instances of exactly a type, without transferring
+	 * them from MagicDraw.
+	 */
+	public int countAllOfType(String type) throws EolModelElementTypeNotFoundException {
+		return countAllOf(type, true);
+	}
+
+	private int countAllOf(String type, boolean onlyExactType) throws EolModelElementTypeNotFoundException {
+		AllOfRequest request = AllOfRequest.newBuilder()
+			.setTypeName(type)
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink)
+			.setOnlyExactType(onlyExactType)
+			.build();
+
+		try {
+			return count(request);
+		} catch (StatusRuntimeException ex) {
+			throw translateTypeNotFound(ex, type);
+		}
+	}
+
+	/**
+	 * Returns the number of elements of each type in the model (or within the
+	 * root element, if set), indexed by fully qualified type name.
+	 */
+	public Map<String, Integer> getTypeHistogram() {
+		final TypeHistogram histogram = client.getTypeHistogram(TypeHistogramRequest.newBuilder()
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink)
+			.build());
+
+		final Map<String, Integer> counts = new TreeMap<>();
+		for (TypeCount count : histogram.getCountsList()) {
+			counts.put(count.getTypeName(), count.getCount());
+		}
+		return counts;
+	}
+
+	/**
+	 * Follows a path of features from a set of elements inside MagicDraw, in a
+	 * single request. Many-valued features are flattened, and elements that do not
+	 * have one of the features in the path are skipped. {@code eContainer} can be
+	 * used as a feature to move up the containment tree.
+	 *
+	 * @param start Elements to start from.
+	 * @param featurePath Names of the features to follow, in order.
+	 * @param closure If {@code true}, the path is followed again from the reached
+	 *                elements until no new ones are found (as in {@code closure}).
+	 * @param maxDepth In closure mode, maximum number of times the path is
+	 *                 followed, or 0 for no limit.
+	 * @return Reached elements, without duplicates, in breadth-first order.
+	 */
+	public List<MDModelElement> navigate(Collection<MDModelElement> start, List<String> featurePath, boolean closure, int maxDepth) {
+		final NavigationResult result = client.navigate(navigateRequest(start, featurePath, closure, maxDepth, Collections.emptyList()));
+
+		final List<MDModelElement> reached = new ArrayList<>(result.getElementsCount());
+		for (ProjectedElement pe : result.getElementsList()) {
+			reached.add(new MDModelElement(this, pe.getElement()));
+		}
+		return reached;
+	}
+
+	/**
+	 * Variant of {@link #navigate(Collection, List, boolean, int)} which also
+	 * fetches the values of some features of the reached elements.
+	 *
+	 * @return Map from each reached element (in breadth-first order) to the
+	 *         values of the projected features, by feature name.
+	 */
+	public Map<MDModelElement, Map<String, Object>> navigate(Collection<MDModelElement> start, List<String> featurePath,
+			boolean closure, int maxDepth, List<String> projectedFeatures) {
+		final NavigationResult result = client.navigate(navigateRequest(start, featurePath, closure, maxDepth, projectedFeatures));
+
+		final Map<MDModelElement, Map<String, Object>> reached = new LinkedHashMap<>();
+		for (ProjectedElement pe : result.getElementsList()) {
+			final Map<String, Object> values = new LinkedHashMap<>();
+			for (int i = 0; i < projectedFeatures.size(); i++) {
+				final Value value = pe.getValues(i);
+				values.put(projectedFeatures.get(i), value.getValueCase() == Value.ValueCase.NOTDEFINED
+					? null : getPropertyGetter().decodeValue(value));
+			}
+			reached.put(new MDModelElement(this, pe.getElement()), values);
+		}
+		return reached;
+	}
+
+	private NavigateRequest navigateRequest(Collection<MDModelElement> start, List<String> featurePath,
+			boolean closure, int maxDepth, List<String> projectedFeatures) {
+		final NavigateRequest.Builder builder = NavigateRequest.newBuilder()
+			.addAllFeaturePath(featurePath)
+			.setClosure(closure)
+			.setMaxDepth(maxDepth)
+			.addAllProjectedFeatures(projectedFeatures);
+		for (MDModelElement e : start) {
+			builder.addElementIDsBytes(e.getElementIDBytes());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * <p>Fetches a containment subtree from MagicDraw in one request, and keeps
+	 * the values it brings in a local cache. Later reads of {@code eContainer}
+	 * (except for the root), {@code eContents} (for the elements whose contents
+	 * were all fetched) and the projected features of the elements in the subtree
+	 * are answered from this cache, until the model is changed through the driver
+	 * (see {@link #clearFeatureValueCache()}).</p>
+	 *
+	 * @param root Root of the subtree, or {@code null} for the root of the model.
+	 * @param maxDepth Maximum number of levels below the root to fetch, or 0 for no limit.
+	 * @param typeNames If not empty, only the elements of these types (or their subtypes)
+	 *                  are fetched, along with the root. Other elements and their
+	 *                  contents are skipped.
+	 * @param projectedFeatures Features whose values should be fetched as well.
+	 * @return Elements of the subtree in breadth-first order, starting from the root.
+	 * @throws EolModelElementTypeNotFoundException One of the types does not exist.
+	 */
+	public List<MDModelElement> fetchSubtree(MDModelElement root, int maxDepth, List<String> typeNames, List<String> projectedFeatures) throws EolModelElementTypeNotFoundException {
+		final SubtreeRequest.Builder request = SubtreeRequest.newBuilder()
+			.setMaxDepth(maxDepth)
+			.addAllTypeNames(typeNames)
+			.addAllProjectedFeatures(projectedFeatures);
+		if (root != null) {
+			request.setElementIDBytes(root.getElementIDBytes());
+		} else if (rootElementHyperlink != null) {
+			request.setRootElementHyperlink(rootElementHyperlink);
+		}
+
+		final List<MDModelElement> elements = new ArrayList<>();
+		final Map<Integer, List<MDModelElement>> contents = new HashMap<>();
+		try {
+			for (Iterator<SubtreeChunk> it = client.getSubtree(request.build()); it.hasNext(); ) {
+				for (SubtreeNode node : it.next().getNodesList()) {
+					final MDModelElement element = new MDModelElement(this, node.getElement());
+					final int parentIndex = node.getParentIndex();
+					if (parentIndex >= 0) {
+						featureValueCache.put(element, "eContainer", elements.get(parentIndex));
+						final List<MDModelElement> siblings = contents.get(parentIndex);
+						if (siblings != null) {
+							siblings.add(element);
+						}
+					}
+					if (node.getContentsComplete()) {
+						contents.put(elements.size(), new ArrayList<>());
+					}
+
+					for (int i = 0; i < projectedFeatures.size(); i++) {
+						final Value value = node.getValues(i);
+						if (value.getValueCase() != Value.ValueCase.NOTDEFINED) {
+							featureValueCache.put(element, projectedFeatures.get(i), getPropertyGetter().decodeValue(value));
+						}
+					}
+					elements.add(element);
+				}
+			}
+		} catch (StatusRuntimeException ex) {
+			throw translateTypeNotFound(ex, null);
+		}
+
+		for (Map.Entry<Integer, List<MDModelElement>> entry : contents.entrySet()) {
+			featureValueCache.putElements(elements.get(entry.getKey()), "eContents", entry.getValue());
+		}
+		return elements;
+	}
+
+	/**
+	 * Returns the contents of an element which are of a certain type (including
+	 * subtypes). The type is checked by MagicDraw, and the matching elements are
+	 * fetched in pages as they are accessed.
+	 *
+	 * @param element Element whose contents should be returned.
+	 * @param typeName Name of the type, or {@code null} for all the contents.
+	 * @param allContents If {@code true}, indirect contents are included as well (as in {@code eAllContents}).
+	 * @throws EolModelElementTypeNotFoundException The type does not exist.
+	 */
+	public List<MDModelElement> getContents(MDModelElement element, String typeName, boolean allContents) throws EolModelElementTypeNotFoundException {
+		if (typeName != null && !hasType(typeName)) {
+			throw new EolModelElementTypeNotFoundException(getName(), typeName);
+		}
+
+		return new MDContainmentList(this, ContainmentList.newBuilder()
+			.setElementIDBytes(element.getElementIDBytes())
+			.setAllContents(allContents)
+			.setTypeName(typeName == null ? "" : typeName)
+			.build());
+	}
+
+	/**
+	 * Drops all the feature values cached by {@link #fetchSubtree(MDModelElement, int, List, List)}.
+	 * This is done automatically whenever the model is changed through the driver.
+	 */
+	public void clearFeatureValueCache() {
+		featureValueCache.clear();
+	}
+
+	/**
+	 * Reads the value of a feature of an element without blocking the calling
+	 * thread. Values fetched in bulk (e.g. by {@link #fetchSubtree(MDModelElement, int, List, List)})
+	 * are returned right away. As in EOL, properties that MagicDraw does not
+	 * define are read from the {@link MDModelElement} itself.
+	 */
+	public CompletableFuture<Object> getFeatureValueAsync(MDModelElement element, String featureName) {
+		final Object cached = featureValueCache.lookup(element, featureName);
+		if (cached != MDFeatureValueCache.NOT_CACHED) {
+			return CompletableFuture.completedFuture(cached);
+		}
+
+		final GetFeatureValueRequest request = GetFeatureValueRequest.newBuilder()
+			.setElementIDBytes(element.getElementIDBytes())
+			.setFeatureName(featureName)
+			.build();
+
+		return submitAsync((stub) -> stub.getFeatureValue(request)).thenApply((value) -> {
+			if (value.getValueCase() != Value.ValueCase.NOTDEFINED) {
+				return getPropertyGetter().decodeValue(value);
+			}
+			try {
+				return getPropertyGetter().invokeJava(element, featureName);
+			} catch (EolRuntimeException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * Reads an element of a many-valued feature without blocking the calling thread.
+	 */
+	public CompletableFuture<Object> getListElementAsync(MDProxyList list, int index) {
+		final ListPosition position = ListPosition.newBuilder().setList(list.proxyList).setPosition(index).build();
+		return submitAsync((stub) -> stub.listGet(position))
+			.thenApply((value) -> getPropertyGetter().decodeValue(value));
+	}
+
+	/**
+	 * Reads the size of a many-valued feature without blocking the calling thread.
+	 */
+	public CompletableFuture<Integer> getListSizeAsync(MDProxyList list) {
+		return submitAsync((stub) -> stub.listSize(list.proxyList))
+			.thenApply(SingleInteger::getValue);
+	}
+
+	/**
+	 * Fetches the instances of a type (including subtypes) without blocking the
+	 * calling thread. Unlike {@link #getAllOfKind(String)}, the result is not
+	 * cached. If the type does not exist, the future fails with an
+	 * {@link EolModelElementTypeNotFoundException}.
+	 */
+	public CompletableFuture<List<MDModelElement>> getAllOfKindAsync(String type) {
+		return getAllOfAsync(type, false);
+	}
+
+	/**
+	 * Fetches the instances of exactly a type without blocking the calling thread.
+	 *
+	 * @see #getAllOfKindAsync(String)
+	 */
+	public CompletableFuture<List<MDModelElement>> getAllOfTypeAsync(String type) {
+		return getAllOfAsync(type, true);
+	}
+
+	private CompletableFuture<List<MDModelElement>> getAllOfAsync(String type, boolean onlyExactType) {
+		final AllOfRequest request = AllOfRequest.newBuilder()
+			.setTypeName(type)
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink)
+			.setOnlyExactType(onlyExactType)
+			.build();
+
+		final CompletableFuture<List<MDModelElement>> result = new CompletableFuture<>();
+		submitAsync((stub) -> stub.allOf(request)).whenComplete((response, t) -> {
+			if (t == null) {
+				result.complete(decodeElements(response));
+			} else if (t instanceof StatusRuntimeException) {
+				try {
+					result.completeExceptionally(translateTypeNotFound((StatusRuntimeException) t, type));
+				} catch (EolModelElementTypeNotFoundException ex) {
+					result.completeExceptionally(ex);
+				}
+			} else {
+				result.completeExceptionally(t);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Fetches an element by its ID without blocking the calling thread.
+	 */
+	public CompletableFuture<MDModelElement> getElementByIdAsync(String id) {
+		final GetElementByIDRequest request = GetElementByIDRequest.newBuilder().setElementID(id).build();
+		return submitAsync((stub) -> stub.getElementByID(request))
+			.thenApply((response) -> new MDModelElement(this, response));
+	}
+
+	/**
+	 * Sends a call through the request dispatcher. If the model is not loaded
+	 * (e.g. because it has been disposed), the future fails right away with an
+	 * {@link IllegalStateException}.
+	 */
+	private <T> CompletableFuture<T> submitAsync(Function<ModelServiceFutureStub, ListenableFuture<T>> call) {
+		// Calls may start later, so they use the stub of the model at the time they were submitted
+		final MDRequestDispatcher dispatcher = this.dispatcher;
+		final ModelServiceFutureStub stub = asyncClient;
+		if (dispatcher == null || stub == null) {
+			final CompletableFuture<T> result = new CompletableFuture<>();
+			result.completeExceptionally(new IllegalStateException(String.format("Model '%s' is not loaded", getName())));
+			return result;
+		}
+		return dispatcher.submit(() -> call.apply(stub));
+	}
+
+	/**
+	 * Returns the named elements with exactly this name.
+	 *
+	 * @see #getElementsByName(String, String, boolean, boolean)
+	 */
+	public List<MDModelElement> getElementsByName(String name) throws EolModelElementTypeNotFoundException {
+		return getElementsByName(name, null, false, false);
+	}
+
+	/**
+	 * Returns the named elements whose name matches the given one, within the
+	 * root element (if set). MagicDraw answers this from an index of the names
+	 * in the project, without scanning the model.
+	 *
+	 * @param name Name to look up.
+	 * @param typeName If not {@code null}, only elements of this type (or its subtypes) are returned.
+	 * @param prefix If {@code true}, names starting with {@code name} are matched as well.
+	 * @param ignoreCase If {@code true}, names are compared regardless of case.
+	 * @throws EolModelElementTypeNotFoundException The type does not exist.
+	 */
+	public List<MDModelElement> getElementsByName(String name, String typeName, boolean prefix, boolean ignoreCase) throws EolModelElementTypeNotFoundException {
+		try {
+			return decodeElements(client.getElementsByName(nameLookupRequest(name, typeName, prefix, ignoreCase)));
+		} catch (StatusRuntimeException ex) {
+			throw translateTypeNotFound(ex, typeName);
+		}
+	}
+
+	/**
+	 * Returns the named element with this qualified name (e.g. {@code Model::Zoo::Animal}),
+	 * or {@code null} if there is none. If several elements share the qualified
+	 * name, the first one found is returned.
+	 */
+	public MDModelElement getElementByQualifiedName(String qualifiedName) {
+		final List<MDModelElement> matches = decodeElements(client.getElementsByQualifiedName(
+			nameLookupRequest(qualifiedName, null, false, false)));
+		return matches.isEmpty() ? null : matches.get(0);
+	}
+
+	/**
+	 * Variant of {@link #getElementsByName(String, String, boolean, boolean)} for
+	 * qualified names. For instance, a prefix lookup of {@code Model::Zoo::}
+	 * returns every named element inside the {@code Zoo} package.
+	 */
+	public List<MDModelElement> getElementsByQualifiedName(String qualifiedName, String typeName, boolean prefix, boolean ignoreCase) throws EolModelElementTypeNotFoundException {
+		try {
+			return decodeElements(client.getElementsByQualifiedName(nameLookupRequest(qualifiedName, typeName, prefix, ignoreCase)));
+		} catch (StatusRuntimeException ex) {
+			throw translateTypeNotFound(ex, typeName);
+		}
+	}
+
+	private NameLookupRequest nameLookupRequest(String name, String typeName, boolean prefix, boolean ignoreCase) {
+		return NameLookupRequest.newBuilder()
+			.setName(name)
+			.setTypeName(typeName == null ? "" : typeName)
+			.setPrefix(prefix)
+			.setIgnoreCase(ignoreCase)
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink)
+			.build();
+	}
+
+	/**
+	 * Returns the elements that reference an element, without duplicates.
+	 *
+	 * @see #getReferrers(MDModelElement, List)
+	 */
+	public List<MDModelElement> getReferrers(MDModelElement element) {
+		return getReferrers(element, Collections.emptyList());
+	}
+
+	/**
+	 * Returns the elements that reference an element through a non-containment
+	 * feature, without duplicates. This is answered by MagicDraw from a
+	 * cross-reference index, without scanning the model.
+	 *
+	 * @param element Element whose referrers should be returned.
+	 * @param featureNames If not empty, only references through features with these names are considered.
+	 */
+	public List<MDModelElement> getReferrers(MDModelElement element, List<String> featureNames) {
+		return decodeElements(client.getReferrers(GetReferrersRequest.newBuilder()
+			.setElementIDBytes(element.getElementIDBytes())
+			.addAllFeatureNames(featureNames)
+			.build()));
+	}
+
+	/**
+	 * Returns the containers of an element, from its immediate container up to the root of the model.
+	 */
+	public List<MDModelElement> getAncestors(MDModelElement element) {
+		return navigate(Collections.singletonList(element), Collections.singletonList("eContainer"), true, 0);
+	}
+
+	/**
+	 * Returns all the direct and indirect generalizations of a classifier.
+	 */
+	public List<MDModelElement> getAllGenerals(MDModelElement classifier) {
+		return navigate(Collections.singletonList(classifier), Arrays.asList("generalization", "general"), true, 0);
+	}
+
+	/**
+	 * Returns all the elements that an element depends on, directly or indirectly,
+	 * through dependencies where it (or one of its suppliers) is a client.
+	 */
+	public List<MDModelElement> getAllSuppliers(MDModelElement element) {
+		return navigate(Collections.singletonList(element), Arrays.asList("clientDependency", "supplier"), true, 0);
+	}
+
+	/**
+	 * Runs an EOL script inside MagicDraw, using the server's default time limit.
+	 *
+	 * @see #runRemote(String, Map, long)
+	 */
+	public Object runRemote(String script, Map<String, Object> parameters) {
+		return runRemote(script, parameters, 0);
+	}
+
+	/**
+	 * <p>Runs an EOL script inside MagicDraw, against a read-only model of the
+	 * project (limited to the root element, if set), and returns the value of its
+	 * top-level {@code return} statement. Collections are returned as lists.</p>
+	 *
+	 * <p>The parameters are available as global variables in the script: they can
+	 * be primitive values, model elements, or collections of them.</p>
+	 *
+	 * <p>If the script does not finish within {@code timeoutMillis} milliseconds
+	 * (or the server default, if 0), it is stopped and a {@link StatusRuntimeException}
+	 * with {@link Code#DEADLINE_EXCEEDED} is thrown.</p>
+	 */
+	public Object runRemote(String script, Map<String, Object> parameters, long timeoutMillis) {
+		final RunScriptRequest.Builder request = RunScriptRequest.newBuilder()
+			.setScript(script)
+			.setTimeoutMillis((int) timeoutMillis)
+			.setRootElementHyperlink(rootElementHyperlink == null ? "" : rootElementHyperlink);
+		if (parameters != null) {
+			for (Map.Entry<String, Object> entry : parameters.entrySet()) {
+				request.putParameters(entry.getKey(), encoder.encode(entry.getValue()));
 			}
+		}
 
+		/*
+		 * The server enforces the time limit itself: the deadline on the call (with
+		 * some slack) only avoids waiting forever if MagicDraw stops responding.
+		 */
+		ModelServiceBlockingStub stub = client;
+		if (timeoutMillis > 0) {
+			stub = stub.withDeadlineAfter(timeoutMillis + REMOTE_SCRIPT_DEADLINE_SLACK_MILLIS, TimeUnit.MILLISECONDS);
+		}
+
+		boolean isCollection = false;
+		final List<Object> values = new ArrayList<>();
+		for (Iterator<ScriptResult> it = stub.runScript(request.build()); it.hasNext(); ) {
+			ScriptResult result = it.next();
+			isCollection = isCollection || result.getIsCollection();
+			for (Value value : result.getValuesList()) {
+				values.add(getPropertyGetter().decodeValue(value));
+			}
+		}
+
+		if (isCollection) {
+			return values;
+		}
+		return values.isEmpty() ? null : values.get(0);
+	}
+
+	private List<MDModelElement> getAllOfFromModel(AllOfRequest request) throws EolModelElementTypeNotFoundException {
+		try {
+			ModelElementCollection response = coalesce("allOf", request, client::allOf);
+			final List<MDModelElement> elements = decodeElements(response);
+			accessProfiler.addExtent(request, elements);
 			return elements;
 		} catch (StatusRuntimeException ex) {
-			if (ex.getStatus().getCode() == Code.INVALID_ARGUMENT) {
-				Metadata metadata = Status.trailersFromThrowable(ex);
-				ErrorInfo errInfo = metadata.get(ProtoUtils.keyForProto(ErrorInfo.getDefaultInstance()));
-				if (errInfo != null) {
-					switch (errInfo.getReason()) {
-					case ModelServiceConstants.REASON_CANNOT_FIND_TYPE:
-						throw new EolModelElementTypeNotFoundException(getName(), request.getTypeName());
-					}
+			throw translateTypeNotFound(ex, request.getTypeName());
+		}
+	}
+
+	/**
+	 * Turns "type not found" errors from MagicDraw into the equivalent EMC exception.
+	 * Other errors are returned as is, so the caller can rethrow them.
+	 *
+	 * @throws EolModelElementTypeNotFoundException The server could not find the type.
+	 */
+	private StatusRuntimeException translateTypeNotFound(StatusRuntimeException ex, String typeName) throws EolModelElementTypeNotFoundException {
+		if (ex.getStatus().getCode() == Code.INVALID_ARGUMENT) {
+			Metadata metadata = Status.trailersFromThrowable(ex);
+			ErrorInfo errInfo = metadata.get(ProtoUtils.keyForProto(ErrorInfo.getDefaultInstance()));
+			if (errInfo != null) {
+				switch (errInfo.getReason()) {
+				case ModelServiceConstants.REASON_CANNOT_FIND_TYPE:
+					throw new EolModelElementTypeNotFoundException(getName(),
+						errInfo.getMetadataOrDefault(ModelServiceConstants.METADATA_TYPE_NAME, typeName));
 				}
 			}
-			throw ex;
 		}
+		return ex;
 	}
 
 	@Override
 	protected MDModelElement createInstanceInModel(String type)
 			throws EolModelElementTypeNotFoundException, EolNotInstantiableModelElementTypeException {
-		ensureSessionOpened();
-
 		try {
 			org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest.Builder builder = CreateInstanceRequest.newBuilder().setTypeName(type);
 			if (rootElementHyperlink != null) {
 				builder.setRootElementHyperlink(rootElementHyperlink);
 			}
-			ModelElement response = client.createInstance(builder.build());
+			ModelElement response = change(() -> client.createInstance(builder.build()));
+			if (affectsProfiles(response.getTypeName())) {
+				invalidateProfileCaches();
+			}
 
 			return new MDModelElement(this, response);
 		} catch (StatusRuntimeException ex) {
@@ -456,22 +1716,34 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 
 	@Override
 	protected void disposeModel() {
+		accessProfiler.shutdown();
 		sessionState.cancel();
-		if (isClosedOnDisposal()) {
+		if (isClosedOnDisposal() && client != null) {
 			client.closeProject(Empty.newBuilder().build());
 		}
 
-		if (channel != null) {
-			try {
-				channel.shutdown().awaitTermination(5, TimeUnit.SECONDS);
-			} catch (InterruptedException e) {
-				LOGGER.warn(e.getMessage(), e);
-				channel.shutdownNow();
-			}
+		releaseChannels();
+	}
 
-			channel = null;
-			client = null;
+	/**
+	 * Releases the leases on the channels to MagicDraw and its replicas, if any.
+	 */
+	private void releaseChannels() {
+		if (channelLease != null) {
+			// Other models may still be using the channel: the registry shuts it down when it is no longer needed
+			channelLease.close();
+			channelLease = null;
+		}
+		for (MDChannelRegistry.Lease lease : replicaLeases) {
+			lease.close();
 		}
+		replicaLeases.clear();
+
+		replicaRouter = null;
+		callChannel = null;
+		client = null;
+		asyncClient = null;
+		dispatcher = null;
 	}
 
 	@Override
@@ -481,11 +1753,13 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 		}
 		MDModelElement mdElem = (MDModelElement) instance;
 
-		ensureSessionOpened();
 		try {
-			client.deleteInstance(DeleteInstanceRequest.newBuilder()
-				.setElementID(mdElem.getElementID())
-				.build());
+			change(() -> client.deleteInstance(DeleteInstanceRequest.newBuilder()
+				.setElementIDBytes(mdElem.getElementIDBytes())
+				.build()));
+			if (affectsProfiles(mdElem.getTypeName())) {
+				invalidateProfileCaches();
+			}
 			return true;
 		} catch (Exception ex) {
 			LOGGER.error(ex.getMessage(), ex);
@@ -496,7 +1770,7 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 	@Override
 	protected Object getCacheKeyForType(String type) throws EolModelElementTypeNotFoundException {
 		// Tries to map the type reference to the fully qualified version of the name
-		return getTypeCache.getUnchecked(type)
+		return findType(type)
 			.map(e -> e.getTypeName())
 			.orElse(type);
 	}
@@ -505,7 +1779,7 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 	protected Collection<String> getAllTypeNamesOf(Object instance) {
 		if (instance instanceof MDModelElement) {
 			MDModelElement mdElem = (MDModelElement) instance;
-			return getTypeCache.getUnchecked(mdElem.getTypeName())
+			return findType(mdElem.getTypeName())
 				.map(e -> e.getAllSupertypesList().stream()
 					.map(t -> t.getTypeName())
 					.collect(Collectors.toList()))
@@ -515,20 +1789,98 @@ public class MagicDrawModel extends CachedModel<MDModelElement> {
 		}
 	}
 
+	/**
+	 * Decodes a collection of model elements received from MagicDraw, according
+	 * to the current decoding mode (see {@link #setLazyDecoding(boolean)}).
+	 */
+	protected List<MDModelElement> decodeElements(ModelElementCollection collection) {
+		if (lazyDecoding) {
+			return new MDModelElementList(this, collection);
+		}
+
+		List<MDModelElement> elements = new ArrayList<>(collection.getValuesCount());
+		for (ModelElement e : collection.getValuesList()) {
+			elements.add(new MDModelElement(this, e));
+		}
+		return elements;
+	}
+
 	protected void ensureSessionOpened() {
+		// Every change goes through here: the change may make any locally cached value stale
+		featureValueCache.clear();
+		requestCoalescer.forgetInFlight();
 		sessionState.ensureOpened();
 	}
 
+	/**
+	 * Sends a change to MagicDraw, opening a session first if needed (see
+	 * {@link #ensureSessionOpened()}). The feature value cache is cleared and
+	 * the reads in flight are forgotten again once the change is done, as reads
+	 * which were running at the same time (e.g. background prefetches, or reads
+	 * from other threads) may have cached or shared values from before it.
+	 */
+	<R> R change(Supplier<R> rpc) {
+		ensureSessionOpened();
+		try {
+			return rpc.get();
+		} finally {
+			featureValueCache.clear();
+			requestCoalescer.forgetInFlight();
+		}
+	}
+
+	/**
+	 * Sends a read request to MagicDraw, unless an identical request is in
+	 * flight already (e.g. from another thread), in which case its response
+	 * is shared instead.
+	 */
+	@SuppressWarnings("unchecked")
+	<Q, R> R coalesce(String rpcName, Q request, Function<Q, R> rpc) {
+		return (R) requestCoalescer.call(Arrays.asList(rpcName, request), () -> rpc.apply(request));
+	}
+
+	private class EnumerationCacheLoader extends CacheLoader<String, Map<String, MDEnumerationLiteral>> {
+		@Override
+		public Map<String, MDEnumerationLiteral> load(String enumeration) {
+			GetEnumerationValuesRequest request = GetEnumerationValuesRequest.newBuilder().setEnumeration(enumeration).build();
+			// Errors are thrown rather than cached, so the next lookup tries again
+			Map<String, MDEnumerationLiteral> literals = new HashMap<>();
+			for (EnumerationValue value : coalesce("getEnumerationValues", request, client::getEnumerationValues).getValuesList()) {
+				literals.put(value.getName(), new MDEnumerationLiteral(value));
+			}
+			return literals;
+		}
+	}
+
+	/**
+	 * Returns the type with the given name, or an empty value if MagicDraw could
+	 * not find it. Other errors from MagicDraw are rethrown as they are.
+	 */
+	private Optional<ModelElementType> findType(String type) {
+		try {
+			return getTypeCache.getUnchecked(type);
+		} catch (UncheckedExecutionException ex) {
+			if (ex.getCause() instanceof StatusRuntimeException) {
+				throw (StatusRuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
+	}
+
 	private class GetTypeCacheLoader extends CacheLoader<String, Optional<ModelElementType>> {
 		@Override
 		public Optional<ModelElementType> load(String type) {
 			GetTypeRequest request = GetTypeRequest.newBuilder().setTypeName(type).build();
 			try {
-				ModelElementType result = client.getType(request);
+				ModelElementType result = coalesce("getType", request, client::getType);
 				return Optional.of(result);
 			} catch (StatusRuntimeException ex) {
-				LOGGER.warn("Error while fetching type", ex);
-				return Optional.empty();
+				if (ex.getStatus().getCode() == Code.INVALID_ARGUMENT) {
+					// MagicDraw could not find the type
+					return Optional.empty();
+				}
+				// Other errors are not cached, so the type is looked up again next time
+				throw ex;
 			}
 		}
 	}
@@ -10,11 +10,7 @@
  *******************************************************************************/
 package org.eclipse.epsilon.emc.magicdraw.remote;
 
-import java.util.ArrayList;
-import java.util.List;
-
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest;
-import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.Value.ValueCase;
 import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
@@ -23,7 +19,7 @@ import org.eclipse.epsilon.eol.execute.introspection.java.JavaPropertyGetter;
 
 public class MagicDrawPropertyGetter extends JavaPropertyGetter {
 
-	private MagicDrawModel model;
+	private final MagicDrawModel model;
 
 	public MagicDrawPropertyGetter(MagicDrawModel model) {
 		this.model = model;
@@ -33,13 +29,20 @@ public class MagicDrawPropertyGetter extends JavaPropertyGetter {
 	public Object invoke(Object object, String property, IEolContext context) throws EolRuntimeException {
 		if (object instanceof MDModelElement) {
 			MDModelElement mdElement = (MDModelElement) object;
+			final Object cached = model.featureValueCache.lookup(mdElement, property);
+			if (cached != MDFeatureValueCache.NOT_CACHED) {
+				model.accessProfiler.recordCacheHit(mdElement, property);
+				return cached;
+			}
+
 			GetFeatureValueRequest request = GetFeatureValueRequest.newBuilder()
-				.setElementID(mdElement.getElementID())
+				.setElementIDBytes(mdElement.getElementIDBytes())
 				.setFeatureName(property)
 				.build();
 
-			Value response = model.client.getFeatureValue(request);
+			Value response = model.coalesce("getFeatureValue", request, model.client::getFeatureValue);
 			if (response.getValueCase() != ValueCase.NOTDEFINED) {
+				model.accessProfiler.recordRemoteRead(mdElement, property);
 				return decodeValue(response);
 			}
 		}
@@ -47,6 +50,14 @@ public class MagicDrawPropertyGetter extends JavaPropertyGetter {
 		return super.invoke(object, property, context);
 	}
 
+	/**
+	 * Reads a property through reflection only, as done for the properties
+	 * that MagicDraw does not define (e.g. {@code typeName}).
+	 */
+	Object invokeJava(Object object, String property) throws EolRuntimeException {
+		return super.invoke(object, property, null);
+	}
+
 	protected Object decodeValue(Value response) {
 		switch (response.getValueCase()) {
 		case BOOLEANVALUE: return response.getBooleanValue();
@@ -71,16 +82,12 @@ public class MagicDrawPropertyGetter extends JavaPropertyGetter {
 		case ENUMERATIONVALUES:
 			throw new IllegalArgumentException("Server should only send proxy lists for many-valued features");
 
-		case REFERENCEVALUES: {
-			// NOTE: should be used solely for .eContents and read-only lists - modifiable many-valued features should use proxy lists
-			List<MDModelElement> elems = new ArrayList<>(response.getReferenceValues().getValuesCount());
-			for (ModelElement e : response.getReferenceValues().getValuesList()) {
-				elems.add(new MDModelElement(model, e));
-			}
-			return elems;
-		}
+		case REFERENCEVALUES:
+			// NOTE: should be used solely for read-only lists - modifiable many-valued features should use proxy lists
+			return model.decodeElements(response.getReferenceValues());
 			
 		case PROXYLIST: return new MDProxyList(model, response.getProxyList());
+		case CONTAINMENTLIST: return new MDContainmentList(model, response.getContainmentList());
 
 		case NOTDEFINED:
 			throw new IllegalArgumentException("Value is for an undefined feature");
@@ -26,16 +26,17 @@ public class MagicDrawPropertySetter extends JavaPropertySetter {
 	@Override
 	public void invoke(Object target, String property, Object value, IEolContext context) throws EolRuntimeException {
 		if (target instanceof MDModelElement) {
-			model.ensureSessionOpened();
-			
 			MDModelElement mdElem = (MDModelElement) target;
 			SetFeatureValueRequest request = SetFeatureValueRequest.newBuilder()
-				.setElementID(mdElem.getElementID())
+				.setElementIDBytes(mdElem.getElementIDBytes())
 				.setFeatureName(property)
 				.setNewValue(model.encoder.encode(value))
 				.build();
 
-			model.client.setFeatureValue(request);
+			model.change(() -> model.client.setFeatureValue(request));
+			if (model.affectsProfiles(mdElem.getTypeName())) {
+				model.invalidateProfileCaches();
+			}
 		} else {
 			super.invoke(target, property, value, context);
 		}
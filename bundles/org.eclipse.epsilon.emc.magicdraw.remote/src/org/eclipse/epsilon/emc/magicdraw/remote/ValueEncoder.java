@@ -150,11 +150,8 @@ public class ValueEncoder {
 	}
 
 	private ModelElement encode(final MDModelElement mdElem) {
-		return ModelElement.newBuilder()
-			.setElementID(mdElem.getElementID())
-			.setMetamodelUri(mdElem.getMetamodelUri())
-			.setTypeName(mdElem.getTypeName())
-			.build();
+		// Proxies keep the message they came from, so there is no need to copy its fields
+		return mdElem.toModelElement();
 	}
 	
 }
@@ -11,6 +11,10 @@
 package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote;
 
 import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.ReadWriteInterceptor.ExecutorType;
 
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
 import org.slf4j.Logger;
@@ -29,6 +33,28 @@ public class ModelAccessPlugin extends Plugin {
 	/** Name of the system property that can be used to customise the port that we are listening on. */
 	private static final String PROPERTY_PORT = "epsilon.emc.port";
 
+	/**
+	 * Name of the system property with the path of a Unix domain socket to listen on instead
+	 * of the TCP port. Only used on platforms which support it (Linux): elsewhere, TCP is used.
+	 */
+	private static final String PROPERTY_SOCKET = "epsilon.emc.socket";
+
+	/** Name of the system property that chooses how reads are run: {@code fixed}, {@code virtual} or {@code direct}. */
+	private static final String PROPERTY_EXECUTOR = "epsilon.emc.executor";
+
+	/** Name of the system property with the number of reader threads for the {@code fixed} executor. */
+	private static final String PROPERTY_THREADS = "epsilon.emc.threads";
+
+	/** Name of the system property with the maximum number of calls admitted at once. */
+	private static final String PROPERTY_MAX_CALLS = "epsilon.emc.maxCalls";
+
+	/**
+	 * Name of the system property with per-method concurrency limits, as comma-separated
+	 * {@code method=limit} pairs (e.g. {@code allOf=2,saveProject=1}). These are added to
+	 * the default limits: a limit of 0 removes the limit for that method.
+	 */
+	private static final String PROPERTY_LIMITS = "epsilon.emc.limits";
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModelAccessPlugin.class);
 
 	private ModelAccessServer server;
@@ -47,7 +73,9 @@ public class ModelAccessPlugin extends Plugin {
 			final String host = getHostFromProperty();
 			final int port = getPortFromProperty();
 
-			server = new ModelAccessServer(host, port);
+			final String socketPath = System.getProperty(PROPERTY_SOCKET);
+
+			server = new ModelAccessServer(host, port, socketPath, createInterceptorFromProperties());
 			server.start();
 		} catch (IOException e) {
 			LOGGER.error(e.getMessage(), e);
@@ -63,16 +91,53 @@ public class ModelAccessPlugin extends Plugin {
 	}
 
 	private int getPortFromProperty() {
-		final String sPort = System.getProperty(PROPERTY_PORT);
-		if (sPort != null) {
+		return getIntFromProperty(PROPERTY_PORT, ModelServiceConstants.DEFAULT_PORT);
+	}
+
+	private ReadWriteInterceptor createInterceptorFromProperties() {
+		ExecutorType executorType = ExecutorType.FIXED;
+		final String sExecutor = System.getProperty(PROPERTY_EXECUTOR);
+		if (sExecutor != null) {
+			try {
+				executorType = ExecutorType.valueOf(sExecutor.trim().toUpperCase(Locale.ROOT));
+			} catch (IllegalArgumentException ex) {
+				LOGGER.error(String.format("Invalid executor '%s': it should be fixed, virtual or direct", sExecutor));
+			}
+		}
+
+		final int threads = getIntFromProperty(PROPERTY_THREADS, ReadWriteInterceptor.DEFAULT_READER_THREADS);
+		final int maxCalls = getIntFromProperty(PROPERTY_MAX_CALLS, ReadWriteInterceptor.DEFAULT_MAX_ADMITTED_CALLS);
+
+		final Map<String, Integer> limits = ReadWriteInterceptor.getDefaultMethodLimits(threads);
+		final String sLimits = System.getProperty(PROPERTY_LIMITS);
+		if (sLimits != null) {
+			for (String pair : sLimits.split(",")) {
+				final String[] parts = pair.split("=");
+				try {
+					if (parts.length != 2) {
+						throw new NumberFormatException();
+					}
+					limits.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+				} catch (NumberFormatException ex) {
+					LOGGER.error(String.format("Invalid limit format: '%s' is not of the form method=limit", pair));
+				}
+			}
+		}
+
+		return new ReadWriteInterceptor(executorType, threads, maxCalls, limits);
+	}
+
+	private int getIntFromProperty(String property, int defaultValue) {
+		final String sValue = System.getProperty(property);
+		if (sValue != null) {
 			try {
-				return Integer.parseInt(sPort);
+				return Integer.parseInt(sValue.trim());
 			} catch (NumberFormatException ex) {
-				LOGGER.error("Invalid port format: '%s' is not an integer", sPort);
+				LOGGER.error(String.format("Invalid format for %s: '%s' is not an integer", property, sValue));
 			}
 		}
 
-		return ModelServiceConstants.DEFAULT_PORT;
+		return defaultValue;
 	}
 
 	@Override
@@ -11,42 +11,97 @@
 package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote;
 
 import java.io.IOException;
-import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceTransports;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.grpc.Server;
-import io.grpc.netty.NettyServerBuilder;
+import io.grpc.ServerInterceptors;
+import io.grpc.ServerServiceDefinition;
 
 /**
- * gRPC-based server to access models.
+ * gRPC-based server to access models. Calls are run by a {@link ReadWriteInterceptor},
+ * so reads can run concurrently while changes to the model run one at a time.
+ * The server listens on a TCP port, or on a Unix domain socket if a socket path
+ * is given and the platform supports it (see {@link ModelServiceTransports}).
+ * It also serves the same calls in-process, for drivers running inside the
+ * MagicDraw JVM.
  */
 public class ModelAccessServer {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModelAccessServer.class);
 
 	private final String host;
+	private final String socketPath;
+	private final ReadWriteInterceptor interceptor;
+	private final ModelAccessService modelAccessService = new ModelAccessService();
 	private final Server server;
+	private final Server inProcessServer;
 
 	public ModelAccessServer() {
 		this(ModelServiceConstants.DEFAULT_HOST, ModelServiceConstants.DEFAULT_PORT);
 	}
 
 	public ModelAccessServer(String host, int port) {
+		this(host, port, new ReadWriteInterceptor());
+	}
+
+	/**
+	 * Creates a server which runs its calls with the given interceptor. The
+	 * interceptor is shut down when the server is stopped.
+	 */
+	public ModelAccessServer(String host, int port, ReadWriteInterceptor interceptor) {
+		this(host, port, null, interceptor);
+	}
+
+	/**
+	 * Creates a server which listens on the Unix domain socket at {@code socketPath}
+	 * if it is not {@code null} and the platform supports it, or on {@code host:port}
+	 * otherwise. Its calls are run with the given interceptor, which is shut down
+	 * when the server is stopped.
+	 */
+	public ModelAccessServer(String host, int port, String socketPath, ReadWriteInterceptor interceptor) {
 		this.host = host;
-		this.server = NettyServerBuilder
-			.forAddress(new InetSocketAddress(host, port))
-			.addService(new ModelAccessService())
+		this.interceptor = interceptor;
+		if (ModelServiceTransports.usesDomainSocket(socketPath)) {
+			this.socketPath = socketPath.trim();
+		} else {
+			if (socketPath != null && !socketPath.trim().isEmpty()) {
+				LOGGER.warn(String.format("Unix domain sockets are not available on this platform: using TCP instead of %s", socketPath));
+			}
+			this.socketPath = null;
+		}
+
+		// Both servers share the same service (and its caches) and the same read and write lanes
+		final ServerServiceDefinition service = ServerInterceptors.intercept(modelAccessService, interceptor);
+		this.server = ModelServiceTransports
+			.newServerBuilder(host, port, this.socketPath)
+			.addService(service)
+			.build();
+		this.inProcessServer = ModelServiceTransports
+			.newInProcessServerBuilder()
+			.addService(service)
 			.build();
 	}
 
 	public void start() throws IOException {
+		if (socketPath != null) {
+			// Remove the socket left behind by a previous run, if any
+			Files.deleteIfExists(Paths.get(socketPath));
+		}
 		server.start();
+		inProcessServer.start();
 
-		LOGGER.info(String.format("Model access server started, listening on %s:%d", host, server.getPort()));
+		if (socketPath != null) {
+			LOGGER.info(String.format("Model access server started, listening on Unix domain socket %s", socketPath));
+		} else {
+			LOGGER.info(String.format("Model access server started, listening on %s:%d", host, server.getPort()));
+		}
 		Runtime.getRuntime().addShutdownHook(new Thread() {
 			@Override
 			public void run() {
@@ -59,6 +114,7 @@ public class ModelAccessServer {
 
 	/** Stop serving requests and shutdown resources. */
 	public void stop() {
+		inProcessServer.shutdown();
 		if (server != null) {
 			try {
 				server.shutdown().awaitTermination(30, TimeUnit.SECONDS);
@@ -67,6 +123,16 @@ public class ModelAccessServer {
 				server.shutdownNow();
 			}
 		}
+		interceptor.shutdown();
+		modelAccessService.dispose();
+
+		if (socketPath != null) {
+			try {
+				Files.deleteIfExists(Paths.get(socketPath));
+			} catch (IOException e) {
+				LOGGER.warn(e.getMessage(), e);
+			}
+		}
 	}
 
 	/**
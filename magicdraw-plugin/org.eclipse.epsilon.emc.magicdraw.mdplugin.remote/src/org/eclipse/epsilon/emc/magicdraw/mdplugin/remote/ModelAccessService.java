@@ -16,8 +16,16 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -31,17 +39,39 @@ import org.eclipse.emf.ecore.EEnum;
 import org.eclipse.emf.ecore.EEnumLiteral;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.FeatureResolver;
 import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ModelUtils;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.NameIndex;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.PathNavigator;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.PredicateCompiler;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.PredicateCompiler.UnknownTypeException;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ReferrerIndex;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ResolutionCache;
 import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ValueDecoder;
 import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ValueEncoder;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol.ProjectModel;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol.ScriptRunner;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol.ScriptRunner.ScriptCancelledException;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol.ScriptRunner.ScriptParseException;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol.ScriptRunner.ScriptTimeoutException;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.Empty;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue;
@@ -51,21 +81,38 @@ import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.rpc.ErrorInfo;
 import com.nomagic.magicdraw.core.Application;
 import com.nomagic.magicdraw.core.Project;
+import com.nomagic.magicdraw.core.project.ProjectEventListenerAdapter;
 import com.nomagic.magicdraw.core.project.ProjectDescriptor;
 import com.nomagic.magicdraw.core.project.ProjectDescriptorsFactory;
 import com.nomagic.magicdraw.core.project.ProjectsManager;
@@ -74,7 +121,6 @@ import com.nomagic.magicdraw.openapi.uml.ModelElementsManager;
 import com.nomagic.magicdraw.openapi.uml.ReadOnlyElementException;
 import com.nomagic.magicdraw.openapi.uml.SessionManager;
 import com.nomagic.magicdraw.uml.BaseElement;
-import com.nomagic.magicdraw.uml.Finder;
 import com.nomagic.uml2.ext.jmi.helpers.StereotypesHelper;
 import com.nomagic.uml2.ext.magicdraw.classes.mdkernel.Element;
 import com.nomagic.uml2.ext.magicdraw.classes.mdkernel.PackageableElement;
@@ -82,6 +128,7 @@ import com.nomagic.uml2.ext.magicdraw.mdprofiles.Profile;
 import com.nomagic.uml2.ext.magicdraw.mdprofiles.Stereotype;
 import com.nomagic.uml2.impl.ElementsFactory;
 
+import io.grpc.Context;
 import io.grpc.Metadata;
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
@@ -126,23 +173,247 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModelAccessService.class);
 	private static final String GRPC_DOMAIN = ModelAccessService.class.getPackage().getName();
 
-	private final ValueEncoder encoder = new ValueEncoder();
-	private final ValueDecoder decoder = new ValueDecoder();
+	private final ResolutionCache resolutions = new ResolutionCache();
+	private final ValueEncoder encoder = new ValueEncoder(resolutions);
+	private final ValueDecoder decoder = new ValueDecoder(resolutions);
+	private final FeatureResolver features = new FeatureResolver();
+	private final PredicateCompiler predicates = new PredicateCompiler(features, encoder, this::findEClassifiers);
+	private final PathNavigator navigator = new PathNavigator(features);
+	private final ScriptRunner scriptRunner = new ScriptRunner();
+	private final ReferrerIndex referrers = new ReferrerIndex();
+	private final NameIndex names = new NameIndex();
+
+	private static final int CONTAINMENT_SNAPSHOTS_SIZE = 16;
+
+	/** Maximum number of values or elements sent in each message of a streamed response. */
+	private static final int STREAM_CHUNK_SIZE = 1_000;
+
+	/**
+	 * Snapshots of containment lists which needed a traversal, so they can be fetched
+	 * in ranges without traversing the model again each time. They are dropped whenever
+	 * the model may change (see {@link #inSession(Project)}).
+	 */
+	private final Cache<ContainmentList, List<EObject>> containmentSnapshots = CacheBuilder.newBuilder()
+		.maximumSize(CONTAINMENT_SNAPSHOTS_SIZE)
+		.expireAfterAccess(1, TimeUnit.MINUTES)
+		.build();
+
+	/** Results of looking up types by name in the package registry, which may change across projects. */
+	private final ConcurrentMap<String, Collection<EClassifier>> classifiers = new ConcurrentHashMap<>();
+
+	/** Resolved elements should not outlive the project they came from. */
+	private final ProjectEventListenerAdapter projectListener = new ProjectEventListenerAdapter() {
+		@Override
+		public void projectClosed(Project project) {
+			clearCaches();
+		}
+
+		@Override
+		public void projectActivated(Project project) {
+			clearCaches();
+		}
+
+		@Override
+		public void projectReplaced(Project oldProject, Project newProject) {
+			clearCaches();
+		}
+	};
+
+	public ModelAccessService() {
+		Application.getInstance().addProjectEventListener(projectListener);
+	}
+
+	/**
+	 * Stops listening to MagicDraw and drops all caches. The service should not
+	 * be used after this.
+	 */
+	public void dispose() {
+		Application.getInstance().removeProjectEventListener(projectListener);
+		clearCaches();
+	}
+
+	private void clearCaches() {
+		resolutions.clear();
+		classifiers.clear();
+		containmentSnapshots.invalidateAll();
+		referrers.clear();
+		names.clear();
+	}
 
 	@Override
 	public void allOf(AllOfRequest request, StreamObserver<ModelElementCollection> responseObserver) {
 		sendResponse(responseObserver, inProject().flatMapRight((project) ->
 			findEClassifier(request.getTypeName()).flatMapRight((eClassifier) ->
+			compileFilter(request).flatMapRight((filter) ->
 			findRootElement(request.getRootElementHyperlink(), project).flatMapRight((root) ->
-				Either.right(encoder.encodeAllOf(eClassifier, root, request.getOnlyExactType())))
+				Either.right(encoder.encodeAllOf(eClassifier, root, request.getOnlyExactType(), filter))))
 		)));
 	}
 
+	@Override
+	public void count(AllOfRequest request, StreamObserver<SingleInteger> responseObserver) {
+		sendResponse(responseObserver, countAllOf(request, Integer.MAX_VALUE)
+			.flatMapRight((count) -> Either.right(SingleInteger.newBuilder().setValue(count).build())));
+	}
+
+	@Override
+	public void exists(AllOfRequest request, StreamObserver<SingleBoolean> responseObserver) {
+		// We can stop scanning the model as soon as we find one match
+		sendResponse(responseObserver, countAllOf(request, 1)
+			.flatMapRight((count) -> Either.right(SingleBoolean.newBuilder().setValue(count > 0).build())));
+	}
+
+	private Either<StatusRuntimeException, Integer> countAllOf(AllOfRequest request, int limit) {
+		return inProject().flatMapRight((project) ->
+			findEClassifier(request.getTypeName()).flatMapRight((eClassifier) ->
+			compileFilter(request).flatMapRight((filter) ->
+			findRootElement(request.getRootElementHyperlink(), project).flatMapRight((root) ->
+				Either.right(ModelUtils.count(root, ModelUtils.extentFilter(eClassifier, request.getOnlyExactType(), filter), limit))))
+		));
+	}
+
+	@Override
+	public void getTypeHistogram(TypeHistogramRequest request, StreamObserver<TypeHistogram> responseObserver) {
+		sendResponse(responseObserver, inProject().flatMapRight((project) ->
+			findRootElement(request.getRootElementHyperlink(), project).flatMapRight((root) -> {
+				final TypeHistogram.Builder builder = TypeHistogram.newBuilder();
+				for (Entry<EClass, Integer> entry : ModelUtils.countByEClass(root).entrySet()) {
+					builder.addCounts(TypeCount.newBuilder()
+						.setMetamodelUri(entry.getKey().getEPackage().getNsURI())
+						.setTypeName(getFullyQualifiedName(entry.getKey()))
+						.setCount(entry.getValue()));
+				}
+				return Either.right(builder.build());
+			})
+		));
+	}
+
+	private Either<StatusRuntimeException, java.util.function.Predicate<EObject>> compileFilter(AllOfRequest request) {
+		if (!request.hasFilter()) {
+			return Either.right(null);
+		}
+
+		try {
+			return Either.right(predicates.compile(request.getFilter()));
+		} catch (UnknownTypeException ex) {
+			return Either.left(exTypeNotFound(ex.getTypeName()));
+		} catch (IllegalArgumentException ex) {
+			return Either.left(Status.INVALID_ARGUMENT
+				.withDescription(String.format("Invalid filter: %s", ex.getMessage()))
+				.asRuntimeException());
+		}
+	}
+
+	@Override
+	public void allOfMany(AllOfManyRequest request, StreamObserver<ExtentCollection> responseObserver) {
+		sendResponse(responseObserver, inProject().flatMapRight((project) ->
+			findEClassifiers(request.getTypeNamesList()).flatMapRight((eClassifiers) ->
+			findRootElement(request.getRootElementHyperlink(), project).flatMapRight((root) ->
+				Either.right(encoder.encodeAllOfMany(request.getTypeNamesList(), eClassifiers, root)))
+		)));
+	}
+
+	@Override
+	public void runScript(RunScriptRequest request, StreamObserver<ScriptResult> responseObserver) {
+		// The script runs in this thread, so it can check if the call has been cancelled
+		final Context grpcContext = Context.current();
+
+		inProject().flatMapRight((project) ->
+			findRootElement(request.getRootElementHyperlink(), project).flatMapRight((root) ->
+			decodeParameters(project, request.getParametersMap()).flatMapRight((parameters) -> {
+				final ProjectModel model = new ProjectModel(project, root, features, encoder, decoder, this::findEClassifiers);
+				try {
+					final Object result = scriptRunner.run(request.getScript(), parameters, model,
+						request.getTimeoutMillis(), grpcContext::isCancelled);
+					return encodeScriptResult(result);
+				} catch (ScriptParseException ex) {
+					return Either.left(Status.INVALID_ARGUMENT
+						.withDescription(String.format("Could not parse script: %s", ex.getMessage()))
+						.asRuntimeException());
+				} catch (ScriptTimeoutException ex) {
+					return Either.left(Status.DEADLINE_EXCEEDED.withDescription(ex.getMessage()).asRuntimeException());
+				} catch (ScriptCancelledException ex) {
+					return Either.left(Status.CANCELLED.withDescription(ex.getMessage()).asRuntimeException());
+				} catch (Exception ex) {
+					LOGGER.warn("Remote script failed", ex);
+					return Either.left(Status.INVALID_ARGUMENT
+						.withDescription(String.format("Script failed: %s", ex.getMessage()))
+						.asRuntimeException());
+				}
+			})
+		)).apply(responseObserver::onError, (results) -> {
+			for (ScriptResult result : results) {
+				responseObserver.onNext(result);
+			}
+			responseObserver.onCompleted();
+		});
+	}
+
+	private Either<StatusRuntimeException, Map<String, Object>> decodeParameters(Project project, Map<String, Value> encoded) {
+		final Map<String, Object> parameters = new LinkedHashMap<>();
+		for (Entry<String, Value> entry : encoded.entrySet()) {
+			switch (entry.getValue().getValueCase()) {
+			case ENUMERATIONVALUE:
+			case ENUMERATIONVALUES:
+				// Decoding enumeration literals requires knowing the target feature
+				return Either.left(Status.INVALID_ARGUMENT
+					.withDescription(String.format(
+						"Parameter %s: enumeration literals cannot be script parameters, use Enumeration#literal in the script instead",
+						entry.getKey()))
+					.asRuntimeException());
+			default:
+				try {
+					parameters.put(entry.getKey(), decoder.decode(project, null, entry.getValue()));
+				} catch (IllegalArgumentException ex) {
+					return Either.left(Status.INVALID_ARGUMENT
+						.withDescription(String.format("Could not decode parameter %s: %s", entry.getKey(), ex.getMessage()))
+						.asRuntimeException());
+				}
+			}
+		}
+		return Either.right(parameters);
+	}
+
+	/**
+	 * Encodes the result of a script into one or more messages. Collections
+	 * are split into chunks, so no single message becomes too large.
+	 */
+	private Either<StatusRuntimeException, List<ScriptResult>> encodeScriptResult(Object result) {
+		final List<ScriptResult> messages = new ArrayList<>();
+		try {
+			if (result instanceof Collection) {
+				ScriptResult.Builder chunk = ScriptResult.newBuilder().setIsCollection(true);
+				for (Object element : (Collection<?>) result) {
+					if (element instanceof Collection) {
+						throw new IllegalArgumentException("Cannot encode nested collections");
+					}
+					if (chunk.getValuesCount() == STREAM_CHUNK_SIZE) {
+						messages.add(chunk.build());
+						chunk = ScriptResult.newBuilder().setIsCollection(true);
+					}
+					final Value.Builder vBuilder = Value.newBuilder();
+					encoder.encodeValue(vBuilder, element);
+					chunk.addValues(vBuilder);
+				}
+				messages.add(chunk.build());
+			} else {
+				final Value.Builder vBuilder = Value.newBuilder();
+				encoder.encodeValue(vBuilder, result);
+				messages.add(ScriptResult.newBuilder().addValues(vBuilder).build());
+			}
+		} catch (IllegalArgumentException ex) {
+			return Either.left(Status.INVALID_ARGUMENT
+				.withDescription(String.format("Could not encode script result: %s", ex.getMessage()))
+				.asRuntimeException());
+		}
+		return Either.right(messages);
+	}
+
 	private Either<StatusRuntimeException, EObject> findRootElement(String rootElementHyperlink, Project project) {
 		if (rootElementHyperlink == null || rootElementHyperlink.trim().length() == 0) {
 			return Either.right(project.getPrimaryModel());
 		} else {
-			BaseElement element = Finder.byHyperlink().find(project, rootElementHyperlink);
+			BaseElement element = resolutions.findByHyperlink(project, rootElementHyperlink);
 			if (element == null) {
 				return Either.left(Status.INVALID_ARGUMENT
 					.withDescription(String.format("Could not find element with URI %s", rootElementHyperlink))
@@ -161,90 +432,308 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 	public void getFeatureValue(GetFeatureValueRequest request, StreamObserver<Value> responseObserver) {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> getObjectByID(project, request.getElementID()))
-			.flatMapRight((mdObject) -> {
-				final Value.Builder vBuilder = Value.newBuilder();
-				final EStructuralFeature eFeature = mdObject.eClass()
-					.getEStructuralFeature(request.getFeatureName());
-
-				if (eFeature == null) {
-					// Might be one of the special cases
-					switch (request.getFeatureName()) {
-						case "eContainer": {
-							EObject eContainer = mdObject.eContainer();
-							encoder.encodeReference(vBuilder, eContainer);
-							break;
-						}
-						case "eContainingFeature": {
-							EStructuralFeature feature = mdObject.eContainingFeature();
-							if (feature != null) {
-								encoder.encodeReference(vBuilder, feature);
-							}
-							break;
-						}
-						case "eContents": {
-							ModelElementCollection.Builder coll = ModelElementCollection.newBuilder();
-							for (EObject child : mdObject.eContents()) {
-								coll.addValues(encoder.encode(child));
-							}
-							vBuilder.setReferenceValues(coll);
-							break;
-						}
-						case "eClass": {
-							EClass klass = mdObject.eClass();
-							if (klass != null) {
-								encoder.encodeReference(vBuilder, klass);
+			.flatMapRight((mdObject) -> encodeFeatureValue(mdObject, request.getFeatureName())));
+	}
+
+	@Override
+	public void getFeatureValues(FeatureValuesRequest request, StreamObserver<FeatureValuesResult> responseObserver) {
+		sendResponse(responseObserver, inProject()
+			.flatMapRight((project) -> getObjectsByID(project, request.getElementIDsList()))
+			.flatMapRight((elements) -> {
+				Either<StatusRuntimeException, FeatureValuesResult.Builder> result = Either.right(FeatureValuesResult.newBuilder());
+				for (EObject eob : elements) {
+					result = result.flatMapRight((builder) -> projectElement(eob, request.getFeatureNamesList())
+						.flatMapRight((projected) -> Either.right(builder.addElements(projected))));
+				}
+				return result.flatMapRight((builder) -> Either.right(builder.build()));
+			}));
+	}
+
+	@Override
+	public void navigate(NavigateRequest request, StreamObserver<NavigationResult> responseObserver) {
+		sendResponse(responseObserver, inProject()
+			.flatMapRight((project) -> getObjectsByID(project, request.getElementIDsList()))
+			.flatMapRight((start) -> {
+				final List<EObject> reached;
+				try {
+					reached = navigator.navigate(start, request.getFeaturePathList(), request.getClosure(), request.getMaxDepth());
+				} catch (IllegalArgumentException ex) {
+					return Either.left(Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException());
+				}
+
+				Either<StatusRuntimeException, NavigationResult.Builder> result = Either.right(NavigationResult.newBuilder());
+				for (EObject eob : reached) {
+					result = result.flatMapRight((builder) -> projectElement(eob, request.getProjectedFeaturesList())
+						.flatMapRight((projected) -> Either.right(builder.addElements(projected))));
+				}
+				return result.flatMapRight((builder) -> Either.right(builder.build()));
+			}));
+	}
+
+	@Override
+	public void getSubtree(SubtreeRequest request, StreamObserver<SubtreeChunk> responseObserver) {
+		final Context grpcContext = Context.current();
+
+		inProject().flatMapRight((project) ->
+			findSubtreeRoot(request, project).flatMapRight((root) ->
+			findEClassifiers(request.getTypeNamesList()).flatMapRight((eClassifiers) -> {
+				/*
+				 * Breadth-first traversal: the position of each element in the stream
+				 * is its position in this list, so its contents can refer back to it.
+				 */
+				final List<EObject> elements = new ArrayList<>();
+				final List<Integer> parents = new ArrayList<>();
+				final List<Integer> depths = new ArrayList<>();
+				elements.add(root);
+				parents.add(-1);
+				depths.add(0);
+
+				SubtreeChunk.Builder chunk = SubtreeChunk.newBuilder();
+				for (int i = 0; i < elements.size(); i++) {
+					if (grpcContext.isCancelled()) {
+						// Nobody is listening anymore
+						return Either.right(null);
+					}
+
+					final EObject eob = elements.get(i);
+					final int depth = depths.get(i);
+					boolean contentsComplete = false;
+					if (request.getMaxDepth() == 0 || depth < request.getMaxDepth()) {
+						contentsComplete = true;
+						for (EObject child : eob.eContents()) {
+							if (child instanceof MDObject && (eClassifiers.isEmpty() || eClassifiers.stream().anyMatch(c -> c.isInstance(child)))) {
+								elements.add(child);
+								parents.add(i);
+								depths.add(depth + 1);
+							} else {
+								contentsComplete = false;
 							}
-							break;
 						}
-						default:
-							vBuilder.setNotDefined(true);
-							break;
 					}
-				} else if (eFeature.isMany()) {
-					vBuilder.setProxyList(ProxyList.newBuilder()
-							.setElementID(encoder.encodeID(mdObject))
-							.setFeatureName(eFeature.getName()));
-				} else {
-					Object rawValue = mdObject.eGet(eFeature);
-					if (rawValue == null && eFeature instanceof EAttribute) {
-						/*
-						 * MagicDraw does not use default values consistently in their feature
-						 * declarations: for instance, a class with a public visibility will have
-						 * eGet(eFeature) return null, but getVisibility() will return the public
-						 * enumerator value. Calling the get*() method directly via reflection
-						 * always works, though, but it is much slower.
-						 *
-						 * Normally we would check if the eType of the feature is an EEnum and
-						 * use the first literal as the default value [1], but it appears that
-						 * NamedElementVisibilityKind is a custom EDataTypeImpl class with no
-						 * clear link to an EEnum.
-						 *
-						 * We only do this for EAttributes as it only seems to be an issue
-						 * right now for those enumeration-based properties.
-						 *
-						 * [1]: https://www.eclipse.org/forums/index.php?t=msg&th=168434/
-						 */
-						try {
-							final String methodName = "get" + firstUppercase(eFeature.getName());
-							final Method mGetMethod = mdObject.getClass().getMethod(methodName);
-							rawValue = mGetMethod.invoke(mdObject);
-						} catch (Exception e) {
-							return Either.left(Status.INVALID_ARGUMENT.withDescription(String.format(
-								"Failed to use reflection to get value of feature %s from an object of type %s",
-								eFeature.getName(), getFullyQualifiedName(mdObject.eClass()))).asRuntimeException());
+
+					final SubtreeNode.Builder node = SubtreeNode.newBuilder()
+						.setElement(encoder.encode(eob))
+						.setParentIndex(parents.get(i))
+						.setContentsComplete(contentsComplete);
+					for (String featureName : request.getProjectedFeaturesList()) {
+						final Either<StatusRuntimeException, Value> value = encodeFeatureValue(eob, featureName);
+						final StatusRuntimeException error = value.map((ex) -> ex, (v) -> {
+							node.addValues(v);
+							return null;
+						});
+						if (error != null) {
+							return Either.left(error);
 						}
 					}
 
-					if (rawValue != null) {
-						encoder.encode(mdObject, eFeature, vBuilder, rawValue);
+					chunk.addNodes(node);
+					if (chunk.getNodesCount() == STREAM_CHUNK_SIZE) {
+						responseObserver.onNext(chunk.build());
+						chunk = SubtreeChunk.newBuilder();
 					}
 				}
-				return Either.right(vBuilder.build());
+				return Either.right(chunk.build());
+			})
+		)).apply(responseObserver::onError, (lastChunk) -> {
+			if (lastChunk != null) {
+				responseObserver.onNext(lastChunk);
+				responseObserver.onCompleted();
+			}
+		});
+	}
+
+	@Override
+	public void containmentSize(ContainmentList request, StreamObserver<SingleInteger> responseObserver) {
+		sendResponse(responseObserver, inProject()
+			.flatMapRight((project) -> getContainment(project, request))
+			.flatMapRight((contents) -> Either.right(SingleInteger.newBuilder().setValue(contents.size()).build())));
+	}
+
+	@Override
+	public void containmentRange(ContainmentRange request, StreamObserver<ModelElementCollection> responseObserver) {
+		sendResponse(responseObserver, inProject()
+			.flatMapRight((project) -> getContainment(project, request.getList()))
+			.flatMapRight((contents) -> {
+				final ModelElementCollection.Builder builder = ModelElementCollection.newBuilder();
+				final int end = (int) Math.min(contents.size(), (long) request.getStart() + request.getCount());
+				for (int i = request.getStart(); i < end; i++) {
+					builder.addValues(encoder.encode(contents.get(i)));
+				}
+				return Either.right(builder.build());
 			}));
 	}
 
-	private String firstUppercase(String featureName) {
-		return Character.toUpperCase(featureName.charAt(0)) + featureName.substring(1);
+	private Either<StatusRuntimeException, List<EObject>> getContainment(Project project, ContainmentList list) {
+		return getObjectByID(project, list.getElementID())
+			.flatMapRight((eob) -> findEClassifier(list.getTypeName())
+			.flatMapRight((eClassifier) -> {
+				if (!list.getAllContents() && eClassifier == null) {
+					// No traversal needed: eContents already supports random access
+					return Either.right(eob.eContents());
+				}
+
+				List<EObject> contents = containmentSnapshots.getIfPresent(list);
+				if (contents == null) {
+					final java.util.function.Predicate<EObject> pred = eClassifier == null ? (e -> true) : eClassifier::isInstance;
+					if (list.getAllContents()) {
+						contents = ModelUtils.select(eob, pred);
+					} else {
+						contents = eob.eContents().stream().filter(pred).collect(Collectors.toList());
+					}
+					containmentSnapshots.put(list, contents);
+				}
+				return Either.right(contents);
+			}));
+	}
+
+	@Override
+	public void getReferrers(GetReferrersRequest request, StreamObserver<ModelElementCollection> responseObserver) {
+		sendResponse(responseObserver, inProject()
+			.flatMapRight((project) -> getObjectByID(project, request.getElementID())
+			.flatMapRight((eob) -> {
+				final ModelElementCollection.Builder builder = ModelElementCollection.newBuilder();
+				for (EObject referrer : referrers.getReferrers(project, eob, request.getFeatureNamesList())) {
+					builder.addValues(encoder.encode(referrer));
+				}
+				return Either.right(builder.build());
+			})));
+	}
+
+	@Override
+	public void getElementsByName(NameLookupRequest request, StreamObserver<ModelElementCollection> responseObserver) {
+		sendResponse(responseObserver, lookupNames(request, false));
+	}
+
+	@Override
+	public void getElementsByQualifiedName(NameLookupRequest request, StreamObserver<ModelElementCollection> responseObserver) {
+		sendResponse(responseObserver, lookupNames(request, true));
+	}
+
+	private Either<StatusRuntimeException, ModelElementCollection> lookupNames(NameLookupRequest request, boolean qualified) {
+		return inProject().flatMapRight((project) ->
+			findEClassifier(request.getTypeName()).flatMapRight((eClassifier) ->
+			findRootElement(request.getRootElementHyperlink(), project).flatMapRight((root) -> {
+				java.util.function.Predicate<EObject> filter = ModelUtils.extentFilter(eClassifier, false, null);
+				if (root != project.getPrimaryModel()) {
+					filter = filter.and((eob) -> EcoreUtil.isAncestor(root, eob));
+				}
+
+				final List<EObject> matches = qualified
+					? names.findByQualifiedName(project, request.getName(), request.getPrefix(), request.getIgnoreCase(), filter)
+					: names.findByName(project, request.getName(), request.getPrefix(), request.getIgnoreCase(), filter);
+
+				final ModelElementCollection.Builder builder = ModelElementCollection.newBuilder();
+				for (EObject eob : matches) {
+					builder.addValues(encoder.encode(eob));
+				}
+				return Either.right(builder.build());
+			})));
+	}
+
+	private Either<StatusRuntimeException, EObject> findSubtreeRoot(SubtreeRequest request, Project project) {
+		if (request.getElementID().isEmpty()) {
+			return findRootElement(request.getRootElementHyperlink(), project);
+		}
+		return getObjectByID(project, request.getElementID());
+	}
+
+	private Either<StatusRuntimeException, ProjectedElement> projectElement(EObject eob, List<String> featureNames) {
+		Either<StatusRuntimeException, ProjectedElement.Builder> result = Either.right(
+			ProjectedElement.newBuilder().setElement(encoder.encode(eob)));
+		for (String featureName : featureNames) {
+			result = result.flatMapRight((builder) -> encodeFeatureValue(eob, featureName)
+				.flatMapRight((value) -> Either.right(builder.addValues(value))));
+		}
+		return result.flatMapRight((builder) -> Either.right(builder.build()));
+	}
+
+	private Either<StatusRuntimeException, Value> encodeFeatureValue(EObject mdObject, String featureName) {
+		final Value.Builder vBuilder = Value.newBuilder();
+		final EStructuralFeature eFeature = features.getFeature(mdObject, featureName);
+
+		if (eFeature == null) {
+			// Might be one of the special cases
+			switch (featureName) {
+				case "eContainer": {
+					EObject eContainer = mdObject.eContainer();
+					if (eContainer != null) {
+						encoder.encodeReference(vBuilder, eContainer);
+					}
+					break;
+				}
+				case "eContainingFeature": {
+					EStructuralFeature feature = mdObject.eContainingFeature();
+					if (feature != null) {
+						encoder.encodeReference(vBuilder, feature);
+					}
+					break;
+				}
+				case "eContents":
+				case "eAllContents":
+					// Large packages may have many children: the client fetches them in ranges
+					vBuilder.setContainmentList(ContainmentList.newBuilder()
+						.setElementID(encoder.encodeID(mdObject))
+						.setAllContents("eAllContents".equals(featureName)));
+					break;
+				case "eReferrers":
+					// Computed from the cross-reference index, so it cannot be changed through a proxy list
+					return inProject().flatMapRight((project) -> {
+						final ModelElementCollection.Builder cBuilder = ModelElementCollection.newBuilder();
+						for (EObject referrer : referrers.getReferrers(project, mdObject, Collections.emptyList())) {
+							cBuilder.addValues(encoder.encode(referrer));
+						}
+						return Either.right(vBuilder.setReferenceValues(cBuilder).build());
+					});
+				case "eClass": {
+					EClass klass = mdObject.eClass();
+					if (klass != null) {
+						encoder.encodeReference(vBuilder, klass);
+					}
+					break;
+				}
+				default:
+					vBuilder.setNotDefined(true);
+					break;
+			}
+		} else if (eFeature.isMany()) {
+			vBuilder.setProxyList(ProxyList.newBuilder()
+					.setElementID(encoder.encodeID(mdObject))
+					.setFeatureName(eFeature.getName()));
+		} else {
+			Object rawValue = mdObject.eGet(eFeature);
+			if (rawValue == null && eFeature instanceof EAttribute) {
+				/*
+				 * MagicDraw does not use default values consistently in their feature
+				 * declarations: for instance, a class with a public visibility will have
+				 * eGet(eFeature) return null, but getVisibility() will return the public
+				 * enumerator value. Calling the get*() method directly via reflection
+				 * always works, though, but it is much slower: the FeatureResolver caches
+				 * a MethodHandle for it, so we only do the lookup once per class.
+				 *
+				 * Normally we would check if the eType of the feature is an EEnum and
+				 * use the first literal as the default value [1], but it appears that
+				 * NamedElementVisibilityKind is a custom EDataTypeImpl class with no
+				 * clear link to an EEnum.
+				 *
+				 * We only do this for EAttributes as it only seems to be an issue
+				 * right now for those enumeration-based properties.
+				 *
+				 * [1]: https://www.eclipse.org/forums/index.php?t=msg&th=168434/
+				 */
+				try {
+					rawValue = features.invokeGetter(mdObject, eFeature);
+				} catch (Exception e) {
+					return Either.left(Status.INVALID_ARGUMENT.withDescription(String.format(
+						"Failed to use reflection to get value of feature %s from an object of type %s",
+						eFeature.getName(), getFullyQualifiedName(mdObject.eClass()))).asRuntimeException());
+				}
+			}
+
+			if (rawValue != null) {
+				encoder.encode(mdObject, eFeature, vBuilder, rawValue);
+			}
+		}
+		return Either.right(vBuilder.build());
 	}
 
 	@Override
@@ -293,6 +782,27 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 			}));
 	}
 
+	@Override
+	public void getEnumerationValues(GetEnumerationValuesRequest request, StreamObserver<EnumerationValueCollection> responseObserver) {
+		sendResponse(responseObserver, findEEnums(request.getEnumeration())
+			.flatMapRight((eEnumOptions) -> {
+				/*
+				 * If several enumerations match the name, the literals from earlier
+				 * enumerations take precedence, as in getEnumerationValue.
+				 */
+				final Map<String, EnumerationValue> literals = new LinkedHashMap<>();
+				for (EEnum eEnum : eEnumOptions) {
+					for (EEnumLiteral literal : eEnum.getELiterals()) {
+						literals.putIfAbsent(literal.getName(), encoder.encode((Enumerator) literal));
+					}
+				}
+
+				return Either.right(EnumerationValueCollection.newBuilder()
+					.addAllValues(literals.values())
+					.build());
+			}));
+	}
+
 	@Override
 	public void getElementByID(GetElementByIDRequest request, StreamObserver<ModelElement> responseObserver) {
 		sendResponse(responseObserver, inProject()
@@ -315,6 +825,18 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		return getMDObjectByID(project, id);
 	}
 
+	private Either<StatusRuntimeException, List<EObject>> getObjectsByID(Project project, List<String> ids) {
+		Either<StatusRuntimeException, List<EObject>> result = Either.right(new ArrayList<>(ids.size()));
+		for (String id : ids) {
+			result = result.flatMapRight((objects) -> getObjectByID(project, id)
+				.flatMapRight((eob) -> {
+					objects.add(eob);
+					return Either.right(objects);
+				}));
+		}
+		return result;
+	}
+
 	private Either<StatusRuntimeException, EObject> getMDObjectByID(Project project, final String id) {
 		final BaseElement element = project.getElementByID(id);
 		if (element == null) {
@@ -496,6 +1018,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 				if (mdObject instanceof Element) {
 					try {
 						ModelElementsManager.getInstance().removeElement((Element) mdObject);
+						resolutions.elementDeleted(mdObject);
 						return Either.right(Empty.newBuilder().build());
 					} catch (ReadOnlyElementException e) {
 						return Either.left(Status.INVALID_ARGUMENT
@@ -517,7 +1040,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> inSession(project)
 			.flatMapRight((sessionManager) -> getMDObjectByID(project, request.getElementID())
-			.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getFeatureName())
+			.flatMapRight((mdObject) -> getEFeature(mdObject, request.getFeatureName())
 			.flatMapRight((eFeature) -> {
 				Object decoded;
 				try {
@@ -555,7 +1078,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 	public void listSize(ProxyList request, StreamObserver<SingleInteger> responseObserver) {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> getObjectByID(project, request.getElementID())
-			.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getFeatureName())
+			.flatMapRight((mdObject) -> getEFeature(mdObject, request.getFeatureName())
 			.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 			.flatMapRight((eList) -> Either.right(SingleInteger.newBuilder().setValue(eList.size()).build())
 		)))));
@@ -565,7 +1088,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 	public void listGet(ListPosition request, StreamObserver<Value> responseObserver) {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> getObjectByID(project, request.getList().getElementID())
-			.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getList().getFeatureName())
+			.flatMapRight((mdObject) -> getEFeature(mdObject, request.getList().getFeatureName())
 			.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 			.flatMapRight((eList) -> {
 				Value.Builder vb = Value.newBuilder();
@@ -580,7 +1103,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> inSession(project)
 			.flatMapRight((sm) -> getMDObjectByID(project, request.getList().getElementID())
-			.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getList().getFeatureName())
+			.flatMapRight((mdObject) -> getEFeature(mdObject, request.getList().getFeatureName())
 			.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 			.flatMapRight((eList) -> {
 				Object newValue = decoder.decode(project, eFeature, request.getValue());
@@ -601,7 +1124,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> inSession(project)
 			.flatMapRight((sm) -> getMDObjectByID(project, request.getList().getElementID())
-			.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getList().getFeatureName())
+			.flatMapRight((mdObject) -> getEFeature(mdObject, request.getList().getFeatureName())
 			.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 			.flatMapRight((eList) -> {
 				Object newValue = decoder.decode(project, eFeature, request.getValue());
@@ -630,7 +1153,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		sendResponse(responseObserver, inProject()
 			.flatMapRight((project) -> inSession(project)
 			.flatMapRight((sm) -> getMDObjectByID(project, request.getList().getElementID())
-			.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getList().getFeatureName())
+			.flatMapRight((mdObject) -> getEFeature(mdObject, request.getList().getFeatureName())
 			.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 			.flatMapRight((eList) -> {
 				try {
@@ -650,7 +1173,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		sendResponse(responseObserver, inProject()
 				.flatMapRight((project) -> inSession(project)
 				.flatMapRight((sm) -> getMDObjectByID(project, request.getList().getElementID())
-				.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getList().getFeatureName())
+				.flatMapRight((mdObject) -> getEFeature(mdObject, request.getList().getFeatureName())
 				.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 				.flatMapRight((eList) -> {
 					try {
@@ -669,7 +1192,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		sendResponse(responseObserver, inProject()
 				.flatMapRight((project) -> inSession(project)
 				.flatMapRight((sm) -> getMDObjectByID(project, request.getElementID())
-				.flatMapRight((mdObject) -> getEFeature(mdObject.eClass(), request.getFeatureName())
+				.flatMapRight((mdObject) -> getEFeature(mdObject, request.getFeatureName())
 				.flatMapRight((eFeature) -> getEList(mdObject, eFeature)
 				.flatMapRight((eList) -> {
 					try {
@@ -748,6 +1271,20 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 			}));
 	}
 
+	@Override
+	public void getProjectInfo(Empty request, StreamObserver<ProjectInfo> responseObserver) {
+		sendResponse(responseObserver, inProject()
+			.flatMapRight((project) -> {
+				final ProjectInfo.Builder builder = ProjectInfo.newBuilder()
+					.setName(project.getName())
+					.setPrimaryModelID(project.getPrimaryModel().getID());
+				if (project.getFileName() != null) {
+					builder.setFileName(project.getFileName());
+				}
+				return Either.right(builder.build());
+			}));
+	}
+
 	private StatusRuntimeException exListNotModifiable(EObject mdObject, EStructuralFeature eFeature) {
 		return Status.INVALID_ARGUMENT
 			.withDescription(String.format("Feature %s in %s is not a modifiable list: it may be a derived feature", eFeature.getName(), getFullyQualifiedName(mdObject.eClass())))
@@ -765,12 +1302,12 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		}
 	}
 
-	private Either<StatusRuntimeException, EStructuralFeature> getEFeature(EClass eClassifier, String featureName) {
-		final EStructuralFeature eFeature = eClassifier.getEStructuralFeature(featureName);
+	private Either<StatusRuntimeException, EStructuralFeature> getEFeature(EObject eob, String featureName) {
+		final EStructuralFeature eFeature = features.getFeature(eob, featureName);
 		if (eFeature == null) {
 			return Either.left(Status.INVALID_ARGUMENT
 				.withDescription(String.format("Feature %s does not exist in type %s",
-					featureName, getFullyQualifiedName(eClassifier)))
+					featureName, getFullyQualifiedName(eob.eClass())))
 				.asRuntimeException());
 		} else {
 			return Either.right(eFeature);
@@ -779,7 +1316,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 
 	private Either<StatusRuntimeException, EClassifier> findEClassifier(String typeName) {
 		if (typeName != null && typeName.length() > 0) {
-			Collection<EClassifier> options = ModelUtils.findEClassifier(typeName);
+			Collection<EClassifier> options = findEClassifiers(typeName);
 			if (options.isEmpty()) {
 				return Either.left(exTypeNotFound(typeName));
 			} else {
@@ -789,9 +1326,25 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		return Either.right(null);
 	}
 
+	private Either<StatusRuntimeException, List<EClassifier>> findEClassifiers(List<String> typeNames) {
+		final List<EClassifier> eClassifiers = new ArrayList<>(typeNames.size());
+		for (String typeName : typeNames) {
+			Collection<EClassifier> options = findEClassifiers(typeName);
+			if (options.isEmpty()) {
+				return Either.left(exTypeNotFound(typeName));
+			}
+			eClassifiers.add(options.iterator().next());
+		}
+		return Either.right(eClassifiers);
+	}
+
+	private Collection<EClassifier> findEClassifiers(String typeName) {
+		return classifiers.computeIfAbsent(typeName, ModelUtils::findEClassifier);
+	}
+
 	private Either<StatusRuntimeException, Collection<EEnum>> findEEnums(String typeName) {
 		if (typeName != null && typeName.length() > 0) {
-			Collection<EClassifier> options = ModelUtils.findEClassifier(typeName);
+			Collection<EClassifier> options = findEClassifiers(typeName);
 			final List<EEnum> eEnumOptions = options.stream()
 					.filter(c -> (c instanceof EEnum))
 					.map(c -> (EEnum) c)
@@ -827,6 +1380,9 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 	}
 
 	private <T> Either<StatusRuntimeException, SessionManager> inSession(Project project) {
+		// Every change to the model needs a session: snapshots and names may become stale after this
+		containmentSnapshots.invalidateAll();
+		names.invalidate();
 		return checkSession(project, true);
 	}
 
@@ -861,6 +1417,7 @@ public class ModelAccessService extends ModelServiceGrpc.ModelServiceImplBase {
 		metadata.put(errorKey, ErrorInfo.newBuilder()
 			.setReason(ModelServiceConstants.REASON_CANNOT_FIND_TYPE)
 			.setDomain(GRPC_DOMAIN)
+			.putMetadata(ModelServiceConstants.METADATA_TYPE_NAME, typeName)
 			.build());
 
 		return Status.INVALID_ARGUMENT
@@ -0,0 +1,400 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.MoreExecutors;
+
+import io.grpc.Context;
+import io.grpc.ForwardingServerCallListener.SimpleForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+
+/**
+ * <p>Controls how the calls to the {@link ModelAccessService} are run, so the
+ * MagicDraw model is never read and changed at the same time:</p>
+ *
+ * <ul>
+ * <li>Reads run concurrently in a pool of reader threads, under the shared side
+ * of a read/write lock.</li>
+ * <li>Changes to the model, editing sessions and project operations run one at
+ * a time in a single writer thread, under the exclusive side of the lock. The
+ * lock is fair, so a waiting writer is not starved by a stream of readers.</li>
+ * <li>At most a certain number of calls can be admitted at once (whether
+ * running or waiting for a thread). Calls beyond that are rejected right away
+ * with {@code RESOURCE_EXHAUSTED}, instead of piling up in the server.</li>
+ * <li>Some methods can have their own concurrency limit: calls beyond it wait in
+ * a queue of their own, without taking up a thread. By default, the heavy calls
+ * which walk large parts of the model (see {@link #HEAVY_METHODS}) share a single
+ * limit of half of the reader threads, so cheap calls such as {@code getFeatureValue}
+ * are not starved by a burst of {@code allOf} and {@code runScript} calls. Calls
+ * which were cancelled while waiting are skipped.</li>
+ * </ul>
+ *
+ * <p>The reads run as set by an {@link ExecutorType}. Unless it is
+ * {@link ExecutorType#DIRECT}, the request handlers do not run on the threads of
+ * gRPC, which only do the admission check and hand the call over to the reader
+ * threads or the writer thread.</p>
+ */
+public class ReadWriteInterceptor implements ServerInterceptor {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReadWriteInterceptor.class);
+
+	public static final int DEFAULT_READER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+	public static final int DEFAULT_MAX_ADMITTED_CALLS = 256;
+
+	/**
+	 * Ways to run the reads.
+	 */
+	public enum ExecutorType {
+		/** Fixed pool of reader threads. */
+		FIXED,
+		/**
+		 * New virtual thread for each read, on JDKs that have them (21 onwards).
+		 * Falls back to {@link #FIXED} on older JDKs.
+		 */
+		VIRTUAL,
+		/**
+		 * Reads run on the gRPC thread that received them. This avoids handing the
+		 * call over to another thread, but a long read keeps that gRPC thread busy.
+		 */
+		DIRECT
+	}
+
+	/**
+	 * Reads which may walk large parts of the model, and share the limit in
+	 * {@link #HEAVY_GROUP} by default.
+	 */
+	public static final Set<String> HEAVY_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		"allOf", "allOfMany", "getTypeHistogram", "getSubtree", "runScript")));
+
+	/**
+	 * Key in the method limits for the limit shared by all the {@link #HEAVY_METHODS}
+	 * without a limit of their own.
+	 */
+	public static final String HEAVY_GROUP = "heavy";
+
+	/** Methods that change the model, the editing session or the open project. Everything else is a read. */
+	private static final Set<String> WRITE_METHODS = new HashSet<>(Arrays.asList(
+		"createInstance", "deleteInstance", "setFeatureValue",
+		"listSet", "listAdd", "listRemove", "listMoveObject", "listClear",
+		"openSession", "closeSession", "cancelSession",
+		"openProject", "closeProject", "saveProject"));
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock(true);
+	private final ExecutorService readers;
+	private final ExecutorService writer;
+
+	private final int maxAdmittedCalls;
+	private final Semaphore admissions;
+
+	private final Map<String, MethodLimit> methodLimits = new HashMap<>();
+
+	public ReadWriteInterceptor() {
+		this(DEFAULT_READER_THREADS, DEFAULT_MAX_ADMITTED_CALLS);
+	}
+
+	public ReadWriteInterceptor(int readerThreads, int maxAdmittedCalls) {
+		this(ExecutorType.FIXED, readerThreads, maxAdmittedCalls, getDefaultMethodLimits(readerThreads));
+	}
+
+	/**
+	 * Creates a new interceptor.
+	 *
+	 * @param readerType
+	 *            How to run the reads.
+	 * @param readerThreads
+	 *            Number of reader threads for {@link ExecutorType#FIXED}.
+	 * @param maxAdmittedCalls
+	 *            Maximum number of calls admitted at once.
+	 * @param methodLimits
+	 *            Maximum number of concurrent calls for each method, by method
+	 *            name (without the service name). The limit for {@link #HEAVY_GROUP}
+	 *            is shared by the {@link #HEAVY_METHODS} which are not in the map.
+	 *            Other methods not in the map, or with a limit of zero or less,
+	 *            are only limited by the number of threads.
+	 */
+	public ReadWriteInterceptor(ExecutorType readerType, int readerThreads, int maxAdmittedCalls, Map<String, Integer> methodLimits) {
+		this.readers = createReaders(readerType, readerThreads);
+		this.writer = Executors.newSingleThreadExecutor(new LaneThreadFactory("Epsilon model access writer"));
+		this.maxAdmittedCalls = maxAdmittedCalls;
+		this.admissions = new Semaphore(maxAdmittedCalls);
+
+		for (Map.Entry<String, Integer> entry : methodLimits.entrySet()) {
+			if (entry.getValue() > 0 && !HEAVY_GROUP.equals(entry.getKey())) {
+				this.methodLimits.put(entry.getKey(), new MethodLimit(entry.getValue()));
+			}
+		}
+
+		final Integer heavyLimit = methodLimits.get(HEAVY_GROUP);
+		if (heavyLimit != null && heavyLimit > 0) {
+			final MethodLimit shared = new MethodLimit(heavyLimit);
+			for (String method : HEAVY_METHODS) {
+				if (!methodLimits.containsKey(method)) {
+					this.methodLimits.put(method, shared);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the default concurrency limits, which let the {@link #HEAVY_METHODS}
+	 * use up to half of the given number of reader threads between all of them,
+	 * so the other calls always have threads left.
+	 */
+	public static Map<String, Integer> getDefaultMethodLimits(int readerThreads) {
+		final Map<String, Integer> limits = new HashMap<>();
+		limits.put(HEAVY_GROUP, Math.max(1, readerThreads / 2));
+		return limits;
+	}
+
+	/**
+	 * Returns {@code true} if the method with the given name (without the service
+	 * name) changes the model, the editing session or the open project.
+	 */
+	public static boolean isWrite(String methodName) {
+		return WRITE_METHODS.contains(methodName);
+	}
+
+	/**
+	 * Returns the number of calls which have been admitted and have not completed yet.
+	 */
+	public int getAdmittedCalls() {
+		return maxAdmittedCalls - admissions.availablePermits();
+	}
+
+	@Override
+	public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+		if (!admissions.tryAcquire()) {
+			call.close(Status.RESOURCE_EXHAUSTED
+				.withDescription(String.format("The server is busy: %d calls are in progress already", maxAdmittedCalls)),
+				new Metadata());
+			return new ServerCall.Listener<ReqT>() {};
+		}
+
+		final String methodName = MethodDescriptor.extractBareMethodName(call.getMethodDescriptor().getFullMethodName());
+		final boolean isWrite = isWrite(methodName);
+		final AtomicBoolean released = new AtomicBoolean();
+		final Runnable release = () -> {
+			if (released.compareAndSet(false, true)) {
+				admissions.release();
+			}
+		};
+
+		final ServerCall.Listener<ReqT> delegate;
+		try {
+			delegate = next.startCall(call, headers);
+		} catch (RuntimeException ex) {
+			release.run();
+			throw ex;
+		}
+
+		return new SimpleForwardingServerCallListener<ReqT>(delegate) {
+			@Override
+			public void onHalfClose() {
+				// The handler runs here: move it to the right lane, keeping the gRPC context (e.g. for cancellation)
+				final Runnable handler = Context.current().wrap(() -> runLocked(isWrite, call, super::onHalfClose));
+				final Executor lane = isWrite ? writer : readers;
+				final MethodLimit limit = methodLimits.get(methodName);
+				try {
+					if (limit == null) {
+						lane.execute(handler);
+					} else {
+						limit.execute(lane, handler);
+					}
+				} catch (RejectedExecutionException ex) {
+					closeQuietly(call, Status.UNAVAILABLE.withDescription("The server is shutting down"));
+				}
+			}
+
+			@Override
+			public void onCancel() {
+				try {
+					super.onCancel();
+				} finally {
+					release.run();
+				}
+			}
+
+			@Override
+			public void onComplete() {
+				try {
+					super.onComplete();
+				} finally {
+					release.run();
+				}
+			}
+		};
+	}
+
+	/**
+	 * Stops the reader and writer threads, waiting for the calls in progress to finish.
+	 */
+	public void shutdown() {
+		readers.shutdown();
+		writer.shutdown();
+		try {
+			readers.awaitTermination(30, TimeUnit.SECONDS);
+			writer.awaitTermination(30, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			LOGGER.error(e.getMessage(), e);
+			readers.shutdownNow();
+			writer.shutdownNow();
+		}
+	}
+
+	private void runLocked(boolean isWrite, ServerCall<?, ?> call, Runnable handler) {
+		if (Context.current().isCancelled()) {
+			// The client gave up while the call was waiting: do not run it
+			closeQuietly(call, Status.CANCELLED.withDescription("The call was cancelled before it started"));
+			return;
+		}
+
+		final Lock l = isWrite ? lock.writeLock() : lock.readLock();
+		l.lock();
+		try {
+			handler.run();
+		} catch (RuntimeException ex) {
+			LOGGER.error(String.format("Call to %s failed", call.getMethodDescriptor().getFullMethodName()), ex);
+			closeQuietly(call, Status.INTERNAL.withDescription(ex.getMessage()).withCause(ex));
+		} finally {
+			l.unlock();
+		}
+	}
+
+	private void closeQuietly(ServerCall<?, ?> call, Status status) {
+		try {
+			call.close(status, new Metadata());
+		} catch (IllegalStateException ex) {
+			// The handler closed the call already
+		}
+	}
+
+	private static ExecutorService createReaders(ExecutorType type, int threads) {
+		switch (type) {
+		case DIRECT:
+			return MoreExecutors.newDirectExecutorService();
+		case VIRTUAL:
+			try {
+				// Looked up reflectively, as the plugin targets older JDKs as well
+				return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			} catch (ReflectiveOperationException ex) {
+				LOGGER.warn(String.format("Virtual threads are not available in this JDK: using %d reader threads instead", threads));
+			}
+			// fall through
+		default:
+			return Executors.newFixedThreadPool(threads, new LaneThreadFactory("Epsilon model access reader"));
+		}
+	}
+
+	/**
+	 * Limits how many calls to a method run at the same time. The calls beyond
+	 * the limit wait in a queue, and are run by the thread of the call before
+	 * them once it finishes.
+	 */
+	private static class MethodLimit {
+		private final int limit;
+		private final Queue<Runnable> waiting = new ArrayDeque<>();
+		private int running;
+
+		MethodLimit(int limit) {
+			this.limit = limit;
+		}
+
+		void execute(Executor lane, Runnable task) {
+			synchronized (this) {
+				if (running >= limit) {
+					waiting.add(task);
+					return;
+				}
+				running++;
+			}
+
+			try {
+				lane.execute(() -> drain(lane, task));
+			} catch (RejectedExecutionException ex) {
+				synchronized (this) {
+					running--;
+				}
+				throw ex;
+			}
+		}
+
+		private void drain(Executor lane, Runnable first) {
+			Runnable task = first;
+			while (task != null) {
+				try {
+					task.run();
+				} catch (RuntimeException | Error ex) {
+					// Keep the queue moving before letting the failure through
+					final Runnable next = next();
+					if (next != null) {
+						lane.execute(() -> drain(lane, next));
+					}
+					throw ex;
+				}
+				task = next();
+			}
+		}
+
+		private synchronized Runnable next() {
+			final Runnable task = waiting.poll();
+			if (task == null) {
+				running--;
+			}
+			return task;
+		}
+	}
+
+	private static class LaneThreadFactory implements ThreadFactory {
+		private final String prefix;
+		private final AtomicInteger count = new AtomicInteger();
+
+		LaneThreadFactory(String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public Thread newThread(Runnable r) {
+			final Thread t = new Thread(r, prefix + " " + count.incrementAndGet());
+			t.setDaemon(true);
+			return t;
+		}
+	}
+
+}
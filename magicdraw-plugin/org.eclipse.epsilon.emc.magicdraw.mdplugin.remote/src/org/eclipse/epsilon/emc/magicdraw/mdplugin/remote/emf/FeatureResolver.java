@@ -0,0 +1,131 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * <p>Resolves features by name, caching the results per implementation class.</p>
+ *
+ * <p>It also caches the {@link MethodHandle}s for the {@code get*()} methods used
+ * when {@link EObject#eGet(EStructuralFeature)} does not report the actual value
+ * of an attribute (see {@link #invokeGetter(EObject, EStructuralFeature)}), so
+ * we only pay for the reflective lookup once per class and feature.</p>
+ */
+public class FeatureResolver {
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	/**
+	 * Result of resolving a feature name within an implementation class. The
+	 * feature may be {@code null}, if the name did not match any feature.
+	 */
+	private static class ResolvedFeature {
+		private final EClass eClass;
+		private final EStructuralFeature feature;
+		private volatile MethodHandle getter;
+		private volatile boolean getterMissing;
+
+		ResolvedFeature(EClass eClass, EStructuralFeature feature) {
+			this.eClass = eClass;
+			this.feature = feature;
+		}
+	}
+
+	private final ClassValue<ConcurrentMap<String, ResolvedFeature>> cache = new ClassValue<ConcurrentMap<String, ResolvedFeature>>() {
+		@Override
+		protected ConcurrentMap<String, ResolvedFeature> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/**
+	 * Returns the feature with the given name in the {@link EClass} of the object,
+	 * or {@code null} if it does not exist.
+	 */
+	public EStructuralFeature getFeature(EObject eob, String featureName) {
+		return resolve(eob, featureName).feature;
+	}
+
+	/**
+	 * Invokes the {@code get*()} method for a feature directly, bypassing {@link EObject#eGet(EStructuralFeature)}.
+	 *
+	 * @throws NoSuchMethodException The implementation class does not have a public getter for the feature.
+	 * @throws Exception The getter could not be accessed, or it failed. Errors thrown by the getter are passed on as is.
+	 */
+	public Object invokeGetter(EObject eob, EStructuralFeature eFeature) throws Exception {
+		final ResolvedFeature resolved = resolve(eob, eFeature.getName());
+		if (resolved.getterMissing) {
+			throw new NoSuchMethodException(getterName(eFeature));
+		}
+
+		MethodHandle getter = resolved.getter;
+		if (getter == null) {
+			try {
+				final Method mGetMethod = eob.getClass().getMethod(getterName(eFeature));
+				getter = MethodHandles.publicLookup().unreflect(mGetMethod).asType(GETTER_TYPE);
+				resolved.getter = getter;
+			} catch (NoSuchMethodException ex) {
+				resolved.getterMissing = true;
+				throw ex;
+			}
+		}
+
+		try {
+			return getter.invokeExact((Object) eob);
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable t) {
+			// Only possible with a custom subclass of Throwable
+			throw new UndeclaredThrowableException(t);
+		}
+	}
+
+	private ResolvedFeature resolve(EObject eob, String featureName) {
+		final EClass eClass = eob.eClass();
+		final ConcurrentMap<String, ResolvedFeature> byName = cache.get(eob.getClass());
+
+		ResolvedFeature resolved = byName.get(featureName);
+		if (resolved == null) {
+			resolved = new ResolvedFeature(eClass, eClass.getEStructuralFeature(featureName));
+			final ResolvedFeature existing = byName.putIfAbsent(featureName, resolved);
+			if (existing != null) {
+				resolved = existing;
+			}
+		}
+
+		if (resolved.eClass != eClass) {
+			/*
+			 * The same implementation class can be shared by several EClasses (e.g. dynamic
+			 * EObjects): in that case, we resolve the feature without caching it.
+			 */
+			return new ResolvedFeature(eClass, eClass.getEStructuralFeature(featureName));
+		}
+
+		return resolved;
+	}
+
+	private static String getterName(EStructuralFeature eFeature) {
+		final String featureName = eFeature.getName();
+		return "get" + Character.toUpperCase(featureName.charAt(0)) + featureName.substring(1);
+	}
+
+}
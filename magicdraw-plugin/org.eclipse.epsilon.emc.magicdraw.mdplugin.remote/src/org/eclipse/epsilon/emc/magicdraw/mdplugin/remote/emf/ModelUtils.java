@@ -14,16 +14,25 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.nomagic.magicdraw.foundation.MDObject;
+
 /**
  * Utility methods to interact with MagicDraw models and metamodels.
  */
@@ -53,6 +62,72 @@ public class ModelUtils {
 	}
 
 
+	/**
+	 * Returns a predicate for the elements that should be part of an extent.
+	 *
+	 * @param eClassifier Type of the extent, or {@code null} for all elements.
+	 * @param onlyExactType If {@code true}, instances of subtypes are excluded.
+	 * @param filter Additional condition to be met, or {@code null} if there is none.
+	 */
+	public static Predicate<EObject> extentFilter(EClassifier eClassifier, boolean onlyExactType, Predicate<EObject> filter) {
+		Predicate<EObject> pred;
+		if (eClassifier == null) {
+			pred = (eob) -> eob instanceof MDObject;
+		}
+		else if (onlyExactType) {
+			pred = (eob) -> eob instanceof MDObject && eob.eClass() == eClassifier;
+		}
+		else {
+			pred = (eob) -> eob instanceof MDObject && eClassifier.isInstance(eob);
+		}
+		if (filter != null) {
+			pred = pred.and(filter);
+		}
+		return pred;
+	}
+
+	/**
+	 * Returns the proper contents of {@code root} which match the predicate.
+	 */
+	public static List<EObject> select(EObject root, Predicate<EObject> pred) {
+		final List<EObject> results = new ArrayList<>();
+		for (TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true); it.hasNext(); ) {
+			final EObject eob = it.next();
+			if (pred.test(eob)) {
+				results.add(eob);
+			}
+		}
+		return results;
+	}
+
+	/**
+	 * Counts the proper contents of {@code root} which match the predicate,
+	 * stopping as soon as {@code limit} matches have been found.
+	 */
+	public static int count(EObject root, Predicate<EObject> pred, int limit) {
+		int count = 0;
+		for (TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true); it.hasNext() && count < limit; ) {
+			if (pred.test(it.next())) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Counts the {@link MDObject}s within the proper contents of {@code root}, by {@link EClass}.
+	 */
+	public static Map<EClass, Integer> countByEClass(EObject root) {
+		final Map<EClass, Integer> counts = new HashMap<>();
+		for (TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true); it.hasNext(); ) {
+			final EObject eob = it.next();
+			if (eob instanceof MDObject) {
+				counts.merge(eob.eClass(), 1, Integer::sum);
+			}
+		}
+		return counts;
+	}
+
 	public static Collection<EClassifier> findEClassifier(String typeName) {
 		final List<String> parts = Arrays.asList(typeName.split("::"));
 		if (parts.size() > 1) {
@@ -0,0 +1,276 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
+
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.nomagic.magicdraw.core.Project;
+import com.nomagic.uml2.ext.magicdraw.classes.mdkernel.NamedElement;
+import com.nomagic.uml2.transaction.TransactionCommitListener;
+
+/**
+ * <p>Index of the named elements in the primary model of a project, by name and
+ * by qualified name, which supports exact and prefix lookups, optionally
+ * ignoring case.</p>
+ *
+ * <p>The index listens for committed transactions in the project (which covers
+ * changes from MagicDraw's own UI as well as from the driver), and becomes
+ * stale after any of them. Changes made in a session which has not been closed
+ * yet are only committed later, so the service also invalidates the index on
+ * every change (see {@link #invalidate()}).</p>
+ *
+ * <p>Rebuilding the index takes longer than a single scan of the model, as it
+ * needs the qualified name of every element. While the index is stale, the
+ * first {@link #SCANS_BEFORE_REBUILD} lookups scan the model instead, and only
+ * a further lookup without changes in between rebuilds the index. Scripts which
+ * alternate changes and lookups therefore never pay for a rebuild, while those
+ * which make many lookups after their changes still use the index.</p>
+ */
+public class NameIndex {
+
+	/**
+	 * Lookups which scan the model after a change, before the index is rebuilt.
+	 */
+	public static final int SCANS_BEFORE_REBUILD = 2;
+
+	private final TransactionCommitListener commitListener = this::onTransactionCommitted;
+
+	private Project project;
+	private volatile boolean stale = true;
+	private final AtomicInteger changes = new AtomicInteger();
+	private int scannedChange = -1;
+	private int scans;
+
+	private final Entries names = new Entries();
+	private final Entries qualifiedNames = new Entries();
+
+	/**
+	 * Returns the named elements whose name matches the given one.
+	 *
+	 * @param prefix If {@code true}, names starting with {@code name} are matched.
+	 * @param ignoreCase If {@code true}, names are compared regardless of case.
+	 * @param filter Condition that the returned elements must meet (e.g. type or scope).
+	 */
+	public synchronized List<EObject> findByName(Project project, String name, boolean prefix, boolean ignoreCase, Predicate<EObject> filter) {
+		if (!ensureBuilt(project)) {
+			return scan(project, name, false, prefix, ignoreCase, filter);
+		}
+		return names.find(name, prefix, ignoreCase, filter);
+	}
+
+	/**
+	 * Returns the named elements whose qualified name (e.g. {@code Model::Zoo::Animal})
+	 * matches the given one.
+	 *
+	 * @see #findByName(Project, String, boolean, boolean, Predicate)
+	 */
+	public synchronized List<EObject> findByQualifiedName(Project project, String qualifiedName, boolean prefix, boolean ignoreCase, Predicate<EObject> filter) {
+		if (!ensureBuilt(project)) {
+			return scan(project, qualifiedName, true, prefix, ignoreCase, filter);
+		}
+		return qualifiedNames.find(qualifiedName, prefix, ignoreCase, filter);
+	}
+
+	/**
+	 * Drops the index and stops listening to the project it was built for, if any.
+	 */
+	public synchronized void clear() {
+		if (project != null) {
+			project.getRepository().getTransactionManager().removeTransactionCommitListener(commitListener);
+			project = null;
+		}
+		names.clear();
+		qualifiedNames.clear();
+		stale = true;
+	}
+
+	/**
+	 * Marks the index as stale, so the next lookups scan the model until it is rebuilt.
+	 */
+	public void invalidate() {
+		changes.incrementAndGet();
+		stale = true;
+	}
+
+	private Runnable onTransactionCommitted(Collection<PropertyChangeEvent> events) {
+		invalidate();
+		return null;
+	}
+
+	/**
+	 * Makes sure that the index is up to date, if it is time to rebuild it.
+	 *
+	 * @return {@code true} if the index can be used, {@code false} if the lookup
+	 *         should scan the model instead.
+	 */
+	private boolean ensureBuilt(Project project) {
+		if (this.project != project) {
+			clear();
+			this.project = project;
+			project.getRepository().getTransactionManager().addTransactionCommitListenerIncludingUndoAndRedo(commitListener);
+		} else if (!stale) {
+			return true;
+		}
+
+		final int change = changes.get();
+		if (change != scannedChange) {
+			scannedChange = change;
+			scans = 0;
+		}
+		if (scans < SCANS_BEFORE_REBUILD) {
+			scans++;
+			return false;
+		}
+
+		names.clear();
+		qualifiedNames.clear();
+		stale = false;
+
+		final EObject root = project.getPrimaryModel();
+		add(root);
+		for (TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true); it.hasNext(); ) {
+			add(it.next());
+		}
+		return true;
+	}
+
+	/**
+	 * Looks up elements by scanning the model, with the same results as the index.
+	 */
+	private List<EObject> scan(Project project, String key, boolean qualified, boolean prefix, boolean ignoreCase, Predicate<EObject> filter) {
+		// Only the candidates go into a temporary index, which sorts them like the full one
+		final Entries candidates = new Entries();
+		final EObject root = project.getPrimaryModel();
+		scan(root, candidates, key, qualified, prefix, ignoreCase);
+		for (TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true); it.hasNext(); ) {
+			scan(it.next(), candidates, key, qualified, prefix, ignoreCase);
+		}
+		return candidates.find(key, prefix, ignoreCase, filter);
+	}
+
+	private void scan(EObject eob, Entries candidates, String key, boolean qualified, boolean prefix, boolean ignoreCase) {
+		if (!(eob instanceof NamedElement)) {
+			return;
+		}
+
+		final NamedElement namedElement = (NamedElement) eob;
+		final String name = namedElement.getName();
+		if (!qualified) {
+			if (Entries.matches(name, key, prefix, ignoreCase)) {
+				candidates.add(name, eob);
+			}
+			return;
+		}
+
+		// An exact qualified name ends with the name, so most elements can be skipped without computing it
+		if (!prefix && (name == null || !Entries.fold(key, ignoreCase).endsWith(Entries.fold(name, ignoreCase)))) {
+			return;
+		}
+		final String qualifiedName = namedElement.getQualifiedName();
+		if (Entries.matches(qualifiedName, key, prefix, ignoreCase)) {
+			candidates.add(qualifiedName, eob);
+		}
+	}
+
+	private void add(EObject eob) {
+		if (eob instanceof NamedElement) {
+			final NamedElement namedElement = (NamedElement) eob;
+			names.add(namedElement.getName(), eob);
+			qualifiedNames.add(namedElement.getQualifiedName(), eob);
+		}
+	}
+
+	/**
+	 * Elements by key: the hash map answers exact lookups, and the sorted
+	 * maps answer prefix lookups. The case-sensitive sorted map shares its
+	 * lists of elements with the hash map.
+	 */
+	private static class Entries {
+		private final Map<String, List<EObject>> exact = new HashMap<>();
+		private final NavigableMap<String, List<EObject>> sorted = new TreeMap<>();
+		private final NavigableMap<String, List<EObject>> folded = new TreeMap<>();
+
+		void add(String key, EObject eob) {
+			if (key == null || key.isEmpty()) {
+				return;
+			}
+
+			final List<EObject> elements = exact.computeIfAbsent(key, (k) -> {
+				final List<EObject> l = new ArrayList<>(1);
+				sorted.put(k, l);
+				return l;
+			});
+			elements.add(eob);
+			folded.computeIfAbsent(fold(key), (k) -> new ArrayList<>(1)).add(eob);
+		}
+
+		List<EObject> find(String key, boolean prefix, boolean ignoreCase, Predicate<EObject> filter) {
+			final Collection<List<EObject>> matches;
+			if (prefix) {
+				final NavigableMap<String, List<EObject>> map = ignoreCase ? folded : sorted;
+				final String from = ignoreCase ? fold(key) : key;
+				matches = map.subMap(from, true, from + Character.MAX_VALUE, false).values();
+			} else {
+				final List<EObject> elements = ignoreCase ? folded.get(fold(key)) : exact.get(key);
+				matches = elements == null ? Collections.emptyList() : Collections.singletonList(elements);
+			}
+
+			final List<EObject> results = new ArrayList<>();
+			for (List<EObject> elements : matches) {
+				for (EObject eob : elements) {
+					if (filter.test(eob)) {
+						results.add(eob);
+					}
+				}
+			}
+			return results;
+		}
+
+		void clear() {
+			exact.clear();
+			sorted.clear();
+			folded.clear();
+		}
+
+		static boolean matches(String value, String key, boolean prefix, boolean ignoreCase) {
+			if (value == null) {
+				return false;
+			}
+			final String v = fold(value, ignoreCase);
+			final String k = fold(key, ignoreCase);
+			return prefix ? v.startsWith(k) : v.equals(k);
+		}
+
+		static String fold(String key, boolean ignoreCase) {
+			return ignoreCase ? fold(key) : key;
+		}
+
+		private static String fold(String key) {
+			return key.toLowerCase(Locale.ROOT);
+		}
+	}
+
+}
@@ -0,0 +1,110 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+
+/**
+ * Follows paths of features across a model, optionally computing their
+ * transitive closure, so multi-hop navigations can be done in one request.
+ */
+public class PathNavigator {
+
+	/** Pseudo-feature for moving up the containment tree. */
+	public static final String FEATURE_ECONTAINER = "eContainer";
+
+	private final FeatureResolver features;
+
+	public PathNavigator(FeatureResolver features) {
+		this.features = features;
+	}
+
+	/**
+	 * Follows a path of features from a set of elements.
+	 *
+	 * @param start Elements to start from.
+	 * @param path Names of the features to follow, in order.
+	 * @param closure If {@code true}, the path is followed again from the reached
+	 *                elements until no new elements are reached.
+	 * @param maxDepth If positive and in closure mode, maximum number of times
+	 *                 the path is followed.
+	 * @return Reached elements, without duplicates, in breadth-first order.
+	 * @throws IllegalArgumentException The path is empty.
+	 */
+	public List<EObject> navigate(Collection<EObject> start, List<String> path, boolean closure, int maxDepth) {
+		if (path.isEmpty()) {
+			throw new IllegalArgumentException("The feature path is empty");
+		}
+
+		final Set<EObject> reached = new LinkedHashSet<>();
+		Collection<EObject> frontier = start;
+		for (int depth = 1; !frontier.isEmpty(); depth++) {
+			final List<EObject> newElements = new ArrayList<>();
+			for (EObject eob : follow(frontier, path)) {
+				if (reached.add(eob)) {
+					newElements.add(eob);
+				}
+			}
+
+			if (!closure || maxDepth > 0 && depth >= maxDepth) {
+				break;
+			}
+			frontier = newElements;
+		}
+
+		return new ArrayList<>(reached);
+	}
+
+	private Collection<EObject> follow(Collection<EObject> sources, List<String> path) {
+		Collection<EObject> current = sources;
+		for (String featureName : path) {
+			final Set<EObject> next = new LinkedHashSet<>();
+			for (EObject eob : current) {
+				collectTargets(eob, featureName, next);
+			}
+			current = next;
+		}
+		return current;
+	}
+
+	private void collectTargets(EObject eob, String featureName, Collection<EObject> targets) {
+		if (FEATURE_ECONTAINER.equals(featureName)) {
+			if (eob.eContainer() != null) {
+				targets.add(eob.eContainer());
+			}
+			return;
+		}
+
+		final EStructuralFeature eFeature = features.getFeature(eob, featureName);
+		if (eFeature == null) {
+			return;
+		}
+
+		final Object value = eob.eGet(eFeature);
+		if (value instanceof Collection) {
+			for (Object v : (Collection<?>) value) {
+				if (v instanceof EObject) {
+					targets.add((EObject) v);
+				}
+			}
+		} else if (value instanceof EObject) {
+			targets.add((EObject) value);
+		}
+	}
+
+}
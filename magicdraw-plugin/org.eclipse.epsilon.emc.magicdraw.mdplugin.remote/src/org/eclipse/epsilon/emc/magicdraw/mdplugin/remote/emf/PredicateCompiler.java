@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import org.eclipse.emf.common.util.Enumerator;
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
+
+/**
+ * <p>Compiles the {@link org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate}
+ * messages from the API into {@link Predicate}s over {@link EObject}s, so they
+ * can be evaluated while scanning the model.</p>
+ *
+ * <p>Feature values are read in the same way as in {@code getFeatureValue}: if
+ * {@link EObject#eGet(EStructuralFeature)} returns {@code null} for an attribute,
+ * its {@code get*()} method is used instead.</p>
+ */
+public class PredicateCompiler {
+
+	/**
+	 * Thrown when a predicate mentions a type that cannot be found.
+	 */
+	public static class UnknownTypeException extends IllegalArgumentException {
+		private static final long serialVersionUID = 1L;
+		private final String typeName;
+
+		public UnknownTypeException(String typeName) {
+			super(String.format("Cannot find type %s", typeName));
+			this.typeName = typeName;
+		}
+
+		public String getTypeName() {
+			return typeName;
+		}
+	}
+
+	private final FeatureResolver features;
+	private final ValueEncoder encoder;
+	private final Function<String, Collection<EClassifier>> typeResolver;
+
+	public PredicateCompiler(FeatureResolver features, ValueEncoder encoder, Function<String, Collection<EClassifier>> typeResolver) {
+		this.features = features;
+		this.encoder = encoder;
+		this.typeResolver = typeResolver;
+	}
+
+	/**
+	 * Compiles the predicate.
+	 *
+	 * @throws UnknownTypeException The predicate has a type test with an unknown type.
+	 * @throws IllegalArgumentException The predicate is malformed.
+	 */
+	public Predicate<EObject> compile(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate predicate) {
+		switch (predicate.getPredicateCase()) {
+		case COMPARISON:
+			return compile(predicate.getComparison());
+		case CONJUNCTION: {
+			final List<Predicate<EObject>> operands = compileAll(predicate.getConjunction().getValuesList());
+			return (eob) -> {
+				for (Predicate<EObject> operand : operands) {
+					if (!operand.test(eob)) {
+						return false;
+					}
+				}
+				return true;
+			};
+		}
+		case DISJUNCTION: {
+			final List<Predicate<EObject>> operands = compileAll(predicate.getDisjunction().getValuesList());
+			return (eob) -> {
+				for (Predicate<EObject> operand : operands) {
+					if (operand.test(eob)) {
+						return true;
+					}
+				}
+				return false;
+			};
+		}
+		case NEGATION:
+			return compile(predicate.getNegation()).negate();
+		case ISNULL: {
+			final String featureName = predicate.getIsNull();
+			return (eob) -> {
+				final Object value = getValue(eob, featureName);
+				return value == null || value instanceof Collection && ((Collection<?>) value).isEmpty();
+			};
+		}
+		case STARTSWITH:
+			return compile(predicate.getStartsWith(), String::startsWith);
+		case CONTAINS:
+			return compile(predicate.getContains(), String::contains);
+		case ISKINDOF: {
+			final EClassifier eClassifier = findType(predicate.getIsKindOf());
+			return (eob) -> eClassifier.isInstance(eob);
+		}
+		case ISTYPEOF: {
+			final EClassifier eClassifier = findType(predicate.getIsTypeOf());
+			return (eob) -> eob.eClass() == eClassifier;
+		}
+		case PREDICATE_NOT_SET:
+		default:
+			throw new IllegalArgumentException("Predicate has no condition");
+		}
+	}
+
+	private List<Predicate<EObject>> compileAll(List<org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate> predicates) {
+		final List<Predicate<EObject>> compiled = new ArrayList<>(predicates.size());
+		for (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate p : predicates) {
+			compiled.add(compile(p));
+		}
+		return compiled;
+	}
+
+	private EClassifier findType(String typeName) {
+		final Collection<EClassifier> options = typeResolver.apply(typeName);
+		if (options.isEmpty()) {
+			throw new UnknownTypeException(typeName);
+		}
+		return options.iterator().next();
+	}
+
+	private Predicate<EObject> compile(StringTest test, StringCondition condition) {
+		final String featureName = test.getFeatureName();
+		final boolean ignoreCase = test.getIgnoreCase();
+		final String expected = ignoreCase ? test.getValue().toLowerCase(Locale.ROOT) : test.getValue();
+
+		return (eob) -> anyValue(getValue(eob, featureName), (value) -> {
+			if (!(value instanceof String)) {
+				return false;
+			}
+			final String sValue = ignoreCase ? ((String) value).toLowerCase(Locale.ROOT) : (String) value;
+			return condition.test(sValue, expected);
+		});
+	}
+
+	private Predicate<EObject> compile(FeatureComparison comparison) {
+		final String featureName = comparison.getFeatureName();
+		final Value expected = comparison.getValue();
+
+		switch (comparison.getOperator()) {
+		case EQUALS:
+			return (eob) -> matchesEquals(getValue(eob, featureName), expected);
+		case NOT_EQUALS:
+			return (eob) -> hasFeature(eob, featureName) && matchesNotEquals(getValue(eob, featureName), expected);
+		case LESS_THAN:
+			return compileOrdering(featureName, expected, (cmp) -> cmp < 0);
+		case LESS_OR_EQUAL:
+			return compileOrdering(featureName, expected, (cmp) -> cmp <= 0);
+		case GREATER_THAN:
+			return compileOrdering(featureName, expected, (cmp) -> cmp > 0);
+		case GREATER_OR_EQUAL:
+			return compileOrdering(featureName, expected, (cmp) -> cmp >= 0);
+		default:
+			throw new IllegalArgumentException(String.format("Unknown operator %s", comparison.getOperator()));
+		}
+	}
+
+	private Predicate<EObject> compileOrdering(String featureName, Value expected, IntPredicate condition) {
+		return (eob) -> anyValue(getValue(eob, featureName), (v) -> {
+			final Integer cmp = compare(v, expected);
+			return cmp != null && condition.test(cmp);
+		});
+	}
+
+	private boolean matchesEquals(Object value, Value expected) {
+		if (isNullValue(expected)) {
+			return value == null || value instanceof Collection && ((Collection<?>) value).isEmpty();
+		}
+		return anyValue(value, (v) -> isEqual(v, expected));
+	}
+
+	private boolean matchesNotEquals(Object value, Value expected) {
+		if (isNullValue(expected)) {
+			return !matchesEquals(value, expected);
+		} else if (value instanceof Collection) {
+			// Many-valued features only need one value which is different
+			return anyValue(value, (v) -> !isEqual(v, expected));
+		}
+		return !isEqual(value, expected);
+	}
+
+	private boolean isEqual(Object value, Value expected) {
+		switch (expected.getValueCase()) {
+		case STRINGVALUE:
+			return expected.getStringValue().equals(value);
+		case BOOLEANVALUE:
+			return Boolean.valueOf(expected.getBooleanValue()).equals(value);
+		case ENUMERATIONVALUE:
+			if (value instanceof Enumerator) {
+				final EnumerationValue ev = expected.getEnumerationValue();
+				final Enumerator literal = (Enumerator) value;
+				return ev.getName().equals(literal.getName()) || ev.getLiteral().equals(literal.getLiteral());
+			}
+			return false;
+		case REFERENCEVALUE:
+			return value instanceof EObject
+				&& expected.getReferenceValue().getElementID().equals(encoder.encodeID((EObject) value));
+		default:
+			final Integer cmp = compare(value, expected);
+			return cmp != null && cmp == 0;
+		}
+	}
+
+	/**
+	 * Compares a raw value against a number or string, returning {@code null}
+	 * if they cannot be compared.
+	 */
+	private Integer compare(Object value, Value expected) {
+		switch (expected.getValueCase()) {
+		case STRINGVALUE:
+			return value instanceof String ? ((String) value).compareTo(expected.getStringValue()) : null;
+		case BYTEVALUE:
+			return compareIntegral(value, expected.getByteValue());
+		case SHORTVALUE:
+			return compareIntegral(value, expected.getShortValue());
+		case INTEGERVALUE:
+			return compareIntegral(value, expected.getIntegerValue());
+		case LONGVALUE:
+			return compareIntegral(value, expected.getLongValue());
+		case FLOATVALUE:
+			return value instanceof Number ? Double.compare(((Number) value).doubleValue(), expected.getFloatValue()) : null;
+		case DOUBLEVALUE:
+			return value instanceof Number ? Double.compare(((Number) value).doubleValue(), expected.getDoubleValue()) : null;
+		default:
+			return null;
+		}
+	}
+
+	private Integer compareIntegral(Object value, long expected) {
+		if (value instanceof Float || value instanceof Double) {
+			return Double.compare(((Number) value).doubleValue(), expected);
+		} else if (value instanceof Number) {
+			return Long.compare(((Number) value).longValue(), expected);
+		}
+		return null;
+	}
+
+	private boolean isNullValue(Value value) {
+		switch (value.getValueCase()) {
+		case NOTDEFINED:
+		case VALUE_NOT_SET:
+			return true;
+		default:
+			return false;
+		}
+	}
+
+	private boolean anyValue(Object value, Predicate<Object> condition) {
+		if (value instanceof Collection) {
+			for (Object v : (Collection<?>) value) {
+				if (condition.test(v)) {
+					return true;
+				}
+			}
+			return false;
+		}
+		return value != null && condition.test(value);
+	}
+
+	private boolean hasFeature(EObject eob, String featureName) {
+		return features.getFeature(eob, featureName) != null;
+	}
+
+	private Object getValue(EObject eob, String featureName) {
+		final EStructuralFeature eFeature = features.getFeature(eob, featureName);
+		if (eFeature == null) {
+			return null;
+		}
+
+		Object value = eob.eGet(eFeature);
+		if (value == null && eFeature instanceof EAttribute) {
+			try {
+				value = features.invokeGetter(eob, eFeature);
+			} catch (Exception e) {
+				// No getter available: the value is null
+			}
+		}
+		return value;
+	}
+
+	@FunctionalInterface
+	private interface StringCondition {
+		boolean test(String value, String expected);
+	}
+
+}
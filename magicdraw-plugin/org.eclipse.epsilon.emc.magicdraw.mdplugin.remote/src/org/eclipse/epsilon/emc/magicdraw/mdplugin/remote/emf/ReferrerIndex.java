@@ -0,0 +1,83 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.EStructuralFeature.Setting;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.ECrossReferenceAdapter;
+
+import com.nomagic.magicdraw.core.Project;
+
+/**
+ * <p>Index of the elements which reference each element of a project, so
+ * impact analyses do not need to scan every reference in the model.</p>
+ *
+ * <p>The index is an {@link ECrossReferenceAdapter} which is only installed on
+ * the resource set of the project on first use, as building it needs a full
+ * traversal of the model. From then on, it keeps itself up to date as the
+ * model changes, until {@link #clear()} removes it.</p>
+ */
+public class ReferrerIndex {
+
+	private ResourceSet resourceSet;
+	private ECrossReferenceAdapter adapter;
+
+	/**
+	 * Returns the elements that reference {@code target} through a non-containment,
+	 * non-derived feature, without duplicates.
+	 *
+	 * @param featureNames If not empty, only references through features with these names are considered.
+	 */
+	public synchronized List<EObject> getReferrers(Project project, EObject target, Collection<String> featureNames) {
+		ensureInstalled(project);
+
+		final Set<EObject> referrers = new LinkedHashSet<>();
+		for (Setting setting : adapter.getInverseReferences(target, true)) {
+			final EStructuralFeature eFeature = setting.getEStructuralFeature();
+			if (featureNames.isEmpty() || featureNames.contains(eFeature.getName())) {
+				referrers.add(setting.getEObject());
+			}
+		}
+		return new ArrayList<>(referrers);
+	}
+
+	/**
+	 * Removes the index from the project it was installed on, if any.
+	 */
+	public synchronized void clear() {
+		if (adapter != null) {
+			resourceSet.eAdapters().remove(adapter);
+			adapter = null;
+			resourceSet = null;
+		}
+	}
+
+	private void ensureInstalled(Project project) {
+		final ResourceSet projectResourceSet = project.getPrimaryModel().eResource().getResourceSet();
+		if (adapter != null && resourceSet == projectResourceSet) {
+			return;
+		}
+
+		clear();
+		resourceSet = projectResourceSet;
+		adapter = new ECrossReferenceAdapter();
+		resourceSet.eAdapters().add(adapter);
+	}
+
+}
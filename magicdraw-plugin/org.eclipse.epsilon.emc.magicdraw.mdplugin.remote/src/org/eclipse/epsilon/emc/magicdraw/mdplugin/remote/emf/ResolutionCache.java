@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
+
+import java.util.Iterator;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+
+import com.nomagic.magicdraw.core.Project;
+import com.nomagic.magicdraw.uml.BaseElement;
+import com.nomagic.magicdraw.uml.Finder;
+
+/**
+ * <p>Caches the resolution of hyperlinks and resource-based IDs (e.g. the
+ * {@code nsURI#fragment} IDs used for metamodel objects such as the values of
+ * {@code eClass} or {@code eContainingFeature}).</p>
+ *
+ * <p>Resolved elements are tied to the project they were resolved in: the cache
+ * is cleared when a different project is used, or when {@link #clear()} is called
+ * (e.g. after the project is closed). Hyperlink entries are also dropped when the
+ * element they point to (or one of its containers) is deleted, and they are
+ * validated before being reused, in case they were removed in some other way
+ * (e.g. by cancelling a session).</p>
+ *
+ * <p>The IDs of metamodel objects are computed once and reused until the project
+ * changes, as profiles are part of the metamodel and differ across projects. Those IDs are also
+ * registered for the reverse lookup, so resolving an ID produced by the server
+ * does not need to go through the package registry.</p>
+ */
+public class ResolutionCache {
+
+	/**
+	 * Resolutions for one project. Changing the project swaps the whole state
+	 * at once, so lookups running at the same time never mix up the entries of
+	 * different projects: those that started with the old state keep using it,
+	 * and their entries are dropped with it.
+	 */
+	private static class State {
+		final Project project;
+		final ConcurrentMap<String, EObject> hyperlinks = new ConcurrentHashMap<>();
+		final ConcurrentMap<String, EObject> resourceBasedIDs = new ConcurrentHashMap<>();
+		final ConcurrentMap<EObject, String> metamodelIDs = new ConcurrentHashMap<>();
+
+		State(Project project) {
+			this.project = project;
+		}
+	}
+
+	private volatile State state = new State(null);
+
+	/**
+	 * Returns the element with the given hyperlink in the project, or {@code null}
+	 * if it cannot be found.
+	 */
+	public BaseElement findByHyperlink(Project project, String hyperlink) {
+		final State state = checkProject(project);
+
+		final EObject cached = state.hyperlinks.get(hyperlink);
+		if (cached instanceof BaseElement && !((BaseElement) cached).isInvalid()) {
+			return (BaseElement) cached;
+		}
+
+		final BaseElement element = Finder.byHyperlink().find(project, hyperlink);
+		if (element instanceof EObject) {
+			state.hyperlinks.put(hyperlink, (EObject) element);
+		} else {
+			state.hyperlinks.remove(hyperlink);
+		}
+		return element;
+	}
+
+	/**
+	 * Returns the object with the given resource-based ID, using the provided
+	 * decoder on a cache miss. Returns {@code null} if it cannot be found.
+	 */
+	public EObject findByResourceBasedID(Project project, String id, ValueDecoder decoder) {
+		final State state = checkProject(project);
+
+		EObject eob = state.resourceBasedIDs.get(id);
+		if (eob == null) {
+			eob = decoder.lookupResourceBasedID(project, id);
+			if (eob != null) {
+				state.resourceBasedIDs.put(id, eob);
+			}
+		}
+		return eob;
+	}
+
+	/**
+	 * Returns the precomputed resource-based ID for an object which is not an
+	 * element of the project (e.g. an {@code EClass}), computing it if needed.
+	 */
+	public String getResourceBasedID(EObject eob) {
+		final State state = this.state;
+
+		String id = state.metamodelIDs.get(eob);
+		if (id == null) {
+			final Resource eResource = eob.eResource();
+			id = String.format("%s#%s", eResource.getURI(), eResource.getURIFragment(eob));
+			state.metamodelIDs.put(eob, id);
+			state.resourceBasedIDs.putIfAbsent(id, eob);
+		}
+		return id;
+	}
+
+	/**
+	 * Drops any hyperlinks resolving to the deleted element or its contents.
+	 */
+	public void elementDeleted(EObject deleted) {
+		for (Iterator<Entry<String, EObject>> it = state.hyperlinks.entrySet().iterator(); it.hasNext(); ) {
+			if (EcoreUtil.isAncestor(deleted, it.next().getValue())) {
+				it.remove();
+			}
+		}
+	}
+
+	/**
+	 * Drops all the resolutions that depend on the current project.
+	 */
+	public synchronized void clear() {
+		state = new State(null);
+	}
+
+	private State checkProject(Project project) {
+		State current = state;
+		if (current.project != project) {
+			synchronized (this) {
+				current = state;
+				if (current.project != project) {
+					current = new State(project);
+					state = current;
+				}
+			}
+		}
+		return current;
+	}
+
+}
@@ -33,6 +33,12 @@ import com.nomagic.magicdraw.foundation.MDObject;
  */
 public class ValueDecoder {
 
+	private final ResolutionCache resolutions;
+
+	public ValueDecoder(ResolutionCache resolutions) {
+		this.resolutions = resolutions;
+	}
+
 	public Object decode(Project project, EStructuralFeature targetFeature, Value value) {
 		// TODO need to add all possible options
 
@@ -93,7 +99,11 @@ public class ValueDecoder {
 	}
 
 	private Object decode(Project project, final ModelElement elem) {
-		return project.getElementByID(elem.getElementID());
+		final String id = elem.getElementID();
+		if (isResourceBasedID(id)) {
+			return findByResourceBasedID(project, id);
+		}
+		return project.getElementByID(id);
 	}
 
 	public boolean isResourceBasedID(String id) {
@@ -101,6 +111,10 @@ public class ValueDecoder {
 	}
 
 	public EObject findByResourceBasedID(Project project, String id) {
+		return resolutions.findByResourceBasedID(project, id, this);
+	}
+
+	EObject lookupResourceBasedID(Project project, String id) {
 		String[] parts = id.split("#", 2);
 		if (parts.length != 2) {
 			throw new IllegalArgumentException(String.format("Could not split '%s' into 2 using separator #", id));
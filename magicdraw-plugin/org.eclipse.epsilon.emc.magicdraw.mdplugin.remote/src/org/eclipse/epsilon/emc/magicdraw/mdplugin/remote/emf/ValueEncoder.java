@@ -12,6 +12,8 @@ package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf;
 
 import static org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ModelUtils.getFullyQualifiedName;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.eclipse.emf.common.util.Enumerator;
@@ -20,11 +22,12 @@ import org.eclipse.emf.ecore.EAttribute;
 import org.eclipse.emf.ecore.EClassifier;
 import org.eclipse.emf.ecore.EObject;
 import org.eclipse.emf.ecore.EStructuralFeature;
-import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent;
 import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
 
 import com.nomagic.magicdraw.foundation.MDObject;
@@ -34,6 +37,12 @@ import com.nomagic.magicdraw.foundation.MDObject;
  */
 public class ValueEncoder {
 
+	private final ResolutionCache resolutions;
+
+	public ValueEncoder(ResolutionCache resolutions) {
+		this.resolutions = resolutions;
+	}
+
 	/**
 	 * Encodes a single value for a given feature. For many-valued features,
 	 * it assumes that the {@code rawValue} is an element of the list.
@@ -78,6 +87,25 @@ public class ValueEncoder {
 		}
 	}
 
+	/**
+	 * Encodes a value which is not associated to any feature (e.g. the result of a
+	 * script). {@code null} is encoded as a value which is not set.
+	 *
+	 * @throws IllegalArgumentException The value is not a scalar or an {@link EObject}.
+	 */
+	public void encodeValue(Value.Builder vBuilder, final Object rawValue) {
+		if (rawValue == null) {
+			return;
+		} else if (rawValue instanceof EObject) {
+			encodeReference(vBuilder, (EObject) rawValue);
+		} else if (rawValue instanceof Number || rawValue instanceof String
+				|| rawValue instanceof Boolean || rawValue instanceof Enumerator) {
+			encodeScalarAttribute(vBuilder, rawValue);
+		} else {
+			throw new IllegalArgumentException(String.format("Cannot encode values of type %s", rawValue.getClass().getName()));
+		}
+	}
+
 	public void encodeReference(Value.Builder vBuilder, final EObject rawValue) {
 		vBuilder.setReferenceValue(encode(rawValue));
 	}
@@ -94,35 +122,77 @@ public class ValueEncoder {
 			return ((MDObject) eob).getID();
 		} else {
 			/* For non-MDObject instances (e.g. the .eClass / .eContainingFeature), we
-			 * take advantage of the fact that the resource URI matches the EPackage URI. */
-			final Resource eResource = eob.eResource();
-			return String.format("%s#%s", eob.eResource().getURI(), eResource.getURIFragment(eob));
+			 * take advantage of the fact that the resource URI matches the EPackage URI.
+			 * These IDs are computed once and then reused. */
+			return resolutions.getResourceBasedID(eob);
 		}
 	}
 
 	public ModelElementCollection encodeAllOf(EClassifier eClassifier, EObject root, final boolean onlyExactType) {
+		return encodeAllOf(eClassifier, root, onlyExactType, null);
+	}
+
+	/**
+	 * Variant of {@link #encodeAllOf(EClassifier, EObject, boolean)} which only
+	 * encodes the elements that also match {@code filter}, if not {@code null}.
+	 */
+	public ModelElementCollection encodeAllOf(EClassifier eClassifier, EObject root, final boolean onlyExactType, Predicate<EObject> filter) {
 		// TODO Should we use a proxy list for Type.all as well?
 		final ModelElementCollection.Builder builder = ModelElementCollection.newBuilder();
 		final TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true);
+		final Predicate<EObject> pred = ModelUtils.extentFilter(eClassifier, onlyExactType, filter);
 
-		Predicate<EObject> pred;
-		if (eClassifier == null) {
-			pred = (eob) -> eob instanceof MDObject;
-		}
-		else if (onlyExactType) {
-			pred = (eob) -> eob instanceof MDObject && eob.eClass() == eClassifier;
+		while (it.hasNext()) {
+			EObject eob = it.next();
+			if (pred.test(eob)) {
+				builder.addValues(encode((MDObject) eob));
+			}
 		}
-		else {
-			pred = (eob) -> eob instanceof MDObject && eClassifier.isInstance(eob);
+
+		return builder.build();
+	}
+
+	/**
+	 * Encodes the extents of several types at once, with a single traversal of the
+	 * contents of {@code root}. Elements matching more than one type are only
+	 * encoded once: each extent lists the positions of its elements.
+	 */
+	public ExtentCollection encodeAllOfMany(List<String> typeNames, List<EClassifier> eClassifiers, EObject root) {
+		final ModelElementCollection.Builder elements = ModelElementCollection.newBuilder();
+		final List<TypeExtent.Builder> extents = new ArrayList<>(eClassifiers.size());
+		for (String typeName : typeNames) {
+			extents.add(TypeExtent.newBuilder().setTypeName(typeName));
 		}
 
+		final TreeIterator<EObject> it = EcoreUtil.getAllProperContents(root, true);
 		while (it.hasNext()) {
 			EObject eob = it.next();
-			if (pred.test(eob)) {
-				builder.addValues(encode((MDObject) eob));
+			if (!(eob instanceof MDObject)) {
+				continue;
+			}
+
+			int position = -1;
+			for (int i = 0; i < eClassifiers.size(); i++) {
+				final EClassifier eClassifier = eClassifiers.get(i);
+				if (eClassifier.isInstance(eob)) {
+					if (position < 0) {
+						position = elements.getValuesCount();
+						elements.addValues(encode(eob));
+					}
+
+					final TypeExtent.Builder extent = extents.get(i);
+					extent.addKindIndices(position);
+					if (eob.eClass() == eClassifier) {
+						extent.addTypeIndices(position);
+					}
+				}
 			}
 		}
 
+		final ExtentCollection.Builder builder = ExtentCollection.newBuilder().setElements(elements);
+		for (TypeExtent.Builder extent : extents) {
+			builder.addExtents(extent);
+		}
 		return builder.build();
 	}
 
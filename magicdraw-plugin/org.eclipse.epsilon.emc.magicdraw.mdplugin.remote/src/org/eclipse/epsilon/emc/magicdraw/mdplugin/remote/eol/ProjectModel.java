@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol;
+
+import static org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ModelUtils.getFullyQualifiedName;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EClassifier;
+import org.eclipse.emf.ecore.EEnum;
+import org.eclipse.emf.ecore.EEnumLiteral;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.FeatureResolver;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ModelUtils;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ValueDecoder;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.ValueEncoder;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.exceptions.models.EolEnumerationValueNotFoundException;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelElementTypeNotFoundException;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.eclipse.epsilon.eol.exceptions.models.EolNotInstantiableModelElementTypeException;
+import org.eclipse.epsilon.eol.execute.operations.contributors.IOperationContributorProvider;
+import org.eclipse.epsilon.eol.execute.operations.contributors.OperationContributor;
+import org.eclipse.epsilon.eol.models.CachedModel;
+
+import com.nomagic.magicdraw.core.Project;
+
+/**
+ * <p>Read-only EMC model over the project opened in MagicDraw, used to run EOL
+ * scripts sent by the client inside MagicDraw (see {@link ScriptRunner}).</p>
+ *
+ * <p>Types are looked up in the same way as in the rest of the API, and
+ * {@code X.all} is limited to the proper contents of the root element given
+ * to the constructor.</p>
+ *
+ * <p>Scripts run outside of any session, and may run on a replica of the
+ * project, so the model rejects any change: elements cannot be created or
+ * deleted, features cannot be set (see {@link ReadOnlyPropertySetter}), and
+ * only reading methods can be called on elements (see
+ * {@link ReadOnlyOperationContributor}).</p>
+ */
+public class ProjectModel extends CachedModel<EObject> implements IOperationContributorProvider {
+
+	private final Project project;
+	private final EObject root;
+	private final ValueEncoder encoder;
+	private final ValueDecoder decoder;
+	private final Function<String, Collection<EClassifier>> typeResolver;
+	private final OperationContributor operationContributor = new ReadOnlyOperationContributor();
+
+	public ProjectModel(Project project, EObject root, FeatureResolver features, ValueEncoder encoder,
+			ValueDecoder decoder, Function<String, Collection<EClassifier>> typeResolver) {
+		this.project = project;
+		this.root = root;
+		this.encoder = encoder;
+		this.decoder = decoder;
+		this.typeResolver = typeResolver;
+		this.propertyGetter = new ProjectPropertyGetter(features);
+		this.propertySetter = new ReadOnlyPropertySetter();
+	}
+
+	@Override
+	public OperationContributor getOperationContributor() {
+		return operationContributor;
+	}
+
+	@Override
+	protected void loadModel() throws EolModelLoadingException {
+		// Nothing to do: the project is already open in MagicDraw
+	}
+
+	@Override
+	protected void disposeModel() {
+		// Nothing to do: the project stays open in MagicDraw
+	}
+
+	@Override
+	public Object getEnumerationValue(String enumeration, String label) throws EolEnumerationValueNotFoundException {
+		for (EClassifier eClassifier : typeResolver.apply(enumeration)) {
+			if (eClassifier instanceof EEnum) {
+				EEnumLiteral literal = ((EEnum) eClassifier).getEEnumLiteral(label);
+				if (literal != null) {
+					// Same value as returned by eGet for enumeration-typed features
+					return literal.getInstance();
+				}
+			}
+		}
+		throw new EolEnumerationValueNotFoundException(enumeration, label, getName());
+	}
+
+	@Override
+	public String getTypeNameOf(Object instance) {
+		return getFullyQualifiedName(((EObject) instance).eClass());
+	}
+
+	@Override
+	public Object getElementById(String id) {
+		if (decoder.isResourceBasedID(id)) {
+			return decoder.findByResourceBasedID(project, id);
+		}
+		return project.getElementByID(id);
+	}
+
+	@Override
+	public String getElementId(Object instance) {
+		return encoder.encodeID((EObject) instance);
+	}
+
+	@Override
+	public void setElementId(Object instance, String newId) {
+		throw new UnsupportedOperationException("Cannot change IDs for MagicDraw objects");
+	}
+
+	@Override
+	public boolean owns(Object instance) {
+		/*
+		 * This is the only model in the script, and metamodel elements (e.g. the
+		 * result of .eClass()) should also go through our property getter.
+		 */
+		return instance instanceof EObject;
+	}
+
+	@Override
+	public boolean isLoaded() {
+		return true;
+	}
+
+	@Override
+	public boolean isInstantiable(String type) {
+		return false;
+	}
+
+	@Override
+	public boolean hasType(String type) {
+		return !typeResolver.apply(type).isEmpty();
+	}
+
+	@Override
+	public boolean store() {
+		return false;
+	}
+
+	@Override
+	public boolean store(String location) {
+		throw new UnsupportedOperationException("Models in remote scripts cannot be stored");
+	}
+
+	@Override
+	protected Collection<EObject> allContentsFromModel() {
+		return ModelUtils.select(root, ModelUtils.extentFilter(null, false, null));
+	}
+
+	@Override
+	protected Collection<EObject> getAllOfTypeFromModel(String type) throws EolModelElementTypeNotFoundException {
+		return ModelUtils.select(root, ModelUtils.extentFilter(findType(type), true, null));
+	}
+
+	@Override
+	protected Collection<EObject> getAllOfKindFromModel(String kind) throws EolModelElementTypeNotFoundException {
+		return ModelUtils.select(root, ModelUtils.extentFilter(findType(kind), false, null));
+	}
+
+	@Override
+	protected EObject createInstanceInModel(String type)
+			throws EolModelElementTypeNotFoundException, EolNotInstantiableModelElementTypeException {
+		throw new EolNotInstantiableModelElementTypeException(getName(), type);
+	}
+
+	@Override
+	protected boolean deleteElementInModel(Object instance) throws EolRuntimeException {
+		throw new EolRuntimeException("Models in remote scripts are read-only");
+	}
+
+	@Override
+	protected Object getCacheKeyForType(String type) throws EolModelElementTypeNotFoundException {
+		return getFullyQualifiedName(findType(type));
+	}
+
+	@Override
+	protected Collection<String> getAllTypeNamesOf(Object instance) {
+		if (!(instance instanceof EObject)) {
+			return Collections.emptyList();
+		}
+
+		final EClass eClass = ((EObject) instance).eClass();
+		final List<String> typeNames = new ArrayList<>();
+		typeNames.add(getFullyQualifiedName(eClass));
+		for (EClass supertype : eClass.getEAllSuperTypes()) {
+			typeNames.add(getFullyQualifiedName(supertype));
+		}
+		return typeNames;
+	}
+
+	private EClassifier findType(String type) throws EolModelElementTypeNotFoundException {
+		final Collection<EClassifier> options = typeResolver.apply(type);
+		if (options.isEmpty()) {
+			throw new EolModelElementTypeNotFoundException(getName(), type);
+		}
+		return options.iterator().next();
+	}
+
+}
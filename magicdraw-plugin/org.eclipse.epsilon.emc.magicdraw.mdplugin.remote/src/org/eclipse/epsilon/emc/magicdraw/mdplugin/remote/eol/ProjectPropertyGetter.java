@@ -0,0 +1,56 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol;
+
+import org.eclipse.emf.ecore.EAttribute;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.emf.FeatureResolver;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.introspection.java.JavaPropertyGetter;
+
+/**
+ * Reads the features of MagicDraw objects in the same way as {@code getFeatureValue}
+ * in the service, falling back to regular Java introspection for anything else
+ * (e.g. {@code eContainer}). Collections are returned as read-only views.
+ */
+public class ProjectPropertyGetter extends JavaPropertyGetter {
+
+	private final FeatureResolver features;
+
+	public ProjectPropertyGetter(FeatureResolver features) {
+		this.features = features;
+	}
+
+	@Override
+	public Object invoke(Object object, String property, IEolContext context) throws EolRuntimeException {
+		if (object instanceof EObject) {
+			final EObject eob = (EObject) object;
+			final EStructuralFeature eFeature = features.getFeature(eob, property);
+			if (eFeature != null) {
+				Object value = eob.eGet(eFeature);
+				if (value == null && eFeature instanceof EAttribute) {
+					// See getFeatureValue in the service for why this is needed
+					try {
+						value = features.invokeGetter(eob, eFeature);
+					} catch (Exception e) {
+						// No getter available: the value is null
+					}
+				}
+				return ReadOnlyOperationContributor.readOnly(value);
+			}
+		}
+
+		return ReadOnlyOperationContributor.readOnly(super.invoke(object, property, context));
+	}
+
+}
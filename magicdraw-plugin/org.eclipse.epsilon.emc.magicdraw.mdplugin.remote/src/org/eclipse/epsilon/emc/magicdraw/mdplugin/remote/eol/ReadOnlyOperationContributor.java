@@ -0,0 +1,141 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol;
+
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.emf.common.util.ECollections;
+import org.eclipse.emf.common.util.EList;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.epsilon.common.module.ModuleElement;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.introspection.java.ObjectMethod;
+import org.eclipse.epsilon.eol.execute.operations.contributors.OperationContributor;
+
+/**
+ * <p>Limits the Java methods that scripts can call on MagicDraw objects to
+ * those which only read from them, so scripts cannot change the project
+ * through methods such as {@code setName} or {@code eSet}.</p>
+ *
+ * <p>Reading methods are recognised by their names ({@code getX}, {@code isX},
+ * {@code hasX}, {@code canX} and the reading methods of {@link EObject}).
+ * Collections returned by them are wrapped or copied so they cannot be used
+ * to change the project either.</p>
+ */
+public class ReadOnlyOperationContributor extends OperationContributor {
+
+	private static final Set<String> READ_ONLY_METHODS = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+		"eAllContents", "eClass", "eContainer", "eContainingFeature", "eContainmentFeature", "eContents",
+		"eCrossReferences", "eGet", "eIsProxy", "eIsSet", "eResource", "equals", "hashCode", "toString")));
+
+	private static final List<String> READ_ONLY_PREFIXES = Arrays.asList("get", "is", "has", "can");
+
+	@Override
+	public boolean contributesTo(Object target) {
+		return target instanceof EObject;
+	}
+
+	@Override
+	public ObjectMethod findContributedMethodForEvaluatedParameters(Object target, String name, Object[] args,
+			IEolContext context, boolean overrideContextOperationParameters) {
+		if (!contributesTo(target)) {
+			return null;
+		}
+		if (!isReadOnly(name)) {
+			return new RejectedMethod(target, name);
+		}
+
+		final ObjectMethod method = context.getOperationContributorRegistry()
+			.findContributedMethodForEvaluatedParameters(target, name, args, context);
+		return method == null ? null : new ReadOnlyResultMethod(method);
+	}
+
+	/**
+	 * Protects collections from changes made by the script (e.g. to the live
+	 * lists returned by {@link EObject#eGet(org.eclipse.emf.ecore.EStructuralFeature)}).
+	 * EMF lists are wrapped in unmodifiable views, and other collections are
+	 * copied: the unmodifiable views from {@link Collections} are private JDK
+	 * classes, whose methods cannot be called reflectively from scripts in
+	 * recent versions of Java.
+	 */
+	public static Object readOnly(Object value) {
+		if (value instanceof EList) {
+			return ECollections.unmodifiableEList((EList<?>) value);
+		} else if (value instanceof Set) {
+			return new LinkedHashSet<>((Set<?>) value);
+		} else if (value instanceof Collection) {
+			return new ArrayList<>((Collection<?>) value);
+		}
+		return value;
+	}
+
+	private static boolean isReadOnly(String name) {
+		if (READ_ONLY_METHODS.contains(name)) {
+			return true;
+		}
+		for (String prefix : READ_ONLY_PREFIXES) {
+			if (name.length() > prefix.length() && name.startsWith(prefix)
+					&& Character.isUpperCase(name.charAt(prefix.length()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static class RejectedMethod extends ObjectMethod {
+		private final String name;
+
+		public RejectedMethod(Object target, String name) {
+			super(target);
+			this.name = name;
+		}
+
+		@Override
+		public Object execute(ModuleElement moduleElement, IEolContext context, Object... parameters) throws EolRuntimeException {
+			throw new EolRuntimeException(String.format(
+				"Cannot call '%s': models in remote scripts are read-only", name), moduleElement);
+		}
+
+		@Override
+		public Object execute(Object[] parameters, ModuleElement moduleElement) throws EolRuntimeException {
+			return execute(moduleElement, null, parameters);
+		}
+	}
+
+	private static class ReadOnlyResultMethod extends ObjectMethod {
+		private final ObjectMethod delegate;
+
+		public ReadOnlyResultMethod(ObjectMethod delegate) {
+			super(delegate.getObject(), delegate.getMethod());
+			this.delegate = delegate;
+		}
+
+		@Override
+		public Object execute(ModuleElement moduleElement, IEolContext context, Object... parameters) throws EolRuntimeException {
+			return readOnly(delegate.execute(moduleElement, context, parameters));
+		}
+
+		@Override
+		public Object execute(Object[] parameters, ModuleElement moduleElement) throws EolRuntimeException {
+			return readOnly(delegate.execute(parameters, moduleElement));
+		}
+	}
+
+}
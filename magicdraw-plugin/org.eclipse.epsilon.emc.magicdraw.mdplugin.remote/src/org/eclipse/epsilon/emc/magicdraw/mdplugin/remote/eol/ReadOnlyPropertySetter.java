@@ -0,0 +1,30 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol;
+
+
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.introspection.AbstractPropertySetter;
+
+/**
+ * Rejects all assignments to the features of MagicDraw objects: scripts run
+ * outside of any session, and may run on a replica of the project.
+ */
+public class ReadOnlyPropertySetter extends AbstractPropertySetter {
+
+	@Override
+	public void invoke(Object target, String property, Object value, IEolContext context) throws EolRuntimeException {
+		throw new EolRuntimeException(String.format(
+			"Cannot set '%s': models in remote scripts are read-only", property));
+	}
+
+}
@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.mdplugin.remote.eol;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.epsilon.common.module.ModuleElement;
+import org.eclipse.epsilon.eol.EolModule;
+import org.eclipse.epsilon.eol.exceptions.EolRuntimeException;
+import org.eclipse.epsilon.eol.execute.context.IEolContext;
+import org.eclipse.epsilon.eol.execute.context.Variable;
+import org.eclipse.epsilon.eol.execute.control.IExecutionListener;
+
+/**
+ * <p>Runs EOL scripts against a {@link ProjectModel}, within a time limit.</p>
+ *
+ * <p>The time limit and cancellation are checked before each statement and
+ * expression is executed, so a single long-running call into MagicDraw will
+ * not be interrupted.</p>
+ */
+public class ScriptRunner {
+
+	/** System property with the default time limit for scripts, in milliseconds. */
+	public static final String PROPERTY_DEFAULT_TIMEOUT = "epsilon.emc.magicdraw.script.timeout";
+
+	public static final long DEFAULT_TIMEOUT_MILLIS = 60_000;
+
+	/**
+	 * Thrown when a script cannot be parsed.
+	 */
+	public static class ScriptParseException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public ScriptParseException(String problems) {
+			super(problems);
+		}
+	}
+
+	/**
+	 * Thrown when a script does not finish within its time limit.
+	 */
+	public static class ScriptTimeoutException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public ScriptTimeoutException(long timeoutMillis) {
+			super(String.format("Script did not finish within %d ms", timeoutMillis));
+		}
+	}
+
+	/**
+	 * Thrown when a script is cancelled by the client.
+	 */
+	public static class ScriptCancelledException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		public ScriptCancelledException() {
+			super("Script was cancelled");
+		}
+	}
+
+	private final long defaultTimeoutMillis;
+
+	public ScriptRunner() {
+		this(Long.getLong(PROPERTY_DEFAULT_TIMEOUT, DEFAULT_TIMEOUT_MILLIS));
+	}
+
+	public ScriptRunner(long defaultTimeoutMillis) {
+		this.defaultTimeoutMillis = defaultTimeoutMillis;
+	}
+
+	/**
+	 * Parses and runs a script, returning the value from its top-level
+	 * {@code return} statement (if any).
+	 *
+	 * @param script EOL program to be run.
+	 * @param parameters Values for global variables in the program.
+	 * @param model Model to be used by the program.
+	 * @param timeoutMillis Time limit in milliseconds, or 0 to use the default time limit.
+	 * @param isCancelled Checked while running the script: if it returns {@code true}, the script is stopped.
+	 *
+	 * @throws ScriptParseException The script could not be parsed.
+	 * @throws ScriptTimeoutException The script did not finish within the time limit.
+	 * @throws ScriptCancelledException The script was cancelled.
+	 * @throws EolRuntimeException The script failed for another reason.
+	 */
+	public Object run(String script, Map<String, Object> parameters, ProjectModel model, long timeoutMillis, BooleanSupplier isCancelled) throws Exception {
+		final EolModule module = new EolModule();
+		if (!module.parse(script)) {
+			throw new ScriptParseException(module.getParseProblems().stream()
+				.map(Object::toString)
+				.collect(Collectors.joining("\n")));
+		}
+
+		final long effectiveTimeout = timeoutMillis > 0 ? timeoutMillis : defaultTimeoutMillis;
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(effectiveTimeout);
+
+		final IEolContext context = module.getContext();
+		context.getModelRepository().addModel(model);
+		for (Entry<String, Object> entry : parameters.entrySet()) {
+			context.getFrameStack().putGlobal(Variable.createReadOnlyVariable(entry.getKey(), entry.getValue()));
+		}
+		context.getExecutorFactory().addExecutionListener(new IExecutionListener() {
+			@Override
+			public void aboutToExecute(ModuleElement ast, IEolContext context) {
+				if (isCancelled.getAsBoolean()) {
+					throw new ScriptCancelledException();
+				} else if (System.nanoTime() - deadline > 0) {
+					throw new ScriptTimeoutException(effectiveTimeout);
+				}
+			}
+
+			@Override
+			public void finishedExecuting(ModuleElement ast, Object result, IEolContext context) {
+				// nothing to do
+			}
+
+			@Override
+			public void finishedExecutingWithException(ModuleElement ast, EolRuntimeException exception, IEolContext context) {
+				// nothing to do
+			}
+		});
+
+		try {
+			return module.execute();
+		} catch (EolRuntimeException ex) {
+			// Epsilon wraps exceptions from listeners: report the original cause instead
+			for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+				if (cause instanceof ScriptTimeoutException || cause instanceof ScriptCancelledException) {
+					throw (RuntimeException) cause;
+				}
+			}
+			throw ex;
+		} finally {
+			// Disposing the ProjectModel leaves the project as is
+			context.dispose();
+		}
+	}
+
+}
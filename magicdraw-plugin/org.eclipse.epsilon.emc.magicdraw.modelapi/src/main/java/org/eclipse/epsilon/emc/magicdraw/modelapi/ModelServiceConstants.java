@@ -15,7 +15,13 @@ public interface ModelServiceConstants {
 	int DEFAULT_PORT = 8123;
 	String DEFAULT_HOST = "localhost";
 
+	/** Name of the in-process server that the MagicDraw plugin registers for drivers running in the same JVM. */
+	String IN_PROCESS_SERVER_NAME = "epsilon-emc-magicdraw";
+
 	String REASON_CANNOT_FIND_TYPE = "type-not-found";
 	String REASON_CANNOT_INSTANTIATE_TYPE = "type-not-instantiable";
 
+	/** Key of the ErrorInfo metadata entry with the name of the type that caused the error. */
+	String METADATA_TYPE_NAME = "typeName";
+
 }
@@ -0,0 +1,130 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+import java.net.InetSocketAddress;
+
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.NettyChannelBuilder;
+import io.grpc.netty.NettyServerBuilder;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * <p>Creates the gRPC servers and channels between Epsilon and MagicDraw, so
+ * both sides use the same transport.</p>
+ *
+ * <p>By default, they use plaintext TCP. If a socket path is given and Netty's
+ * native epoll transport is available (i.e. on Linux), they use a Unix domain
+ * socket at that path instead, which avoids the TCP loopback stack when both
+ * sides are on the same host. Elsewhere, they fall back to TCP: use
+ * {@link #usesDomainSocket(String)} to tell which one will be used.</p>
+ *
+ * <p>Drivers running inside the MagicDraw JVM can use an in-process channel
+ * instead (see {@link #newInProcessChannelBuilder()}). This skips the network
+ * and the serialization of messages: they are handed over as Java objects.</p>
+ */
+public final class ModelServiceTransports {
+
+	private static EventLoopGroup epollGroup;
+
+	private ModelServiceTransports() {
+		// Only static methods
+	}
+
+	/**
+	 * Returns {@code true} if Unix domain sockets can be used on this platform.
+	 * Returns {@code false} as well if the epoll classes from Netty are not in
+	 * the classpath, so the TCP transport can still be used.
+	 */
+	public static boolean isDomainSocketAvailable() {
+		try {
+			return Epoll.isAvailable();
+		} catch (LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the servers and channels created for the given
+	 * socket path will use a Unix domain socket, or {@code false} if they will
+	 * use TCP (because no path was given, or domain sockets are not available).
+	 */
+	public static boolean usesDomainSocket(String socketPath) {
+		return socketPath != null && !socketPath.trim().isEmpty() && isDomainSocketAvailable();
+	}
+
+	/**
+	 * Returns a builder for a server listening on the domain socket at
+	 * {@code socketPath}, or on {@code host:port} if it should use TCP.
+	 */
+	public static NettyServerBuilder newServerBuilder(String host, int port, String socketPath) {
+		if (usesDomainSocket(socketPath)) {
+			return NettyServerBuilder.forAddress(new DomainSocketAddress(socketPath.trim()))
+				.channelType(EpollServerDomainSocketChannel.class)
+				.bossEventLoopGroup(getEpollGroup())
+				.workerEventLoopGroup(getEpollGroup());
+		}
+		return NettyServerBuilder.forAddress(new InetSocketAddress(host, port));
+	}
+
+	/**
+	 * Returns a builder for a plaintext channel to the domain socket at
+	 * {@code socketPath}, or to {@code host:port} if it should use TCP.
+	 */
+	public static NettyChannelBuilder newChannelBuilder(String host, int port, String socketPath) {
+		if (usesDomainSocket(socketPath)) {
+			return NettyChannelBuilder.forAddress(new DomainSocketAddress(socketPath.trim()))
+				.channelType(EpollDomainSocketChannel.class)
+				.eventLoopGroup(getEpollGroup())
+				.usePlaintext();
+		}
+		return NettyChannelBuilder.forAddress(new InetSocketAddress(host, port)).usePlaintext();
+	}
+
+	/**
+	 * Returns a builder for the in-process server which the MagicDraw plugin
+	 * registers under {@link ModelServiceConstants#IN_PROCESS_SERVER_NAME}.
+	 * Calls start on the thread of the client, which is expected to hand them
+	 * over to other threads quickly if needed.
+	 */
+	public static InProcessServerBuilder newInProcessServerBuilder() {
+		return InProcessServerBuilder.forName(ModelServiceConstants.IN_PROCESS_SERVER_NAME).directExecutor();
+	}
+
+	/**
+	 * Returns a builder for a channel to the in-process server of the MagicDraw
+	 * plugin. This only works from the same JVM as MagicDraw, and with the same
+	 * gRPC classes as the plugin (i.e. from a class loader which delegates to
+	 * that of the plugin).
+	 */
+	public static InProcessChannelBuilder newInProcessChannelBuilder() {
+		return InProcessChannelBuilder.forName(ModelServiceConstants.IN_PROCESS_SERVER_NAME).directExecutor();
+	}
+
+	/**
+	 * Returns the event loops shared by all the domain socket servers and
+	 * channels. They run on daemon threads, and live as long as the JVM does.
+	 */
+	private static synchronized EventLoopGroup getEpollGroup() {
+		if (epollGroup == null) {
+			epollGroup = new EpollEventLoopGroup(0, new DefaultThreadFactory("epsilon-emc-epoll", true));
+		}
+		return epollGroup;
+	}
+
+}
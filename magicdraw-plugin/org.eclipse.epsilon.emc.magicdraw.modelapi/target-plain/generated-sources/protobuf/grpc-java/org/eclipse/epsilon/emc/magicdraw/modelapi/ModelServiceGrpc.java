@@ -0,0 +1,3265 @@
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+import static io.grpc.MethodDescriptor.generateFullMethodName;
+
+/**
+ */
+@javax.annotation.Generated(
+    value = "by gRPC proto compiler (version 1.47.0)",
+    comments = "Source: ModelService.proto")
+@io.grpc.stub.annotations.GrpcGenerated
+public final class ModelServiceGrpc {
+
+  private ModelServiceGrpc() {}
+
+  public static final String SERVICE_NAME = "org.eclipse.epsilon.emc.magicdraw.modelapi.ModelService";
+
+  // Static method descriptors that strictly reflect the proto.
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getPingMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "ping",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getPingMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getPingMethod;
+    if ((getPingMethod = ModelServiceGrpc.getPingMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getPingMethod = ModelServiceGrpc.getPingMethod) == null) {
+          ModelServiceGrpc.getPingMethod = getPingMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "ping"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("ping"))
+              .build();
+        }
+      }
+    }
+    return getPingMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getAllOfMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "allOf",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getAllOfMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getAllOfMethod;
+    if ((getAllOfMethod = ModelServiceGrpc.getAllOfMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getAllOfMethod = ModelServiceGrpc.getAllOfMethod) == null) {
+          ModelServiceGrpc.getAllOfMethod = getAllOfMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "allOf"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("allOf"))
+              .build();
+        }
+      }
+    }
+    return getAllOfMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection> getAllOfManyMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "allOfMany",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection> getAllOfManyMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection> getAllOfManyMethod;
+    if ((getAllOfManyMethod = ModelServiceGrpc.getAllOfManyMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getAllOfManyMethod = ModelServiceGrpc.getAllOfManyMethod) == null) {
+          ModelServiceGrpc.getAllOfManyMethod = getAllOfManyMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "allOfMany"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("allOfMany"))
+              .build();
+        }
+      }
+    }
+    return getAllOfManyMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetElementByIDMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getElementByID",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetElementByIDMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetElementByIDMethod;
+    if ((getGetElementByIDMethod = ModelServiceGrpc.getGetElementByIDMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetElementByIDMethod = ModelServiceGrpc.getGetElementByIDMethod) == null) {
+          ModelServiceGrpc.getGetElementByIDMethod = getGetElementByIDMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getElementByID"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getElementByID"))
+              .build();
+        }
+      }
+    }
+    return getGetElementByIDMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> getGetEnumerationValueMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getEnumerationValue",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> getGetEnumerationValueMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> getGetEnumerationValueMethod;
+    if ((getGetEnumerationValueMethod = ModelServiceGrpc.getGetEnumerationValueMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetEnumerationValueMethod = ModelServiceGrpc.getGetEnumerationValueMethod) == null) {
+          ModelServiceGrpc.getGetEnumerationValueMethod = getGetEnumerationValueMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getEnumerationValue"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getEnumerationValue"))
+              .build();
+        }
+      }
+    }
+    return getGetEnumerationValueMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection> getGetEnumerationValuesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getEnumerationValues",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection> getGetEnumerationValuesMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection> getGetEnumerationValuesMethod;
+    if ((getGetEnumerationValuesMethod = ModelServiceGrpc.getGetEnumerationValuesMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetEnumerationValuesMethod = ModelServiceGrpc.getGetEnumerationValuesMethod) == null) {
+          ModelServiceGrpc.getGetEnumerationValuesMethod = getGetEnumerationValuesMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getEnumerationValues"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getEnumerationValues"))
+              .build();
+        }
+      }
+    }
+    return getGetEnumerationValuesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getGetFeatureValueMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getFeatureValue",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Value.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getGetFeatureValueMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getGetFeatureValueMethod;
+    if ((getGetFeatureValueMethod = ModelServiceGrpc.getGetFeatureValueMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetFeatureValueMethod = ModelServiceGrpc.getGetFeatureValueMethod) == null) {
+          ModelServiceGrpc.getGetFeatureValueMethod = getGetFeatureValueMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getFeatureValue"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getFeatureValue"))
+              .build();
+        }
+      }
+    }
+    return getGetFeatureValueMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult> getGetFeatureValuesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getFeatureValues",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult> getGetFeatureValuesMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult> getGetFeatureValuesMethod;
+    if ((getGetFeatureValuesMethod = ModelServiceGrpc.getGetFeatureValuesMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetFeatureValuesMethod = ModelServiceGrpc.getGetFeatureValuesMethod) == null) {
+          ModelServiceGrpc.getGetFeatureValuesMethod = getGetFeatureValuesMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getFeatureValues"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getFeatureValues"))
+              .build();
+        }
+      }
+    }
+    return getGetFeatureValuesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType> getGetTypeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getType",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType> getGetTypeMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType> getGetTypeMethod;
+    if ((getGetTypeMethod = ModelServiceGrpc.getGetTypeMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetTypeMethod = ModelServiceGrpc.getGetTypeMethod) == null) {
+          ModelServiceGrpc.getGetTypeMethod = getGetTypeMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getType"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getType"))
+              .build();
+        }
+      }
+    }
+    return getGetTypeMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult> getNavigateMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "navigate",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult> getNavigateMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult> getNavigateMethod;
+    if ((getNavigateMethod = ModelServiceGrpc.getNavigateMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getNavigateMethod = ModelServiceGrpc.getNavigateMethod) == null) {
+          ModelServiceGrpc.getNavigateMethod = getNavigateMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "navigate"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("navigate"))
+              .build();
+        }
+      }
+    }
+    return getNavigateMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk> getGetSubtreeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getSubtree",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk> getGetSubtreeMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk> getGetSubtreeMethod;
+    if ((getGetSubtreeMethod = ModelServiceGrpc.getGetSubtreeMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetSubtreeMethod = ModelServiceGrpc.getGetSubtreeMethod) == null) {
+          ModelServiceGrpc.getGetSubtreeMethod = getGetSubtreeMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getSubtree"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getSubtree"))
+              .build();
+        }
+      }
+    }
+    return getGetSubtreeMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetReferrersMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getReferrers",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetReferrersMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetReferrersMethod;
+    if ((getGetReferrersMethod = ModelServiceGrpc.getGetReferrersMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetReferrersMethod = ModelServiceGrpc.getGetReferrersMethod) == null) {
+          ModelServiceGrpc.getGetReferrersMethod = getGetReferrersMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getReferrers"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getReferrers"))
+              .build();
+        }
+      }
+    }
+    return getGetReferrersMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetElementsByNameMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getElementsByName",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetElementsByNameMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetElementsByNameMethod;
+    if ((getGetElementsByNameMethod = ModelServiceGrpc.getGetElementsByNameMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetElementsByNameMethod = ModelServiceGrpc.getGetElementsByNameMethod) == null) {
+          ModelServiceGrpc.getGetElementsByNameMethod = getGetElementsByNameMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getElementsByName"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getElementsByName"))
+              .build();
+        }
+      }
+    }
+    return getGetElementsByNameMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetElementsByQualifiedNameMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getElementsByQualifiedName",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetElementsByQualifiedNameMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetElementsByQualifiedNameMethod;
+    if ((getGetElementsByQualifiedNameMethod = ModelServiceGrpc.getGetElementsByQualifiedNameMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetElementsByQualifiedNameMethod = ModelServiceGrpc.getGetElementsByQualifiedNameMethod) == null) {
+          ModelServiceGrpc.getGetElementsByQualifiedNameMethod = getGetElementsByQualifiedNameMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getElementsByQualifiedName"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getElementsByQualifiedName"))
+              .build();
+        }
+      }
+    }
+    return getGetElementsByQualifiedNameMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getCountMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "count",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getCountMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getCountMethod;
+    if ((getCountMethod = ModelServiceGrpc.getCountMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getCountMethod = ModelServiceGrpc.getCountMethod) == null) {
+          ModelServiceGrpc.getCountMethod = getCountMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "count"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("count"))
+              .build();
+        }
+      }
+    }
+    return getCountMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean> getExistsMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "exists",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean> getExistsMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean> getExistsMethod;
+    if ((getExistsMethod = ModelServiceGrpc.getExistsMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getExistsMethod = ModelServiceGrpc.getExistsMethod) == null) {
+          ModelServiceGrpc.getExistsMethod = getExistsMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "exists"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("exists"))
+              .build();
+        }
+      }
+    }
+    return getExistsMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram> getGetTypeHistogramMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getTypeHistogram",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram> getGetTypeHistogramMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram> getGetTypeHistogramMethod;
+    if ((getGetTypeHistogramMethod = ModelServiceGrpc.getGetTypeHistogramMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetTypeHistogramMethod = ModelServiceGrpc.getGetTypeHistogramMethod) == null) {
+          ModelServiceGrpc.getGetTypeHistogramMethod = getGetTypeHistogramMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getTypeHistogram"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getTypeHistogram"))
+              .build();
+        }
+      }
+    }
+    return getGetTypeHistogramMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult> getRunScriptMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "runScript",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult> getRunScriptMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult> getRunScriptMethod;
+    if ((getRunScriptMethod = ModelServiceGrpc.getRunScriptMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getRunScriptMethod = ModelServiceGrpc.getRunScriptMethod) == null) {
+          ModelServiceGrpc.getRunScriptMethod = getRunScriptMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.SERVER_STREAMING)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "runScript"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("runScript"))
+              .build();
+        }
+      }
+    }
+    return getRunScriptMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetProfilesMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getProfiles",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetProfilesMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getGetProfilesMethod;
+    if ((getGetProfilesMethod = ModelServiceGrpc.getGetProfilesMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetProfilesMethod = ModelServiceGrpc.getGetProfilesMethod) == null) {
+          ModelServiceGrpc.getGetProfilesMethod = getGetProfilesMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getProfiles"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getProfiles"))
+              .build();
+        }
+      }
+    }
+    return getGetProfilesMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetProfileMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getProfile",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetProfileMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetProfileMethod;
+    if ((getGetProfileMethod = ModelServiceGrpc.getGetProfileMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetProfileMethod = ModelServiceGrpc.getGetProfileMethod) == null) {
+          ModelServiceGrpc.getGetProfileMethod = getGetProfileMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getProfile"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getProfile"))
+              .build();
+        }
+      }
+    }
+    return getGetProfileMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetStereotypeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getStereotype",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetStereotypeMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getGetStereotypeMethod;
+    if ((getGetStereotypeMethod = ModelServiceGrpc.getGetStereotypeMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetStereotypeMethod = ModelServiceGrpc.getGetStereotypeMethod) == null) {
+          ModelServiceGrpc.getGetStereotypeMethod = getGetStereotypeMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getStereotype"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getStereotype"))
+              .build();
+        }
+      }
+    }
+    return getGetStereotypeMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getOpenSessionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "openSession",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getOpenSessionMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getOpenSessionMethod;
+    if ((getOpenSessionMethod = ModelServiceGrpc.getOpenSessionMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getOpenSessionMethod = ModelServiceGrpc.getOpenSessionMethod) == null) {
+          ModelServiceGrpc.getOpenSessionMethod = getOpenSessionMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "openSession"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("openSession"))
+              .build();
+        }
+      }
+    }
+    return getOpenSessionMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCloseSessionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "closeSession",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCloseSessionMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCloseSessionMethod;
+    if ((getCloseSessionMethod = ModelServiceGrpc.getCloseSessionMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getCloseSessionMethod = ModelServiceGrpc.getCloseSessionMethod) == null) {
+          ModelServiceGrpc.getCloseSessionMethod = getCloseSessionMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "closeSession"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("closeSession"))
+              .build();
+        }
+      }
+    }
+    return getCloseSessionMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCancelSessionMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "cancelSession",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCancelSessionMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCancelSessionMethod;
+    if ((getCancelSessionMethod = ModelServiceGrpc.getCancelSessionMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getCancelSessionMethod = ModelServiceGrpc.getCancelSessionMethod) == null) {
+          ModelServiceGrpc.getCancelSessionMethod = getCancelSessionMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "cancelSession"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("cancelSession"))
+              .build();
+        }
+      }
+    }
+    return getCancelSessionMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getCreateInstanceMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "createInstance",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getCreateInstanceMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getCreateInstanceMethod;
+    if ((getCreateInstanceMethod = ModelServiceGrpc.getCreateInstanceMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getCreateInstanceMethod = ModelServiceGrpc.getCreateInstanceMethod) == null) {
+          ModelServiceGrpc.getCreateInstanceMethod = getCreateInstanceMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "createInstance"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("createInstance"))
+              .build();
+        }
+      }
+    }
+    return getCreateInstanceMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getDeleteInstanceMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "deleteInstance",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getDeleteInstanceMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getDeleteInstanceMethod;
+    if ((getDeleteInstanceMethod = ModelServiceGrpc.getDeleteInstanceMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getDeleteInstanceMethod = ModelServiceGrpc.getDeleteInstanceMethod) == null) {
+          ModelServiceGrpc.getDeleteInstanceMethod = getDeleteInstanceMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "deleteInstance"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("deleteInstance"))
+              .build();
+        }
+      }
+    }
+    return getDeleteInstanceMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getSetFeatureValueMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "setFeatureValue",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getSetFeatureValueMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getSetFeatureValueMethod;
+    if ((getSetFeatureValueMethod = ModelServiceGrpc.getSetFeatureValueMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getSetFeatureValueMethod = ModelServiceGrpc.getSetFeatureValueMethod) == null) {
+          ModelServiceGrpc.getSetFeatureValueMethod = getSetFeatureValueMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "setFeatureValue"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("setFeatureValue"))
+              .build();
+        }
+      }
+    }
+    return getSetFeatureValueMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getListSizeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listSize",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getListSizeMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getListSizeMethod;
+    if ((getListSizeMethod = ModelServiceGrpc.getListSizeMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListSizeMethod = ModelServiceGrpc.getListSizeMethod) == null) {
+          ModelServiceGrpc.getListSizeMethod = getListSizeMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listSize"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listSize"))
+              .build();
+        }
+      }
+    }
+    return getListSizeMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListGetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listGet",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Value.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListGetMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListGetMethod;
+    if ((getListGetMethod = ModelServiceGrpc.getListGetMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListGetMethod = ModelServiceGrpc.getListGetMethod) == null) {
+          ModelServiceGrpc.getListGetMethod = getListGetMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listGet"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listGet"))
+              .build();
+        }
+      }
+    }
+    return getListGetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListSetMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listSet",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Value.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListSetMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListSetMethod;
+    if ((getListSetMethod = ModelServiceGrpc.getListSetMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListSetMethod = ModelServiceGrpc.getListSetMethod) == null) {
+          ModelServiceGrpc.getListSetMethod = getListSetMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listSet"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listSet"))
+              .build();
+        }
+      }
+    }
+    return getListSetMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListAddMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listAdd",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListAddMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListAddMethod;
+    if ((getListAddMethod = ModelServiceGrpc.getListAddMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListAddMethod = ModelServiceGrpc.getListAddMethod) == null) {
+          ModelServiceGrpc.getListAddMethod = getListAddMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listAdd"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listAdd"))
+              .build();
+        }
+      }
+    }
+    return getListAddMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListRemoveMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listRemove",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Value.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListRemoveMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getListRemoveMethod;
+    if ((getListRemoveMethod = ModelServiceGrpc.getListRemoveMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListRemoveMethod = ModelServiceGrpc.getListRemoveMethod) == null) {
+          ModelServiceGrpc.getListRemoveMethod = getListRemoveMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listRemove"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listRemove"))
+              .build();
+        }
+      }
+    }
+    return getListRemoveMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListMoveObjectMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listMoveObject",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListMoveObjectMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListMoveObjectMethod;
+    if ((getListMoveObjectMethod = ModelServiceGrpc.getListMoveObjectMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListMoveObjectMethod = ModelServiceGrpc.getListMoveObjectMethod) == null) {
+          ModelServiceGrpc.getListMoveObjectMethod = getListMoveObjectMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listMoveObject"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listMoveObject"))
+              .build();
+        }
+      }
+    }
+    return getListMoveObjectMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListClearMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "listClear",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListClearMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getListClearMethod;
+    if ((getListClearMethod = ModelServiceGrpc.getListClearMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getListClearMethod = ModelServiceGrpc.getListClearMethod) == null) {
+          ModelServiceGrpc.getListClearMethod = getListClearMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "listClear"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("listClear"))
+              .build();
+        }
+      }
+    }
+    return getListClearMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getContainmentSizeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "containmentSize",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getContainmentSizeMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> getContainmentSizeMethod;
+    if ((getContainmentSizeMethod = ModelServiceGrpc.getContainmentSizeMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getContainmentSizeMethod = ModelServiceGrpc.getContainmentSizeMethod) == null) {
+          ModelServiceGrpc.getContainmentSizeMethod = getContainmentSizeMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList, org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "containmentSize"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("containmentSize"))
+              .build();
+        }
+      }
+    }
+    return getContainmentSizeMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getContainmentRangeMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "containmentRange",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getContainmentRangeMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getContainmentRangeMethod;
+    if ((getContainmentRangeMethod = ModelServiceGrpc.getContainmentRangeMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getContainmentRangeMethod = ModelServiceGrpc.getContainmentRangeMethod) == null) {
+          ModelServiceGrpc.getContainmentRangeMethod = getContainmentRangeMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "containmentRange"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("containmentRange"))
+              .build();
+        }
+      }
+    }
+    return getContainmentRangeMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getOpenProjectMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "openProject",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getOpenProjectMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getOpenProjectMethod;
+    if ((getOpenProjectMethod = ModelServiceGrpc.getOpenProjectMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getOpenProjectMethod = ModelServiceGrpc.getOpenProjectMethod) == null) {
+          ModelServiceGrpc.getOpenProjectMethod = getOpenProjectMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "openProject"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("openProject"))
+              .build();
+        }
+      }
+    }
+    return getOpenProjectMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCloseProjectMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "closeProject",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCloseProjectMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getCloseProjectMethod;
+    if ((getCloseProjectMethod = ModelServiceGrpc.getCloseProjectMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getCloseProjectMethod = ModelServiceGrpc.getCloseProjectMethod) == null) {
+          ModelServiceGrpc.getCloseProjectMethod = getCloseProjectMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "closeProject"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("closeProject"))
+              .build();
+        }
+      }
+    }
+    return getCloseProjectMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getSaveProjectMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "saveProject",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getSaveProjectMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> getSaveProjectMethod;
+    if ((getSaveProjectMethod = ModelServiceGrpc.getSaveProjectMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getSaveProjectMethod = ModelServiceGrpc.getSaveProjectMethod) == null) {
+          ModelServiceGrpc.getSaveProjectMethod = getSaveProjectMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "saveProject"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("saveProject"))
+              .build();
+        }
+      }
+    }
+    return getSaveProjectMethod;
+  }
+
+  private static volatile io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo> getGetProjectInfoMethod;
+
+  @io.grpc.stub.annotations.RpcMethod(
+      fullMethodName = SERVICE_NAME + '/' + "getProjectInfo",
+      requestType = org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.class,
+      responseType = org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo.class,
+      methodType = io.grpc.MethodDescriptor.MethodType.UNARY)
+  public static io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo> getGetProjectInfoMethod() {
+    io.grpc.MethodDescriptor<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo> getGetProjectInfoMethod;
+    if ((getGetProjectInfoMethod = ModelServiceGrpc.getGetProjectInfoMethod) == null) {
+      synchronized (ModelServiceGrpc.class) {
+        if ((getGetProjectInfoMethod = ModelServiceGrpc.getGetProjectInfoMethod) == null) {
+          ModelServiceGrpc.getGetProjectInfoMethod = getGetProjectInfoMethod =
+              io.grpc.MethodDescriptor.<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty, org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo>newBuilder()
+              .setType(io.grpc.MethodDescriptor.MethodType.UNARY)
+              .setFullMethodName(generateFullMethodName(SERVICE_NAME, "getProjectInfo"))
+              .setSampledToLocalTracing(true)
+              .setRequestMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.Empty.getDefaultInstance()))
+              .setResponseMarshaller(io.grpc.protobuf.ProtoUtils.marshaller(
+                  org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo.getDefaultInstance()))
+              .setSchemaDescriptor(new ModelServiceMethodDescriptorSupplier("getProjectInfo"))
+              .build();
+        }
+      }
+    }
+    return getGetProjectInfoMethod;
+  }
+
+  /**
+   * Creates a new async stub that supports all call types for the service
+   */
+  public static ModelServiceStub newStub(io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ModelServiceStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ModelServiceStub>() {
+        @java.lang.Override
+        public ModelServiceStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ModelServiceStub(channel, callOptions);
+        }
+      };
+    return ModelServiceStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new blocking-style stub that supports unary and streaming output calls on the service
+   */
+  public static ModelServiceBlockingStub newBlockingStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ModelServiceBlockingStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ModelServiceBlockingStub>() {
+        @java.lang.Override
+        public ModelServiceBlockingStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ModelServiceBlockingStub(channel, callOptions);
+        }
+      };
+    return ModelServiceBlockingStub.newStub(factory, channel);
+  }
+
+  /**
+   * Creates a new ListenableFuture-style stub that supports unary calls on the service
+   */
+  public static ModelServiceFutureStub newFutureStub(
+      io.grpc.Channel channel) {
+    io.grpc.stub.AbstractStub.StubFactory<ModelServiceFutureStub> factory =
+      new io.grpc.stub.AbstractStub.StubFactory<ModelServiceFutureStub>() {
+        @java.lang.Override
+        public ModelServiceFutureStub newStub(io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+          return new ModelServiceFutureStub(channel, callOptions);
+        }
+      };
+    return ModelServiceFutureStub.newStub(factory, channel);
+  }
+
+  /**
+   */
+  public static abstract class ModelServiceImplBase implements io.grpc.BindableService {
+
+    /**
+     * <pre>
+     * gRPC lazily connects: we can use this as a "ping" to see if the server is available
+     * </pre>
+     */
+    public void ping(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getPingMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * read API
+     * </pre>
+     */
+    public void allOf(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAllOfMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void allOfMany(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getAllOfManyMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getElementByID(org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetElementByIDMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getEnumerationValue(org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetEnumerationValueMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getEnumerationValues(org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetEnumerationValuesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getFeatureValue(org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetFeatureValueMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getFeatureValues(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetFeatureValuesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getType(org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTypeMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void navigate(org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getNavigateMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getSubtree(org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetSubtreeMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getReferrers(org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetReferrersMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getElementsByName(org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetElementsByNameMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getElementsByQualifiedName(org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetElementsByQualifiedNameMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * aggregate API: same scoping and filtering as allOf, without transferring the elements
+     * </pre>
+     */
+    public void count(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCountMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void exists(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getExistsMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getTypeHistogram(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetTypeHistogramMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * remote execution API
+     * </pre>
+     */
+    public void runScript(org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getRunScriptMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * profile API
+     * </pre>
+     */
+    public void getProfiles(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetProfilesMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getProfile(org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetProfileMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getStereotype(org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetStereotypeMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * session API
+     * </pre>
+     */
+    public void openSession(org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getOpenSessionMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void closeSession(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCloseSessionMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void cancelSession(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCancelSessionMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * write API
+     * </pre>
+     */
+    public void createInstance(org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCreateInstanceMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void deleteInstance(org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getDeleteInstanceMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void setFeatureValue(org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSetFeatureValueMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * proxy list API
+     * </pre>
+     */
+    public void listSize(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListSizeMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listGet(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListGetMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listSet(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListSetMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listAdd(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListAddMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listRemove(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListRemoveMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listMoveObject(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListMoveObjectMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void listClear(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getListClearMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * containment list API
+     * </pre>
+     */
+    public void containmentSize(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getContainmentSizeMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void containmentRange(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getContainmentRangeMethod(), responseObserver);
+    }
+
+    /**
+     * <pre>
+     * project management API
+     * </pre>
+     */
+    public void openProject(org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getOpenProjectMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void closeProject(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getCloseProjectMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void saveProject(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getSaveProjectMethod(), responseObserver);
+    }
+
+    /**
+     */
+    public void getProjectInfo(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo> responseObserver) {
+      io.grpc.stub.ServerCalls.asyncUnimplementedUnaryCall(getGetProjectInfoMethod(), responseObserver);
+    }
+
+    @java.lang.Override public final io.grpc.ServerServiceDefinition bindService() {
+      return io.grpc.ServerServiceDefinition.builder(getServiceDescriptor())
+          .addMethod(
+            getPingMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_PING)))
+          .addMethod(
+            getAllOfMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>(
+                  this, METHODID_ALL_OF)))
+          .addMethod(
+            getAllOfManyMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection>(
+                  this, METHODID_ALL_OF_MANY)))
+          .addMethod(
+            getGetElementByIDMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>(
+                  this, METHODID_GET_ELEMENT_BY_ID)))
+          .addMethod(
+            getGetEnumerationValueMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue>(
+                  this, METHODID_GET_ENUMERATION_VALUE)))
+          .addMethod(
+            getGetEnumerationValuesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection>(
+                  this, METHODID_GET_ENUMERATION_VALUES)))
+          .addMethod(
+            getGetFeatureValueMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Value>(
+                  this, METHODID_GET_FEATURE_VALUE)))
+          .addMethod(
+            getGetFeatureValuesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult>(
+                  this, METHODID_GET_FEATURE_VALUES)))
+          .addMethod(
+            getGetTypeMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType>(
+                  this, METHODID_GET_TYPE)))
+          .addMethod(
+            getNavigateMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult>(
+                  this, METHODID_NAVIGATE)))
+          .addMethod(
+            getGetSubtreeMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk>(
+                  this, METHODID_GET_SUBTREE)))
+          .addMethod(
+            getGetReferrersMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>(
+                  this, METHODID_GET_REFERRERS)))
+          .addMethod(
+            getGetElementsByNameMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>(
+                  this, METHODID_GET_ELEMENTS_BY_NAME)))
+          .addMethod(
+            getGetElementsByQualifiedNameMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>(
+                  this, METHODID_GET_ELEMENTS_BY_QUALIFIED_NAME)))
+          .addMethod(
+            getCountMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>(
+                  this, METHODID_COUNT)))
+          .addMethod(
+            getExistsMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean>(
+                  this, METHODID_EXISTS)))
+          .addMethod(
+            getGetTypeHistogramMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram>(
+                  this, METHODID_GET_TYPE_HISTOGRAM)))
+          .addMethod(
+            getRunScriptMethod(),
+            io.grpc.stub.ServerCalls.asyncServerStreamingCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult>(
+                  this, METHODID_RUN_SCRIPT)))
+          .addMethod(
+            getGetProfilesMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>(
+                  this, METHODID_GET_PROFILES)))
+          .addMethod(
+            getGetProfileMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>(
+                  this, METHODID_GET_PROFILE)))
+          .addMethod(
+            getGetStereotypeMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>(
+                  this, METHODID_GET_STEREOTYPE)))
+          .addMethod(
+            getOpenSessionMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_OPEN_SESSION)))
+          .addMethod(
+            getCloseSessionMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_CLOSE_SESSION)))
+          .addMethod(
+            getCancelSessionMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_CANCEL_SESSION)))
+          .addMethod(
+            getCreateInstanceMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>(
+                  this, METHODID_CREATE_INSTANCE)))
+          .addMethod(
+            getDeleteInstanceMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_DELETE_INSTANCE)))
+          .addMethod(
+            getSetFeatureValueMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_SET_FEATURE_VALUE)))
+          .addMethod(
+            getListSizeMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>(
+                  this, METHODID_LIST_SIZE)))
+          .addMethod(
+            getListGetMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Value>(
+                  this, METHODID_LIST_GET)))
+          .addMethod(
+            getListSetMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Value>(
+                  this, METHODID_LIST_SET)))
+          .addMethod(
+            getListAddMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_LIST_ADD)))
+          .addMethod(
+            getListRemoveMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Value>(
+                  this, METHODID_LIST_REMOVE)))
+          .addMethod(
+            getListMoveObjectMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_LIST_MOVE_OBJECT)))
+          .addMethod(
+            getListClearMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_LIST_CLEAR)))
+          .addMethod(
+            getContainmentSizeMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>(
+                  this, METHODID_CONTAINMENT_SIZE)))
+          .addMethod(
+            getContainmentRangeMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>(
+                  this, METHODID_CONTAINMENT_RANGE)))
+          .addMethod(
+            getOpenProjectMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_OPEN_PROJECT)))
+          .addMethod(
+            getCloseProjectMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_CLOSE_PROJECT)))
+          .addMethod(
+            getSaveProjectMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>(
+                  this, METHODID_SAVE_PROJECT)))
+          .addMethod(
+            getGetProjectInfoMethod(),
+            io.grpc.stub.ServerCalls.asyncUnaryCall(
+              new MethodHandlers<
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Empty,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo>(
+                  this, METHODID_GET_PROJECT_INFO)))
+          .build();
+    }
+  }
+
+  /**
+   */
+  public static final class ModelServiceStub extends io.grpc.stub.AbstractAsyncStub<ModelServiceStub> {
+    private ModelServiceStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ModelServiceStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ModelServiceStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * gRPC lazily connects: we can use this as a "ping" to see if the server is available
+     * </pre>
+     */
+    public void ping(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getPingMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * read API
+     * </pre>
+     */
+    public void allOf(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAllOfMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void allOfMany(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getAllOfManyMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getElementByID(org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetElementByIDMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getEnumerationValue(org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetEnumerationValueMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getEnumerationValues(org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetEnumerationValuesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getFeatureValue(org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetFeatureValueMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getFeatureValues(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetFeatureValuesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getType(org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTypeMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void navigate(org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getNavigateMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getSubtree(org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getGetSubtreeMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getReferrers(org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetReferrersMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getElementsByName(org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetElementsByNameMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getElementsByQualifiedName(org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetElementsByQualifiedNameMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * aggregate API: same scoping and filtering as allOf, without transferring the elements
+     * </pre>
+     */
+    public void count(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCountMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void exists(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getExistsMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getTypeHistogram(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetTypeHistogramMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * remote execution API
+     * </pre>
+     */
+    public void runScript(org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncServerStreamingCall(
+          getChannel().newCall(getRunScriptMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * profile API
+     * </pre>
+     */
+    public void getProfiles(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetProfilesMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getProfile(org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetProfileMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getStereotype(org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetStereotypeMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * session API
+     * </pre>
+     */
+    public void openSession(org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getOpenSessionMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void closeSession(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCloseSessionMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void cancelSession(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCancelSessionMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * write API
+     * </pre>
+     */
+    public void createInstance(org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCreateInstanceMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void deleteInstance(org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getDeleteInstanceMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void setFeatureValue(org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSetFeatureValueMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * proxy list API
+     * </pre>
+     */
+    public void listSize(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListSizeMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listGet(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListGetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listSet(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListSetMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listAdd(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListAddMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listRemove(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListRemoveMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listMoveObject(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListMoveObjectMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void listClear(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getListClearMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * containment list API
+     * </pre>
+     */
+    public void containmentSize(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getContainmentSizeMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void containmentRange(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getContainmentRangeMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     * <pre>
+     * project management API
+     * </pre>
+     */
+    public void openProject(org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getOpenProjectMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void closeProject(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getCloseProjectMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void saveProject(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getSaveProjectMethod(), getCallOptions()), request, responseObserver);
+    }
+
+    /**
+     */
+    public void getProjectInfo(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request,
+        io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo> responseObserver) {
+      io.grpc.stub.ClientCalls.asyncUnaryCall(
+          getChannel().newCall(getGetProjectInfoMethod(), getCallOptions()), request, responseObserver);
+    }
+  }
+
+  /**
+   */
+  public static final class ModelServiceBlockingStub extends io.grpc.stub.AbstractBlockingStub<ModelServiceBlockingStub> {
+    private ModelServiceBlockingStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ModelServiceBlockingStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ModelServiceBlockingStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * gRPC lazily connects: we can use this as a "ping" to see if the server is available
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty ping(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getPingMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * read API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection allOf(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAllOfMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection allOfMany(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getAllOfManyMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getElementByID(org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetElementByIDMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue getEnumerationValue(org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetEnumerationValueMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection getEnumerationValues(org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetEnumerationValuesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getFeatureValue(org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetFeatureValueMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult getFeatureValues(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetFeatureValuesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType getType(org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTypeMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult navigate(org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getNavigateMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public java.util.Iterator<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk> getSubtree(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getGetSubtreeMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getReferrers(org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetReferrersMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getElementsByName(org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetElementsByNameMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getElementsByQualifiedName(org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetElementsByQualifiedNameMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * aggregate API: same scoping and filtering as allOf, without transferring the elements
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger count(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCountMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean exists(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getExistsMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram getTypeHistogram(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetTypeHistogramMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * remote execution API
+     * </pre>
+     */
+    public java.util.Iterator<org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult> runScript(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest request) {
+      return io.grpc.stub.ClientCalls.blockingServerStreamingCall(
+          getChannel(), getRunScriptMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * profile API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getProfiles(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetProfilesMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getProfile(org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetProfileMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getStereotype(org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetStereotypeMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * session API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty openSession(org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getOpenSessionMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty closeSession(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCloseSessionMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty cancelSession(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCancelSessionMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * write API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement createInstance(org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCreateInstanceMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty deleteInstance(org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getDeleteInstanceMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty setFeatureValue(org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSetFeatureValueMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * proxy list API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger listSize(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListSizeMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value listGet(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListGetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value listSet(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListSetMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty listAdd(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListAddMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value listRemove(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListRemoveMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty listMoveObject(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListMoveObjectMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty listClear(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getListClearMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * containment list API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger containmentSize(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getContainmentSizeMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection containmentRange(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getContainmentRangeMethod(), getCallOptions(), request);
+    }
+
+    /**
+     * <pre>
+     * project management API
+     * </pre>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty openProject(org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getOpenProjectMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty closeProject(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getCloseProjectMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Empty saveProject(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getSaveProjectMethod(), getCallOptions(), request);
+    }
+
+    /**
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo getProjectInfo(org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.blockingUnaryCall(
+          getChannel(), getGetProjectInfoMethod(), getCallOptions(), request);
+    }
+  }
+
+  /**
+   */
+  public static final class ModelServiceFutureStub extends io.grpc.stub.AbstractFutureStub<ModelServiceFutureStub> {
+    private ModelServiceFutureStub(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      super(channel, callOptions);
+    }
+
+    @java.lang.Override
+    protected ModelServiceFutureStub build(
+        io.grpc.Channel channel, io.grpc.CallOptions callOptions) {
+      return new ModelServiceFutureStub(channel, callOptions);
+    }
+
+    /**
+     * <pre>
+     * gRPC lazily connects: we can use this as a "ping" to see if the server is available
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> ping(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getPingMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * read API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> allOf(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAllOfMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection> allOfMany(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getAllOfManyMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getElementByID(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetElementByIDMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> getEnumerationValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetEnumerationValueMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection> getEnumerationValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetEnumerationValuesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getFeatureValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetFeatureValueMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult> getFeatureValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetFeatureValuesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType> getType(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTypeMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult> navigate(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getNavigateMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getReferrers(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetReferrersMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getElementsByName(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetElementsByNameMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getElementsByQualifiedName(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetElementsByQualifiedNameMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * aggregate API: same scoping and filtering as allOf, without transferring the elements
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> count(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCountMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean> exists(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getExistsMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram> getTypeHistogram(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetTypeHistogramMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * profile API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> getProfiles(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetProfilesMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getProfile(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetProfileMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> getStereotype(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetStereotypeMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * session API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> openSession(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getOpenSessionMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> closeSession(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCloseSessionMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> cancelSession(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCancelSessionMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * write API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> createInstance(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCreateInstanceMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> deleteInstance(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getDeleteInstanceMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> setFeatureValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSetFeatureValueMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * proxy list API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> listSize(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListSizeMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> listGet(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListGetMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> listSet(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListSetMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> listAdd(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListAddMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> listRemove(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListRemoveMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> listMoveObject(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListMoveObjectMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> listClear(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getListClearMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * containment list API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger> containmentSize(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getContainmentSizeMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection> containmentRange(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getContainmentRangeMethod(), getCallOptions()), request);
+    }
+
+    /**
+     * <pre>
+     * project management API
+     * </pre>
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> openProject(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getOpenProjectMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> closeProject(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getCloseProjectMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty> saveProject(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getSaveProjectMethod(), getCallOptions()), request);
+    }
+
+    /**
+     */
+    public com.google.common.util.concurrent.ListenableFuture<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo> getProjectInfo(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Empty request) {
+      return io.grpc.stub.ClientCalls.futureUnaryCall(
+          getChannel().newCall(getGetProjectInfoMethod(), getCallOptions()), request);
+    }
+  }
+
+  private static final int METHODID_PING = 0;
+  private static final int METHODID_ALL_OF = 1;
+  private static final int METHODID_ALL_OF_MANY = 2;
+  private static final int METHODID_GET_ELEMENT_BY_ID = 3;
+  private static final int METHODID_GET_ENUMERATION_VALUE = 4;
+  private static final int METHODID_GET_ENUMERATION_VALUES = 5;
+  private static final int METHODID_GET_FEATURE_VALUE = 6;
+  private static final int METHODID_GET_FEATURE_VALUES = 7;
+  private static final int METHODID_GET_TYPE = 8;
+  private static final int METHODID_NAVIGATE = 9;
+  private static final int METHODID_GET_SUBTREE = 10;
+  private static final int METHODID_GET_REFERRERS = 11;
+  private static final int METHODID_GET_ELEMENTS_BY_NAME = 12;
+  private static final int METHODID_GET_ELEMENTS_BY_QUALIFIED_NAME = 13;
+  private static final int METHODID_COUNT = 14;
+  private static final int METHODID_EXISTS = 15;
+  private static final int METHODID_GET_TYPE_HISTOGRAM = 16;
+  private static final int METHODID_RUN_SCRIPT = 17;
+  private static final int METHODID_GET_PROFILES = 18;
+  private static final int METHODID_GET_PROFILE = 19;
+  private static final int METHODID_GET_STEREOTYPE = 20;
+  private static final int METHODID_OPEN_SESSION = 21;
+  private static final int METHODID_CLOSE_SESSION = 22;
+  private static final int METHODID_CANCEL_SESSION = 23;
+  private static final int METHODID_CREATE_INSTANCE = 24;
+  private static final int METHODID_DELETE_INSTANCE = 25;
+  private static final int METHODID_SET_FEATURE_VALUE = 26;
+  private static final int METHODID_LIST_SIZE = 27;
+  private static final int METHODID_LIST_GET = 28;
+  private static final int METHODID_LIST_SET = 29;
+  private static final int METHODID_LIST_ADD = 30;
+  private static final int METHODID_LIST_REMOVE = 31;
+  private static final int METHODID_LIST_MOVE_OBJECT = 32;
+  private static final int METHODID_LIST_CLEAR = 33;
+  private static final int METHODID_CONTAINMENT_SIZE = 34;
+  private static final int METHODID_CONTAINMENT_RANGE = 35;
+  private static final int METHODID_OPEN_PROJECT = 36;
+  private static final int METHODID_CLOSE_PROJECT = 37;
+  private static final int METHODID_SAVE_PROJECT = 38;
+  private static final int METHODID_GET_PROJECT_INFO = 39;
+
+  private static final class MethodHandlers<Req, Resp> implements
+      io.grpc.stub.ServerCalls.UnaryMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ServerStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.ClientStreamingMethod<Req, Resp>,
+      io.grpc.stub.ServerCalls.BidiStreamingMethod<Req, Resp> {
+    private final ModelServiceImplBase serviceImpl;
+    private final int methodId;
+
+    MethodHandlers(ModelServiceImplBase serviceImpl, int methodId) {
+      this.serviceImpl = serviceImpl;
+      this.methodId = methodId;
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public void invoke(Req request, io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        case METHODID_PING:
+          serviceImpl.ping((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_ALL_OF:
+          serviceImpl.allOf((org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>) responseObserver);
+          break;
+        case METHODID_ALL_OF_MANY:
+          serviceImpl.allOfMany((org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection>) responseObserver);
+          break;
+        case METHODID_GET_ELEMENT_BY_ID:
+          serviceImpl.getElementByID((org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>) responseObserver);
+          break;
+        case METHODID_GET_ENUMERATION_VALUE:
+          serviceImpl.getEnumerationValue((org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue>) responseObserver);
+          break;
+        case METHODID_GET_ENUMERATION_VALUES:
+          serviceImpl.getEnumerationValues((org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection>) responseObserver);
+          break;
+        case METHODID_GET_FEATURE_VALUE:
+          serviceImpl.getFeatureValue((org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value>) responseObserver);
+          break;
+        case METHODID_GET_FEATURE_VALUES:
+          serviceImpl.getFeatureValues((org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult>) responseObserver);
+          break;
+        case METHODID_GET_TYPE:
+          serviceImpl.getType((org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType>) responseObserver);
+          break;
+        case METHODID_NAVIGATE:
+          serviceImpl.navigate((org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult>) responseObserver);
+          break;
+        case METHODID_GET_SUBTREE:
+          serviceImpl.getSubtree((org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk>) responseObserver);
+          break;
+        case METHODID_GET_REFERRERS:
+          serviceImpl.getReferrers((org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>) responseObserver);
+          break;
+        case METHODID_GET_ELEMENTS_BY_NAME:
+          serviceImpl.getElementsByName((org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>) responseObserver);
+          break;
+        case METHODID_GET_ELEMENTS_BY_QUALIFIED_NAME:
+          serviceImpl.getElementsByQualifiedName((org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>) responseObserver);
+          break;
+        case METHODID_COUNT:
+          serviceImpl.count((org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>) responseObserver);
+          break;
+        case METHODID_EXISTS:
+          serviceImpl.exists((org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean>) responseObserver);
+          break;
+        case METHODID_GET_TYPE_HISTOGRAM:
+          serviceImpl.getTypeHistogram((org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogramRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram>) responseObserver);
+          break;
+        case METHODID_RUN_SCRIPT:
+          serviceImpl.runScript((org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult>) responseObserver);
+          break;
+        case METHODID_GET_PROFILES:
+          serviceImpl.getProfiles((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>) responseObserver);
+          break;
+        case METHODID_GET_PROFILE:
+          serviceImpl.getProfile((org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>) responseObserver);
+          break;
+        case METHODID_GET_STEREOTYPE:
+          serviceImpl.getStereotype((org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>) responseObserver);
+          break;
+        case METHODID_OPEN_SESSION:
+          serviceImpl.openSession((org.eclipse.epsilon.emc.magicdraw.modelapi.OpenSessionRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_CLOSE_SESSION:
+          serviceImpl.closeSession((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_CANCEL_SESSION:
+          serviceImpl.cancelSession((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_CREATE_INSTANCE:
+          serviceImpl.createInstance((org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement>) responseObserver);
+          break;
+        case METHODID_DELETE_INSTANCE:
+          serviceImpl.deleteInstance((org.eclipse.epsilon.emc.magicdraw.modelapi.DeleteInstanceRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_SET_FEATURE_VALUE:
+          serviceImpl.setFeatureValue((org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_LIST_SIZE:
+          serviceImpl.listSize((org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>) responseObserver);
+          break;
+        case METHODID_LIST_GET:
+          serviceImpl.listGet((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value>) responseObserver);
+          break;
+        case METHODID_LIST_SET:
+          serviceImpl.listSet((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value>) responseObserver);
+          break;
+        case METHODID_LIST_ADD:
+          serviceImpl.listAdd((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_LIST_REMOVE:
+          serviceImpl.listRemove((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Value>) responseObserver);
+          break;
+        case METHODID_LIST_MOVE_OBJECT:
+          serviceImpl.listMoveObject((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_LIST_CLEAR:
+          serviceImpl.listClear((org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_CONTAINMENT_SIZE:
+          serviceImpl.containmentSize((org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger>) responseObserver);
+          break;
+        case METHODID_CONTAINMENT_RANGE:
+          serviceImpl.containmentRange((org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection>) responseObserver);
+          break;
+        case METHODID_OPEN_PROJECT:
+          serviceImpl.openProject((org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_CLOSE_PROJECT:
+          serviceImpl.closeProject((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_SAVE_PROJECT:
+          serviceImpl.saveProject((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.Empty>) responseObserver);
+          break;
+        case METHODID_GET_PROJECT_INFO:
+          serviceImpl.getProjectInfo((org.eclipse.epsilon.emc.magicdraw.modelapi.Empty) request,
+              (io.grpc.stub.StreamObserver<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo>) responseObserver);
+          break;
+        default:
+          throw new AssertionError();
+      }
+    }
+
+    @java.lang.Override
+    @java.lang.SuppressWarnings("unchecked")
+    public io.grpc.stub.StreamObserver<Req> invoke(
+        io.grpc.stub.StreamObserver<Resp> responseObserver) {
+      switch (methodId) {
+        default:
+          throw new AssertionError();
+      }
+    }
+  }
+
+  private static abstract class ModelServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoFileDescriptorSupplier, io.grpc.protobuf.ProtoServiceDescriptorSupplier {
+    ModelServiceBaseDescriptorSupplier() {}
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.FileDescriptor getFileDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.getDescriptor();
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.ServiceDescriptor getServiceDescriptor() {
+      return getFileDescriptor().findServiceByName("ModelService");
+    }
+  }
+
+  private static final class ModelServiceFileDescriptorSupplier
+      extends ModelServiceBaseDescriptorSupplier {
+    ModelServiceFileDescriptorSupplier() {}
+  }
+
+  private static final class ModelServiceMethodDescriptorSupplier
+      extends ModelServiceBaseDescriptorSupplier
+      implements io.grpc.protobuf.ProtoMethodDescriptorSupplier {
+    private final String methodName;
+
+    ModelServiceMethodDescriptorSupplier(String methodName) {
+      this.methodName = methodName;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.MethodDescriptor getMethodDescriptor() {
+      return getServiceDescriptor().findMethodByName(methodName);
+    }
+  }
+
+  private static volatile io.grpc.ServiceDescriptor serviceDescriptor;
+
+  public static io.grpc.ServiceDescriptor getServiceDescriptor() {
+    io.grpc.ServiceDescriptor result = serviceDescriptor;
+    if (result == null) {
+      synchronized (ModelServiceGrpc.class) {
+        result = serviceDescriptor;
+        if (result == null) {
+          serviceDescriptor = result = io.grpc.ServiceDescriptor.newBuilder(SERVICE_NAME)
+              .setSchemaDescriptor(new ModelServiceFileDescriptorSupplier())
+              .addMethod(getPingMethod())
+              .addMethod(getAllOfMethod())
+              .addMethod(getAllOfManyMethod())
+              .addMethod(getGetElementByIDMethod())
+              .addMethod(getGetEnumerationValueMethod())
+              .addMethod(getGetEnumerationValuesMethod())
+              .addMethod(getGetFeatureValueMethod())
+              .addMethod(getGetFeatureValuesMethod())
+              .addMethod(getGetTypeMethod())
+              .addMethod(getNavigateMethod())
+              .addMethod(getGetSubtreeMethod())
+              .addMethod(getGetReferrersMethod())
+              .addMethod(getGetElementsByNameMethod())
+              .addMethod(getGetElementsByQualifiedNameMethod())
+              .addMethod(getCountMethod())
+              .addMethod(getExistsMethod())
+              .addMethod(getGetTypeHistogramMethod())
+              .addMethod(getRunScriptMethod())
+              .addMethod(getGetProfilesMethod())
+              .addMethod(getGetProfileMethod())
+              .addMethod(getGetStereotypeMethod())
+              .addMethod(getOpenSessionMethod())
+              .addMethod(getCloseSessionMethod())
+              .addMethod(getCancelSessionMethod())
+              .addMethod(getCreateInstanceMethod())
+              .addMethod(getDeleteInstanceMethod())
+              .addMethod(getSetFeatureValueMethod())
+              .addMethod(getListSizeMethod())
+              .addMethod(getListGetMethod())
+              .addMethod(getListSetMethod())
+              .addMethod(getListAddMethod())
+              .addMethod(getListRemoveMethod())
+              .addMethod(getListMoveObjectMethod())
+              .addMethod(getListClearMethod())
+              .addMethod(getContainmentSizeMethod())
+              .addMethod(getContainmentRangeMethod())
+              .addMethod(getOpenProjectMethod())
+              .addMethod(getCloseProjectMethod())
+              .addMethod(getSaveProjectMethod())
+              .addMethod(getGetProjectInfoMethod())
+              .build();
+        }
+      }
+    }
+    return result;
+  }
+}
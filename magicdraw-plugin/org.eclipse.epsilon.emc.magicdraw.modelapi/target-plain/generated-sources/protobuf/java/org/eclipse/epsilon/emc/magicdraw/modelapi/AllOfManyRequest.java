@@ -0,0 +1,782 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest}
+ */
+public final class AllOfManyRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)
+    AllOfManyRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use AllOfManyRequest.newBuilder() to construct.
+  private AllOfManyRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AllOfManyRequest() {
+    typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    rootElementHyperlink_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new AllOfManyRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private AllOfManyRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              typeNames_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            typeNames_.add(s);
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            rootElementHyperlink_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        typeNames_ = typeNames_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.Builder.class);
+  }
+
+  public static final int TYPENAMES_FIELD_NUMBER = 1;
+  private com.google.protobuf.LazyStringList typeNames_;
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @return A list containing the typeNames.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getTypeNamesList() {
+    return typeNames_;
+  }
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @return The count of typeNames.
+   */
+  public int getTypeNamesCount() {
+    return typeNames_.size();
+  }
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @param index The index of the element to return.
+   * @return The typeNames at the given index.
+   */
+  public java.lang.String getTypeNames(int index) {
+    return typeNames_.get(index);
+  }
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the typeNames at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getTypeNamesBytes(int index) {
+    return typeNames_.getByteString(index);
+  }
+
+  public static final int ROOTELEMENTHYPERLINK_FIELD_NUMBER = 2;
+  private volatile java.lang.Object rootElementHyperlink_;
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  @java.lang.Override
+  public java.lang.String getRootElementHyperlink() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      rootElementHyperlink_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      rootElementHyperlink_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < typeNames_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, typeNames_.getRaw(i));
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, rootElementHyperlink_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < typeNames_.size(); i++) {
+        dataSize += computeStringSizeNoTag(typeNames_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getTypeNamesList().size();
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, rootElementHyperlink_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest) obj;
+
+    if (!getTypeNamesList()
+        .equals(other.getTypeNamesList())) return false;
+    if (!getRootElementHyperlink()
+        .equals(other.getRootElementHyperlink())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getTypeNamesCount() > 0) {
+      hash = (37 * hash) + TYPENAMES_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeNamesList().hashCode();
+    }
+    hash = (37 * hash) + ROOTELEMENTHYPERLINK_FIELD_NUMBER;
+    hash = (53 * hash) + getRootElementHyperlink().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      rootElementHyperlink_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        typeNames_ = typeNames_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.typeNames_ = typeNames_;
+      result.rootElementHyperlink_ = rootElementHyperlink_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest.getDefaultInstance()) return this;
+      if (!other.typeNames_.isEmpty()) {
+        if (typeNames_.isEmpty()) {
+          typeNames_ = other.typeNames_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureTypeNamesIsMutable();
+          typeNames_.addAll(other.typeNames_);
+        }
+        onChanged();
+      }
+      if (!other.getRootElementHyperlink().isEmpty()) {
+        rootElementHyperlink_ = other.rootElementHyperlink_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.LazyStringList typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureTypeNamesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        typeNames_ = new com.google.protobuf.LazyStringArrayList(typeNames_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @return A list containing the typeNames.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getTypeNamesList() {
+      return typeNames_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @return The count of typeNames.
+     */
+    public int getTypeNamesCount() {
+      return typeNames_.size();
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @param index The index of the element to return.
+     * @return The typeNames at the given index.
+     */
+    public java.lang.String getTypeNames(int index) {
+      return typeNames_.get(index);
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the typeNames at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getTypeNamesBytes(int index) {
+      return typeNames_.getByteString(index);
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The typeNames to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeNames(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTypeNamesIsMutable();
+      typeNames_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @param value The typeNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTypeNames(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTypeNamesIsMutable();
+      typeNames_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @param values The typeNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllTypeNames(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureTypeNamesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, typeNames_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeNames() {
+      typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string typeNames = 1;</code>
+     * @param value The bytes of the typeNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTypeNamesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureTypeNamesIsMutable();
+      typeNames_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object rootElementHyperlink_ = "";
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return The rootElementHyperlink.
+     */
+    public java.lang.String getRootElementHyperlink() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rootElementHyperlink_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return The bytes for rootElementHyperlink.
+     */
+    public com.google.protobuf.ByteString
+        getRootElementHyperlinkBytes() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rootElementHyperlink_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @param value The rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlink(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRootElementHyperlink() {
+      
+      rootElementHyperlink_ = getDefaultInstance().getRootElementHyperlink();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @param value The bytes for rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlinkBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AllOfManyRequest>
+      PARSER = new com.google.protobuf.AbstractParser<AllOfManyRequest>() {
+    @java.lang.Override
+    public AllOfManyRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new AllOfManyRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AllOfManyRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AllOfManyRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
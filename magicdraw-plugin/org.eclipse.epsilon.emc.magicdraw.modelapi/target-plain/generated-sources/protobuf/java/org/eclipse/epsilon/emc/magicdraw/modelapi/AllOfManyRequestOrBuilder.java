@@ -0,0 +1,54 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface AllOfManyRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfManyRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @return A list containing the typeNames.
+   */
+  java.util.List<java.lang.String>
+      getTypeNamesList();
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @return The count of typeNames.
+   */
+  int getTypeNamesCount();
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @param index The index of the element to return.
+   * @return The typeNames at the given index.
+   */
+  java.lang.String getTypeNames(int index);
+  /**
+   * <code>repeated string typeNames = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the typeNames at the given index.
+   */
+  com.google.protobuf.ByteString
+      getTypeNamesBytes(int index);
+
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  java.lang.String getRootElementHyperlink();
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes();
+}
@@ -0,0 +1,1070 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest}
+ */
+public final class AllOfRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)
+    AllOfRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use AllOfRequest.newBuilder() to construct.
+  private AllOfRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private AllOfRequest() {
+    typeName_ = "";
+    rootElementHyperlink_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new AllOfRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private AllOfRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            typeName_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            rootElementHyperlink_ = s;
+            break;
+          }
+          case 24: {
+
+            onlyExactType_ = input.readBool();
+            break;
+          }
+          case 34: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder subBuilder = null;
+            if (filter_ != null) {
+              subBuilder = filter_.toBuilder();
+            }
+            filter_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(filter_);
+              filter_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.Builder.class);
+  }
+
+  public static final int TYPENAME_FIELD_NUMBER = 1;
+  private volatile java.lang.Object typeName_;
+  /**
+   * <pre>
+   * If this is omitted, we ask for the entire contents of the model
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The typeName.
+   */
+  @java.lang.Override
+  public java.lang.String getTypeName() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      typeName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * If this is omitted, we ask for the entire contents of the model
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The bytes for typeName.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTypeNameBytes() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      typeName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ROOTELEMENTHYPERLINK_FIELD_NUMBER = 2;
+  private volatile java.lang.Object rootElementHyperlink_;
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  @java.lang.Override
+  public java.lang.String getRootElementHyperlink() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      rootElementHyperlink_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      rootElementHyperlink_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ONLYEXACTTYPE_FIELD_NUMBER = 3;
+  private boolean onlyExactType_;
+  /**
+   * <pre>
+   * If true and a type is specified, only exact matches of this type are fetched
+   * </pre>
+   *
+   * <code>bool onlyExactType = 3;</code>
+   * @return The onlyExactType.
+   */
+  @java.lang.Override
+  public boolean getOnlyExactType() {
+    return onlyExactType_;
+  }
+
+  public static final int FILTER_FIELD_NUMBER = 4;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter_;
+  /**
+   * <pre>
+   * If specified, only the elements that match this predicate are fetched
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+   * @return Whether the filter field is set.
+   */
+  @java.lang.Override
+  public boolean hasFilter() {
+    return filter_ != null;
+  }
+  /**
+   * <pre>
+   * If specified, only the elements that match this predicate are fetched
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+   * @return The filter.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getFilter() {
+    return filter_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance() : filter_;
+  }
+  /**
+   * <pre>
+   * If specified, only the elements that match this predicate are fetched
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getFilterOrBuilder() {
+    return getFilter();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, typeName_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, rootElementHyperlink_);
+    }
+    if (onlyExactType_ != false) {
+      output.writeBool(3, onlyExactType_);
+    }
+    if (filter_ != null) {
+      output.writeMessage(4, getFilter());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, typeName_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, rootElementHyperlink_);
+    }
+    if (onlyExactType_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, onlyExactType_);
+    }
+    if (filter_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, getFilter());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest) obj;
+
+    if (!getTypeName()
+        .equals(other.getTypeName())) return false;
+    if (!getRootElementHyperlink()
+        .equals(other.getRootElementHyperlink())) return false;
+    if (getOnlyExactType()
+        != other.getOnlyExactType()) return false;
+    if (hasFilter() != other.hasFilter()) return false;
+    if (hasFilter()) {
+      if (!getFilter()
+          .equals(other.getFilter())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + TYPENAME_FIELD_NUMBER;
+    hash = (53 * hash) + getTypeName().hashCode();
+    hash = (37 * hash) + ROOTELEMENTHYPERLINK_FIELD_NUMBER;
+    hash = (53 * hash) + getRootElementHyperlink().hashCode();
+    hash = (37 * hash) + ONLYEXACTTYPE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getOnlyExactType());
+    if (hasFilter()) {
+      hash = (37 * hash) + FILTER_FIELD_NUMBER;
+      hash = (53 * hash) + getFilter().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      typeName_ = "";
+
+      rootElementHyperlink_ = "";
+
+      onlyExactType_ = false;
+
+      if (filterBuilder_ == null) {
+        filter_ = null;
+      } else {
+        filter_ = null;
+        filterBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest(this);
+      result.typeName_ = typeName_;
+      result.rootElementHyperlink_ = rootElementHyperlink_;
+      result.onlyExactType_ = onlyExactType_;
+      if (filterBuilder_ == null) {
+        result.filter_ = filter_;
+      } else {
+        result.filter_ = filterBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest.getDefaultInstance()) return this;
+      if (!other.getTypeName().isEmpty()) {
+        typeName_ = other.typeName_;
+        onChanged();
+      }
+      if (!other.getRootElementHyperlink().isEmpty()) {
+        rootElementHyperlink_ = other.rootElementHyperlink_;
+        onChanged();
+      }
+      if (other.getOnlyExactType() != false) {
+        setOnlyExactType(other.getOnlyExactType());
+      }
+      if (other.hasFilter()) {
+        mergeFilter(other.getFilter());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object typeName_ = "";
+    /**
+     * <pre>
+     * If this is omitted, we ask for the entire contents of the model
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @return The typeName.
+     */
+    public java.lang.String getTypeName() {
+      java.lang.Object ref = typeName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        typeName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * If this is omitted, we ask for the entire contents of the model
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @return The bytes for typeName.
+     */
+    public com.google.protobuf.ByteString
+        getTypeNameBytes() {
+      java.lang.Object ref = typeName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        typeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * If this is omitted, we ask for the entire contents of the model
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @param value The typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If this is omitted, we ask for the entire contents of the model
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeName() {
+      
+      typeName_ = getDefaultInstance().getTypeName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If this is omitted, we ask for the entire contents of the model
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @param value The bytes for typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object rootElementHyperlink_ = "";
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return The rootElementHyperlink.
+     */
+    public java.lang.String getRootElementHyperlink() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rootElementHyperlink_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return The bytes for rootElementHyperlink.
+     */
+    public com.google.protobuf.ByteString
+        getRootElementHyperlinkBytes() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rootElementHyperlink_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @param value The rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlink(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRootElementHyperlink() {
+      
+      rootElementHyperlink_ = getDefaultInstance().getRootElementHyperlink();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Limits the scope of the request to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @param value The bytes for rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlinkBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean onlyExactType_ ;
+    /**
+     * <pre>
+     * If true and a type is specified, only exact matches of this type are fetched
+     * </pre>
+     *
+     * <code>bool onlyExactType = 3;</code>
+     * @return The onlyExactType.
+     */
+    @java.lang.Override
+    public boolean getOnlyExactType() {
+      return onlyExactType_;
+    }
+    /**
+     * <pre>
+     * If true and a type is specified, only exact matches of this type are fetched
+     * </pre>
+     *
+     * <code>bool onlyExactType = 3;</code>
+     * @param value The onlyExactType to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOnlyExactType(boolean value) {
+      
+      onlyExactType_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If true and a type is specified, only exact matches of this type are fetched
+     * </pre>
+     *
+     * <code>bool onlyExactType = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOnlyExactType() {
+      
+      onlyExactType_ = false;
+      onChanged();
+      return this;
+    }
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder> filterBuilder_;
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     * @return Whether the filter field is set.
+     */
+    public boolean hasFilter() {
+      return filterBuilder_ != null || filter_ != null;
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     * @return The filter.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getFilter() {
+      if (filterBuilder_ == null) {
+        return filter_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance() : filter_;
+      } else {
+        return filterBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    public Builder setFilter(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate value) {
+      if (filterBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        filter_ = value;
+        onChanged();
+      } else {
+        filterBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    public Builder setFilter(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder builderForValue) {
+      if (filterBuilder_ == null) {
+        filter_ = builderForValue.build();
+        onChanged();
+      } else {
+        filterBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    public Builder mergeFilter(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate value) {
+      if (filterBuilder_ == null) {
+        if (filter_ != null) {
+          filter_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.newBuilder(filter_).mergeFrom(value).buildPartial();
+        } else {
+          filter_ = value;
+        }
+        onChanged();
+      } else {
+        filterBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    public Builder clearFilter() {
+      if (filterBuilder_ == null) {
+        filter_ = null;
+        onChanged();
+      } else {
+        filter_ = null;
+        filterBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder getFilterBuilder() {
+      
+      onChanged();
+      return getFilterFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getFilterOrBuilder() {
+      if (filterBuilder_ != null) {
+        return filterBuilder_.getMessageOrBuilder();
+      } else {
+        return filter_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance() : filter_;
+      }
+    }
+    /**
+     * <pre>
+     * If specified, only the elements that match this predicate are fetched
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder> 
+        getFilterFieldBuilder() {
+      if (filterBuilder_ == null) {
+        filterBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder>(
+                getFilter(),
+                getParentForChildren(),
+                isClean());
+        filter_ = null;
+      }
+      return filterBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<AllOfRequest>
+      PARSER = new com.google.protobuf.AbstractParser<AllOfRequest>() {
+    @java.lang.Override
+    public AllOfRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new AllOfRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<AllOfRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<AllOfRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
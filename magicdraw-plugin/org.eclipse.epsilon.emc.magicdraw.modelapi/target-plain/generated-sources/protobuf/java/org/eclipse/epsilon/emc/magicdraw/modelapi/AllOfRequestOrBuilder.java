@@ -0,0 +1,86 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface AllOfRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * If this is omitted, we ask for the entire contents of the model
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <pre>
+   * If this is omitted, we ask for the entire contents of the model
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  java.lang.String getRootElementHyperlink();
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes();
+
+  /**
+   * <pre>
+   * If true and a type is specified, only exact matches of this type are fetched
+   * </pre>
+   *
+   * <code>bool onlyExactType = 3;</code>
+   * @return The onlyExactType.
+   */
+  boolean getOnlyExactType();
+
+  /**
+   * <pre>
+   * If specified, only the elements that match this predicate are fetched
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+   * @return Whether the filter field is set.
+   */
+  boolean hasFilter();
+  /**
+   * <pre>
+   * If specified, only the elements that match this predicate are fetched
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+   * @return The filter.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getFilter();
+  /**
+   * <pre>
+   * If specified, only the elements that match this predicate are fetched
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate filter = 4;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getFilterOrBuilder();
+}
@@ -0,0 +1,598 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection}
+ */
+public final class BooleanCollection extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection)
+    BooleanCollectionOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use BooleanCollection.newBuilder() to construct.
+  private BooleanCollection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private BooleanCollection() {
+    values_ = emptyBooleanList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new BooleanCollection();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private BooleanCollection(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 8: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              values_ = newBooleanList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            values_.addBoolean(input.readBool());
+            break;
+          }
+          case 10: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              values_ = newBooleanList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              values_.addBoolean(input.readBool());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        values_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.class, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder.class);
+  }
+
+  public static final int VALUES_FIELD_NUMBER = 1;
+  private com.google.protobuf.Internal.BooleanList values_;
+  /**
+   * <code>repeated bool values = 1;</code>
+   * @return A list containing the values.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Boolean>
+      getValuesList() {
+    return values_;
+  }
+  /**
+   * <code>repeated bool values = 1;</code>
+   * @return The count of values.
+   */
+  public int getValuesCount() {
+    return values_.size();
+  }
+  /**
+   * <code>repeated bool values = 1;</code>
+   * @param index The index of the element to return.
+   * @return The values at the given index.
+   */
+  public boolean getValues(int index) {
+    return values_.getBoolean(index);
+  }
+  private int valuesMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (getValuesList().size() > 0) {
+      output.writeUInt32NoTag(10);
+      output.writeUInt32NoTag(valuesMemoizedSerializedSize);
+    }
+    for (int i = 0; i < values_.size(); i++) {
+      output.writeBoolNoTag(values_.getBoolean(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      dataSize = 1 * getValuesList().size();
+      size += dataSize;
+      if (!getValuesList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      valuesMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection other = (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) obj;
+
+    if (!getValuesList()
+        .equals(other.getValuesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getValuesCount() > 0) {
+      hash = (37 * hash) + VALUES_FIELD_NUMBER;
+      hash = (53 * hash) + getValuesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.class, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      values_ = emptyBooleanList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection result = new org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        values_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.values_ = values_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance()) return this;
+      if (!other.values_.isEmpty()) {
+        if (values_.isEmpty()) {
+          values_ = other.values_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureValuesIsMutable();
+          values_.addAll(other.values_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.Internal.BooleanList values_ = emptyBooleanList();
+    private void ensureValuesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        values_ = mutableCopy(values_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @return A list containing the values.
+     */
+    public java.util.List<java.lang.Boolean>
+        getValuesList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(values_) : values_;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @return The count of values.
+     */
+    public int getValuesCount() {
+      return values_.size();
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @param index The index of the element to return.
+     * @return The values at the given index.
+     */
+    public boolean getValues(int index) {
+      return values_.getBoolean(index);
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The values to set.
+     * @return This builder for chaining.
+     */
+    public Builder setValues(
+        int index, boolean value) {
+      ensureValuesIsMutable();
+      values_.setBoolean(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @param value The values to add.
+     * @return This builder for chaining.
+     */
+    public Builder addValues(boolean value) {
+      ensureValuesIsMutable();
+      values_.addBoolean(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @param values The values to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllValues(
+        java.lang.Iterable<? extends java.lang.Boolean> values) {
+      ensureValuesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, values_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated bool values = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearValues() {
+      values_ = emptyBooleanList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<BooleanCollection>
+      PARSER = new com.google.protobuf.AbstractParser<BooleanCollection>() {
+    @java.lang.Override
+    public BooleanCollection parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new BooleanCollection(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<BooleanCollection> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<BooleanCollection> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
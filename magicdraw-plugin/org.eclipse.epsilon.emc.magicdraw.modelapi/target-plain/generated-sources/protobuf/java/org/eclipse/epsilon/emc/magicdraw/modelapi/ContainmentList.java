@@ -0,0 +1,818 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * <pre>
+ * Read-only handle to the contents of an element, which can be fetched in
+ * ranges. The server keeps a snapshot of lists which need a traversal (all
+ * contents, or filtered by type) until the model is changed.
+ * </pre>
+ *
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList}
+ */
+public final class ContainmentList extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)
+    ContainmentListOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ContainmentList.newBuilder() to construct.
+  private ContainmentList(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ContainmentList() {
+    elementID_ = "";
+    typeName_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ContainmentList();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ContainmentList(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            elementID_ = s;
+            break;
+          }
+          case 16: {
+
+            allContents_ = input.readBool();
+            break;
+          }
+          case 26: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            typeName_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder.class);
+  }
+
+  public static final int ELEMENTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object elementID_;
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  @java.lang.Override
+  public java.lang.String getElementID() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      elementID_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getElementIDBytes() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      elementID_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ALLCONTENTS_FIELD_NUMBER = 2;
+  private boolean allContents_;
+  /**
+   * <pre>
+   * If true, includes all the direct and indirect contents (eAllContents), rather than only the direct ones (eContents)
+   * </pre>
+   *
+   * <code>bool allContents = 2;</code>
+   * @return The allContents.
+   */
+  @java.lang.Override
+  public boolean getAllContents() {
+    return allContents_;
+  }
+
+  public static final int TYPENAME_FIELD_NUMBER = 3;
+  private volatile java.lang.Object typeName_;
+  /**
+   * <pre>
+   * If not empty, only includes the contents of this type (or its subtypes)
+   * </pre>
+   *
+   * <code>string typeName = 3;</code>
+   * @return The typeName.
+   */
+  @java.lang.Override
+  public java.lang.String getTypeName() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      typeName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * If not empty, only includes the contents of this type (or its subtypes)
+   * </pre>
+   *
+   * <code>string typeName = 3;</code>
+   * @return The bytes for typeName.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTypeNameBytes() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      typeName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, elementID_);
+    }
+    if (allContents_ != false) {
+      output.writeBool(2, allContents_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 3, typeName_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, elementID_);
+    }
+    if (allContents_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(2, allContents_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, typeName_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList other = (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) obj;
+
+    if (!getElementID()
+        .equals(other.getElementID())) return false;
+    if (getAllContents()
+        != other.getAllContents()) return false;
+    if (!getTypeName()
+        .equals(other.getTypeName())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ELEMENTID_FIELD_NUMBER;
+    hash = (53 * hash) + getElementID().hashCode();
+    hash = (37 * hash) + ALLCONTENTS_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getAllContents());
+    hash = (37 * hash) + TYPENAME_FIELD_NUMBER;
+    hash = (53 * hash) + getTypeName().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Read-only handle to the contents of an element, which can be fetched in
+   * ranges. The server keeps a snapshot of lists which need a traversal (all
+   * contents, or filtered by type) until the model is changed.
+   * </pre>
+   *
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      elementID_ = "";
+
+      allContents_ = false;
+
+      typeName_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList result = new org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList(this);
+      result.elementID_ = elementID_;
+      result.allContents_ = allContents_;
+      result.typeName_ = typeName_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance()) return this;
+      if (!other.getElementID().isEmpty()) {
+        elementID_ = other.elementID_;
+        onChanged();
+      }
+      if (other.getAllContents() != false) {
+        setAllContents(other.getAllContents());
+      }
+      if (!other.getTypeName().isEmpty()) {
+        typeName_ = other.typeName_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object elementID_ = "";
+    /**
+     * <code>string elementID = 1;</code>
+     * @return The elementID.
+     */
+    public java.lang.String getElementID() {
+      java.lang.Object ref = elementID_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        elementID_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @return The bytes for elementID.
+     */
+    public com.google.protobuf.ByteString
+        getElementIDBytes() {
+      java.lang.Object ref = elementID_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        elementID_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @param value The elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementID(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearElementID() {
+      
+      elementID_ = getDefaultInstance().getElementID();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @param value The bytes for elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementIDBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean allContents_ ;
+    /**
+     * <pre>
+     * If true, includes all the direct and indirect contents (eAllContents), rather than only the direct ones (eContents)
+     * </pre>
+     *
+     * <code>bool allContents = 2;</code>
+     * @return The allContents.
+     */
+    @java.lang.Override
+    public boolean getAllContents() {
+      return allContents_;
+    }
+    /**
+     * <pre>
+     * If true, includes all the direct and indirect contents (eAllContents), rather than only the direct ones (eContents)
+     * </pre>
+     *
+     * <code>bool allContents = 2;</code>
+     * @param value The allContents to set.
+     * @return This builder for chaining.
+     */
+    public Builder setAllContents(boolean value) {
+      
+      allContents_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If true, includes all the direct and indirect contents (eAllContents), rather than only the direct ones (eContents)
+     * </pre>
+     *
+     * <code>bool allContents = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearAllContents() {
+      
+      allContents_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object typeName_ = "";
+    /**
+     * <pre>
+     * If not empty, only includes the contents of this type (or its subtypes)
+     * </pre>
+     *
+     * <code>string typeName = 3;</code>
+     * @return The typeName.
+     */
+    public java.lang.String getTypeName() {
+      java.lang.Object ref = typeName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        typeName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * If not empty, only includes the contents of this type (or its subtypes)
+     * </pre>
+     *
+     * <code>string typeName = 3;</code>
+     * @return The bytes for typeName.
+     */
+    public com.google.protobuf.ByteString
+        getTypeNameBytes() {
+      java.lang.Object ref = typeName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        typeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * If not empty, only includes the contents of this type (or its subtypes)
+     * </pre>
+     *
+     * <code>string typeName = 3;</code>
+     * @param value The typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only includes the contents of this type (or its subtypes)
+     * </pre>
+     *
+     * <code>string typeName = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeName() {
+      
+      typeName_ = getDefaultInstance().getTypeName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only includes the contents of this type (or its subtypes)
+     * </pre>
+     *
+     * <code>string typeName = 3;</code>
+     * @param value The bytes for typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ContainmentList>
+      PARSER = new com.google.protobuf.AbstractParser<ContainmentList>() {
+    @java.lang.Override
+    public ContainmentList parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ContainmentList(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ContainmentList> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ContainmentList> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
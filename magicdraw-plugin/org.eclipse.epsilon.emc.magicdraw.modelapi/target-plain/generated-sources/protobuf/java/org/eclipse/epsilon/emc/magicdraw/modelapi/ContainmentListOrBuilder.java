@@ -0,0 +1,51 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ContainmentListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+
+  /**
+   * <pre>
+   * If true, includes all the direct and indirect contents (eAllContents), rather than only the direct ones (eContents)
+   * </pre>
+   *
+   * <code>bool allContents = 2;</code>
+   * @return The allContents.
+   */
+  boolean getAllContents();
+
+  /**
+   * <pre>
+   * If not empty, only includes the contents of this type (or its subtypes)
+   * </pre>
+   *
+   * <code>string typeName = 3;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <pre>
+   * If not empty, only includes the contents of this type (or its subtypes)
+   * </pre>
+   *
+   * <code>string typeName = 3;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+}
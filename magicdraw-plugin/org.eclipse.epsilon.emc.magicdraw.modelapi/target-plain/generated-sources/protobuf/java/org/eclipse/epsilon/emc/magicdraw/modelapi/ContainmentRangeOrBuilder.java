@@ -0,0 +1,40 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ContainmentRangeOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentRange)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList list = 1;</code>
+   * @return Whether the list field is set.
+   */
+  boolean hasList();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList list = 1;</code>
+   * @return The list.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getList();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList list = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder getListOrBuilder();
+
+  /**
+   * <code>uint32 start = 2;</code>
+   * @return The start.
+   */
+  int getStart();
+
+  /**
+   * <pre>
+   * Maximum number of elements to be returned
+   * </pre>
+   *
+   * <code>uint32 count = 3;</code>
+   * @return The count.
+   */
+  int getCount();
+}
@@ -0,0 +1,43 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface CreateInstanceRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string typeName = 1;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <code>string typeName = 1;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+
+  /**
+   * <pre>
+   * If specified, the model element will be added to the package referenced from here
+   * (right-click on the package in MagicDraw / Cameo and select "Copy Element Hyperlink")
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  java.lang.String getRootElementHyperlink();
+  /**
+   * <pre>
+   * If specified, the model element will be added to the package referenced from here
+   * (right-click on the package in MagicDraw / Cameo and select "Copy Element Hyperlink")
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes();
+}
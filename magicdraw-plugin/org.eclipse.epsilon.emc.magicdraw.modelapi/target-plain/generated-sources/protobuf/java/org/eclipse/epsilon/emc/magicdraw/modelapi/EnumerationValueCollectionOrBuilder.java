@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface EnumerationValueCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue values = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue> 
+      getValuesList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue values = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue getValues(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue values = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue values = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder getValuesOrBuilder(
+      int index);
+}
@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface EnumerationValueOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string name = 1;</code>
+   * @return The name.
+   */
+  java.lang.String getName();
+  /**
+   * <code>string name = 1;</code>
+   * @return The bytes for name.
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <code>sint32 value = 2;</code>
+   * @return The value.
+   */
+  int getValue();
+
+  /**
+   * <code>string literal = 3;</code>
+   * @return The literal.
+   */
+  java.lang.String getLiteral();
+  /**
+   * <code>string literal = 3;</code>
+   * @return The bytes for literal.
+   */
+  com.google.protobuf.ByteString
+      getLiteralBytes();
+}
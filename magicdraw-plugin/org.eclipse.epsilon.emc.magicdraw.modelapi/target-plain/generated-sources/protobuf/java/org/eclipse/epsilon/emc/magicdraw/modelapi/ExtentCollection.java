@@ -0,0 +1,1100 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection}
+ */
+public final class ExtentCollection extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)
+    ExtentCollectionOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ExtentCollection.newBuilder() to construct.
+  private ExtentCollection(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ExtentCollection() {
+    extents_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ExtentCollection();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ExtentCollection(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder subBuilder = null;
+            if (elements_ != null) {
+              subBuilder = elements_.toBuilder();
+            }
+            elements_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(elements_);
+              elements_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              extents_ = new java.util.ArrayList<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            extents_.add(
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        extents_ = java.util.Collections.unmodifiableList(extents_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.Builder.class);
+  }
+
+  public static final int ELEMENTS_FIELD_NUMBER = 1;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements_;
+  /**
+   * <pre>
+   * Every element that matched at least one of the requested types, sent only once
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+   * @return Whether the elements field is set.
+   */
+  @java.lang.Override
+  public boolean hasElements() {
+    return elements_ != null;
+  }
+  /**
+   * <pre>
+   * Every element that matched at least one of the requested types, sent only once
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+   * @return The elements.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getElements() {
+    return elements_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance() : elements_;
+  }
+  /**
+   * <pre>
+   * Every element that matched at least one of the requested types, sent only once
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder getElementsOrBuilder() {
+    return getElements();
+  }
+
+  public static final int EXTENTS_FIELD_NUMBER = 2;
+  private java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent> extents_;
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent> getExtentsList() {
+    return extents_;
+  }
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder> 
+      getExtentsOrBuilderList() {
+    return extents_;
+  }
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  @java.lang.Override
+  public int getExtentsCount() {
+    return extents_.size();
+  }
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent getExtents(int index) {
+    return extents_.get(index);
+  }
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder getExtentsOrBuilder(
+      int index) {
+    return extents_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (elements_ != null) {
+      output.writeMessage(1, getElements());
+    }
+    for (int i = 0; i < extents_.size(); i++) {
+      output.writeMessage(2, extents_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (elements_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getElements());
+    }
+    for (int i = 0; i < extents_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, extents_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection other = (org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection) obj;
+
+    if (hasElements() != other.hasElements()) return false;
+    if (hasElements()) {
+      if (!getElements()
+          .equals(other.getElements())) return false;
+    }
+    if (!getExtentsList()
+        .equals(other.getExtentsList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasElements()) {
+      hash = (37 * hash) + ELEMENTS_FIELD_NUMBER;
+      hash = (53 * hash) + getElements().hashCode();
+    }
+    if (getExtentsCount() > 0) {
+      hash = (37 * hash) + EXTENTS_FIELD_NUMBER;
+      hash = (53 * hash) + getExtentsList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollectionOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getExtentsFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (elementsBuilder_ == null) {
+        elements_ = null;
+      } else {
+        elements_ = null;
+        elementsBuilder_ = null;
+      }
+      if (extentsBuilder_ == null) {
+        extents_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        extentsBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection result = new org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection(this);
+      int from_bitField0_ = bitField0_;
+      if (elementsBuilder_ == null) {
+        result.elements_ = elements_;
+      } else {
+        result.elements_ = elementsBuilder_.build();
+      }
+      if (extentsBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          extents_ = java.util.Collections.unmodifiableList(extents_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.extents_ = extents_;
+      } else {
+        result.extents_ = extentsBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection.getDefaultInstance()) return this;
+      if (other.hasElements()) {
+        mergeElements(other.getElements());
+      }
+      if (extentsBuilder_ == null) {
+        if (!other.extents_.isEmpty()) {
+          if (extents_.isEmpty()) {
+            extents_ = other.extents_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureExtentsIsMutable();
+            extents_.addAll(other.extents_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.extents_.isEmpty()) {
+          if (extentsBuilder_.isEmpty()) {
+            extentsBuilder_.dispose();
+            extentsBuilder_ = null;
+            extents_ = other.extents_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            extentsBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getExtentsFieldBuilder() : null;
+          } else {
+            extentsBuilder_.addAllMessages(other.extents_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder> elementsBuilder_;
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     * @return Whether the elements field is set.
+     */
+    public boolean hasElements() {
+      return elementsBuilder_ != null || elements_ != null;
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     * @return The elements.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getElements() {
+      if (elementsBuilder_ == null) {
+        return elements_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance() : elements_;
+      } else {
+        return elementsBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    public Builder setElements(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection value) {
+      if (elementsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        elements_ = value;
+        onChanged();
+      } else {
+        elementsBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    public Builder setElements(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder builderForValue) {
+      if (elementsBuilder_ == null) {
+        elements_ = builderForValue.build();
+        onChanged();
+      } else {
+        elementsBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    public Builder mergeElements(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection value) {
+      if (elementsBuilder_ == null) {
+        if (elements_ != null) {
+          elements_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.newBuilder(elements_).mergeFrom(value).buildPartial();
+        } else {
+          elements_ = value;
+        }
+        onChanged();
+      } else {
+        elementsBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    public Builder clearElements() {
+      if (elementsBuilder_ == null) {
+        elements_ = null;
+        onChanged();
+      } else {
+        elements_ = null;
+        elementsBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder getElementsBuilder() {
+      
+      onChanged();
+      return getElementsFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder getElementsOrBuilder() {
+      if (elementsBuilder_ != null) {
+        return elementsBuilder_.getMessageOrBuilder();
+      } else {
+        return elements_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance() : elements_;
+      }
+    }
+    /**
+     * <pre>
+     * Every element that matched at least one of the requested types, sent only once
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder> 
+        getElementsFieldBuilder() {
+      if (elementsBuilder_ == null) {
+        elementsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder>(
+                getElements(),
+                getParentForChildren(),
+                isClean());
+        elements_ = null;
+      }
+      return elementsBuilder_;
+    }
+
+    private java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent> extents_ =
+      java.util.Collections.emptyList();
+    private void ensureExtentsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        extents_ = new java.util.ArrayList<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent>(extents_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder> extentsBuilder_;
+
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent> getExtentsList() {
+      if (extentsBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(extents_);
+      } else {
+        return extentsBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public int getExtentsCount() {
+      if (extentsBuilder_ == null) {
+        return extents_.size();
+      } else {
+        return extentsBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent getExtents(int index) {
+      if (extentsBuilder_ == null) {
+        return extents_.get(index);
+      } else {
+        return extentsBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder setExtents(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent value) {
+      if (extentsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureExtentsIsMutable();
+        extents_.set(index, value);
+        onChanged();
+      } else {
+        extentsBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder setExtents(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder builderForValue) {
+      if (extentsBuilder_ == null) {
+        ensureExtentsIsMutable();
+        extents_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        extentsBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder addExtents(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent value) {
+      if (extentsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureExtentsIsMutable();
+        extents_.add(value);
+        onChanged();
+      } else {
+        extentsBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder addExtents(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent value) {
+      if (extentsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureExtentsIsMutable();
+        extents_.add(index, value);
+        onChanged();
+      } else {
+        extentsBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder addExtents(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder builderForValue) {
+      if (extentsBuilder_ == null) {
+        ensureExtentsIsMutable();
+        extents_.add(builderForValue.build());
+        onChanged();
+      } else {
+        extentsBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder addExtents(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder builderForValue) {
+      if (extentsBuilder_ == null) {
+        ensureExtentsIsMutable();
+        extents_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        extentsBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder addAllExtents(
+        java.lang.Iterable<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent> values) {
+      if (extentsBuilder_ == null) {
+        ensureExtentsIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, extents_);
+        onChanged();
+      } else {
+        extentsBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder clearExtents() {
+      if (extentsBuilder_ == null) {
+        extents_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        extentsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public Builder removeExtents(int index) {
+      if (extentsBuilder_ == null) {
+        ensureExtentsIsMutable();
+        extents_.remove(index);
+        onChanged();
+      } else {
+        extentsBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder getExtentsBuilder(
+        int index) {
+      return getExtentsFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder getExtentsOrBuilder(
+        int index) {
+      if (extentsBuilder_ == null) {
+        return extents_.get(index);  } else {
+        return extentsBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder> 
+         getExtentsOrBuilderList() {
+      if (extentsBuilder_ != null) {
+        return extentsBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(extents_);
+      }
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder addExtentsBuilder() {
+      return getExtentsFieldBuilder().addBuilder(
+          org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder addExtentsBuilder(
+        int index) {
+      return getExtentsFieldBuilder().addBuilder(
+          index, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * One extent per requested type, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+     */
+    public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder> 
+         getExtentsBuilderList() {
+      return getExtentsFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder> 
+        getExtentsFieldBuilder() {
+      if (extentsBuilder_ == null) {
+        extentsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder>(
+                extents_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        extents_ = null;
+      }
+      return extentsBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ExtentCollection>
+      PARSER = new com.google.protobuf.AbstractParser<ExtentCollection>() {
+    @java.lang.Override
+    public ExtentCollection parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ExtentCollection(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ExtentCollection> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ExtentCollection> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
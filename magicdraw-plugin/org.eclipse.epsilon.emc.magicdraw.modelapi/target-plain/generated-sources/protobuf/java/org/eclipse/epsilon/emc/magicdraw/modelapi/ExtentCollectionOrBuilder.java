@@ -0,0 +1,80 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ExtentCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ExtentCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Every element that matched at least one of the requested types, sent only once
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+   * @return Whether the elements field is set.
+   */
+  boolean hasElements();
+  /**
+   * <pre>
+   * Every element that matched at least one of the requested types, sent only once
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+   * @return The elements.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getElements();
+  /**
+   * <pre>
+   * Every element that matched at least one of the requested types, sent only once
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection elements = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder getElementsOrBuilder();
+
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent> 
+      getExtentsList();
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent getExtents(int index);
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  int getExtentsCount();
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder> 
+      getExtentsOrBuilderList();
+  /**
+   * <pre>
+   * One extent per requested type, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent extents = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder getExtentsOrBuilder(
+      int index);
+}
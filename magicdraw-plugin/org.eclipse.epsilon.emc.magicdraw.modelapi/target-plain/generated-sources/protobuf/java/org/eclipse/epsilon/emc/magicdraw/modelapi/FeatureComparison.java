@@ -0,0 +1,1035 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison}
+ */
+public final class FeatureComparison extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)
+    FeatureComparisonOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use FeatureComparison.newBuilder() to construct.
+  private FeatureComparison(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private FeatureComparison() {
+    featureName_ = "";
+    operator_ = 0;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new FeatureComparison();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private FeatureComparison(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            featureName_ = s;
+            break;
+          }
+          case 16: {
+            int rawValue = input.readEnum();
+
+            operator_ = rawValue;
+            break;
+          }
+          case 26: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder subBuilder = null;
+            if (value_ != null) {
+              subBuilder = value_.toBuilder();
+            }
+            value_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.Value.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(value_);
+              value_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.class, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder.class);
+  }
+
+  /**
+   * Protobuf enum {@code org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator}
+   */
+  public enum Operator
+      implements com.google.protobuf.ProtocolMessageEnum {
+    /**
+     * <code>EQUALS = 0;</code>
+     */
+    EQUALS(0),
+    /**
+     * <code>NOT_EQUALS = 1;</code>
+     */
+    NOT_EQUALS(1),
+    /**
+     * <code>LESS_THAN = 2;</code>
+     */
+    LESS_THAN(2),
+    /**
+     * <code>LESS_OR_EQUAL = 3;</code>
+     */
+    LESS_OR_EQUAL(3),
+    /**
+     * <code>GREATER_THAN = 4;</code>
+     */
+    GREATER_THAN(4),
+    /**
+     * <code>GREATER_OR_EQUAL = 5;</code>
+     */
+    GREATER_OR_EQUAL(5),
+    UNRECOGNIZED(-1),
+    ;
+
+    /**
+     * <code>EQUALS = 0;</code>
+     */
+    public static final int EQUALS_VALUE = 0;
+    /**
+     * <code>NOT_EQUALS = 1;</code>
+     */
+    public static final int NOT_EQUALS_VALUE = 1;
+    /**
+     * <code>LESS_THAN = 2;</code>
+     */
+    public static final int LESS_THAN_VALUE = 2;
+    /**
+     * <code>LESS_OR_EQUAL = 3;</code>
+     */
+    public static final int LESS_OR_EQUAL_VALUE = 3;
+    /**
+     * <code>GREATER_THAN = 4;</code>
+     */
+    public static final int GREATER_THAN_VALUE = 4;
+    /**
+     * <code>GREATER_OR_EQUAL = 5;</code>
+     */
+    public static final int GREATER_OR_EQUAL_VALUE = 5;
+
+
+    public final int getNumber() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalArgumentException(
+            "Can't get the number of an unknown enum value.");
+      }
+      return value;
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static Operator valueOf(int value) {
+      return forNumber(value);
+    }
+
+    /**
+     * @param value The numeric wire value of the corresponding enum entry.
+     * @return The enum associated with the given numeric wire value.
+     */
+    public static Operator forNumber(int value) {
+      switch (value) {
+        case 0: return EQUALS;
+        case 1: return NOT_EQUALS;
+        case 2: return LESS_THAN;
+        case 3: return LESS_OR_EQUAL;
+        case 4: return GREATER_THAN;
+        case 5: return GREATER_OR_EQUAL;
+        default: return null;
+      }
+    }
+
+    public static com.google.protobuf.Internal.EnumLiteMap<Operator>
+        internalGetValueMap() {
+      return internalValueMap;
+    }
+    private static final com.google.protobuf.Internal.EnumLiteMap<
+        Operator> internalValueMap =
+          new com.google.protobuf.Internal.EnumLiteMap<Operator>() {
+            public Operator findValueByNumber(int number) {
+              return Operator.forNumber(number);
+            }
+          };
+
+    public final com.google.protobuf.Descriptors.EnumValueDescriptor
+        getValueDescriptor() {
+      if (this == UNRECOGNIZED) {
+        throw new java.lang.IllegalStateException(
+            "Can't get the descriptor of an unrecognized enum value.");
+      }
+      return getDescriptor().getValues().get(ordinal());
+    }
+    public final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptorForType() {
+      return getDescriptor();
+    }
+    public static final com.google.protobuf.Descriptors.EnumDescriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDescriptor().getEnumTypes().get(0);
+    }
+
+    private static final Operator[] VALUES = values();
+
+    public static Operator valueOf(
+        com.google.protobuf.Descriptors.EnumValueDescriptor desc) {
+      if (desc.getType() != getDescriptor()) {
+        throw new java.lang.IllegalArgumentException(
+          "EnumValueDescriptor is not for this type.");
+      }
+      if (desc.getIndex() == -1) {
+        return UNRECOGNIZED;
+      }
+      return VALUES[desc.getIndex()];
+    }
+
+    private final int value;
+
+    private Operator(int value) {
+      this.value = value;
+    }
+
+    // @@protoc_insertion_point(enum_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator)
+  }
+
+  public static final int FEATURENAME_FIELD_NUMBER = 1;
+  private volatile java.lang.Object featureName_;
+  /**
+   * <code>string featureName = 1;</code>
+   * @return The featureName.
+   */
+  @java.lang.Override
+  public java.lang.String getFeatureName() {
+    java.lang.Object ref = featureName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      featureName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string featureName = 1;</code>
+   * @return The bytes for featureName.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getFeatureNameBytes() {
+    java.lang.Object ref = featureName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      featureName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int OPERATOR_FIELD_NUMBER = 2;
+  private int operator_;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+   * @return The enum numeric value on the wire for operator.
+   */
+  @java.lang.Override public int getOperatorValue() {
+    return operator_;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+   * @return The operator.
+   */
+  @java.lang.Override public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator getOperator() {
+    @SuppressWarnings("deprecation")
+    org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator result = org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator.valueOf(operator_);
+    return result == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator.UNRECOGNIZED : result;
+  }
+
+  public static final int VALUE_FIELD_NUMBER = 3;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.Value value_;
+  /**
+   * <pre>
+   * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return Whether the value field is set.
+   */
+  @java.lang.Override
+  public boolean hasValue() {
+    return value_ != null;
+  }
+  /**
+   * <pre>
+   * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return The value.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValue() {
+    return value_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : value_;
+  }
+  /**
+   * <pre>
+   * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValueOrBuilder() {
+    return getValue();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(featureName_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, featureName_);
+    }
+    if (operator_ != org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator.EQUALS.getNumber()) {
+      output.writeEnum(2, operator_);
+    }
+    if (value_ != null) {
+      output.writeMessage(3, getValue());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(featureName_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, featureName_);
+    }
+    if (operator_ != org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator.EQUALS.getNumber()) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeEnumSize(2, operator_);
+    }
+    if (value_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getValue());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison other = (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) obj;
+
+    if (!getFeatureName()
+        .equals(other.getFeatureName())) return false;
+    if (operator_ != other.operator_) return false;
+    if (hasValue() != other.hasValue()) return false;
+    if (hasValue()) {
+      if (!getValue()
+          .equals(other.getValue())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + FEATURENAME_FIELD_NUMBER;
+    hash = (53 * hash) + getFeatureName().hashCode();
+    hash = (37 * hash) + OPERATOR_FIELD_NUMBER;
+    hash = (53 * hash) + operator_;
+    if (hasValue()) {
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.class, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      featureName_ = "";
+
+      operator_ = 0;
+
+      if (valueBuilder_ == null) {
+        value_ = null;
+      } else {
+        value_ = null;
+        valueBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison result = new org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison(this);
+      result.featureName_ = featureName_;
+      result.operator_ = operator_;
+      if (valueBuilder_ == null) {
+        result.value_ = value_;
+      } else {
+        result.value_ = valueBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance()) return this;
+      if (!other.getFeatureName().isEmpty()) {
+        featureName_ = other.featureName_;
+        onChanged();
+      }
+      if (other.operator_ != 0) {
+        setOperatorValue(other.getOperatorValue());
+      }
+      if (other.hasValue()) {
+        mergeValue(other.getValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object featureName_ = "";
+    /**
+     * <code>string featureName = 1;</code>
+     * @return The featureName.
+     */
+    public java.lang.String getFeatureName() {
+      java.lang.Object ref = featureName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        featureName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string featureName = 1;</code>
+     * @return The bytes for featureName.
+     */
+    public com.google.protobuf.ByteString
+        getFeatureNameBytes() {
+      java.lang.Object ref = featureName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        featureName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string featureName = 1;</code>
+     * @param value The featureName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFeatureName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      featureName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string featureName = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFeatureName() {
+      
+      featureName_ = getDefaultInstance().getFeatureName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string featureName = 1;</code>
+     * @param value The bytes for featureName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFeatureNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      featureName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int operator_ = 0;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+     * @return The enum numeric value on the wire for operator.
+     */
+    @java.lang.Override public int getOperatorValue() {
+      return operator_;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+     * @param value The enum numeric value on the wire for operator to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOperatorValue(int value) {
+      
+      operator_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+     * @return The operator.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator getOperator() {
+      @SuppressWarnings("deprecation")
+      org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator result = org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator.valueOf(operator_);
+      return result == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator.UNRECOGNIZED : result;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+     * @param value The operator to set.
+     * @return This builder for chaining.
+     */
+    public Builder setOperator(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator value) {
+      if (value == null) {
+        throw new NullPointerException();
+      }
+      
+      operator_ = value.getNumber();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearOperator() {
+      
+      operator_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.Value value_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> valueBuilder_;
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    public boolean hasValue() {
+      return valueBuilder_ != null || value_ != null;
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     * @return The value.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValue() {
+      if (valueBuilder_ == null) {
+        return value_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : value_;
+      } else {
+        return valueBuilder_.getMessage();
+      }
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder setValue(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        valueBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder setValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder builderForValue) {
+      if (valueBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        valueBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder mergeValue(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valueBuilder_ == null) {
+        if (value_ != null) {
+          value_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.newBuilder(value_).mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        valueBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder clearValue() {
+      if (valueBuilder_ == null) {
+        value_ = null;
+        onChanged();
+      } else {
+        value_ = null;
+        valueBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder getValueBuilder() {
+      
+      onChanged();
+      return getValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValueOrBuilder() {
+      if (valueBuilder_ != null) {
+        return valueBuilder_.getMessageOrBuilder();
+      } else {
+        return value_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : value_;
+      }
+    }
+    /**
+     * <pre>
+     * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+        getValueFieldBuilder() {
+      if (valueBuilder_ == null) {
+        valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder>(
+                getValue(),
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      return valueBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<FeatureComparison>
+      PARSER = new com.google.protobuf.AbstractParser<FeatureComparison>() {
+    @java.lang.Override
+    public FeatureComparison parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new FeatureComparison(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<FeatureComparison> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<FeatureComparison> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
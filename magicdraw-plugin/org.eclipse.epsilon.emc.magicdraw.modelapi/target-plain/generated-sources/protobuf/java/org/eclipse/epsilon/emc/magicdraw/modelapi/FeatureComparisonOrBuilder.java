@@ -0,0 +1,59 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface FeatureComparisonOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string featureName = 1;</code>
+   * @return The featureName.
+   */
+  java.lang.String getFeatureName();
+  /**
+   * <code>string featureName = 1;</code>
+   * @return The bytes for featureName.
+   */
+  com.google.protobuf.ByteString
+      getFeatureNameBytes();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+   * @return The enum numeric value on the wire for operator.
+   */
+  int getOperatorValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator operator = 2;</code>
+   * @return The operator.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Operator getOperator();
+
+  /**
+   * <pre>
+   * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return Whether the value field is set.
+   */
+  boolean hasValue();
+  /**
+   * <pre>
+   * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return The value.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValue();
+  /**
+   * <pre>
+   * Ordering operators only apply to numbers and strings. A notDefined value stands for null.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValueOrBuilder();
+}
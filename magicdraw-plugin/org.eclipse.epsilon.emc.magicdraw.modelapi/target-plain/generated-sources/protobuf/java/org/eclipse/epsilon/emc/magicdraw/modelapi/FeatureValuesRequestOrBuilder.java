@@ -0,0 +1,75 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface FeatureValuesRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @return A list containing the elementIDs.
+   */
+  java.util.List<java.lang.String>
+      getElementIDsList();
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @return The count of elementIDs.
+   */
+  int getElementIDsCount();
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @param index The index of the element to return.
+   * @return The elementIDs at the given index.
+   */
+  java.lang.String getElementIDs(int index);
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the elementIDs at the given index.
+   */
+  com.google.protobuf.ByteString
+      getElementIDsBytes(int index);
+
+  /**
+   * <pre>
+   * Features whose values should be sent for each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @return A list containing the featureNames.
+   */
+  java.util.List<java.lang.String>
+      getFeatureNamesList();
+  /**
+   * <pre>
+   * Features whose values should be sent for each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @return The count of featureNames.
+   */
+  int getFeatureNamesCount();
+  /**
+   * <pre>
+   * Features whose values should be sent for each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @param index The index of the element to return.
+   * @return The featureNames at the given index.
+   */
+  java.lang.String getFeatureNames(int index);
+  /**
+   * <pre>
+   * Features whose values should be sent for each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the featureNames at the given index.
+   */
+  com.google.protobuf.ByteString
+      getFeatureNamesBytes(int index);
+}
@@ -0,0 +1,53 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface FeatureValuesResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * One per requested element, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement> 
+      getElementsList();
+  /**
+   * <pre>
+   * One per requested element, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement getElements(int index);
+  /**
+   * <pre>
+   * One per requested element, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  int getElementsCount();
+  /**
+   * <pre>
+   * One per requested element, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElementOrBuilder> 
+      getElementsOrBuilderList();
+  /**
+   * <pre>
+   * One per requested element, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElementOrBuilder getElementsOrBuilder(
+      int index);
+}
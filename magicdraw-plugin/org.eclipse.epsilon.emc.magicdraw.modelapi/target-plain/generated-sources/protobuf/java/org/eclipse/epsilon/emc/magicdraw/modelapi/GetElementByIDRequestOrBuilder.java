@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface GetElementByIDRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.GetElementByIDRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface GetEnumerationValueRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValueRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string enumeration = 1;</code>
+   * @return The enumeration.
+   */
+  java.lang.String getEnumeration();
+  /**
+   * <code>string enumeration = 1;</code>
+   * @return The bytes for enumeration.
+   */
+  com.google.protobuf.ByteString
+      getEnumerationBytes();
+
+  /**
+   * <code>string label = 2;</code>
+   * @return The label.
+   */
+  java.lang.String getLabel();
+  /**
+   * <code>string label = 2;</code>
+   * @return The bytes for label.
+   */
+  com.google.protobuf.ByteString
+      getLabelBytes();
+}
@@ -0,0 +1,29 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface GetEnumerationValuesRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.GetEnumerationValuesRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * All literals of all the enumerations matching this name will be returned
+   * </pre>
+   *
+   * <code>string enumeration = 1;</code>
+   * @return The enumeration.
+   */
+  java.lang.String getEnumeration();
+  /**
+   * <pre>
+   * All literals of all the enumerations matching this name will be returned
+   * </pre>
+   *
+   * <code>string enumeration = 1;</code>
+   * @return The bytes for enumeration.
+   */
+  com.google.protobuf.ByteString
+      getEnumerationBytes();
+}
@@ -0,0 +1,806 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest}
+ */
+public final class GetReferrersRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)
+    GetReferrersRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use GetReferrersRequest.newBuilder() to construct.
+  private GetReferrersRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private GetReferrersRequest() {
+    elementID_ = "";
+    featureNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new GetReferrersRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private GetReferrersRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            elementID_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              featureNames_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            featureNames_.add(s);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        featureNames_ = featureNames_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.Builder.class);
+  }
+
+  public static final int ELEMENTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object elementID_;
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  @java.lang.Override
+  public java.lang.String getElementID() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      elementID_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getElementIDBytes() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      elementID_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int FEATURENAMES_FIELD_NUMBER = 2;
+  private com.google.protobuf.LazyStringList featureNames_;
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @return A list containing the featureNames.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getFeatureNamesList() {
+    return featureNames_;
+  }
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @return The count of featureNames.
+   */
+  public int getFeatureNamesCount() {
+    return featureNames_.size();
+  }
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @param index The index of the element to return.
+   * @return The featureNames at the given index.
+   */
+  public java.lang.String getFeatureNames(int index) {
+    return featureNames_.get(index);
+  }
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the featureNames at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getFeatureNamesBytes(int index) {
+    return featureNames_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, elementID_);
+    }
+    for (int i = 0; i < featureNames_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, featureNames_.getRaw(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, elementID_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < featureNames_.size(); i++) {
+        dataSize += computeStringSizeNoTag(featureNames_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getFeatureNamesList().size();
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest) obj;
+
+    if (!getElementID()
+        .equals(other.getElementID())) return false;
+    if (!getFeatureNamesList()
+        .equals(other.getFeatureNamesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ELEMENTID_FIELD_NUMBER;
+    hash = (53 * hash) + getElementID().hashCode();
+    if (getFeatureNamesCount() > 0) {
+      hash = (37 * hash) + FEATURENAMES_FIELD_NUMBER;
+      hash = (53 * hash) + getFeatureNamesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      elementID_ = "";
+
+      featureNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.elementID_ = elementID_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        featureNames_ = featureNames_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.featureNames_ = featureNames_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest.getDefaultInstance()) return this;
+      if (!other.getElementID().isEmpty()) {
+        elementID_ = other.elementID_;
+        onChanged();
+      }
+      if (!other.featureNames_.isEmpty()) {
+        if (featureNames_.isEmpty()) {
+          featureNames_ = other.featureNames_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureFeatureNamesIsMutable();
+          featureNames_.addAll(other.featureNames_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object elementID_ = "";
+    /**
+     * <code>string elementID = 1;</code>
+     * @return The elementID.
+     */
+    public java.lang.String getElementID() {
+      java.lang.Object ref = elementID_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        elementID_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @return The bytes for elementID.
+     */
+    public com.google.protobuf.ByteString
+        getElementIDBytes() {
+      java.lang.Object ref = elementID_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        elementID_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @param value The elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementID(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearElementID() {
+      
+      elementID_ = getDefaultInstance().getElementID();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @param value The bytes for elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementIDBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList featureNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureFeatureNamesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        featureNames_ = new com.google.protobuf.LazyStringArrayList(featureNames_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @return A list containing the featureNames.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFeatureNamesList() {
+      return featureNames_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @return The count of featureNames.
+     */
+    public int getFeatureNamesCount() {
+      return featureNames_.size();
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @param index The index of the element to return.
+     * @return The featureNames at the given index.
+     */
+    public java.lang.String getFeatureNames(int index) {
+      return featureNames_.get(index);
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the featureNames at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFeatureNamesBytes(int index) {
+      return featureNames_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @param index The index to set the value at.
+     * @param value The featureNames to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFeatureNames(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFeatureNamesIsMutable();
+      featureNames_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @param value The featureNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFeatureNames(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFeatureNamesIsMutable();
+      featureNames_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @param values The featureNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllFeatureNames(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureFeatureNamesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, featureNames_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFeatureNames() {
+      featureNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only references through features with these names are considered
+     * </pre>
+     *
+     * <code>repeated string featureNames = 2;</code>
+     * @param value The bytes of the featureNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFeatureNamesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureFeatureNamesIsMutable();
+      featureNames_.add(value);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<GetReferrersRequest>
+      PARSER = new com.google.protobuf.AbstractParser<GetReferrersRequest>() {
+    @java.lang.Override
+    public GetReferrersRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new GetReferrersRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<GetReferrersRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<GetReferrersRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
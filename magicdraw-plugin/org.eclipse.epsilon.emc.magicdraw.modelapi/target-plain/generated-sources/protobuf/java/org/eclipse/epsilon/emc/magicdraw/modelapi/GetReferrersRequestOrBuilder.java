@@ -0,0 +1,62 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface GetReferrersRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.GetReferrersRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @return A list containing the featureNames.
+   */
+  java.util.List<java.lang.String>
+      getFeatureNamesList();
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @return The count of featureNames.
+   */
+  int getFeatureNamesCount();
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @param index The index of the element to return.
+   * @return The featureNames at the given index.
+   */
+  java.lang.String getFeatureNames(int index);
+  /**
+   * <pre>
+   * If not empty, only references through features with these names are considered
+   * </pre>
+   *
+   * <code>repeated string featureNames = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the featureNames at the given index.
+   */
+  com.google.protobuf.ByteString
+      getFeatureNamesBytes(int index);
+}
@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface GetTypeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string typeName = 1;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <code>string typeName = 1;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+}
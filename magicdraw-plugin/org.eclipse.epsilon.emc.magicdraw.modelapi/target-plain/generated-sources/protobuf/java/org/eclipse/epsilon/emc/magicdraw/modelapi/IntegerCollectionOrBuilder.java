@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface IntegerCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated sint32 values = 1;</code>
+   * @return A list containing the values.
+   */
+  java.util.List<java.lang.Integer> getValuesList();
+  /**
+   * <code>repeated sint32 values = 1;</code>
+   * @return The count of values.
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated sint32 values = 1;</code>
+   * @param index The index of the element to return.
+   * @return The values at the given index.
+   */
+  int getValues(int index);
+}
@@ -0,0 +1,673 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition}
+ */
+public final class ListPosition extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)
+    ListPositionOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ListPosition.newBuilder() to construct.
+  private ListPosition(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ListPosition() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ListPosition();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ListPosition(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder subBuilder = null;
+            if (list_ != null) {
+              subBuilder = list_.toBuilder();
+            }
+            list_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(list_);
+              list_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            position_ = input.readUInt32();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.Builder.class);
+  }
+
+  public static final int LIST_FIELD_NUMBER = 1;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list_;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return Whether the list field is set.
+   */
+  @java.lang.Override
+  public boolean hasList() {
+    return list_ != null;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return The list.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getList() {
+    return list_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance() : list_;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getListOrBuilder() {
+    return getList();
+  }
+
+  public static final int POSITION_FIELD_NUMBER = 2;
+  private int position_;
+  /**
+   * <code>uint32 position = 2;</code>
+   * @return The position.
+   */
+  @java.lang.Override
+  public int getPosition() {
+    return position_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (list_ != null) {
+      output.writeMessage(1, getList());
+    }
+    if (position_ != 0) {
+      output.writeUInt32(2, position_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (list_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getList());
+    }
+    if (position_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, position_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition other = (org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition) obj;
+
+    if (hasList() != other.hasList()) return false;
+    if (hasList()) {
+      if (!getList()
+          .equals(other.getList())) return false;
+    }
+    if (getPosition()
+        != other.getPosition()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasList()) {
+      hash = (37 * hash) + LIST_FIELD_NUMBER;
+      hash = (53 * hash) + getList().hashCode();
+    }
+    hash = (37 * hash) + POSITION_FIELD_NUMBER;
+    hash = (53 * hash) + getPosition();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (listBuilder_ == null) {
+        list_ = null;
+      } else {
+        list_ = null;
+        listBuilder_ = null;
+      }
+      position_ = 0;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition result = new org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition(this);
+      if (listBuilder_ == null) {
+        result.list_ = list_;
+      } else {
+        result.list_ = listBuilder_.build();
+      }
+      result.position_ = position_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition.getDefaultInstance()) return this;
+      if (other.hasList()) {
+        mergeList(other.getList());
+      }
+      if (other.getPosition() != 0) {
+        setPosition(other.getPosition());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder> listBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     * @return Whether the list field is set.
+     */
+    public boolean hasList() {
+      return listBuilder_ != null || list_ != null;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     * @return The list.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getList() {
+      if (listBuilder_ == null) {
+        return list_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance() : list_;
+      } else {
+        return listBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder setList(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList value) {
+      if (listBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        list_ = value;
+        onChanged();
+      } else {
+        listBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder setList(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder builderForValue) {
+      if (listBuilder_ == null) {
+        list_ = builderForValue.build();
+        onChanged();
+      } else {
+        listBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder mergeList(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList value) {
+      if (listBuilder_ == null) {
+        if (list_ != null) {
+          list_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.newBuilder(list_).mergeFrom(value).buildPartial();
+        } else {
+          list_ = value;
+        }
+        onChanged();
+      } else {
+        listBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder clearList() {
+      if (listBuilder_ == null) {
+        list_ = null;
+        onChanged();
+      } else {
+        list_ = null;
+        listBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder getListBuilder() {
+      
+      onChanged();
+      return getListFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getListOrBuilder() {
+      if (listBuilder_ != null) {
+        return listBuilder_.getMessageOrBuilder();
+      } else {
+        return list_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance() : list_;
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder> 
+        getListFieldBuilder() {
+      if (listBuilder_ == null) {
+        listBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder>(
+                getList(),
+                getParentForChildren(),
+                isClean());
+        list_ = null;
+      }
+      return listBuilder_;
+    }
+
+    private int position_ ;
+    /**
+     * <code>uint32 position = 2;</code>
+     * @return The position.
+     */
+    @java.lang.Override
+    public int getPosition() {
+      return position_;
+    }
+    /**
+     * <code>uint32 position = 2;</code>
+     * @param value The position to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPosition(int value) {
+      
+      position_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>uint32 position = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPosition() {
+      
+      position_ = 0;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ListPosition>
+      PARSER = new com.google.protobuf.AbstractParser<ListPosition>() {
+    @java.lang.Override
+    public ListPosition parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ListPosition(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ListPosition> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ListPosition> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
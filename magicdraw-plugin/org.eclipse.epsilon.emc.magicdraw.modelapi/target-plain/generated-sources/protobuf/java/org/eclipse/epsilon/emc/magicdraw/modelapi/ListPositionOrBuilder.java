@@ -0,0 +1,30 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ListPositionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPosition)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return Whether the list field is set.
+   */
+  boolean hasList();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return The list.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getList();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getListOrBuilder();
+
+  /**
+   * <code>uint32 position = 2;</code>
+   * @return The position.
+   */
+  int getPosition();
+}
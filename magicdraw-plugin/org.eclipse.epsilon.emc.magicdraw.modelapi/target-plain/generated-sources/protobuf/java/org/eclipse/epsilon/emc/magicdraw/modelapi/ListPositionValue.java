@@ -0,0 +1,915 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue}
+ */
+public final class ListPositionValue extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)
+    ListPositionValueOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ListPositionValue.newBuilder() to construct.
+  private ListPositionValue(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ListPositionValue() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ListPositionValue();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ListPositionValue(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder subBuilder = null;
+            if (list_ != null) {
+              subBuilder = list_.toBuilder();
+            }
+            list_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(list_);
+              list_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+            bitField0_ |= 0x00000001;
+            position_ = input.readUInt32();
+            break;
+          }
+          case 26: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder subBuilder = null;
+            if (value_ != null) {
+              subBuilder = value_.toBuilder();
+            }
+            value_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.Value.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(value_);
+              value_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.Builder.class);
+  }
+
+  private int bitField0_;
+  public static final int LIST_FIELD_NUMBER = 1;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list_;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return Whether the list field is set.
+   */
+  @java.lang.Override
+  public boolean hasList() {
+    return list_ != null;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return The list.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getList() {
+    return list_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance() : list_;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getListOrBuilder() {
+    return getList();
+  }
+
+  public static final int POSITION_FIELD_NUMBER = 2;
+  private int position_;
+  /**
+   * <pre>
+   * NOTE: if omitted during an addition, will add to the end
+   * </pre>
+   *
+   * <code>optional uint32 position = 2;</code>
+   * @return Whether the position field is set.
+   */
+  @java.lang.Override
+  public boolean hasPosition() {
+    return ((bitField0_ & 0x00000001) != 0);
+  }
+  /**
+   * <pre>
+   * NOTE: if omitted during an addition, will add to the end
+   * </pre>
+   *
+   * <code>optional uint32 position = 2;</code>
+   * @return The position.
+   */
+  @java.lang.Override
+  public int getPosition() {
+    return position_;
+  }
+
+  public static final int VALUE_FIELD_NUMBER = 3;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.Value value_;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return Whether the value field is set.
+   */
+  @java.lang.Override
+  public boolean hasValue() {
+    return value_ != null;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return The value.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValue() {
+    return value_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : value_;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValueOrBuilder() {
+    return getValue();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (list_ != null) {
+      output.writeMessage(1, getList());
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      output.writeUInt32(2, position_);
+    }
+    if (value_ != null) {
+      output.writeMessage(3, getValue());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (list_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getList());
+    }
+    if (((bitField0_ & 0x00000001) != 0)) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(2, position_);
+    }
+    if (value_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getValue());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue other = (org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue) obj;
+
+    if (hasList() != other.hasList()) return false;
+    if (hasList()) {
+      if (!getList()
+          .equals(other.getList())) return false;
+    }
+    if (hasPosition() != other.hasPosition()) return false;
+    if (hasPosition()) {
+      if (getPosition()
+          != other.getPosition()) return false;
+    }
+    if (hasValue() != other.hasValue()) return false;
+    if (hasValue()) {
+      if (!getValue()
+          .equals(other.getValue())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasList()) {
+      hash = (37 * hash) + LIST_FIELD_NUMBER;
+      hash = (53 * hash) + getList().hashCode();
+    }
+    if (hasPosition()) {
+      hash = (37 * hash) + POSITION_FIELD_NUMBER;
+      hash = (53 * hash) + getPosition();
+    }
+    if (hasValue()) {
+      hash = (37 * hash) + VALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getValue().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValueOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (listBuilder_ == null) {
+        list_ = null;
+      } else {
+        list_ = null;
+        listBuilder_ = null;
+      }
+      position_ = 0;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      if (valueBuilder_ == null) {
+        value_ = null;
+      } else {
+        value_ = null;
+        valueBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue result = new org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue(this);
+      int from_bitField0_ = bitField0_;
+      int to_bitField0_ = 0;
+      if (listBuilder_ == null) {
+        result.list_ = list_;
+      } else {
+        result.list_ = listBuilder_.build();
+      }
+      if (((from_bitField0_ & 0x00000001) != 0)) {
+        result.position_ = position_;
+        to_bitField0_ |= 0x00000001;
+      }
+      if (valueBuilder_ == null) {
+        result.value_ = value_;
+      } else {
+        result.value_ = valueBuilder_.build();
+      }
+      result.bitField0_ = to_bitField0_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue.getDefaultInstance()) return this;
+      if (other.hasList()) {
+        mergeList(other.getList());
+      }
+      if (other.hasPosition()) {
+        setPosition(other.getPosition());
+      }
+      if (other.hasValue()) {
+        mergeValue(other.getValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder> listBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     * @return Whether the list field is set.
+     */
+    public boolean hasList() {
+      return listBuilder_ != null || list_ != null;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     * @return The list.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getList() {
+      if (listBuilder_ == null) {
+        return list_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance() : list_;
+      } else {
+        return listBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder setList(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList value) {
+      if (listBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        list_ = value;
+        onChanged();
+      } else {
+        listBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder setList(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder builderForValue) {
+      if (listBuilder_ == null) {
+        list_ = builderForValue.build();
+        onChanged();
+      } else {
+        listBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder mergeList(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList value) {
+      if (listBuilder_ == null) {
+        if (list_ != null) {
+          list_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.newBuilder(list_).mergeFrom(value).buildPartial();
+        } else {
+          list_ = value;
+        }
+        onChanged();
+      } else {
+        listBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public Builder clearList() {
+      if (listBuilder_ == null) {
+        list_ = null;
+        onChanged();
+      } else {
+        list_ = null;
+        listBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder getListBuilder() {
+      
+      onChanged();
+      return getListFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getListOrBuilder() {
+      if (listBuilder_ != null) {
+        return listBuilder_.getMessageOrBuilder();
+      } else {
+        return list_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance() : list_;
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder> 
+        getListFieldBuilder() {
+      if (listBuilder_ == null) {
+        listBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder>(
+                getList(),
+                getParentForChildren(),
+                isClean());
+        list_ = null;
+      }
+      return listBuilder_;
+    }
+
+    private int position_ ;
+    /**
+     * <pre>
+     * NOTE: if omitted during an addition, will add to the end
+     * </pre>
+     *
+     * <code>optional uint32 position = 2;</code>
+     * @return Whether the position field is set.
+     */
+    @java.lang.Override
+    public boolean hasPosition() {
+      return ((bitField0_ & 0x00000001) != 0);
+    }
+    /**
+     * <pre>
+     * NOTE: if omitted during an addition, will add to the end
+     * </pre>
+     *
+     * <code>optional uint32 position = 2;</code>
+     * @return The position.
+     */
+    @java.lang.Override
+    public int getPosition() {
+      return position_;
+    }
+    /**
+     * <pre>
+     * NOTE: if omitted during an addition, will add to the end
+     * </pre>
+     *
+     * <code>optional uint32 position = 2;</code>
+     * @param value The position to set.
+     * @return This builder for chaining.
+     */
+    public Builder setPosition(int value) {
+      bitField0_ |= 0x00000001;
+      position_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * NOTE: if omitted during an addition, will add to the end
+     * </pre>
+     *
+     * <code>optional uint32 position = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearPosition() {
+      bitField0_ = (bitField0_ & ~0x00000001);
+      position_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.Value value_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> valueBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     * @return Whether the value field is set.
+     */
+    public boolean hasValue() {
+      return valueBuilder_ != null || value_ != null;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     * @return The value.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValue() {
+      if (valueBuilder_ == null) {
+        return value_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : value_;
+      } else {
+        return valueBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder setValue(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        valueBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder setValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder builderForValue) {
+      if (valueBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        valueBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder mergeValue(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valueBuilder_ == null) {
+        if (value_ != null) {
+          value_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.newBuilder(value_).mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        valueBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public Builder clearValue() {
+      if (valueBuilder_ == null) {
+        value_ = null;
+        onChanged();
+      } else {
+        value_ = null;
+        valueBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder getValueBuilder() {
+      
+      onChanged();
+      return getValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValueOrBuilder() {
+      if (valueBuilder_ != null) {
+        return valueBuilder_.getMessageOrBuilder();
+      } else {
+        return value_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : value_;
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+        getValueFieldBuilder() {
+      if (valueBuilder_ == null) {
+        valueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder>(
+                getValue(),
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      return valueBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ListPositionValue>
+      PARSER = new com.google.protobuf.AbstractParser<ListPositionValue>() {
+    @java.lang.Override
+    public ListPositionValue parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ListPositionValue(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ListPositionValue> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ListPositionValue> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,58 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ListPositionValueOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ListPositionValue)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return Whether the list field is set.
+   */
+  boolean hasList();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   * @return The list.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getList();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList list = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getListOrBuilder();
+
+  /**
+   * <pre>
+   * NOTE: if omitted during an addition, will add to the end
+   * </pre>
+   *
+   * <code>optional uint32 position = 2;</code>
+   * @return Whether the position field is set.
+   */
+  boolean hasPosition();
+  /**
+   * <pre>
+   * NOTE: if omitted during an addition, will add to the end
+   * </pre>
+   *
+   * <code>optional uint32 position = 2;</code>
+   * @return The position.
+   */
+  int getPosition();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return Whether the value field is set.
+   */
+  boolean hasValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   * @return The value.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value value = 3;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValueOrBuilder();
+}
@@ -0,0 +1,26 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface LongCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   * @return A list containing the values.
+   */
+  java.util.List<java.lang.Long> getValuesList();
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   * @return The count of values.
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated sint64 values = 1;</code>
+   * @param index The index of the element to return.
+   * @return The values at the given index.
+   */
+  long getValues(int index);
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ModelElementCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement values = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement> 
+      getValuesList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement values = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getValues(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement values = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement values = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getValuesOrBuilder(
+      int index);
+}
@@ -0,0 +1,57 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ModelElementOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Note: elementIDs may be direct BaseElement IDs (for MDObject instances), or
+   * nsURI#fragment strings (for EObject instances related to the metamodel). This
+   * is the same across all APIs. The API will refuse to change non-MDObject instances.
+   * </pre>
+   *
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <pre>
+   * Note: elementIDs may be direct BaseElement IDs (for MDObject instances), or
+   * nsURI#fragment strings (for EObject instances related to the metamodel). This
+   * is the same across all APIs. The API will refuse to change non-MDObject instances.
+   * </pre>
+   *
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+
+  /**
+   * <code>string metamodelUri = 2;</code>
+   * @return The metamodelUri.
+   */
+  java.lang.String getMetamodelUri();
+  /**
+   * <code>string metamodelUri = 2;</code>
+   * @return The bytes for metamodelUri.
+   */
+  com.google.protobuf.ByteString
+      getMetamodelUriBytes();
+
+  /**
+   * <code>string typeName = 3;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <code>string typeName = 3;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+}
@@ -0,0 +1,1113 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType}
+ */
+public final class ModelElementType extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)
+    ModelElementTypeOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use ModelElementType.newBuilder() to construct.
+  private ModelElementType(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private ModelElementType() {
+    metamodelUri_ = "";
+    typeName_ = "";
+    allSupertypes_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new ModelElementType();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private ModelElementType(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            metamodelUri_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            typeName_ = s;
+            break;
+          }
+          case 24: {
+
+            isAbstract_ = input.readBool();
+            break;
+          }
+          case 34: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              allSupertypes_ = new java.util.ArrayList<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            allSupertypes_.add(
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.parser(), extensionRegistry));
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        allSupertypes_ = java.util.Collections.unmodifiableList(allSupertypes_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.Builder.class);
+  }
+
+  public static final int METAMODELURI_FIELD_NUMBER = 1;
+  private volatile java.lang.Object metamodelUri_;
+  /**
+   * <code>string metamodelUri = 1;</code>
+   * @return The metamodelUri.
+   */
+  @java.lang.Override
+  public java.lang.String getMetamodelUri() {
+    java.lang.Object ref = metamodelUri_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      metamodelUri_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string metamodelUri = 1;</code>
+   * @return The bytes for metamodelUri.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getMetamodelUriBytes() {
+    java.lang.Object ref = metamodelUri_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      metamodelUri_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int TYPENAME_FIELD_NUMBER = 2;
+  private volatile java.lang.Object typeName_;
+  /**
+   * <code>string typeName = 2;</code>
+   * @return The typeName.
+   */
+  @java.lang.Override
+  public java.lang.String getTypeName() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      typeName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string typeName = 2;</code>
+   * @return The bytes for typeName.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTypeNameBytes() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      typeName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ISABSTRACT_FIELD_NUMBER = 3;
+  private boolean isAbstract_;
+  /**
+   * <code>bool isAbstract = 3;</code>
+   * @return The isAbstract.
+   */
+  @java.lang.Override
+  public boolean getIsAbstract() {
+    return isAbstract_;
+  }
+
+  public static final int ALLSUPERTYPES_FIELD_NUMBER = 4;
+  private java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference> allSupertypes_;
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference> getAllSupertypesList() {
+    return allSupertypes_;
+  }
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder> 
+      getAllSupertypesOrBuilderList() {
+    return allSupertypes_;
+  }
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  @java.lang.Override
+  public int getAllSupertypesCount() {
+    return allSupertypes_.size();
+  }
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference getAllSupertypes(int index) {
+    return allSupertypes_.get(index);
+  }
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder getAllSupertypesOrBuilder(
+      int index) {
+    return allSupertypes_.get(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(metamodelUri_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, metamodelUri_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, typeName_);
+    }
+    if (isAbstract_ != false) {
+      output.writeBool(3, isAbstract_);
+    }
+    for (int i = 0; i < allSupertypes_.size(); i++) {
+      output.writeMessage(4, allSupertypes_.get(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(metamodelUri_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, metamodelUri_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, typeName_);
+    }
+    if (isAbstract_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, isAbstract_);
+    }
+    for (int i = 0; i < allSupertypes_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, allSupertypes_.get(i));
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType other = (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType) obj;
+
+    if (!getMetamodelUri()
+        .equals(other.getMetamodelUri())) return false;
+    if (!getTypeName()
+        .equals(other.getTypeName())) return false;
+    if (getIsAbstract()
+        != other.getIsAbstract()) return false;
+    if (!getAllSupertypesList()
+        .equals(other.getAllSupertypesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + METAMODELURI_FIELD_NUMBER;
+    hash = (53 * hash) + getMetamodelUri().hashCode();
+    hash = (37 * hash) + TYPENAME_FIELD_NUMBER;
+    hash = (53 * hash) + getTypeName().hashCode();
+    hash = (37 * hash) + ISABSTRACT_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getIsAbstract());
+    if (getAllSupertypesCount() > 0) {
+      hash = (37 * hash) + ALLSUPERTYPES_FIELD_NUMBER;
+      hash = (53 * hash) + getAllSupertypesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.class, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getAllSupertypesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      metamodelUri_ = "";
+
+      typeName_ = "";
+
+      isAbstract_ = false;
+
+      if (allSupertypesBuilder_ == null) {
+        allSupertypes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        allSupertypesBuilder_.clear();
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType result = new org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType(this);
+      int from_bitField0_ = bitField0_;
+      result.metamodelUri_ = metamodelUri_;
+      result.typeName_ = typeName_;
+      result.isAbstract_ = isAbstract_;
+      if (allSupertypesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          allSupertypes_ = java.util.Collections.unmodifiableList(allSupertypes_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.allSupertypes_ = allSupertypes_;
+      } else {
+        result.allSupertypes_ = allSupertypesBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType.getDefaultInstance()) return this;
+      if (!other.getMetamodelUri().isEmpty()) {
+        metamodelUri_ = other.metamodelUri_;
+        onChanged();
+      }
+      if (!other.getTypeName().isEmpty()) {
+        typeName_ = other.typeName_;
+        onChanged();
+      }
+      if (other.getIsAbstract() != false) {
+        setIsAbstract(other.getIsAbstract());
+      }
+      if (allSupertypesBuilder_ == null) {
+        if (!other.allSupertypes_.isEmpty()) {
+          if (allSupertypes_.isEmpty()) {
+            allSupertypes_ = other.allSupertypes_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureAllSupertypesIsMutable();
+            allSupertypes_.addAll(other.allSupertypes_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.allSupertypes_.isEmpty()) {
+          if (allSupertypesBuilder_.isEmpty()) {
+            allSupertypesBuilder_.dispose();
+            allSupertypesBuilder_ = null;
+            allSupertypes_ = other.allSupertypes_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            allSupertypesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getAllSupertypesFieldBuilder() : null;
+          } else {
+            allSupertypesBuilder_.addAllMessages(other.allSupertypes_);
+          }
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object metamodelUri_ = "";
+    /**
+     * <code>string metamodelUri = 1;</code>
+     * @return The metamodelUri.
+     */
+    public java.lang.String getMetamodelUri() {
+      java.lang.Object ref = metamodelUri_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        metamodelUri_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string metamodelUri = 1;</code>
+     * @return The bytes for metamodelUri.
+     */
+    public com.google.protobuf.ByteString
+        getMetamodelUriBytes() {
+      java.lang.Object ref = metamodelUri_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        metamodelUri_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string metamodelUri = 1;</code>
+     * @param value The metamodelUri to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMetamodelUri(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      metamodelUri_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string metamodelUri = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMetamodelUri() {
+      
+      metamodelUri_ = getDefaultInstance().getMetamodelUri();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string metamodelUri = 1;</code>
+     * @param value The bytes for metamodelUri to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMetamodelUriBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      metamodelUri_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object typeName_ = "";
+    /**
+     * <code>string typeName = 2;</code>
+     * @return The typeName.
+     */
+    public java.lang.String getTypeName() {
+      java.lang.Object ref = typeName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        typeName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string typeName = 2;</code>
+     * @return The bytes for typeName.
+     */
+    public com.google.protobuf.ByteString
+        getTypeNameBytes() {
+      java.lang.Object ref = typeName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        typeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string typeName = 2;</code>
+     * @param value The typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string typeName = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeName() {
+      
+      typeName_ = getDefaultInstance().getTypeName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string typeName = 2;</code>
+     * @param value The bytes for typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private boolean isAbstract_ ;
+    /**
+     * <code>bool isAbstract = 3;</code>
+     * @return The isAbstract.
+     */
+    @java.lang.Override
+    public boolean getIsAbstract() {
+      return isAbstract_;
+    }
+    /**
+     * <code>bool isAbstract = 3;</code>
+     * @param value The isAbstract to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsAbstract(boolean value) {
+      
+      isAbstract_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool isAbstract = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsAbstract() {
+      
+      isAbstract_ = false;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference> allSupertypes_ =
+      java.util.Collections.emptyList();
+    private void ensureAllSupertypesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        allSupertypes_ = new java.util.ArrayList<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference>(allSupertypes_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder> allSupertypesBuilder_;
+
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference> getAllSupertypesList() {
+      if (allSupertypesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(allSupertypes_);
+      } else {
+        return allSupertypesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public int getAllSupertypesCount() {
+      if (allSupertypesBuilder_ == null) {
+        return allSupertypes_.size();
+      } else {
+        return allSupertypesBuilder_.getCount();
+      }
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference getAllSupertypes(int index) {
+      if (allSupertypesBuilder_ == null) {
+        return allSupertypes_.get(index);
+      } else {
+        return allSupertypesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder setAllSupertypes(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference value) {
+      if (allSupertypesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.set(index, value);
+        onChanged();
+      } else {
+        allSupertypesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder setAllSupertypes(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder builderForValue) {
+      if (allSupertypesBuilder_ == null) {
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        allSupertypesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder addAllSupertypes(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference value) {
+      if (allSupertypesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.add(value);
+        onChanged();
+      } else {
+        allSupertypesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder addAllSupertypes(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference value) {
+      if (allSupertypesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.add(index, value);
+        onChanged();
+      } else {
+        allSupertypesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder addAllSupertypes(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder builderForValue) {
+      if (allSupertypesBuilder_ == null) {
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.add(builderForValue.build());
+        onChanged();
+      } else {
+        allSupertypesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder addAllSupertypes(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder builderForValue) {
+      if (allSupertypesBuilder_ == null) {
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        allSupertypesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder addAllAllSupertypes(
+        java.lang.Iterable<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference> values) {
+      if (allSupertypesBuilder_ == null) {
+        ensureAllSupertypesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, allSupertypes_);
+        onChanged();
+      } else {
+        allSupertypesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder clearAllSupertypes() {
+      if (allSupertypesBuilder_ == null) {
+        allSupertypes_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        allSupertypesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public Builder removeAllSupertypes(int index) {
+      if (allSupertypesBuilder_ == null) {
+        ensureAllSupertypesIsMutable();
+        allSupertypes_.remove(index);
+        onChanged();
+      } else {
+        allSupertypesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder getAllSupertypesBuilder(
+        int index) {
+      return getAllSupertypesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder getAllSupertypesOrBuilder(
+        int index) {
+      if (allSupertypesBuilder_ == null) {
+        return allSupertypes_.get(index);  } else {
+        return allSupertypesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder> 
+         getAllSupertypesOrBuilderList() {
+      if (allSupertypesBuilder_ != null) {
+        return allSupertypesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(allSupertypes_);
+      }
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder addAllSupertypesBuilder() {
+      return getAllSupertypesFieldBuilder().addBuilder(
+          org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder addAllSupertypesBuilder(
+        int index) {
+      return getAllSupertypesFieldBuilder().addBuilder(
+          index, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.getDefaultInstance());
+    }
+    /**
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+     */
+    public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder> 
+         getAllSupertypesBuilderList() {
+      return getAllSupertypesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder> 
+        getAllSupertypesFieldBuilder() {
+      if (allSupertypesBuilder_ == null) {
+        allSupertypesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder>(
+                allSupertypes_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        allSupertypes_ = null;
+      }
+      return allSupertypesBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<ModelElementType>
+      PARSER = new com.google.protobuf.AbstractParser<ModelElementType>() {
+    @java.lang.Override
+    public ModelElementType parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new ModelElementType(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<ModelElementType> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<ModelElementType> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,63 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ModelElementTypeOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string metamodelUri = 1;</code>
+   * @return The metamodelUri.
+   */
+  java.lang.String getMetamodelUri();
+  /**
+   * <code>string metamodelUri = 1;</code>
+   * @return The bytes for metamodelUri.
+   */
+  com.google.protobuf.ByteString
+      getMetamodelUriBytes();
+
+  /**
+   * <code>string typeName = 2;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <code>string typeName = 2;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+
+  /**
+   * <code>bool isAbstract = 3;</code>
+   * @return The isAbstract.
+   */
+  boolean getIsAbstract();
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference> 
+      getAllSupertypesList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference getAllSupertypes(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  int getAllSupertypesCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder> 
+      getAllSupertypesOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference allSupertypes = 4;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReferenceOrBuilder getAllSupertypesOrBuilder(
+      int index);
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ModelElementTypeReferenceOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementTypeReference)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string metamodelUri = 1;</code>
+   * @return The metamodelUri.
+   */
+  java.lang.String getMetamodelUri();
+  /**
+   * <code>string metamodelUri = 1;</code>
+   * @return The bytes for metamodelUri.
+   */
+  com.google.protobuf.ByteString
+      getMetamodelUriBytes();
+
+  /**
+   * <code>string typeName = 2;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <code>string typeName = 2;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+}
@@ -0,0 +1,983 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public final class ModelServiceOuterClass {
+  private ModelServiceOuterClass() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElement_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElement_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementTypeReference_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementTypeReference_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FloatCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FloatCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DoubleCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DoubleCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleInteger_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleInteger_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleBoolean_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleBoolean_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_IntegerCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_IntegerCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_LongCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_LongCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeCount_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeCount_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogram_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogram_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectedElement_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectedElement_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigationResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigationResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeChunk_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeChunk_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValue_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValue_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValueCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValueCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProxyList_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProxyList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentRange_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentRange_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringTest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringTest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_PredicateCollection_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_PredicateCollection_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_ParametersEntry_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_ParametersEntry_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ScriptResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ScriptResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogramRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogramRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetFeatureValueRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetFeatureValueRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NameLookupRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NameLookupRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesResult_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesResult_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetTypeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetTypeRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValueRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValueRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValuesRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValuesRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetElementByIDRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetElementByIDRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Empty_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Empty_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_CreateInstanceRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_CreateInstanceRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DeleteInstanceRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DeleteInstanceRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_OpenSessionRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_OpenSessionRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectLocation_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectLocation_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectInfo_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectInfo_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileRequest_fieldAccessorTable;
+  static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileStereotypeRequest_descriptor;
+  static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileStereotypeRequest_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\022ModelService.proto\022*org.eclipse.epsilo" +
+      "n.emc.magicdraw.modelapi\"I\n\014ModelElement" +
+      "\022\021\n\telementID\030\001 \001(\t\022\024\n\014metamodelUri\030\002 \001(" +
+      "\t\022\020\n\010typeName\030\003 \001(\t\"C\n\031ModelElementTypeR" +
+      "eference\022\024\n\014metamodelUri\030\001 \001(\t\022\020\n\010typeNa" +
+      "me\030\002 \001(\t\"\254\001\n\020ModelElementType\022\024\n\014metamod" +
+      "elUri\030\001 \001(\t\022\020\n\010typeName\030\002 \001(\t\022\022\n\nisAbstr" +
+      "act\030\003 \001(\010\022\\\n\rallSupertypes\030\004 \003(\0132E.org.e" +
+      "clipse.epsilon.emc.magicdraw.modelapi.Mo" +
+      "delElementTypeReference\"\"\n\020StringCollect" +
+      "ion\022\016\n\006values\030\001 \003(\t\"!\n\017FloatCollection\022\016" +
+      "\n\006values\030\001 \003(\002\"\"\n\020DoubleCollection\022\016\n\006va" +
+      "lues\030\001 \003(\001\"\036\n\rSingleInteger\022\r\n\005value\030\001 \001" +
+      "(\021\"\036\n\rSingleBoolean\022\r\n\005value\030\001 \001(\010\"#\n\021In" +
+      "tegerCollection\022\016\n\006values\030\001 \003(\021\" \n\016LongC" +
+      "ollection\022\016\n\006values\030\001 \003(\022\"#\n\021BooleanColl" +
+      "ection\022\016\n\006values\030\001 \003(\010\"b\n\026ModelElementCo" +
+      "llection\022H\n\006values\030\001 \003(\01328.org.eclipse.e" +
+      "psilon.emc.magicdraw.modelapi.ModelEleme" +
+      "nt\"H\n\nTypeExtent\022\020\n\010typeName\030\001 \001(\t\022\023\n\013ki" +
+      "ndIndices\030\002 \003(\r\022\023\n\013typeIndices\030\003 \003(\r\"\261\001\n" +
+      "\020ExtentCollection\022T\n\010elements\030\001 \001(\0132B.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".ModelElementCollection\022G\n\007extents\030\002 \003(\013" +
+      "26.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.TypeExtent\"B\n\tTypeCount\022\024\n\014metamod" +
+      "elUri\030\001 \001(\t\022\020\n\010typeName\030\002 \001(\t\022\r\n\005count\030\003" +
+      " \001(\r\"V\n\rTypeHistogram\022E\n\006counts\030\001 \003(\01325." +
+      "org.eclipse.epsilon.emc.magicdraw.modela" +
+      "pi.TypeCount\"\240\001\n\020ProjectedElement\022I\n\007ele" +
+      "ment\030\001 \001(\01328.org.eclipse.epsilon.emc.mag" +
+      "icdraw.modelapi.ModelElement\022A\n\006values\030\002" +
+      " \003(\01321.org.eclipse.epsilon.emc.magicdraw" +
+      ".modelapi.Value\"b\n\020NavigationResult\022N\n\010e" +
+      "lements\030\001 \003(\0132<.org.eclipse.epsilon.emc." +
+      "magicdraw.modelapi.ProjectedElement\"\312\001\n\013" +
+      "SubtreeNode\022I\n\007element\030\001 \001(\01328.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.ModelE" +
+      "lement\022\023\n\013parentIndex\030\002 \001(\021\022A\n\006values\030\003 " +
+      "\003(\01321.org.eclipse.epsilon.emc.magicdraw." +
+      "modelapi.Value\022\030\n\020contentsComplete\030\004 \001(\010" +
+      "\"V\n\014SubtreeChunk\022F\n\005nodes\030\001 \003(\01327.org.ec" +
+      "lipse.epsilon.emc.magicdraw.modelapi.Sub" +
+      "treeNode\"@\n\020EnumerationValue\022\014\n\004name\030\001 \001" +
+      "(\t\022\r\n\005value\030\002 \001(\021\022\017\n\007literal\030\003 \001(\t\"j\n\032En" +
+      "umerationValueCollection\022L\n\006values\030\001 \003(\013" +
+      "2<.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.EnumerationValue\"3\n\tProxyList\022\021\n\te" +
+      "lementID\030\001 \001(\t\022\023\n\013featureName\030\002 \001(\t\"K\n\017C" +
+      "ontainmentList\022\021\n\telementID\030\001 \001(\t\022\023\n\013all" +
+      "Contents\030\002 \001(\010\022\020\n\010typeName\030\003 \001(\t\"{\n\020Cont" +
+      "ainmentRange\022I\n\004list\030\001 \001(\0132;.org.eclipse" +
+      ".epsilon.emc.magicdraw.modelapi.Containm" +
+      "entList\022\r\n\005start\030\002 \001(\r\022\r\n\005count\030\003 \001(\r\"\235\013" +
+      "\n\005Value\022\025\n\013stringValue\030\001 \001(\tH\000\022\024\n\nfloatV" +
+      "alue\030\002 \001(\002H\000\022\025\n\013doubleValue\030\003 \001(\001H\000\022\023\n\tb" +
+      "yteValue\030\004 \001(\021H\000\022\024\n\nshortValue\030\005 \001(\021H\000\022\026" +
+      "\n\014integerValue\030\006 \001(\021H\000\022\023\n\tlongValue\030\007 \001(" +
+      "\022H\000\022\026\n\014booleanValue\030\010 \001(\010H\000\022R\n\016reference" +
+      "Value\030\t \001(\01328.org.eclipse.epsilon.emc.ma" +
+      "gicdraw.modelapi.ModelElementH\000\022X\n\020enume" +
+      "rationValue\030\n \001(\0132<.org.eclipse.epsilon." +
+      "emc.magicdraw.modelapi.EnumerationValueH" +
+      "\000\022T\n\014stringValues\030\013 \001(\0132<.org.eclipse.ep" +
+      "silon.emc.magicdraw.modelapi.StringColle" +
+      "ctionH\000\022R\n\013floatValues\030\014 \001(\0132;.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.FloatC" +
+      "ollectionH\000\022T\n\014doubleValues\030\r \001(\0132<.org." +
+      "eclipse.epsilon.emc.magicdraw.modelapi.D" +
+      "oubleCollectionH\000\022S\n\nbyteValues\030\016 \001(\0132=." +
+      "org.eclipse.epsilon.emc.magicdraw.modela" +
+      "pi.IntegerCollectionH\000\022T\n\013shortValues\030\017 " +
+      "\001(\0132=.org.eclipse.epsilon.emc.magicdraw." +
+      "modelapi.IntegerCollectionH\000\022V\n\rintegerV" +
+      "alues\030\020 \001(\0132=.org.eclipse.epsilon.emc.ma" +
+      "gicdraw.modelapi.IntegerCollectionH\000\022P\n\n" +
+      "longValues\030\021 \001(\0132:.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.LongCollectionH\000\022V" +
+      "\n\rbooleanValues\030\022 \001(\0132=.org.eclipse.epsi" +
+      "lon.emc.magicdraw.modelapi.BooleanCollec" +
+      "tionH\000\022]\n\017referenceValues\030\023 \001(\0132B.org.ec" +
+      "lipse.epsilon.emc.magicdraw.modelapi.Mod" +
+      "elElementCollectionH\000\022c\n\021enumerationValu" +
+      "es\030\024 \001(\0132F.org.eclipse.epsilon.emc.magic" +
+      "draw.modelapi.EnumerationValueCollection" +
+      "H\000\022J\n\tproxyList\030\026 \001(\01325.org.eclipse.epsi" +
+      "lon.emc.magicdraw.modelapi.ProxyListH\000\022V" +
+      "\n\017containmentList\030\027 \001(\0132;.org.eclipse.ep" +
+      "silon.emc.magicdraw.modelapi.Containment" +
+      "ListH\000\022\024\n\nnotDefined\030\025 \001(\010H\000B\007\n\005value\"\266\002" +
+      "\n\021FeatureComparison\022\023\n\013featureName\030\001 \001(\t" +
+      "\022X\n\010operator\030\002 \001(\0162F.org.eclipse.epsilon" +
+      ".emc.magicdraw.modelapi.FeatureCompariso" +
+      "n.Operator\022@\n\005value\030\003 \001(\01321.org.eclipse." +
+      "epsilon.emc.magicdraw.modelapi.Value\"p\n\010" +
+      "Operator\022\n\n\006EQUALS\020\000\022\016\n\nNOT_EQUALS\020\001\022\r\n\t" +
+      "LESS_THAN\020\002\022\021\n\rLESS_OR_EQUAL\020\003\022\020\n\014GREATE" +
+      "R_THAN\020\004\022\024\n\020GREATER_OR_EQUAL\020\005\"D\n\nString" +
+      "Test\022\023\n\013featureName\030\001 \001(\t\022\r\n\005value\030\002 \001(\t" +
+      "\022\022\n\nignoreCase\030\003 \001(\010\"\\\n\023PredicateCollect" +
+      "ion\022E\n\006values\030\001 \003(\01325.org.eclipse.epsilo" +
+      "n.emc.magicdraw.modelapi.Predicate\"\274\004\n\tP" +
+      "redicate\022S\n\ncomparison\030\001 \001(\0132=.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.Featur" +
+      "eComparisonH\000\022V\n\013conjunction\030\002 \001(\0132?.org" +
+      ".eclipse.epsilon.emc.magicdraw.modelapi." +
+      "PredicateCollectionH\000\022V\n\013disjunction\030\003 \001" +
+      "(\0132?.org.eclipse.epsilon.emc.magicdraw.m" +
+      "odelapi.PredicateCollectionH\000\022I\n\010negatio" +
+      "n\030\004 \001(\01325.org.eclipse.epsilon.emc.magicd" +
+      "raw.modelapi.PredicateH\000\022\020\n\006isNull\030\005 \001(\t" +
+      "H\000\022L\n\nstartsWith\030\006 \001(\01326.org.eclipse.eps" +
+      "ilon.emc.magicdraw.modelapi.StringTestH\000" +
+      "\022J\n\010contains\030\007 \001(\01326.org.eclipse.epsilon" +
+      ".emc.magicdraw.modelapi.StringTestH\000\022\022\n\010" +
+      "isKindOf\030\010 \001(\tH\000\022\022\n\010isTypeOf\030\t \001(\tH\000B\013\n\t" +
+      "predicate\"\234\001\n\014AllOfRequest\022\020\n\010typeName\030\001" +
+      " \001(\t\022\034\n\024rootElementHyperlink\030\002 \001(\t\022\025\n\ron" +
+      "lyExactType\030\003 \001(\010\022E\n\006filter\030\004 \001(\01325.org." +
+      "eclipse.epsilon.emc.magicdraw.modelapi.P" +
+      "redicate\"C\n\020AllOfManyRequest\022\021\n\ttypeName" +
+      "s\030\001 \003(\t\022\034\n\024rootElementHyperlink\030\002 \001(\t\"x\n" +
+      "\017NavigateRequest\022\022\n\nelementIDs\030\001 \003(\t\022\023\n\013" +
+      "featurePath\030\002 \003(\t\022\017\n\007closure\030\003 \001(\010\022\020\n\010ma" +
+      "xDepth\030\004 \001(\r\022\031\n\021projectedFeatures\030\005 \003(\t\"" +
+      "\201\001\n\016SubtreeRequest\022\021\n\telementID\030\001 \001(\t\022\034\n" +
+      "\024rootElementHyperlink\030\002 \001(\t\022\020\n\010maxDepth\030" +
+      "\003 \001(\r\022\021\n\ttypeNames\030\004 \003(\t\022\031\n\021projectedFea" +
+      "tures\030\005 \003(\t\"\237\002\n\020RunScriptRequest\022\016\n\006scri" +
+      "pt\030\001 \001(\t\022`\n\nparameters\030\002 \003(\0132L.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.RunScr" +
+      "iptRequest.ParametersEntry\022\025\n\rtimeoutMil" +
+      "lis\030\003 \001(\r\022\034\n\024rootElementHyperlink\030\004 \001(\t\032" +
+      "d\n\017ParametersEntry\022\013\n\003key\030\001 \001(\t\022@\n\005value" +
+      "\030\002 \001(\01321.org.eclipse.epsilon.emc.magicdr" +
+      "aw.modelapi.Value:\0028\001\"g\n\014ScriptResult\022\024\n" +
+      "\014isCollection\030\001 \001(\010\022A\n\006values\030\002 \003(\01321.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".Value\"4\n\024TypeHistogramRequest\022\034\n\024rootEl" +
+      "ementHyperlink\030\001 \001(\t\"@\n\026GetFeatureValueR" +
+      "equest\022\021\n\telementID\030\001 \001(\t\022\023\n\013featureName" +
+      "\030\002 \001(\t\">\n\023GetReferrersRequest\022\021\n\telement" +
+      "ID\030\001 \001(\t\022\024\n\014featureNames\030\002 \003(\t\"u\n\021NameLo" +
+      "okupRequest\022\014\n\004name\030\001 \001(\t\022\016\n\006prefix\030\002 \001(" +
+      "\010\022\022\n\nignoreCase\030\003 \001(\010\022\020\n\010typeName\030\004 \001(\t\022" +
+      "\034\n\024rootElementHyperlink\030\005 \001(\t\"@\n\024Feature" +
+      "ValuesRequest\022\022\n\nelementIDs\030\001 \003(\t\022\024\n\014fea" +
+      "tureNames\030\002 \003(\t\"e\n\023FeatureValuesResult\022N" +
+      "\n\010elements\030\001 \003(\0132<.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.ProjectedElement\"\"" +
+      "\n\016GetTypeRequest\022\020\n\010typeName\030\001 \001(\t\"@\n\032Ge" +
+      "tEnumerationValueRequest\022\023\n\013enumeration\030" +
+      "\001 \001(\t\022\r\n\005label\030\002 \001(\t\"2\n\033GetEnumerationVa" +
+      "luesRequest\022\023\n\013enumeration\030\001 \001(\t\"*\n\025GetE" +
+      "lementByIDRequest\022\021\n\telementID\030\001 \001(\t\"\007\n\005" +
+      "Empty\"G\n\025CreateInstanceRequest\022\020\n\010typeNa" +
+      "me\030\001 \001(\t\022\034\n\024rootElementHyperlink\030\002 \001(\t\"*" +
+      "\n\025DeleteInstanceRequest\022\021\n\telementID\030\001 \001" +
+      "(\t\")\n\022OpenSessionRequest\022\023\n\013description\030" +
+      "\001 \001(\t\"\205\001\n\026SetFeatureValueRequest\022\021\n\telem" +
+      "entID\030\001 \001(\t\022\023\n\013featureName\030\002 \001(\t\022C\n\010newV" +
+      "alue\030\003 \001(\01321.org.eclipse.epsilon.emc.mag" +
+      "icdraw.modelapi.Value\"e\n\014ListPosition\022C\n" +
+      "\004list\030\001 \001(\01325.org.eclipse.epsilon.emc.ma" +
+      "gicdraw.modelapi.ProxyList\022\020\n\010position\030\002" +
+      " \001(\r\"\276\001\n\021ListPositionValue\022C\n\004list\030\001 \001(\013" +
+      "25.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.ProxyList\022\025\n\010position\030\002 \001(\rH\000\210\001\001\022@" +
+      "\n\005value\030\003 \001(\01321.org.eclipse.epsilon.emc." +
+      "magicdraw.modelapi.ValueB\013\n\t_position\"\"\n" +
+      "\017ProjectLocation\022\017\n\007fileURL\030\001 \001(\t\"E\n\013Pro" +
+      "jectInfo\022\014\n\004name\030\001 \001(\t\022\026\n\016primaryModelID" +
+      "\030\002 \001(\t\022\020\n\010fileName\030\003 \001(\t\"\035\n\016ProfileReque" +
+      "st\022\013\n\003uri\030\001 \001(\t\"F\n\030ProfileStereotypeRequ" +
+      "est\022\022\n\nprofileURI\030\001 \001(\t\022\026\n\016stereotypeNam" +
+      "e\030\002 \001(\t2\252*\n\014ModelService\022l\n\004ping\0221.org.e" +
+      "clipse.epsilon.emc.magicdraw.modelapi.Em" +
+      "pty\0321.org.eclipse.epsilon.emc.magicdraw." +
+      "modelapi.Empty\022\205\001\n\005allOf\0228.org.eclipse.e" +
+      "psilon.emc.magicdraw.modelapi.AllOfReque" +
+      "st\032B.org.eclipse.epsilon.emc.magicdraw.m" +
+      "odelapi.ModelElementCollection\022\207\001\n\tallOf" +
+      "Many\022<.org.eclipse.epsilon.emc.magicdraw" +
+      ".modelapi.AllOfManyRequest\032<.org.eclipse" +
+      ".epsilon.emc.magicdraw.modelapi.ExtentCo" +
+      "llection\022\215\001\n\016getElementByID\022A.org.eclips" +
+      "e.epsilon.emc.magicdraw.modelapi.GetElem" +
+      "entByIDRequest\0328.org.eclipse.epsilon.emc" +
+      ".magicdraw.modelapi.ModelElement\022\233\001\n\023get" +
+      "EnumerationValue\022F.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.GetEnumerationValu" +
+      "eRequest\032<.org.eclipse.epsilon.emc.magic" +
+      "draw.modelapi.EnumerationValue\022\247\001\n\024getEn" +
+      "umerationValues\022G.org.eclipse.epsilon.em" +
+      "c.magicdraw.modelapi.GetEnumerationValue" +
+      "sRequest\032F.org.eclipse.epsilon.emc.magic" +
+      "draw.modelapi.EnumerationValueCollection" +
+      "\022\210\001\n\017getFeatureValue\022B.org.eclipse.epsil" +
+      "on.emc.magicdraw.modelapi.GetFeatureValu" +
+      "eRequest\0321.org.eclipse.epsilon.emc.magic" +
+      "draw.modelapi.Value\022\225\001\n\020getFeatureValues" +
+      "\022@.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.FeatureValuesRequest\032?.org.eclipse" +
+      ".epsilon.emc.magicdraw.modelapi.FeatureV" +
+      "aluesResult\022\203\001\n\007getType\022:.org.eclipse.ep" +
+      "silon.emc.magicdraw.modelapi.GetTypeRequ" +
+      "est\032<.org.eclipse.epsilon.emc.magicdraw." +
+      "modelapi.ModelElementType\022\205\001\n\010navigate\022;" +
+      ".org.eclipse.epsilon.emc.magicdraw.model" +
+      "api.NavigateRequest\032<.org.eclipse.epsilo" +
+      "n.emc.magicdraw.modelapi.NavigationResul" +
+      "t\022\204\001\n\ngetSubtree\022:.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.SubtreeRequest\0328.o" +
+      "rg.eclipse.epsilon.emc.magicdraw.modelap" +
+      "i.SubtreeChunk0\001\022\223\001\n\014getReferrers\022?.org." +
+      "eclipse.epsilon.emc.magicdraw.modelapi.G" +
+      "etReferrersRequest\032B.org.eclipse.epsilon" +
+      ".emc.magicdraw.modelapi.ModelElementColl" +
+      "ection\022\226\001\n\021getElementsByName\022=.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.NameLo" +
+      "okupRequest\032B.org.eclipse.epsilon.emc.ma" +
+      "gicdraw.modelapi.ModelElementCollection\022" +
+      "\237\001\n\032getElementsByQualifiedName\022=.org.ecl" +
+      "ipse.epsilon.emc.magicdraw.modelapi.Name" +
+      "LookupRequest\032B.org.eclipse.epsilon.emc." +
+      "magicdraw.modelapi.ModelElementCollectio" +
+      "n\022|\n\005count\0228.org.eclipse.epsilon.emc.mag" +
+      "icdraw.modelapi.AllOfRequest\0329.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.Single" +
+      "Integer\022}\n\006exists\0228.org.eclipse.epsilon." +
+      "emc.magicdraw.modelapi.AllOfRequest\0329.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".SingleBoolean\022\217\001\n\020getTypeHistogram\022@.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".TypeHistogramRequest\0329.org.eclipse.epsi" +
+      "lon.emc.magicdraw.modelapi.TypeHistogram" +
+      "\022\205\001\n\trunScript\022<.org.eclipse.epsilon.emc" +
+      ".magicdraw.modelapi.RunScriptRequest\0328.o" +
+      "rg.eclipse.epsilon.emc.magicdraw.modelap" +
+      "i.ScriptResult0\001\022\204\001\n\013getProfiles\0221.org.e" +
+      "clipse.epsilon.emc.magicdraw.modelapi.Em" +
+      "pty\032B.org.eclipse.epsilon.emc.magicdraw." +
+      "modelapi.ModelElementCollection\022\202\001\n\ngetP" +
+      "rofile\022:.org.eclipse.epsilon.emc.magicdr" +
+      "aw.modelapi.ProfileRequest\0328.org.eclipse" +
+      ".epsilon.emc.magicdraw.modelapi.ModelEle" +
+      "ment\022\217\001\n\rgetStereotype\022D.org.eclipse.eps" +
+      "ilon.emc.magicdraw.modelapi.ProfileStere" +
+      "otypeRequest\0328.org.eclipse.epsilon.emc.m" +
+      "agicdraw.modelapi.ModelElement\022\200\001\n\013openS" +
+      "ession\022>.org.eclipse.epsilon.emc.magicdr" +
+      "aw.modelapi.OpenSessionRequest\0321.org.ecl" +
+      "ipse.epsilon.emc.magicdraw.modelapi.Empt" +
+      "y\022t\n\014closeSession\0221.org.eclipse.epsilon." +
+      "emc.magicdraw.modelapi.Empty\0321.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.Empty\022" +
+      "u\n\rcancelSession\0221.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.Empty\0321.org.eclips" +
+      "e.epsilon.emc.magicdraw.modelapi.Empty\022\215" +
+      "\001\n\016createInstance\022A.org.eclipse.epsilon." +
+      "emc.magicdraw.modelapi.CreateInstanceReq" +
+      "uest\0328.org.eclipse.epsilon.emc.magicdraw" +
+      ".modelapi.ModelElement\022\206\001\n\016deleteInstanc" +
+      "e\022A.org.eclipse.epsilon.emc.magicdraw.mo" +
+      "delapi.DeleteInstanceRequest\0321.org.eclip" +
+      "se.epsilon.emc.magicdraw.modelapi.Empty\022" +
+      "\210\001\n\017setFeatureValue\022B.org.eclipse.epsilo" +
+      "n.emc.magicdraw.modelapi.SetFeatureValue" +
+      "Request\0321.org.eclipse.epsilon.emc.magicd" +
+      "raw.modelapi.Empty\022|\n\010listSize\0225.org.ecl" +
+      "ipse.epsilon.emc.magicdraw.modelapi.Prox" +
+      "yList\0329.org.eclipse.epsilon.emc.magicdra" +
+      "w.modelapi.SingleInteger\022v\n\007listGet\0228.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".ListPosition\0321.org.eclipse.epsilon.emc." +
+      "magicdraw.modelapi.Value\022{\n\007listSet\022=.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".ListPositionValue\0321.org.eclipse.epsilon" +
+      ".emc.magicdraw.modelapi.Value\022{\n\007listAdd" +
+      "\022=.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.ListPositionValue\0321.org.eclipse.ep" +
+      "silon.emc.magicdraw.modelapi.Empty\022y\n\nli" +
+      "stRemove\0228.org.eclipse.epsilon.emc.magic" +
+      "draw.modelapi.ListPosition\0321.org.eclipse" +
+      ".epsilon.emc.magicdraw.modelapi.Value\022\202\001" +
+      "\n\016listMoveObject\022=.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.ListPositionValue\032" +
+      "1.org.eclipse.epsilon.emc.magicdraw.mode" +
+      "lapi.Empty\022u\n\tlistClear\0225.org.eclipse.ep" +
+      "silon.emc.magicdraw.modelapi.ProxyList\0321" +
+      ".org.eclipse.epsilon.emc.magicdraw.model" +
+      "api.Empty\022\211\001\n\017containmentSize\022;.org.ecli" +
+      "pse.epsilon.emc.magicdraw.modelapi.Conta" +
+      "inmentList\0329.org.eclipse.epsilon.emc.mag" +
+      "icdraw.modelapi.SingleInteger\022\224\001\n\020contai" +
+      "nmentRange\022<.org.eclipse.epsilon.emc.mag" +
+      "icdraw.modelapi.ContainmentRange\032B.org.e" +
+      "clipse.epsilon.emc.magicdraw.modelapi.Mo" +
+      "delElementCollection\022}\n\013openProject\022;.or" +
+      "g.eclipse.epsilon.emc.magicdraw.modelapi" +
+      ".ProjectLocation\0321.org.eclipse.epsilon.e" +
+      "mc.magicdraw.modelapi.Empty\022t\n\014closeProj" +
+      "ect\0221.org.eclipse.epsilon.emc.magicdraw." +
+      "modelapi.Empty\0321.org.eclipse.epsilon.emc" +
+      ".magicdraw.modelapi.Empty\022s\n\013saveProject" +
+      "\0221.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.Empty\0321.org.eclipse.epsilon.emc.ma" +
+      "gicdraw.modelapi.Empty\022|\n\016getProjectInfo" +
+      "\0221.org.eclipse.epsilon.emc.magicdraw.mod" +
+      "elapi.Empty\0327.org.eclipse.epsilon.emc.ma" +
+      "gicdraw.modelapi.ProjectInfoB\002P\001b\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElement_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElement_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElement_descriptor,
+        new java.lang.String[] { "ElementID", "MetamodelUri", "TypeName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementTypeReference_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementTypeReference_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementTypeReference_descriptor,
+        new java.lang.String[] { "MetamodelUri", "TypeName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementType_descriptor,
+        new java.lang.String[] { "MetamodelUri", "TypeName", "IsAbstract", "AllSupertypes", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringCollection_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FloatCollection_descriptor =
+      getDescriptor().getMessageTypes().get(4);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FloatCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FloatCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DoubleCollection_descriptor =
+      getDescriptor().getMessageTypes().get(5);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DoubleCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DoubleCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleInteger_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleInteger_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleInteger_descriptor,
+        new java.lang.String[] { "Value", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleBoolean_descriptor =
+      getDescriptor().getMessageTypes().get(7);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleBoolean_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SingleBoolean_descriptor,
+        new java.lang.String[] { "Value", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_IntegerCollection_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_IntegerCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_IntegerCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_LongCollection_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_LongCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_LongCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_descriptor =
+      getDescriptor().getMessageTypes().get(10);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_BooleanCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementCollection_descriptor =
+      getDescriptor().getMessageTypes().get(11);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ModelElementCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_descriptor =
+      getDescriptor().getMessageTypes().get(12);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_descriptor,
+        new java.lang.String[] { "TypeName", "KindIndices", "TypeIndices", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ExtentCollection_descriptor,
+        new java.lang.String[] { "Elements", "Extents", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeCount_descriptor =
+      getDescriptor().getMessageTypes().get(14);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeCount_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeCount_descriptor,
+        new java.lang.String[] { "MetamodelUri", "TypeName", "Count", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogram_descriptor =
+      getDescriptor().getMessageTypes().get(15);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogram_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogram_descriptor,
+        new java.lang.String[] { "Counts", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectedElement_descriptor =
+      getDescriptor().getMessageTypes().get(16);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectedElement_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectedElement_descriptor,
+        new java.lang.String[] { "Element", "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigationResult_descriptor =
+      getDescriptor().getMessageTypes().get(17);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigationResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigationResult_descriptor,
+        new java.lang.String[] { "Elements", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_descriptor =
+      getDescriptor().getMessageTypes().get(18);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_descriptor,
+        new java.lang.String[] { "Element", "ParentIndex", "Values", "ContentsComplete", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeChunk_descriptor =
+      getDescriptor().getMessageTypes().get(19);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeChunk_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeChunk_descriptor,
+        new java.lang.String[] { "Nodes", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValue_descriptor =
+      getDescriptor().getMessageTypes().get(20);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValue_descriptor,
+        new java.lang.String[] { "Name", "Value", "Literal", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValueCollection_descriptor =
+      getDescriptor().getMessageTypes().get(21);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValueCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_EnumerationValueCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProxyList_descriptor =
+      getDescriptor().getMessageTypes().get(22);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProxyList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProxyList_descriptor,
+        new java.lang.String[] { "ElementID", "FeatureName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_descriptor =
+      getDescriptor().getMessageTypes().get(23);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentList_descriptor,
+        new java.lang.String[] { "ElementID", "AllContents", "TypeName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentRange_descriptor =
+      getDescriptor().getMessageTypes().get(24);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentRange_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ContainmentRange_descriptor,
+        new java.lang.String[] { "List", "Start", "Count", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_descriptor =
+      getDescriptor().getMessageTypes().get(25);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_descriptor,
+        new java.lang.String[] { "StringValue", "FloatValue", "DoubleValue", "ByteValue", "ShortValue", "IntegerValue", "LongValue", "BooleanValue", "ReferenceValue", "EnumerationValue", "StringValues", "FloatValues", "DoubleValues", "ByteValues", "ShortValues", "IntegerValues", "LongValues", "BooleanValues", "ReferenceValues", "EnumerationValues", "ProxyList", "ContainmentList", "NotDefined", "Value", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_descriptor =
+      getDescriptor().getMessageTypes().get(26);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureComparison_descriptor,
+        new java.lang.String[] { "FeatureName", "Operator", "Value", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringTest_descriptor =
+      getDescriptor().getMessageTypes().get(27);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringTest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_StringTest_descriptor,
+        new java.lang.String[] { "FeatureName", "Value", "IgnoreCase", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_PredicateCollection_descriptor =
+      getDescriptor().getMessageTypes().get(28);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_PredicateCollection_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_PredicateCollection_descriptor,
+        new java.lang.String[] { "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_descriptor =
+      getDescriptor().getMessageTypes().get(29);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_descriptor,
+        new java.lang.String[] { "Comparison", "Conjunction", "Disjunction", "Negation", "IsNull", "StartsWith", "Contains", "IsKindOf", "IsTypeOf", "Predicate", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_descriptor =
+      getDescriptor().getMessageTypes().get(30);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfRequest_descriptor,
+        new java.lang.String[] { "TypeName", "RootElementHyperlink", "OnlyExactType", "Filter", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_descriptor =
+      getDescriptor().getMessageTypes().get(31);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_AllOfManyRequest_descriptor,
+        new java.lang.String[] { "TypeNames", "RootElementHyperlink", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_descriptor =
+      getDescriptor().getMessageTypes().get(32);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_descriptor,
+        new java.lang.String[] { "ElementIDs", "FeaturePath", "Closure", "MaxDepth", "ProjectedFeatures", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(33);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_descriptor,
+        new java.lang.String[] { "ElementID", "RootElementHyperlink", "MaxDepth", "TypeNames", "ProjectedFeatures", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor =
+      getDescriptor().getMessageTypes().get(34);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor,
+        new java.lang.String[] { "Script", "Parameters", "TimeoutMillis", "RootElementHyperlink", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_ParametersEntry_descriptor =
+      internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor.getNestedTypes().get(0);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_ParametersEntry_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_ParametersEntry_descriptor,
+        new java.lang.String[] { "Key", "Value", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ScriptResult_descriptor =
+      getDescriptor().getMessageTypes().get(35);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ScriptResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ScriptResult_descriptor,
+        new java.lang.String[] { "IsCollection", "Values", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogramRequest_descriptor =
+      getDescriptor().getMessageTypes().get(36);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogramRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeHistogramRequest_descriptor,
+        new java.lang.String[] { "RootElementHyperlink", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetFeatureValueRequest_descriptor =
+      getDescriptor().getMessageTypes().get(37);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetFeatureValueRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetFeatureValueRequest_descriptor,
+        new java.lang.String[] { "ElementID", "FeatureName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_descriptor =
+      getDescriptor().getMessageTypes().get(38);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetReferrersRequest_descriptor,
+        new java.lang.String[] { "ElementID", "FeatureNames", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NameLookupRequest_descriptor =
+      getDescriptor().getMessageTypes().get(39);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NameLookupRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NameLookupRequest_descriptor,
+        new java.lang.String[] { "Name", "Prefix", "IgnoreCase", "TypeName", "RootElementHyperlink", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(40);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesRequest_descriptor,
+        new java.lang.String[] { "ElementIDs", "FeatureNames", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesResult_descriptor =
+      getDescriptor().getMessageTypes().get(41);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesResult_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_FeatureValuesResult_descriptor,
+        new java.lang.String[] { "Elements", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetTypeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(42);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetTypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetTypeRequest_descriptor,
+        new java.lang.String[] { "TypeName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValueRequest_descriptor =
+      getDescriptor().getMessageTypes().get(43);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValueRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValueRequest_descriptor,
+        new java.lang.String[] { "Enumeration", "Label", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValuesRequest_descriptor =
+      getDescriptor().getMessageTypes().get(44);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValuesRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetEnumerationValuesRequest_descriptor,
+        new java.lang.String[] { "Enumeration", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetElementByIDRequest_descriptor =
+      getDescriptor().getMessageTypes().get(45);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetElementByIDRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_GetElementByIDRequest_descriptor,
+        new java.lang.String[] { "ElementID", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Empty_descriptor =
+      getDescriptor().getMessageTypes().get(46);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Empty_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Empty_descriptor,
+        new java.lang.String[] { });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_CreateInstanceRequest_descriptor =
+      getDescriptor().getMessageTypes().get(47);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_CreateInstanceRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_CreateInstanceRequest_descriptor,
+        new java.lang.String[] { "TypeName", "RootElementHyperlink", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DeleteInstanceRequest_descriptor =
+      getDescriptor().getMessageTypes().get(48);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DeleteInstanceRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_DeleteInstanceRequest_descriptor,
+        new java.lang.String[] { "ElementID", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_OpenSessionRequest_descriptor =
+      getDescriptor().getMessageTypes().get(49);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_OpenSessionRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_OpenSessionRequest_descriptor,
+        new java.lang.String[] { "Description", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_descriptor =
+      getDescriptor().getMessageTypes().get(50);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_descriptor,
+        new java.lang.String[] { "ElementID", "FeatureName", "NewValue", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_descriptor =
+      getDescriptor().getMessageTypes().get(51);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPosition_descriptor,
+        new java.lang.String[] { "List", "Position", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_descriptor =
+      getDescriptor().getMessageTypes().get(52);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ListPositionValue_descriptor,
+        new java.lang.String[] { "List", "Position", "Value", "Position", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectLocation_descriptor =
+      getDescriptor().getMessageTypes().get(53);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectLocation_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectLocation_descriptor,
+        new java.lang.String[] { "FileURL", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectInfo_descriptor =
+      getDescriptor().getMessageTypes().get(54);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectInfo_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProjectInfo_descriptor,
+        new java.lang.String[] { "Name", "PrimaryModelID", "FileName", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileRequest_descriptor =
+      getDescriptor().getMessageTypes().get(55);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileRequest_descriptor,
+        new java.lang.String[] { "Uri", });
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileStereotypeRequest_descriptor =
+      getDescriptor().getMessageTypes().get(56);
+    internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileStereotypeRequest_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_ProfileStereotypeRequest_descriptor,
+        new java.lang.String[] { "ProfileURI", "StereotypeName", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
@@ -0,0 +1,85 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface NameLookupRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.NameLookupRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Name (or qualified name, such as "Model::Zoo::Animal") to look up
+   * </pre>
+   *
+   * <code>string name = 1;</code>
+   * @return The name.
+   */
+  java.lang.String getName();
+  /**
+   * <pre>
+   * Name (or qualified name, such as "Model::Zoo::Animal") to look up
+   * </pre>
+   *
+   * <code>string name = 1;</code>
+   * @return The bytes for name.
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <pre>
+   * If true, names starting with the given one are matched as well
+   * </pre>
+   *
+   * <code>bool prefix = 2;</code>
+   * @return The prefix.
+   */
+  boolean getPrefix();
+
+  /**
+   * <code>bool ignoreCase = 3;</code>
+   * @return The ignoreCase.
+   */
+  boolean getIgnoreCase();
+
+  /**
+   * <pre>
+   * If specified, only elements of this type (or its subtypes) are returned
+   * </pre>
+   *
+   * <code>string typeName = 4;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <pre>
+   * If specified, only elements of this type (or its subtypes) are returned
+   * </pre>
+   *
+   * <code>string typeName = 4;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 5;</code>
+   * @return The rootElementHyperlink.
+   */
+  java.lang.String getRootElementHyperlink();
+  /**
+   * <pre>
+   * Limits the scope of the request to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 5;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes();
+}
@@ -0,0 +1,1277 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * <pre>
+ * Follows a path of features from a set of elements. Many-valued features are
+ * flattened, and elements without one of the features in the path are skipped.
+ * The result has the reached elements without duplicates, in breadth-first order.
+ * </pre>
+ *
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest}
+ */
+public final class NavigateRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)
+    NavigateRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use NavigateRequest.newBuilder() to construct.
+  private NavigateRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private NavigateRequest() {
+    elementIDs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    featurePath_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new NavigateRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private NavigateRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              elementIDs_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            elementIDs_.add(s);
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              featurePath_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            featurePath_.add(s);
+            break;
+          }
+          case 24: {
+
+            closure_ = input.readBool();
+            break;
+          }
+          case 32: {
+
+            maxDepth_ = input.readUInt32();
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000004) != 0)) {
+              projectedFeatures_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000004;
+            }
+            projectedFeatures_.add(s);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        elementIDs_ = elementIDs_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        featurePath_ = featurePath_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000004) != 0)) {
+        projectedFeatures_ = projectedFeatures_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.Builder.class);
+  }
+
+  public static final int ELEMENTIDS_FIELD_NUMBER = 1;
+  private com.google.protobuf.LazyStringList elementIDs_;
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @return A list containing the elementIDs.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getElementIDsList() {
+    return elementIDs_;
+  }
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @return The count of elementIDs.
+   */
+  public int getElementIDsCount() {
+    return elementIDs_.size();
+  }
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @param index The index of the element to return.
+   * @return The elementIDs at the given index.
+   */
+  public java.lang.String getElementIDs(int index) {
+    return elementIDs_.get(index);
+  }
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the elementIDs at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getElementIDsBytes(int index) {
+    return elementIDs_.getByteString(index);
+  }
+
+  public static final int FEATUREPATH_FIELD_NUMBER = 2;
+  private com.google.protobuf.LazyStringList featurePath_;
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @return A list containing the featurePath.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getFeaturePathList() {
+    return featurePath_;
+  }
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @return The count of featurePath.
+   */
+  public int getFeaturePathCount() {
+    return featurePath_.size();
+  }
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @param index The index of the element to return.
+   * @return The featurePath at the given index.
+   */
+  public java.lang.String getFeaturePath(int index) {
+    return featurePath_.get(index);
+  }
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the featurePath at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getFeaturePathBytes(int index) {
+    return featurePath_.getByteString(index);
+  }
+
+  public static final int CLOSURE_FIELD_NUMBER = 3;
+  private boolean closure_;
+  /**
+   * <pre>
+   * If true, the path is followed again from the reached elements until no new elements are found
+   * </pre>
+   *
+   * <code>bool closure = 3;</code>
+   * @return The closure.
+   */
+  @java.lang.Override
+  public boolean getClosure() {
+    return closure_;
+  }
+
+  public static final int MAXDEPTH_FIELD_NUMBER = 4;
+  private int maxDepth_;
+  /**
+   * <pre>
+   * In closure mode, maximum number of times the path is followed (0 means no limit)
+   * </pre>
+   *
+   * <code>uint32 maxDepth = 4;</code>
+   * @return The maxDepth.
+   */
+  @java.lang.Override
+  public int getMaxDepth() {
+    return maxDepth_;
+  }
+
+  public static final int PROJECTEDFEATURES_FIELD_NUMBER = 5;
+  private com.google.protobuf.LazyStringList projectedFeatures_;
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return A list containing the projectedFeatures.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getProjectedFeaturesList() {
+    return projectedFeatures_;
+  }
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return The count of projectedFeatures.
+   */
+  public int getProjectedFeaturesCount() {
+    return projectedFeatures_.size();
+  }
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the element to return.
+   * @return The projectedFeatures at the given index.
+   */
+  public java.lang.String getProjectedFeatures(int index) {
+    return projectedFeatures_.get(index);
+  }
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the projectedFeatures at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getProjectedFeaturesBytes(int index) {
+    return projectedFeatures_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    for (int i = 0; i < elementIDs_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, elementIDs_.getRaw(i));
+    }
+    for (int i = 0; i < featurePath_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, featurePath_.getRaw(i));
+    }
+    if (closure_ != false) {
+      output.writeBool(3, closure_);
+    }
+    if (maxDepth_ != 0) {
+      output.writeUInt32(4, maxDepth_);
+    }
+    for (int i = 0; i < projectedFeatures_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, projectedFeatures_.getRaw(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    {
+      int dataSize = 0;
+      for (int i = 0; i < elementIDs_.size(); i++) {
+        dataSize += computeStringSizeNoTag(elementIDs_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getElementIDsList().size();
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < featurePath_.size(); i++) {
+        dataSize += computeStringSizeNoTag(featurePath_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getFeaturePathList().size();
+    }
+    if (closure_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(3, closure_);
+    }
+    if (maxDepth_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(4, maxDepth_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < projectedFeatures_.size(); i++) {
+        dataSize += computeStringSizeNoTag(projectedFeatures_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getProjectedFeaturesList().size();
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest) obj;
+
+    if (!getElementIDsList()
+        .equals(other.getElementIDsList())) return false;
+    if (!getFeaturePathList()
+        .equals(other.getFeaturePathList())) return false;
+    if (getClosure()
+        != other.getClosure()) return false;
+    if (getMaxDepth()
+        != other.getMaxDepth()) return false;
+    if (!getProjectedFeaturesList()
+        .equals(other.getProjectedFeaturesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (getElementIDsCount() > 0) {
+      hash = (37 * hash) + ELEMENTIDS_FIELD_NUMBER;
+      hash = (53 * hash) + getElementIDsList().hashCode();
+    }
+    if (getFeaturePathCount() > 0) {
+      hash = (37 * hash) + FEATUREPATH_FIELD_NUMBER;
+      hash = (53 * hash) + getFeaturePathList().hashCode();
+    }
+    hash = (37 * hash) + CLOSURE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getClosure());
+    hash = (37 * hash) + MAXDEPTH_FIELD_NUMBER;
+    hash = (53 * hash) + getMaxDepth();
+    if (getProjectedFeaturesCount() > 0) {
+      hash = (37 * hash) + PROJECTEDFEATURES_FIELD_NUMBER;
+      hash = (53 * hash) + getProjectedFeaturesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Follows a path of features from a set of elements. Many-valued features are
+   * flattened, and elements without one of the features in the path are skipped.
+   * The result has the reached elements without duplicates, in breadth-first order.
+   * </pre>
+   *
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      elementIDs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      featurePath_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      closure_ = false;
+
+      maxDepth_ = 0;
+
+      projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_NavigateRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest(this);
+      int from_bitField0_ = bitField0_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        elementIDs_ = elementIDs_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.elementIDs_ = elementIDs_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        featurePath_ = featurePath_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.featurePath_ = featurePath_;
+      result.closure_ = closure_;
+      result.maxDepth_ = maxDepth_;
+      if (((bitField0_ & 0x00000004) != 0)) {
+        projectedFeatures_ = projectedFeatures_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000004);
+      }
+      result.projectedFeatures_ = projectedFeatures_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest.getDefaultInstance()) return this;
+      if (!other.elementIDs_.isEmpty()) {
+        if (elementIDs_.isEmpty()) {
+          elementIDs_ = other.elementIDs_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureElementIDsIsMutable();
+          elementIDs_.addAll(other.elementIDs_);
+        }
+        onChanged();
+      }
+      if (!other.featurePath_.isEmpty()) {
+        if (featurePath_.isEmpty()) {
+          featurePath_ = other.featurePath_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureFeaturePathIsMutable();
+          featurePath_.addAll(other.featurePath_);
+        }
+        onChanged();
+      }
+      if (other.getClosure() != false) {
+        setClosure(other.getClosure());
+      }
+      if (other.getMaxDepth() != 0) {
+        setMaxDepth(other.getMaxDepth());
+      }
+      if (!other.projectedFeatures_.isEmpty()) {
+        if (projectedFeatures_.isEmpty()) {
+          projectedFeatures_ = other.projectedFeatures_;
+          bitField0_ = (bitField0_ & ~0x00000004);
+        } else {
+          ensureProjectedFeaturesIsMutable();
+          projectedFeatures_.addAll(other.projectedFeatures_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private com.google.protobuf.LazyStringList elementIDs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureElementIDsIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        elementIDs_ = new com.google.protobuf.LazyStringArrayList(elementIDs_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @return A list containing the elementIDs.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getElementIDsList() {
+      return elementIDs_.getUnmodifiableView();
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @return The count of elementIDs.
+     */
+    public int getElementIDsCount() {
+      return elementIDs_.size();
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @param index The index of the element to return.
+     * @return The elementIDs at the given index.
+     */
+    public java.lang.String getElementIDs(int index) {
+      return elementIDs_.get(index);
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the elementIDs at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getElementIDsBytes(int index) {
+      return elementIDs_.getByteString(index);
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @param index The index to set the value at.
+     * @param value The elementIDs to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementIDs(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureElementIDsIsMutable();
+      elementIDs_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @param value The elementIDs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addElementIDs(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureElementIDsIsMutable();
+      elementIDs_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @param values The elementIDs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllElementIDs(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureElementIDsIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, elementIDs_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearElementIDs() {
+      elementIDs_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>repeated string elementIDs = 1;</code>
+     * @param value The bytes of the elementIDs to add.
+     * @return This builder for chaining.
+     */
+    public Builder addElementIDsBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureElementIDsIsMutable();
+      elementIDs_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList featurePath_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureFeaturePathIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        featurePath_ = new com.google.protobuf.LazyStringArrayList(featurePath_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @return A list containing the featurePath.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getFeaturePathList() {
+      return featurePath_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @return The count of featurePath.
+     */
+    public int getFeaturePathCount() {
+      return featurePath_.size();
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @param index The index of the element to return.
+     * @return The featurePath at the given index.
+     */
+    public java.lang.String getFeaturePath(int index) {
+      return featurePath_.get(index);
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the featurePath at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getFeaturePathBytes(int index) {
+      return featurePath_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @param index The index to set the value at.
+     * @param value The featurePath to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFeaturePath(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFeaturePathIsMutable();
+      featurePath_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @param value The featurePath to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFeaturePath(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureFeaturePathIsMutable();
+      featurePath_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @param values The featurePath to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllFeaturePath(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureFeaturePathIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, featurePath_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFeaturePath() {
+      featurePath_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Names of the features to follow, in order ("eContainer" is also accepted)
+     * </pre>
+     *
+     * <code>repeated string featurePath = 2;</code>
+     * @param value The bytes of the featurePath to add.
+     * @return This builder for chaining.
+     */
+    public Builder addFeaturePathBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureFeaturePathIsMutable();
+      featurePath_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private boolean closure_ ;
+    /**
+     * <pre>
+     * If true, the path is followed again from the reached elements until no new elements are found
+     * </pre>
+     *
+     * <code>bool closure = 3;</code>
+     * @return The closure.
+     */
+    @java.lang.Override
+    public boolean getClosure() {
+      return closure_;
+    }
+    /**
+     * <pre>
+     * If true, the path is followed again from the reached elements until no new elements are found
+     * </pre>
+     *
+     * <code>bool closure = 3;</code>
+     * @param value The closure to set.
+     * @return This builder for chaining.
+     */
+    public Builder setClosure(boolean value) {
+      
+      closure_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If true, the path is followed again from the reached elements until no new elements are found
+     * </pre>
+     *
+     * <code>bool closure = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearClosure() {
+      
+      closure_ = false;
+      onChanged();
+      return this;
+    }
+
+    private int maxDepth_ ;
+    /**
+     * <pre>
+     * In closure mode, maximum number of times the path is followed (0 means no limit)
+     * </pre>
+     *
+     * <code>uint32 maxDepth = 4;</code>
+     * @return The maxDepth.
+     */
+    @java.lang.Override
+    public int getMaxDepth() {
+      return maxDepth_;
+    }
+    /**
+     * <pre>
+     * In closure mode, maximum number of times the path is followed (0 means no limit)
+     * </pre>
+     *
+     * <code>uint32 maxDepth = 4;</code>
+     * @param value The maxDepth to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMaxDepth(int value) {
+      
+      maxDepth_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * In closure mode, maximum number of times the path is followed (0 means no limit)
+     * </pre>
+     *
+     * <code>uint32 maxDepth = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMaxDepth() {
+      
+      maxDepth_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureProjectedFeaturesIsMutable() {
+      if (!((bitField0_ & 0x00000004) != 0)) {
+        projectedFeatures_ = new com.google.protobuf.LazyStringArrayList(projectedFeatures_);
+        bitField0_ |= 0x00000004;
+       }
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @return A list containing the projectedFeatures.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getProjectedFeaturesList() {
+      return projectedFeatures_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @return The count of projectedFeatures.
+     */
+    public int getProjectedFeaturesCount() {
+      return projectedFeatures_.size();
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param index The index of the element to return.
+     * @return The projectedFeatures at the given index.
+     */
+    public java.lang.String getProjectedFeatures(int index) {
+      return projectedFeatures_.get(index);
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the projectedFeatures at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getProjectedFeaturesBytes(int index) {
+      return projectedFeatures_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param index The index to set the value at.
+     * @param value The projectedFeatures to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProjectedFeatures(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureProjectedFeaturesIsMutable();
+      projectedFeatures_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param value The projectedFeatures to add.
+     * @return This builder for chaining.
+     */
+    public Builder addProjectedFeatures(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureProjectedFeaturesIsMutable();
+      projectedFeatures_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param values The projectedFeatures to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllProjectedFeatures(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureProjectedFeaturesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, projectedFeatures_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProjectedFeatures() {
+      projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000004);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param value The bytes of the projectedFeatures to add.
+     * @return This builder for chaining.
+     */
+    public Builder addProjectedFeaturesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureProjectedFeaturesIsMutable();
+      projectedFeatures_.add(value);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<NavigateRequest>
+      PARSER = new com.google.protobuf.AbstractParser<NavigateRequest>() {
+    @java.lang.Override
+    public NavigateRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new NavigateRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<NavigateRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<NavigateRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
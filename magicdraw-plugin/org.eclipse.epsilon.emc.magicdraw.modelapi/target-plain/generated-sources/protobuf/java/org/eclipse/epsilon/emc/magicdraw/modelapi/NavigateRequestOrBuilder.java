@@ -0,0 +1,136 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface NavigateRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.NavigateRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @return A list containing the elementIDs.
+   */
+  java.util.List<java.lang.String>
+      getElementIDsList();
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @return The count of elementIDs.
+   */
+  int getElementIDsCount();
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @param index The index of the element to return.
+   * @return The elementIDs at the given index.
+   */
+  java.lang.String getElementIDs(int index);
+  /**
+   * <code>repeated string elementIDs = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the elementIDs at the given index.
+   */
+  com.google.protobuf.ByteString
+      getElementIDsBytes(int index);
+
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @return A list containing the featurePath.
+   */
+  java.util.List<java.lang.String>
+      getFeaturePathList();
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @return The count of featurePath.
+   */
+  int getFeaturePathCount();
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @param index The index of the element to return.
+   * @return The featurePath at the given index.
+   */
+  java.lang.String getFeaturePath(int index);
+  /**
+   * <pre>
+   * Names of the features to follow, in order ("eContainer" is also accepted)
+   * </pre>
+   *
+   * <code>repeated string featurePath = 2;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the featurePath at the given index.
+   */
+  com.google.protobuf.ByteString
+      getFeaturePathBytes(int index);
+
+  /**
+   * <pre>
+   * If true, the path is followed again from the reached elements until no new elements are found
+   * </pre>
+   *
+   * <code>bool closure = 3;</code>
+   * @return The closure.
+   */
+  boolean getClosure();
+
+  /**
+   * <pre>
+   * In closure mode, maximum number of times the path is followed (0 means no limit)
+   * </pre>
+   *
+   * <code>uint32 maxDepth = 4;</code>
+   * @return The maxDepth.
+   */
+  int getMaxDepth();
+
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return A list containing the projectedFeatures.
+   */
+  java.util.List<java.lang.String>
+      getProjectedFeaturesList();
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return The count of projectedFeatures.
+   */
+  int getProjectedFeaturesCount();
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the element to return.
+   * @return The projectedFeatures at the given index.
+   */
+  java.lang.String getProjectedFeatures(int index);
+  /**
+   * <pre>
+   * Features whose values should be sent along with each reached element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the projectedFeatures at the given index.
+   */
+  com.google.protobuf.ByteString
+      getProjectedFeaturesBytes(int index);
+}
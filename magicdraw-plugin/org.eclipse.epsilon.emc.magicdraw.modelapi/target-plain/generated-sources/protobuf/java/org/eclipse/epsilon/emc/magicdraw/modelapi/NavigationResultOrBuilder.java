@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface NavigationResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.NavigationResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement> 
+      getElementsList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement getElements(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  int getElementsCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElementOrBuilder> 
+      getElementsOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement elements = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElementOrBuilder getElementsOrBuilder(
+      int index);
+}
@@ -0,0 +1,2442 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * <pre>
+ * Predicate over a model element. Tests on many-valued features hold if they
+ * hold for any of the values of the feature: for NOT_EQUALS, this means that
+ * any of the values is different from the given one. Tests on features that
+ * the element does not have are false (and isNull is true).
+ * </pre>
+ *
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate}
+ */
+public final class Predicate extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)
+    PredicateOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Predicate.newBuilder() to construct.
+  private Predicate(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Predicate() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new Predicate();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Predicate(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder subBuilder = null;
+            if (predicateCase_ == 1) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_).toBuilder();
+            }
+            predicate_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_);
+              predicate_ = subBuilder.buildPartial();
+            }
+            predicateCase_ = 1;
+            break;
+          }
+          case 18: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder subBuilder = null;
+            if (predicateCase_ == 2) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_).toBuilder();
+            }
+            predicate_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_);
+              predicate_ = subBuilder.buildPartial();
+            }
+            predicateCase_ = 2;
+            break;
+          }
+          case 26: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder subBuilder = null;
+            if (predicateCase_ == 3) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_).toBuilder();
+            }
+            predicate_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_);
+              predicate_ = subBuilder.buildPartial();
+            }
+            predicateCase_ = 3;
+            break;
+          }
+          case 34: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder subBuilder = null;
+            if (predicateCase_ == 4) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_).toBuilder();
+            }
+            predicate_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_);
+              predicate_ = subBuilder.buildPartial();
+            }
+            predicateCase_ = 4;
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+            predicateCase_ = 5;
+            predicate_ = s;
+            break;
+          }
+          case 50: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder subBuilder = null;
+            if (predicateCase_ == 6) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_).toBuilder();
+            }
+            predicate_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_);
+              predicate_ = subBuilder.buildPartial();
+            }
+            predicateCase_ = 6;
+            break;
+          }
+          case 58: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder subBuilder = null;
+            if (predicateCase_ == 7) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_).toBuilder();
+            }
+            predicate_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_);
+              predicate_ = subBuilder.buildPartial();
+            }
+            predicateCase_ = 7;
+            break;
+          }
+          case 66: {
+            java.lang.String s = input.readStringRequireUtf8();
+            predicateCase_ = 8;
+            predicate_ = s;
+            break;
+          }
+          case 74: {
+            java.lang.String s = input.readStringRequireUtf8();
+            predicateCase_ = 9;
+            predicate_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.class, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder.class);
+  }
+
+  private int predicateCase_ = 0;
+  private java.lang.Object predicate_;
+  public enum PredicateCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    COMPARISON(1),
+    CONJUNCTION(2),
+    DISJUNCTION(3),
+    NEGATION(4),
+    ISNULL(5),
+    STARTSWITH(6),
+    CONTAINS(7),
+    ISKINDOF(8),
+    ISTYPEOF(9),
+    PREDICATE_NOT_SET(0);
+    private final int value;
+    private PredicateCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static PredicateCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static PredicateCase forNumber(int value) {
+      switch (value) {
+        case 1: return COMPARISON;
+        case 2: return CONJUNCTION;
+        case 3: return DISJUNCTION;
+        case 4: return NEGATION;
+        case 5: return ISNULL;
+        case 6: return STARTSWITH;
+        case 7: return CONTAINS;
+        case 8: return ISKINDOF;
+        case 9: return ISTYPEOF;
+        case 0: return PREDICATE_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public PredicateCase
+  getPredicateCase() {
+    return PredicateCase.forNumber(
+        predicateCase_);
+  }
+
+  public static final int COMPARISON_FIELD_NUMBER = 1;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+   * @return Whether the comparison field is set.
+   */
+  @java.lang.Override
+  public boolean hasComparison() {
+    return predicateCase_ == 1;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+   * @return The comparison.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison getComparison() {
+    if (predicateCase_ == 1) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder getComparisonOrBuilder() {
+    if (predicateCase_ == 1) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+  }
+
+  public static final int CONJUNCTION_FIELD_NUMBER = 2;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+   * @return Whether the conjunction field is set.
+   */
+  @java.lang.Override
+  public boolean hasConjunction() {
+    return predicateCase_ == 2;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+   * @return The conjunction.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection getConjunction() {
+    if (predicateCase_ == 2) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder getConjunctionOrBuilder() {
+    if (predicateCase_ == 2) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+  }
+
+  public static final int DISJUNCTION_FIELD_NUMBER = 3;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+   * @return Whether the disjunction field is set.
+   */
+  @java.lang.Override
+  public boolean hasDisjunction() {
+    return predicateCase_ == 3;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+   * @return The disjunction.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection getDisjunction() {
+    if (predicateCase_ == 3) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder getDisjunctionOrBuilder() {
+    if (predicateCase_ == 3) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+  }
+
+  public static final int NEGATION_FIELD_NUMBER = 4;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+   * @return Whether the negation field is set.
+   */
+  @java.lang.Override
+  public boolean hasNegation() {
+    return predicateCase_ == 4;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+   * @return The negation.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getNegation() {
+    if (predicateCase_ == 4) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getNegationOrBuilder() {
+    if (predicateCase_ == 4) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+  }
+
+  public static final int ISNULL_FIELD_NUMBER = 5;
+  /**
+   * <pre>
+   * Name of a feature whose value should be null (or an empty list)
+   * </pre>
+   *
+   * <code>string isNull = 5;</code>
+   * @return Whether the isNull field is set.
+   */
+  public boolean hasIsNull() {
+    return predicateCase_ == 5;
+  }
+  /**
+   * <pre>
+   * Name of a feature whose value should be null (or an empty list)
+   * </pre>
+   *
+   * <code>string isNull = 5;</code>
+   * @return The isNull.
+   */
+  public java.lang.String getIsNull() {
+    java.lang.Object ref = "";
+    if (predicateCase_ == 5) {
+      ref = predicate_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (predicateCase_ == 5) {
+        predicate_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Name of a feature whose value should be null (or an empty list)
+   * </pre>
+   *
+   * <code>string isNull = 5;</code>
+   * @return The bytes for isNull.
+   */
+  public com.google.protobuf.ByteString
+      getIsNullBytes() {
+    java.lang.Object ref = "";
+    if (predicateCase_ == 5) {
+      ref = predicate_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (predicateCase_ == 5) {
+        predicate_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int STARTSWITH_FIELD_NUMBER = 6;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+   * @return Whether the startsWith field is set.
+   */
+  @java.lang.Override
+  public boolean hasStartsWith() {
+    return predicateCase_ == 6;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+   * @return The startsWith.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest getStartsWith() {
+    if (predicateCase_ == 6) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder getStartsWithOrBuilder() {
+    if (predicateCase_ == 6) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+  }
+
+  public static final int CONTAINS_FIELD_NUMBER = 7;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+   * @return Whether the contains field is set.
+   */
+  @java.lang.Override
+  public boolean hasContains() {
+    return predicateCase_ == 7;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+   * @return The contains.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest getContains() {
+    if (predicateCase_ == 7) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder getContainsOrBuilder() {
+    if (predicateCase_ == 7) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+  }
+
+  public static final int ISKINDOF_FIELD_NUMBER = 8;
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (including subtypes)
+   * </pre>
+   *
+   * <code>string isKindOf = 8;</code>
+   * @return Whether the isKindOf field is set.
+   */
+  public boolean hasIsKindOf() {
+    return predicateCase_ == 8;
+  }
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (including subtypes)
+   * </pre>
+   *
+   * <code>string isKindOf = 8;</code>
+   * @return The isKindOf.
+   */
+  public java.lang.String getIsKindOf() {
+    java.lang.Object ref = "";
+    if (predicateCase_ == 8) {
+      ref = predicate_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (predicateCase_ == 8) {
+        predicate_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (including subtypes)
+   * </pre>
+   *
+   * <code>string isKindOf = 8;</code>
+   * @return The bytes for isKindOf.
+   */
+  public com.google.protobuf.ByteString
+      getIsKindOfBytes() {
+    java.lang.Object ref = "";
+    if (predicateCase_ == 8) {
+      ref = predicate_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (predicateCase_ == 8) {
+        predicate_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ISTYPEOF_FIELD_NUMBER = 9;
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (excluding subtypes)
+   * </pre>
+   *
+   * <code>string isTypeOf = 9;</code>
+   * @return Whether the isTypeOf field is set.
+   */
+  public boolean hasIsTypeOf() {
+    return predicateCase_ == 9;
+  }
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (excluding subtypes)
+   * </pre>
+   *
+   * <code>string isTypeOf = 9;</code>
+   * @return The isTypeOf.
+   */
+  public java.lang.String getIsTypeOf() {
+    java.lang.Object ref = "";
+    if (predicateCase_ == 9) {
+      ref = predicate_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (predicateCase_ == 9) {
+        predicate_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (excluding subtypes)
+   * </pre>
+   *
+   * <code>string isTypeOf = 9;</code>
+   * @return The bytes for isTypeOf.
+   */
+  public com.google.protobuf.ByteString
+      getIsTypeOfBytes() {
+    java.lang.Object ref = "";
+    if (predicateCase_ == 9) {
+      ref = predicate_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (predicateCase_ == 9) {
+        predicate_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (predicateCase_ == 1) {
+      output.writeMessage(1, (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_);
+    }
+    if (predicateCase_ == 2) {
+      output.writeMessage(2, (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_);
+    }
+    if (predicateCase_ == 3) {
+      output.writeMessage(3, (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_);
+    }
+    if (predicateCase_ == 4) {
+      output.writeMessage(4, (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_);
+    }
+    if (predicateCase_ == 5) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, predicate_);
+    }
+    if (predicateCase_ == 6) {
+      output.writeMessage(6, (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_);
+    }
+    if (predicateCase_ == 7) {
+      output.writeMessage(7, (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_);
+    }
+    if (predicateCase_ == 8) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 8, predicate_);
+    }
+    if (predicateCase_ == 9) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 9, predicate_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (predicateCase_ == 1) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_);
+    }
+    if (predicateCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(2, (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_);
+    }
+    if (predicateCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_);
+    }
+    if (predicateCase_ == 4) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(4, (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_);
+    }
+    if (predicateCase_ == 5) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(5, predicate_);
+    }
+    if (predicateCase_ == 6) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(6, (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_);
+    }
+    if (predicateCase_ == 7) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(7, (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_);
+    }
+    if (predicateCase_ == 8) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(8, predicate_);
+    }
+    if (predicateCase_ == 9) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(9, predicate_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate other = (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) obj;
+
+    if (!getPredicateCase().equals(other.getPredicateCase())) return false;
+    switch (predicateCase_) {
+      case 1:
+        if (!getComparison()
+            .equals(other.getComparison())) return false;
+        break;
+      case 2:
+        if (!getConjunction()
+            .equals(other.getConjunction())) return false;
+        break;
+      case 3:
+        if (!getDisjunction()
+            .equals(other.getDisjunction())) return false;
+        break;
+      case 4:
+        if (!getNegation()
+            .equals(other.getNegation())) return false;
+        break;
+      case 5:
+        if (!getIsNull()
+            .equals(other.getIsNull())) return false;
+        break;
+      case 6:
+        if (!getStartsWith()
+            .equals(other.getStartsWith())) return false;
+        break;
+      case 7:
+        if (!getContains()
+            .equals(other.getContains())) return false;
+        break;
+      case 8:
+        if (!getIsKindOf()
+            .equals(other.getIsKindOf())) return false;
+        break;
+      case 9:
+        if (!getIsTypeOf()
+            .equals(other.getIsTypeOf())) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    switch (predicateCase_) {
+      case 1:
+        hash = (37 * hash) + COMPARISON_FIELD_NUMBER;
+        hash = (53 * hash) + getComparison().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + CONJUNCTION_FIELD_NUMBER;
+        hash = (53 * hash) + getConjunction().hashCode();
+        break;
+      case 3:
+        hash = (37 * hash) + DISJUNCTION_FIELD_NUMBER;
+        hash = (53 * hash) + getDisjunction().hashCode();
+        break;
+      case 4:
+        hash = (37 * hash) + NEGATION_FIELD_NUMBER;
+        hash = (53 * hash) + getNegation().hashCode();
+        break;
+      case 5:
+        hash = (37 * hash) + ISNULL_FIELD_NUMBER;
+        hash = (53 * hash) + getIsNull().hashCode();
+        break;
+      case 6:
+        hash = (37 * hash) + STARTSWITH_FIELD_NUMBER;
+        hash = (53 * hash) + getStartsWith().hashCode();
+        break;
+      case 7:
+        hash = (37 * hash) + CONTAINS_FIELD_NUMBER;
+        hash = (53 * hash) + getContains().hashCode();
+        break;
+      case 8:
+        hash = (37 * hash) + ISKINDOF_FIELD_NUMBER;
+        hash = (53 * hash) + getIsKindOf().hashCode();
+        break;
+      case 9:
+        hash = (37 * hash) + ISTYPEOF_FIELD_NUMBER;
+        hash = (53 * hash) + getIsTypeOf().hashCode();
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Predicate over a model element. Tests on many-valued features hold if they
+   * hold for any of the values of the feature: for NOT_EQUALS, this means that
+   * any of the values is different from the given one. Tests on features that
+   * the element does not have are false (and isNull is true).
+   * </pre>
+   *
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.class, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      predicateCase_ = 0;
+      predicate_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Predicate_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate result = new org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate(this);
+      if (predicateCase_ == 1) {
+        if (comparisonBuilder_ == null) {
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = comparisonBuilder_.build();
+        }
+      }
+      if (predicateCase_ == 2) {
+        if (conjunctionBuilder_ == null) {
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = conjunctionBuilder_.build();
+        }
+      }
+      if (predicateCase_ == 3) {
+        if (disjunctionBuilder_ == null) {
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = disjunctionBuilder_.build();
+        }
+      }
+      if (predicateCase_ == 4) {
+        if (negationBuilder_ == null) {
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = negationBuilder_.build();
+        }
+      }
+      if (predicateCase_ == 5) {
+        result.predicate_ = predicate_;
+      }
+      if (predicateCase_ == 6) {
+        if (startsWithBuilder_ == null) {
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = startsWithBuilder_.build();
+        }
+      }
+      if (predicateCase_ == 7) {
+        if (containsBuilder_ == null) {
+          result.predicate_ = predicate_;
+        } else {
+          result.predicate_ = containsBuilder_.build();
+        }
+      }
+      if (predicateCase_ == 8) {
+        result.predicate_ = predicate_;
+      }
+      if (predicateCase_ == 9) {
+        result.predicate_ = predicate_;
+      }
+      result.predicateCase_ = predicateCase_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance()) return this;
+      switch (other.getPredicateCase()) {
+        case COMPARISON: {
+          mergeComparison(other.getComparison());
+          break;
+        }
+        case CONJUNCTION: {
+          mergeConjunction(other.getConjunction());
+          break;
+        }
+        case DISJUNCTION: {
+          mergeDisjunction(other.getDisjunction());
+          break;
+        }
+        case NEGATION: {
+          mergeNegation(other.getNegation());
+          break;
+        }
+        case ISNULL: {
+          predicateCase_ = 5;
+          predicate_ = other.predicate_;
+          onChanged();
+          break;
+        }
+        case STARTSWITH: {
+          mergeStartsWith(other.getStartsWith());
+          break;
+        }
+        case CONTAINS: {
+          mergeContains(other.getContains());
+          break;
+        }
+        case ISKINDOF: {
+          predicateCase_ = 8;
+          predicate_ = other.predicate_;
+          onChanged();
+          break;
+        }
+        case ISTYPEOF: {
+          predicateCase_ = 9;
+          predicate_ = other.predicate_;
+          onChanged();
+          break;
+        }
+        case PREDICATE_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int predicateCase_ = 0;
+    private java.lang.Object predicate_;
+    public PredicateCase
+        getPredicateCase() {
+      return PredicateCase.forNumber(
+          predicateCase_);
+    }
+
+    public Builder clearPredicate() {
+      predicateCase_ = 0;
+      predicate_ = null;
+      onChanged();
+      return this;
+    }
+
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder> comparisonBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     * @return Whether the comparison field is set.
+     */
+    @java.lang.Override
+    public boolean hasComparison() {
+      return predicateCase_ == 1;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     * @return The comparison.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison getComparison() {
+      if (comparisonBuilder_ == null) {
+        if (predicateCase_ == 1) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+      } else {
+        if (predicateCase_ == 1) {
+          return comparisonBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    public Builder setComparison(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison value) {
+      if (comparisonBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        predicate_ = value;
+        onChanged();
+      } else {
+        comparisonBuilder_.setMessage(value);
+      }
+      predicateCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    public Builder setComparison(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder builderForValue) {
+      if (comparisonBuilder_ == null) {
+        predicate_ = builderForValue.build();
+        onChanged();
+      } else {
+        comparisonBuilder_.setMessage(builderForValue.build());
+      }
+      predicateCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    public Builder mergeComparison(org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison value) {
+      if (comparisonBuilder_ == null) {
+        if (predicateCase_ == 1 &&
+            predicate_ != org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance()) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          predicate_ = value;
+        }
+        onChanged();
+      } else {
+        if (predicateCase_ == 1) {
+          comparisonBuilder_.mergeFrom(value);
+        } else {
+          comparisonBuilder_.setMessage(value);
+        }
+      }
+      predicateCase_ = 1;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    public Builder clearComparison() {
+      if (comparisonBuilder_ == null) {
+        if (predicateCase_ == 1) {
+          predicateCase_ = 0;
+          predicate_ = null;
+          onChanged();
+        }
+      } else {
+        if (predicateCase_ == 1) {
+          predicateCase_ = 0;
+          predicate_ = null;
+        }
+        comparisonBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder getComparisonBuilder() {
+      return getComparisonFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder getComparisonOrBuilder() {
+      if ((predicateCase_ == 1) && (comparisonBuilder_ != null)) {
+        return comparisonBuilder_.getMessageOrBuilder();
+      } else {
+        if (predicateCase_ == 1) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder> 
+        getComparisonFieldBuilder() {
+      if (comparisonBuilder_ == null) {
+        if (!(predicateCase_ == 1)) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.getDefaultInstance();
+        }
+        comparisonBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison) predicate_,
+                getParentForChildren(),
+                isClean());
+        predicate_ = null;
+      }
+      predicateCase_ = 1;
+      onChanged();;
+      return comparisonBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder> conjunctionBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     * @return Whether the conjunction field is set.
+     */
+    @java.lang.Override
+    public boolean hasConjunction() {
+      return predicateCase_ == 2;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     * @return The conjunction.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection getConjunction() {
+      if (conjunctionBuilder_ == null) {
+        if (predicateCase_ == 2) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+      } else {
+        if (predicateCase_ == 2) {
+          return conjunctionBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    public Builder setConjunction(org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection value) {
+      if (conjunctionBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        predicate_ = value;
+        onChanged();
+      } else {
+        conjunctionBuilder_.setMessage(value);
+      }
+      predicateCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    public Builder setConjunction(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder builderForValue) {
+      if (conjunctionBuilder_ == null) {
+        predicate_ = builderForValue.build();
+        onChanged();
+      } else {
+        conjunctionBuilder_.setMessage(builderForValue.build());
+      }
+      predicateCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    public Builder mergeConjunction(org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection value) {
+      if (conjunctionBuilder_ == null) {
+        if (predicateCase_ == 2 &&
+            predicate_ != org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance()) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          predicate_ = value;
+        }
+        onChanged();
+      } else {
+        if (predicateCase_ == 2) {
+          conjunctionBuilder_.mergeFrom(value);
+        } else {
+          conjunctionBuilder_.setMessage(value);
+        }
+      }
+      predicateCase_ = 2;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    public Builder clearConjunction() {
+      if (conjunctionBuilder_ == null) {
+        if (predicateCase_ == 2) {
+          predicateCase_ = 0;
+          predicate_ = null;
+          onChanged();
+        }
+      } else {
+        if (predicateCase_ == 2) {
+          predicateCase_ = 0;
+          predicate_ = null;
+        }
+        conjunctionBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder getConjunctionBuilder() {
+      return getConjunctionFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder getConjunctionOrBuilder() {
+      if ((predicateCase_ == 2) && (conjunctionBuilder_ != null)) {
+        return conjunctionBuilder_.getMessageOrBuilder();
+      } else {
+        if (predicateCase_ == 2) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder> 
+        getConjunctionFieldBuilder() {
+      if (conjunctionBuilder_ == null) {
+        if (!(predicateCase_ == 2)) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+        }
+        conjunctionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_,
+                getParentForChildren(),
+                isClean());
+        predicate_ = null;
+      }
+      predicateCase_ = 2;
+      onChanged();;
+      return conjunctionBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder> disjunctionBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     * @return Whether the disjunction field is set.
+     */
+    @java.lang.Override
+    public boolean hasDisjunction() {
+      return predicateCase_ == 3;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     * @return The disjunction.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection getDisjunction() {
+      if (disjunctionBuilder_ == null) {
+        if (predicateCase_ == 3) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+      } else {
+        if (predicateCase_ == 3) {
+          return disjunctionBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    public Builder setDisjunction(org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection value) {
+      if (disjunctionBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        predicate_ = value;
+        onChanged();
+      } else {
+        disjunctionBuilder_.setMessage(value);
+      }
+      predicateCase_ = 3;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    public Builder setDisjunction(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder builderForValue) {
+      if (disjunctionBuilder_ == null) {
+        predicate_ = builderForValue.build();
+        onChanged();
+      } else {
+        disjunctionBuilder_.setMessage(builderForValue.build());
+      }
+      predicateCase_ = 3;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    public Builder mergeDisjunction(org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection value) {
+      if (disjunctionBuilder_ == null) {
+        if (predicateCase_ == 3 &&
+            predicate_ != org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance()) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          predicate_ = value;
+        }
+        onChanged();
+      } else {
+        if (predicateCase_ == 3) {
+          disjunctionBuilder_.mergeFrom(value);
+        } else {
+          disjunctionBuilder_.setMessage(value);
+        }
+      }
+      predicateCase_ = 3;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    public Builder clearDisjunction() {
+      if (disjunctionBuilder_ == null) {
+        if (predicateCase_ == 3) {
+          predicateCase_ = 0;
+          predicate_ = null;
+          onChanged();
+        }
+      } else {
+        if (predicateCase_ == 3) {
+          predicateCase_ = 0;
+          predicate_ = null;
+        }
+        disjunctionBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder getDisjunctionBuilder() {
+      return getDisjunctionFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder getDisjunctionOrBuilder() {
+      if ((predicateCase_ == 3) && (disjunctionBuilder_ != null)) {
+        return disjunctionBuilder_.getMessageOrBuilder();
+      } else {
+        if (predicateCase_ == 3) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder> 
+        getDisjunctionFieldBuilder() {
+      if (disjunctionBuilder_ == null) {
+        if (!(predicateCase_ == 3)) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.getDefaultInstance();
+        }
+        disjunctionBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection) predicate_,
+                getParentForChildren(),
+                isClean());
+        predicate_ = null;
+      }
+      predicateCase_ = 3;
+      onChanged();;
+      return disjunctionBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder> negationBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     * @return Whether the negation field is set.
+     */
+    @java.lang.Override
+    public boolean hasNegation() {
+      return predicateCase_ == 4;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     * @return The negation.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getNegation() {
+      if (negationBuilder_ == null) {
+        if (predicateCase_ == 4) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+      } else {
+        if (predicateCase_ == 4) {
+          return negationBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    public Builder setNegation(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate value) {
+      if (negationBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        predicate_ = value;
+        onChanged();
+      } else {
+        negationBuilder_.setMessage(value);
+      }
+      predicateCase_ = 4;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    public Builder setNegation(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder builderForValue) {
+      if (negationBuilder_ == null) {
+        predicate_ = builderForValue.build();
+        onChanged();
+      } else {
+        negationBuilder_.setMessage(builderForValue.build());
+      }
+      predicateCase_ = 4;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    public Builder mergeNegation(org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate value) {
+      if (negationBuilder_ == null) {
+        if (predicateCase_ == 4 &&
+            predicate_ != org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance()) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          predicate_ = value;
+        }
+        onChanged();
+      } else {
+        if (predicateCase_ == 4) {
+          negationBuilder_.mergeFrom(value);
+        } else {
+          negationBuilder_.setMessage(value);
+        }
+      }
+      predicateCase_ = 4;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    public Builder clearNegation() {
+      if (negationBuilder_ == null) {
+        if (predicateCase_ == 4) {
+          predicateCase_ = 0;
+          predicate_ = null;
+          onChanged();
+        }
+      } else {
+        if (predicateCase_ == 4) {
+          predicateCase_ = 0;
+          predicate_ = null;
+        }
+        negationBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder getNegationBuilder() {
+      return getNegationFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getNegationOrBuilder() {
+      if ((predicateCase_ == 4) && (negationBuilder_ != null)) {
+        return negationBuilder_.getMessageOrBuilder();
+      } else {
+        if (predicateCase_ == 4) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder> 
+        getNegationFieldBuilder() {
+      if (negationBuilder_ == null) {
+        if (!(predicateCase_ == 4)) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.getDefaultInstance();
+        }
+        negationBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate, org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate) predicate_,
+                getParentForChildren(),
+                isClean());
+        predicate_ = null;
+      }
+      predicateCase_ = 4;
+      onChanged();;
+      return negationBuilder_;
+    }
+
+    /**
+     * <pre>
+     * Name of a feature whose value should be null (or an empty list)
+     * </pre>
+     *
+     * <code>string isNull = 5;</code>
+     * @return Whether the isNull field is set.
+     */
+    @java.lang.Override
+    public boolean hasIsNull() {
+      return predicateCase_ == 5;
+    }
+    /**
+     * <pre>
+     * Name of a feature whose value should be null (or an empty list)
+     * </pre>
+     *
+     * <code>string isNull = 5;</code>
+     * @return The isNull.
+     */
+    @java.lang.Override
+    public java.lang.String getIsNull() {
+      java.lang.Object ref = "";
+      if (predicateCase_ == 5) {
+        ref = predicate_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (predicateCase_ == 5) {
+          predicate_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of a feature whose value should be null (or an empty list)
+     * </pre>
+     *
+     * <code>string isNull = 5;</code>
+     * @return The bytes for isNull.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIsNullBytes() {
+      java.lang.Object ref = "";
+      if (predicateCase_ == 5) {
+        ref = predicate_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (predicateCase_ == 5) {
+          predicate_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of a feature whose value should be null (or an empty list)
+     * </pre>
+     *
+     * <code>string isNull = 5;</code>
+     * @param value The isNull to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsNull(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  predicateCase_ = 5;
+      predicate_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of a feature whose value should be null (or an empty list)
+     * </pre>
+     *
+     * <code>string isNull = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsNull() {
+      if (predicateCase_ == 5) {
+        predicateCase_ = 0;
+        predicate_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of a feature whose value should be null (or an empty list)
+     * </pre>
+     *
+     * <code>string isNull = 5;</code>
+     * @param value The bytes for isNull to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsNullBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      predicateCase_ = 5;
+      predicate_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder> startsWithBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     * @return Whether the startsWith field is set.
+     */
+    @java.lang.Override
+    public boolean hasStartsWith() {
+      return predicateCase_ == 6;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     * @return The startsWith.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest getStartsWith() {
+      if (startsWithBuilder_ == null) {
+        if (predicateCase_ == 6) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+      } else {
+        if (predicateCase_ == 6) {
+          return startsWithBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    public Builder setStartsWith(org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest value) {
+      if (startsWithBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        predicate_ = value;
+        onChanged();
+      } else {
+        startsWithBuilder_.setMessage(value);
+      }
+      predicateCase_ = 6;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    public Builder setStartsWith(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder builderForValue) {
+      if (startsWithBuilder_ == null) {
+        predicate_ = builderForValue.build();
+        onChanged();
+      } else {
+        startsWithBuilder_.setMessage(builderForValue.build());
+      }
+      predicateCase_ = 6;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    public Builder mergeStartsWith(org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest value) {
+      if (startsWithBuilder_ == null) {
+        if (predicateCase_ == 6 &&
+            predicate_ != org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance()) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          predicate_ = value;
+        }
+        onChanged();
+      } else {
+        if (predicateCase_ == 6) {
+          startsWithBuilder_.mergeFrom(value);
+        } else {
+          startsWithBuilder_.setMessage(value);
+        }
+      }
+      predicateCase_ = 6;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    public Builder clearStartsWith() {
+      if (startsWithBuilder_ == null) {
+        if (predicateCase_ == 6) {
+          predicateCase_ = 0;
+          predicate_ = null;
+          onChanged();
+        }
+      } else {
+        if (predicateCase_ == 6) {
+          predicateCase_ = 0;
+          predicate_ = null;
+        }
+        startsWithBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder getStartsWithBuilder() {
+      return getStartsWithFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder getStartsWithOrBuilder() {
+      if ((predicateCase_ == 6) && (startsWithBuilder_ != null)) {
+        return startsWithBuilder_.getMessageOrBuilder();
+      } else {
+        if (predicateCase_ == 6) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder> 
+        getStartsWithFieldBuilder() {
+      if (startsWithBuilder_ == null) {
+        if (!(predicateCase_ == 6)) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+        }
+        startsWithBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_,
+                getParentForChildren(),
+                isClean());
+        predicate_ = null;
+      }
+      predicateCase_ = 6;
+      onChanged();;
+      return startsWithBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder> containsBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     * @return Whether the contains field is set.
+     */
+    @java.lang.Override
+    public boolean hasContains() {
+      return predicateCase_ == 7;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     * @return The contains.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest getContains() {
+      if (containsBuilder_ == null) {
+        if (predicateCase_ == 7) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+      } else {
+        if (predicateCase_ == 7) {
+          return containsBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    public Builder setContains(org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest value) {
+      if (containsBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        predicate_ = value;
+        onChanged();
+      } else {
+        containsBuilder_.setMessage(value);
+      }
+      predicateCase_ = 7;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    public Builder setContains(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder builderForValue) {
+      if (containsBuilder_ == null) {
+        predicate_ = builderForValue.build();
+        onChanged();
+      } else {
+        containsBuilder_.setMessage(builderForValue.build());
+      }
+      predicateCase_ = 7;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    public Builder mergeContains(org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest value) {
+      if (containsBuilder_ == null) {
+        if (predicateCase_ == 7 &&
+            predicate_ != org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance()) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          predicate_ = value;
+        }
+        onChanged();
+      } else {
+        if (predicateCase_ == 7) {
+          containsBuilder_.mergeFrom(value);
+        } else {
+          containsBuilder_.setMessage(value);
+        }
+      }
+      predicateCase_ = 7;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    public Builder clearContains() {
+      if (containsBuilder_ == null) {
+        if (predicateCase_ == 7) {
+          predicateCase_ = 0;
+          predicate_ = null;
+          onChanged();
+        }
+      } else {
+        if (predicateCase_ == 7) {
+          predicateCase_ = 0;
+          predicate_ = null;
+        }
+        containsBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder getContainsBuilder() {
+      return getContainsFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder getContainsOrBuilder() {
+      if ((predicateCase_ == 7) && (containsBuilder_ != null)) {
+        return containsBuilder_.getMessageOrBuilder();
+      } else {
+        if (predicateCase_ == 7) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder> 
+        getContainsFieldBuilder() {
+      if (containsBuilder_ == null) {
+        if (!(predicateCase_ == 7)) {
+          predicate_ = org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.getDefaultInstance();
+        }
+        containsBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest) predicate_,
+                getParentForChildren(),
+                isClean());
+        predicate_ = null;
+      }
+      predicateCase_ = 7;
+      onChanged();;
+      return containsBuilder_;
+    }
+
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (including subtypes)
+     * </pre>
+     *
+     * <code>string isKindOf = 8;</code>
+     * @return Whether the isKindOf field is set.
+     */
+    @java.lang.Override
+    public boolean hasIsKindOf() {
+      return predicateCase_ == 8;
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (including subtypes)
+     * </pre>
+     *
+     * <code>string isKindOf = 8;</code>
+     * @return The isKindOf.
+     */
+    @java.lang.Override
+    public java.lang.String getIsKindOf() {
+      java.lang.Object ref = "";
+      if (predicateCase_ == 8) {
+        ref = predicate_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (predicateCase_ == 8) {
+          predicate_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (including subtypes)
+     * </pre>
+     *
+     * <code>string isKindOf = 8;</code>
+     * @return The bytes for isKindOf.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIsKindOfBytes() {
+      java.lang.Object ref = "";
+      if (predicateCase_ == 8) {
+        ref = predicate_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (predicateCase_ == 8) {
+          predicate_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (including subtypes)
+     * </pre>
+     *
+     * <code>string isKindOf = 8;</code>
+     * @param value The isKindOf to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsKindOf(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  predicateCase_ = 8;
+      predicate_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (including subtypes)
+     * </pre>
+     *
+     * <code>string isKindOf = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsKindOf() {
+      if (predicateCase_ == 8) {
+        predicateCase_ = 0;
+        predicate_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (including subtypes)
+     * </pre>
+     *
+     * <code>string isKindOf = 8;</code>
+     * @param value The bytes for isKindOf to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsKindOfBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      predicateCase_ = 8;
+      predicate_ = value;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (excluding subtypes)
+     * </pre>
+     *
+     * <code>string isTypeOf = 9;</code>
+     * @return Whether the isTypeOf field is set.
+     */
+    @java.lang.Override
+    public boolean hasIsTypeOf() {
+      return predicateCase_ == 9;
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (excluding subtypes)
+     * </pre>
+     *
+     * <code>string isTypeOf = 9;</code>
+     * @return The isTypeOf.
+     */
+    @java.lang.Override
+    public java.lang.String getIsTypeOf() {
+      java.lang.Object ref = "";
+      if (predicateCase_ == 9) {
+        ref = predicate_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (predicateCase_ == 9) {
+          predicate_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (excluding subtypes)
+     * </pre>
+     *
+     * <code>string isTypeOf = 9;</code>
+     * @return The bytes for isTypeOf.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getIsTypeOfBytes() {
+      java.lang.Object ref = "";
+      if (predicateCase_ == 9) {
+        ref = predicate_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (predicateCase_ == 9) {
+          predicate_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (excluding subtypes)
+     * </pre>
+     *
+     * <code>string isTypeOf = 9;</code>
+     * @param value The isTypeOf to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsTypeOf(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  predicateCase_ = 9;
+      predicate_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (excluding subtypes)
+     * </pre>
+     *
+     * <code>string isTypeOf = 9;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIsTypeOf() {
+      if (predicateCase_ == 9) {
+        predicateCase_ = 0;
+        predicate_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Name of a type that the element should be an instance of (excluding subtypes)
+     * </pre>
+     *
+     * <code>string isTypeOf = 9;</code>
+     * @param value The bytes for isTypeOf to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIsTypeOfBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      predicateCase_ = 9;
+      predicate_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Predicate>
+      PARSER = new com.google.protobuf.AbstractParser<Predicate>() {
+    @java.lang.Override
+    public Predicate parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Predicate(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Predicate> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Predicate> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface PredicateCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate values = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate> 
+      getValuesList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate values = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getValues(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate values = 1;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate values = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate values = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getValuesOrBuilder(
+      int index);
+}
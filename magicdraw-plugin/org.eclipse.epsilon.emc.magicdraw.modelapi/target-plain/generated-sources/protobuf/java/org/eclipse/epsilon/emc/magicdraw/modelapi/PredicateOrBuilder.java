@@ -0,0 +1,188 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface PredicateOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+   * @return Whether the comparison field is set.
+   */
+  boolean hasComparison();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+   * @return The comparison.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison getComparison();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparison comparison = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureComparisonOrBuilder getComparisonOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+   * @return Whether the conjunction field is set.
+   */
+  boolean hasConjunction();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+   * @return The conjunction.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection getConjunction();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection conjunction = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder getConjunctionOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+   * @return Whether the disjunction field is set.
+   */
+  boolean hasDisjunction();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+   * @return The disjunction.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection getDisjunction();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollection disjunction = 3;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateCollectionOrBuilder getDisjunctionOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+   * @return Whether the negation field is set.
+   */
+  boolean hasNegation();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+   * @return The negation.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate getNegation();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate negation = 4;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.PredicateOrBuilder getNegationOrBuilder();
+
+  /**
+   * <pre>
+   * Name of a feature whose value should be null (or an empty list)
+   * </pre>
+   *
+   * <code>string isNull = 5;</code>
+   * @return Whether the isNull field is set.
+   */
+  boolean hasIsNull();
+  /**
+   * <pre>
+   * Name of a feature whose value should be null (or an empty list)
+   * </pre>
+   *
+   * <code>string isNull = 5;</code>
+   * @return The isNull.
+   */
+  java.lang.String getIsNull();
+  /**
+   * <pre>
+   * Name of a feature whose value should be null (or an empty list)
+   * </pre>
+   *
+   * <code>string isNull = 5;</code>
+   * @return The bytes for isNull.
+   */
+  com.google.protobuf.ByteString
+      getIsNullBytes();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+   * @return Whether the startsWith field is set.
+   */
+  boolean hasStartsWith();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+   * @return The startsWith.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest getStartsWith();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest startsWith = 6;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder getStartsWithOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+   * @return Whether the contains field is set.
+   */
+  boolean hasContains();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+   * @return The contains.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest getContains();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest contains = 7;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.StringTestOrBuilder getContainsOrBuilder();
+
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (including subtypes)
+   * </pre>
+   *
+   * <code>string isKindOf = 8;</code>
+   * @return Whether the isKindOf field is set.
+   */
+  boolean hasIsKindOf();
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (including subtypes)
+   * </pre>
+   *
+   * <code>string isKindOf = 8;</code>
+   * @return The isKindOf.
+   */
+  java.lang.String getIsKindOf();
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (including subtypes)
+   * </pre>
+   *
+   * <code>string isKindOf = 8;</code>
+   * @return The bytes for isKindOf.
+   */
+  com.google.protobuf.ByteString
+      getIsKindOfBytes();
+
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (excluding subtypes)
+   * </pre>
+   *
+   * <code>string isTypeOf = 9;</code>
+   * @return Whether the isTypeOf field is set.
+   */
+  boolean hasIsTypeOf();
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (excluding subtypes)
+   * </pre>
+   *
+   * <code>string isTypeOf = 9;</code>
+   * @return The isTypeOf.
+   */
+  java.lang.String getIsTypeOf();
+  /**
+   * <pre>
+   * Name of a type that the element should be an instance of (excluding subtypes)
+   * </pre>
+   *
+   * <code>string isTypeOf = 9;</code>
+   * @return The bytes for isTypeOf.
+   */
+  com.google.protobuf.ByteString
+      getIsTypeOfBytes();
+
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Predicate.PredicateCase getPredicateCase();
+}
@@ -0,0 +1,21 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ProfileRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string uri = 1;</code>
+   * @return The uri.
+   */
+  java.lang.String getUri();
+  /**
+   * <code>string uri = 1;</code>
+   * @return The bytes for uri.
+   */
+  com.google.protobuf.ByteString
+      getUriBytes();
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ProfileStereotypeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ProfileStereotypeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string profileURI = 1;</code>
+   * @return The profileURI.
+   */
+  java.lang.String getProfileURI();
+  /**
+   * <code>string profileURI = 1;</code>
+   * @return The bytes for profileURI.
+   */
+  com.google.protobuf.ByteString
+      getProfileURIBytes();
+
+  /**
+   * <code>string stereotypeName = 2;</code>
+   * @return The stereotypeName.
+   */
+  java.lang.String getStereotypeName();
+  /**
+   * <code>string stereotypeName = 2;</code>
+   * @return The bytes for stereotypeName.
+   */
+  com.google.protobuf.ByteString
+      getStereotypeNameBytes();
+}
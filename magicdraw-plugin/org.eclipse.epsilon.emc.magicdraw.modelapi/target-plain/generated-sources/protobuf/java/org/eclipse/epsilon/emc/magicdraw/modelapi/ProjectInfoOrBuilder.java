@@ -0,0 +1,69 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ProjectInfoOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Name of the active project
+   * </pre>
+   *
+   * <code>string name = 1;</code>
+   * @return The name.
+   */
+  java.lang.String getName();
+  /**
+   * <pre>
+   * Name of the active project
+   * </pre>
+   *
+   * <code>string name = 1;</code>
+   * @return The bytes for name.
+   */
+  com.google.protobuf.ByteString
+      getNameBytes();
+
+  /**
+   * <pre>
+   * ID of the primary model, which is the same in every copy of the project
+   * </pre>
+   *
+   * <code>string primaryModelID = 2;</code>
+   * @return The primaryModelID.
+   */
+  java.lang.String getPrimaryModelID();
+  /**
+   * <pre>
+   * ID of the primary model, which is the same in every copy of the project
+   * </pre>
+   *
+   * <code>string primaryModelID = 2;</code>
+   * @return The bytes for primaryModelID.
+   */
+  com.google.protobuf.ByteString
+      getPrimaryModelIDBytes();
+
+  /**
+   * <pre>
+   * Path to the file of the project (empty if it has not been saved yet)
+   * </pre>
+   *
+   * <code>string fileName = 3;</code>
+   * @return The fileName.
+   */
+  java.lang.String getFileName();
+  /**
+   * <pre>
+   * Path to the file of the project (empty if it has not been saved yet)
+   * </pre>
+   *
+   * <code>string fileName = 3;</code>
+   * @return The bytes for fileName.
+   */
+  com.google.protobuf.ByteString
+      getFileNameBytes();
+}
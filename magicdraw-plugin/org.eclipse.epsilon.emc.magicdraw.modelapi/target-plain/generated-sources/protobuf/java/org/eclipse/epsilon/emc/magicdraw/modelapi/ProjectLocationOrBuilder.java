@@ -0,0 +1,29 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ProjectLocationOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectLocation)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * URL to the .mdzip file to be opened
+   * </pre>
+   *
+   * <code>string fileURL = 1;</code>
+   * @return The fileURL.
+   */
+  java.lang.String getFileURL();
+  /**
+   * <pre>
+   * URL to the .mdzip file to be opened
+   * </pre>
+   *
+   * <code>string fileURL = 1;</code>
+   * @return The bytes for fileURL.
+   */
+  com.google.protobuf.ByteString
+      getFileURLBytes();
+}
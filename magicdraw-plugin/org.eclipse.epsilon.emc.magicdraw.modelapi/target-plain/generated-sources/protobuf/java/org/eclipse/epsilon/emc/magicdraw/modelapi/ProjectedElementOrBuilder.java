@@ -0,0 +1,68 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ProjectedElementOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   * @return Whether the element field is set.
+   */
+  boolean hasElement();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   * @return The element.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getElement();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getElementOrBuilder();
+
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> 
+      getValuesList();
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValues(int index);
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  int getValuesCount();
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValuesOrBuilder(
+      int index);
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ProxyListOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+
+  /**
+   * <code>string featureName = 2;</code>
+   * @return The featureName.
+   */
+  java.lang.String getFeatureName();
+  /**
+   * <code>string featureName = 2;</code>
+   * @return The bytes for featureName.
+   */
+  com.google.protobuf.ByteString
+      getFeatureNameBytes();
+}
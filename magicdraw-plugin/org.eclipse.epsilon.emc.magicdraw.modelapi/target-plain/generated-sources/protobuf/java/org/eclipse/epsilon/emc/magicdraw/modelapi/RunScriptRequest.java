@@ -0,0 +1,1166 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest}
+ */
+public final class RunScriptRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)
+    RunScriptRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use RunScriptRequest.newBuilder() to construct.
+  private RunScriptRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private RunScriptRequest() {
+    script_ = "";
+    rootElementHyperlink_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new RunScriptRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private RunScriptRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            script_ = s;
+            break;
+          }
+          case 18: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              parameters_ = com.google.protobuf.MapField.newMapField(
+                  ParametersDefaultEntryHolder.defaultEntry);
+              mutable_bitField0_ |= 0x00000001;
+            }
+            com.google.protobuf.MapEntry<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+            parameters__ = input.readMessage(
+                ParametersDefaultEntryHolder.defaultEntry.getParserForType(), extensionRegistry);
+            parameters_.getMutableMap().put(
+                parameters__.getKey(), parameters__.getValue());
+            break;
+          }
+          case 24: {
+
+            timeoutMillis_ = input.readUInt32();
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            rootElementHyperlink_ = s;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  @java.lang.Override
+  protected com.google.protobuf.MapField internalGetMapField(
+      int number) {
+    switch (number) {
+      case 2:
+        return internalGetParameters();
+      default:
+        throw new RuntimeException(
+            "Invalid map field number: " + number);
+    }
+  }
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.Builder.class);
+  }
+
+  public static final int SCRIPT_FIELD_NUMBER = 1;
+  private volatile java.lang.Object script_;
+  /**
+   * <pre>
+   * EOL program to be run inside MagicDraw, against a read-only model of the active project
+   * </pre>
+   *
+   * <code>string script = 1;</code>
+   * @return The script.
+   */
+  @java.lang.Override
+  public java.lang.String getScript() {
+    java.lang.Object ref = script_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      script_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * EOL program to be run inside MagicDraw, against a read-only model of the active project
+   * </pre>
+   *
+   * <code>string script = 1;</code>
+   * @return The bytes for script.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getScriptBytes() {
+    java.lang.Object ref = script_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      script_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int PARAMETERS_FIELD_NUMBER = 2;
+  private static final class ParametersDefaultEntryHolder {
+    static final com.google.protobuf.MapEntry<
+        java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> defaultEntry =
+            com.google.protobuf.MapEntry
+            .<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>newDefaultInstance(
+                org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_ParametersEntry_descriptor, 
+                com.google.protobuf.WireFormat.FieldType.STRING,
+                "",
+                com.google.protobuf.WireFormat.FieldType.MESSAGE,
+                org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance());
+  }
+  private com.google.protobuf.MapField<
+      java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> parameters_;
+  private com.google.protobuf.MapField<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+  internalGetParameters() {
+    if (parameters_ == null) {
+      return com.google.protobuf.MapField.emptyMapField(
+          ParametersDefaultEntryHolder.defaultEntry);
+    }
+    return parameters_;
+  }
+
+  public int getParametersCount() {
+    return internalGetParameters().getMap().size();
+  }
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+
+  @java.lang.Override
+  public boolean containsParameters(
+      java.lang.String key) {
+    if (key == null) { throw new NullPointerException("map key"); }
+    return internalGetParameters().getMap().containsKey(key);
+  }
+  /**
+   * Use {@link #getParametersMap()} instead.
+   */
+  @java.lang.Override
+  @java.lang.Deprecated
+  public java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getParameters() {
+    return getParametersMap();
+  }
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+  @java.lang.Override
+
+  public java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getParametersMap() {
+    return internalGetParameters().getMap();
+  }
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+  @java.lang.Override
+
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getParametersOrDefault(
+      java.lang.String key,
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value defaultValue) {
+    if (key == null) { throw new NullPointerException("map key"); }
+    java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> map =
+        internalGetParameters().getMap();
+    return map.containsKey(key) ? map.get(key) : defaultValue;
+  }
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+  @java.lang.Override
+
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getParametersOrThrow(
+      java.lang.String key) {
+    if (key == null) { throw new NullPointerException("map key"); }
+    java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> map =
+        internalGetParameters().getMap();
+    if (!map.containsKey(key)) {
+      throw new java.lang.IllegalArgumentException();
+    }
+    return map.get(key);
+  }
+
+  public static final int TIMEOUTMILLIS_FIELD_NUMBER = 3;
+  private int timeoutMillis_;
+  /**
+   * <pre>
+   * Maximum time the script can run for, in milliseconds (0 uses the server default)
+   * </pre>
+   *
+   * <code>uint32 timeoutMillis = 3;</code>
+   * @return The timeoutMillis.
+   */
+  @java.lang.Override
+  public int getTimeoutMillis() {
+    return timeoutMillis_;
+  }
+
+  public static final int ROOTELEMENTHYPERLINK_FIELD_NUMBER = 4;
+  private volatile java.lang.Object rootElementHyperlink_;
+  /**
+   * <pre>
+   * Limits the scope of X.all in the script to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 4;</code>
+   * @return The rootElementHyperlink.
+   */
+  @java.lang.Override
+  public java.lang.String getRootElementHyperlink() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      rootElementHyperlink_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Limits the scope of X.all in the script to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 4;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      rootElementHyperlink_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(script_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, script_);
+    }
+    com.google.protobuf.GeneratedMessageV3
+      .serializeStringMapTo(
+        output,
+        internalGetParameters(),
+        ParametersDefaultEntryHolder.defaultEntry,
+        2);
+    if (timeoutMillis_ != 0) {
+      output.writeUInt32(3, timeoutMillis_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, rootElementHyperlink_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(script_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, script_);
+    }
+    for (java.util.Map.Entry<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> entry
+         : internalGetParameters().getMap().entrySet()) {
+      com.google.protobuf.MapEntry<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+      parameters__ = ParametersDefaultEntryHolder.defaultEntry.newBuilderForType()
+          .setKey(entry.getKey())
+          .setValue(entry.getValue())
+          .build();
+      size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, parameters__);
+    }
+    if (timeoutMillis_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(3, timeoutMillis_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(4, rootElementHyperlink_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest) obj;
+
+    if (!getScript()
+        .equals(other.getScript())) return false;
+    if (!internalGetParameters().equals(
+        other.internalGetParameters())) return false;
+    if (getTimeoutMillis()
+        != other.getTimeoutMillis()) return false;
+    if (!getRootElementHyperlink()
+        .equals(other.getRootElementHyperlink())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + SCRIPT_FIELD_NUMBER;
+    hash = (53 * hash) + getScript().hashCode();
+    if (!internalGetParameters().getMap().isEmpty()) {
+      hash = (37 * hash) + PARAMETERS_FIELD_NUMBER;
+      hash = (53 * hash) + internalGetParameters().hashCode();
+    }
+    hash = (37 * hash) + TIMEOUTMILLIS_FIELD_NUMBER;
+    hash = (53 * hash) + getTimeoutMillis();
+    hash = (37 * hash) + ROOTELEMENTHYPERLINK_FIELD_NUMBER;
+    hash = (53 * hash) + getRootElementHyperlink().hashCode();
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor;
+    }
+
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetParameters();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @SuppressWarnings({"rawtypes"})
+    protected com.google.protobuf.MapField internalGetMutableMapField(
+        int number) {
+      switch (number) {
+        case 2:
+          return internalGetMutableParameters();
+        default:
+          throw new RuntimeException(
+              "Invalid map field number: " + number);
+      }
+    }
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      script_ = "";
+
+      internalGetMutableParameters().clear();
+      timeoutMillis_ = 0;
+
+      rootElementHyperlink_ = "";
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_RunScriptRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.script_ = script_;
+      result.parameters_ = internalGetParameters();
+      result.parameters_.makeImmutable();
+      result.timeoutMillis_ = timeoutMillis_;
+      result.rootElementHyperlink_ = rootElementHyperlink_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest.getDefaultInstance()) return this;
+      if (!other.getScript().isEmpty()) {
+        script_ = other.script_;
+        onChanged();
+      }
+      internalGetMutableParameters().mergeFrom(
+          other.internalGetParameters());
+      if (other.getTimeoutMillis() != 0) {
+        setTimeoutMillis(other.getTimeoutMillis());
+      }
+      if (!other.getRootElementHyperlink().isEmpty()) {
+        rootElementHyperlink_ = other.rootElementHyperlink_;
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object script_ = "";
+    /**
+     * <pre>
+     * EOL program to be run inside MagicDraw, against a read-only model of the active project
+     * </pre>
+     *
+     * <code>string script = 1;</code>
+     * @return The script.
+     */
+    public java.lang.String getScript() {
+      java.lang.Object ref = script_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        script_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * EOL program to be run inside MagicDraw, against a read-only model of the active project
+     * </pre>
+     *
+     * <code>string script = 1;</code>
+     * @return The bytes for script.
+     */
+    public com.google.protobuf.ByteString
+        getScriptBytes() {
+      java.lang.Object ref = script_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        script_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * EOL program to be run inside MagicDraw, against a read-only model of the active project
+     * </pre>
+     *
+     * <code>string script = 1;</code>
+     * @param value The script to set.
+     * @return This builder for chaining.
+     */
+    public Builder setScript(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      script_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * EOL program to be run inside MagicDraw, against a read-only model of the active project
+     * </pre>
+     *
+     * <code>string script = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearScript() {
+      
+      script_ = getDefaultInstance().getScript();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * EOL program to be run inside MagicDraw, against a read-only model of the active project
+     * </pre>
+     *
+     * <code>string script = 1;</code>
+     * @param value The bytes for script to set.
+     * @return This builder for chaining.
+     */
+    public Builder setScriptBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      script_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.MapField<
+        java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> parameters_;
+    private com.google.protobuf.MapField<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+    internalGetParameters() {
+      if (parameters_ == null) {
+        return com.google.protobuf.MapField.emptyMapField(
+            ParametersDefaultEntryHolder.defaultEntry);
+      }
+      return parameters_;
+    }
+    private com.google.protobuf.MapField<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+    internalGetMutableParameters() {
+      onChanged();;
+      if (parameters_ == null) {
+        parameters_ = com.google.protobuf.MapField.newMapField(
+            ParametersDefaultEntryHolder.defaultEntry);
+      }
+      if (!parameters_.isMutable()) {
+        parameters_ = parameters_.copy();
+      }
+      return parameters_;
+    }
+
+    public int getParametersCount() {
+      return internalGetParameters().getMap().size();
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+
+    @java.lang.Override
+    public boolean containsParameters(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      return internalGetParameters().getMap().containsKey(key);
+    }
+    /**
+     * Use {@link #getParametersMap()} instead.
+     */
+    @java.lang.Override
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getParameters() {
+      return getParametersMap();
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+    @java.lang.Override
+
+    public java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getParametersMap() {
+      return internalGetParameters().getMap();
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+    @java.lang.Override
+
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getParametersOrDefault(
+        java.lang.String key,
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value defaultValue) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> map =
+          internalGetParameters().getMap();
+      return map.containsKey(key) ? map.get(key) : defaultValue;
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+    @java.lang.Override
+
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getParametersOrThrow(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> map =
+          internalGetParameters().getMap();
+      if (!map.containsKey(key)) {
+        throw new java.lang.IllegalArgumentException();
+      }
+      return map.get(key);
+    }
+
+    public Builder clearParameters() {
+      internalGetMutableParameters().getMutableMap()
+          .clear();
+      return this;
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+
+    public Builder removeParameters(
+        java.lang.String key) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      internalGetMutableParameters().getMutableMap()
+          .remove(key);
+      return this;
+    }
+    /**
+     * Use alternate mutation accessors instead.
+     */
+    @java.lang.Deprecated
+    public java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+    getMutableParameters() {
+      return internalGetMutableParameters().getMutableMap();
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+    public Builder putParameters(
+        java.lang.String key,
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (key == null) { throw new NullPointerException("map key"); }
+      if (value == null) {
+  throw new NullPointerException("map value");
+}
+
+      internalGetMutableParameters().getMutableMap()
+          .put(key, value);
+      return this;
+    }
+    /**
+     * <pre>
+     * Values for the global variables of the program (only scalars and model elements)
+     * </pre>
+     *
+     * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+     */
+
+    public Builder putAllParameters(
+        java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value> values) {
+      internalGetMutableParameters().getMutableMap()
+          .putAll(values);
+      return this;
+    }
+
+    private int timeoutMillis_ ;
+    /**
+     * <pre>
+     * Maximum time the script can run for, in milliseconds (0 uses the server default)
+     * </pre>
+     *
+     * <code>uint32 timeoutMillis = 3;</code>
+     * @return The timeoutMillis.
+     */
+    @java.lang.Override
+    public int getTimeoutMillis() {
+      return timeoutMillis_;
+    }
+    /**
+     * <pre>
+     * Maximum time the script can run for, in milliseconds (0 uses the server default)
+     * </pre>
+     *
+     * <code>uint32 timeoutMillis = 3;</code>
+     * @param value The timeoutMillis to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTimeoutMillis(int value) {
+      
+      timeoutMillis_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Maximum time the script can run for, in milliseconds (0 uses the server default)
+     * </pre>
+     *
+     * <code>uint32 timeoutMillis = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTimeoutMillis() {
+      
+      timeoutMillis_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object rootElementHyperlink_ = "";
+    /**
+     * <pre>
+     * Limits the scope of X.all in the script to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 4;</code>
+     * @return The rootElementHyperlink.
+     */
+    public java.lang.String getRootElementHyperlink() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rootElementHyperlink_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Limits the scope of X.all in the script to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 4;</code>
+     * @return The bytes for rootElementHyperlink.
+     */
+    public com.google.protobuf.ByteString
+        getRootElementHyperlinkBytes() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rootElementHyperlink_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Limits the scope of X.all in the script to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 4;</code>
+     * @param value The rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlink(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Limits the scope of X.all in the script to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRootElementHyperlink() {
+      
+      rootElementHyperlink_ = getDefaultInstance().getRootElementHyperlink();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Limits the scope of X.all in the script to the proper contents of this element
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 4;</code>
+     * @param value The bytes for rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlinkBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<RunScriptRequest>
+      PARSER = new com.google.protobuf.AbstractParser<RunScriptRequest>() {
+    @java.lang.Override
+    public RunScriptRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new RunScriptRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<RunScriptRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<RunScriptRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,115 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface RunScriptRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.RunScriptRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * EOL program to be run inside MagicDraw, against a read-only model of the active project
+   * </pre>
+   *
+   * <code>string script = 1;</code>
+   * @return The script.
+   */
+  java.lang.String getScript();
+  /**
+   * <pre>
+   * EOL program to be run inside MagicDraw, against a read-only model of the active project
+   * </pre>
+   *
+   * <code>string script = 1;</code>
+   * @return The bytes for script.
+   */
+  com.google.protobuf.ByteString
+      getScriptBytes();
+
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+  int getParametersCount();
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+  boolean containsParameters(
+      java.lang.String key);
+  /**
+   * Use {@link #getParametersMap()} instead.
+   */
+  @java.lang.Deprecated
+  java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+  getParameters();
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+  java.util.Map<java.lang.String, org.eclipse.epsilon.emc.magicdraw.modelapi.Value>
+  getParametersMap();
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+
+  /* nullable */
+org.eclipse.epsilon.emc.magicdraw.modelapi.Value getParametersOrDefault(
+      java.lang.String key,
+      /* nullable */
+org.eclipse.epsilon.emc.magicdraw.modelapi.Value defaultValue);
+  /**
+   * <pre>
+   * Values for the global variables of the program (only scalars and model elements)
+   * </pre>
+   *
+   * <code>map&lt;string, .org.eclipse.epsilon.emc.magicdraw.modelapi.Value&gt; parameters = 2;</code>
+   */
+
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getParametersOrThrow(
+      java.lang.String key);
+
+  /**
+   * <pre>
+   * Maximum time the script can run for, in milliseconds (0 uses the server default)
+   * </pre>
+   *
+   * <code>uint32 timeoutMillis = 3;</code>
+   * @return The timeoutMillis.
+   */
+  int getTimeoutMillis();
+
+  /**
+   * <pre>
+   * Limits the scope of X.all in the script to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 4;</code>
+   * @return The rootElementHyperlink.
+   */
+  java.lang.String getRootElementHyperlink();
+  /**
+   * <pre>
+   * Limits the scope of X.all in the script to the proper contents of this element
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 4;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes();
+}
@@ -0,0 +1,45 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ScriptResultOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.ScriptResult)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Only meaningful in the first message of the stream: if true, the script
+   * returned a collection, and the values across all messages are its elements.
+   * Otherwise, there will only be one message with one value.
+   * </pre>
+   *
+   * <code>bool isCollection = 1;</code>
+   * @return The isCollection.
+   */
+  boolean getIsCollection();
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> 
+      getValuesList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValues(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 2;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValuesOrBuilder(
+      int index);
+}
@@ -0,0 +1,885 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest}
+ */
+public final class SetFeatureValueRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)
+    SetFeatureValueRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SetFeatureValueRequest.newBuilder() to construct.
+  private SetFeatureValueRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SetFeatureValueRequest() {
+    elementID_ = "";
+    featureName_ = "";
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SetFeatureValueRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SetFeatureValueRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            elementID_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            featureName_ = s;
+            break;
+          }
+          case 26: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder subBuilder = null;
+            if (newValue_ != null) {
+              subBuilder = newValue_.toBuilder();
+            }
+            newValue_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.Value.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(newValue_);
+              newValue_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.Builder.class);
+  }
+
+  public static final int ELEMENTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object elementID_;
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  @java.lang.Override
+  public java.lang.String getElementID() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      elementID_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getElementIDBytes() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      elementID_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int FEATURENAME_FIELD_NUMBER = 2;
+  private volatile java.lang.Object featureName_;
+  /**
+   * <code>string featureName = 2;</code>
+   * @return The featureName.
+   */
+  @java.lang.Override
+  public java.lang.String getFeatureName() {
+    java.lang.Object ref = featureName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      featureName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <code>string featureName = 2;</code>
+   * @return The bytes for featureName.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getFeatureNameBytes() {
+    java.lang.Object ref = featureName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      featureName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int NEWVALUE_FIELD_NUMBER = 3;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue_;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+   * @return Whether the newValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasNewValue() {
+    return newValue_ != null;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+   * @return The newValue.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getNewValue() {
+    return newValue_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : newValue_;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getNewValueOrBuilder() {
+    return getNewValue();
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, elementID_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(featureName_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, featureName_);
+    }
+    if (newValue_ != null) {
+      output.writeMessage(3, getNewValue());
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, elementID_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(featureName_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, featureName_);
+    }
+    if (newValue_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, getNewValue());
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest) obj;
+
+    if (!getElementID()
+        .equals(other.getElementID())) return false;
+    if (!getFeatureName()
+        .equals(other.getFeatureName())) return false;
+    if (hasNewValue() != other.hasNewValue()) return false;
+    if (hasNewValue()) {
+      if (!getNewValue()
+          .equals(other.getNewValue())) return false;
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ELEMENTID_FIELD_NUMBER;
+    hash = (53 * hash) + getElementID().hashCode();
+    hash = (37 * hash) + FEATURENAME_FIELD_NUMBER;
+    hash = (53 * hash) + getFeatureName().hashCode();
+    if (hasNewValue()) {
+      hash = (37 * hash) + NEWVALUE_FIELD_NUMBER;
+      hash = (53 * hash) + getNewValue().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      elementID_ = "";
+
+      featureName_ = "";
+
+      if (newValueBuilder_ == null) {
+        newValue_ = null;
+      } else {
+        newValue_ = null;
+        newValueBuilder_ = null;
+      }
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SetFeatureValueRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest(this);
+      result.elementID_ = elementID_;
+      result.featureName_ = featureName_;
+      if (newValueBuilder_ == null) {
+        result.newValue_ = newValue_;
+      } else {
+        result.newValue_ = newValueBuilder_.build();
+      }
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest.getDefaultInstance()) return this;
+      if (!other.getElementID().isEmpty()) {
+        elementID_ = other.elementID_;
+        onChanged();
+      }
+      if (!other.getFeatureName().isEmpty()) {
+        featureName_ = other.featureName_;
+        onChanged();
+      }
+      if (other.hasNewValue()) {
+        mergeNewValue(other.getNewValue());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+
+    private java.lang.Object elementID_ = "";
+    /**
+     * <code>string elementID = 1;</code>
+     * @return The elementID.
+     */
+    public java.lang.String getElementID() {
+      java.lang.Object ref = elementID_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        elementID_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @return The bytes for elementID.
+     */
+    public com.google.protobuf.ByteString
+        getElementIDBytes() {
+      java.lang.Object ref = elementID_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        elementID_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @param value The elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementID(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearElementID() {
+      
+      elementID_ = getDefaultInstance().getElementID();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string elementID = 1;</code>
+     * @param value The bytes for elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementIDBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object featureName_ = "";
+    /**
+     * <code>string featureName = 2;</code>
+     * @return The featureName.
+     */
+    public java.lang.String getFeatureName() {
+      java.lang.Object ref = featureName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        featureName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string featureName = 2;</code>
+     * @return The bytes for featureName.
+     */
+    public com.google.protobuf.ByteString
+        getFeatureNameBytes() {
+      java.lang.Object ref = featureName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        featureName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string featureName = 2;</code>
+     * @param value The featureName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFeatureName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      featureName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string featureName = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFeatureName() {
+      
+      featureName_ = getDefaultInstance().getFeatureName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string featureName = 2;</code>
+     * @param value The bytes for featureName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFeatureNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      featureName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> newValueBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     * @return Whether the newValue field is set.
+     */
+    public boolean hasNewValue() {
+      return newValueBuilder_ != null || newValue_ != null;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     * @return The newValue.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getNewValue() {
+      if (newValueBuilder_ == null) {
+        return newValue_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : newValue_;
+      } else {
+        return newValueBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    public Builder setNewValue(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (newValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        newValue_ = value;
+        onChanged();
+      } else {
+        newValueBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    public Builder setNewValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder builderForValue) {
+      if (newValueBuilder_ == null) {
+        newValue_ = builderForValue.build();
+        onChanged();
+      } else {
+        newValueBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    public Builder mergeNewValue(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (newValueBuilder_ == null) {
+        if (newValue_ != null) {
+          newValue_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.newBuilder(newValue_).mergeFrom(value).buildPartial();
+        } else {
+          newValue_ = value;
+        }
+        onChanged();
+      } else {
+        newValueBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    public Builder clearNewValue() {
+      if (newValueBuilder_ == null) {
+        newValue_ = null;
+        onChanged();
+      } else {
+        newValue_ = null;
+        newValueBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder getNewValueBuilder() {
+      
+      onChanged();
+      return getNewValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getNewValueOrBuilder() {
+      if (newValueBuilder_ != null) {
+        return newValueBuilder_.getMessageOrBuilder();
+      } else {
+        return newValue_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance() : newValue_;
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+        getNewValueFieldBuilder() {
+      if (newValueBuilder_ == null) {
+        newValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder>(
+                getNewValue(),
+                getParentForChildren(),
+                isClean());
+        newValue_ = null;
+      }
+      return newValueBuilder_;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SetFeatureValueRequest>
+      PARSER = new com.google.protobuf.AbstractParser<SetFeatureValueRequest>() {
+    @java.lang.Override
+    public SetFeatureValueRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SetFeatureValueRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SetFeatureValueRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SetFeatureValueRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,48 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface SetFeatureValueRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.SetFeatureValueRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+
+  /**
+   * <code>string featureName = 2;</code>
+   * @return The featureName.
+   */
+  java.lang.String getFeatureName();
+  /**
+   * <code>string featureName = 2;</code>
+   * @return The bytes for featureName.
+   */
+  com.google.protobuf.ByteString
+      getFeatureNameBytes();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+   * @return Whether the newValue field is set.
+   */
+  boolean hasNewValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+   * @return The newValue.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getNewValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.Value newValue = 3;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getNewValueOrBuilder();
+}
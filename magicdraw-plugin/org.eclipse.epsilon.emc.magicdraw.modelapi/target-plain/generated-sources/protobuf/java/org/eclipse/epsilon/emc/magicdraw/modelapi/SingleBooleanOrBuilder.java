@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface SingleBooleanOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>bool value = 1;</code>
+   * @return The value.
+   */
+  boolean getValue();
+}
@@ -0,0 +1,15 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface SingleIntegerOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>sint32 value = 1;</code>
+   * @return The value.
+   */
+  int getValue();
+}
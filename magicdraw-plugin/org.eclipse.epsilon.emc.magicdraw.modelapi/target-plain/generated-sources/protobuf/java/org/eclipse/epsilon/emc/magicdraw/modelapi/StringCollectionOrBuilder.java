@@ -0,0 +1,34 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface StringCollectionOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated string values = 1;</code>
+   * @return A list containing the values.
+   */
+  java.util.List<java.lang.String>
+      getValuesList();
+  /**
+   * <code>repeated string values = 1;</code>
+   * @return The count of values.
+   */
+  int getValuesCount();
+  /**
+   * <code>repeated string values = 1;</code>
+   * @param index The index of the element to return.
+   * @return The values at the given index.
+   */
+  java.lang.String getValues(int index);
+  /**
+   * <code>repeated string values = 1;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the values at the given index.
+   */
+  com.google.protobuf.ByteString
+      getValuesBytes(int index);
+}
@@ -0,0 +1,39 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface StringTestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.StringTest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string featureName = 1;</code>
+   * @return The featureName.
+   */
+  java.lang.String getFeatureName();
+  /**
+   * <code>string featureName = 1;</code>
+   * @return The bytes for featureName.
+   */
+  com.google.protobuf.ByteString
+      getFeatureNameBytes();
+
+  /**
+   * <code>string value = 2;</code>
+   * @return The value.
+   */
+  java.lang.String getValue();
+  /**
+   * <code>string value = 2;</code>
+   * @return The bytes for value.
+   */
+  com.google.protobuf.ByteString
+      getValueBytes();
+
+  /**
+   * <code>bool ignoreCase = 3;</code>
+   * @return The ignoreCase.
+   */
+  boolean getIgnoreCase();
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface SubtreeChunkOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeChunk)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode nodes = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode> 
+      getNodesList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode nodes = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode getNodes(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode nodes = 1;</code>
+   */
+  int getNodesCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode nodes = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNodeOrBuilder> 
+      getNodesOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode nodes = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNodeOrBuilder getNodesOrBuilder(
+      int index);
+}
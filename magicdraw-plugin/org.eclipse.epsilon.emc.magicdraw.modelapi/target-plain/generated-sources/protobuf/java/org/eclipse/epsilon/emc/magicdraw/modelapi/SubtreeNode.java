@@ -0,0 +1,1213 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode}
+ */
+public final class SubtreeNode extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)
+    SubtreeNodeOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SubtreeNode.newBuilder() to construct.
+  private SubtreeNode(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SubtreeNode() {
+    values_ = java.util.Collections.emptyList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SubtreeNode();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SubtreeNode(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder subBuilder = null;
+            if (element_ != null) {
+              subBuilder = element_.toBuilder();
+            }
+            element_ = input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom(element_);
+              element_ = subBuilder.buildPartial();
+            }
+
+            break;
+          }
+          case 16: {
+
+            parentIndex_ = input.readSInt32();
+            break;
+          }
+          case 26: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              values_ = new java.util.ArrayList<org.eclipse.epsilon.emc.magicdraw.modelapi.Value>();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            values_.add(
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.Value.parser(), extensionRegistry));
+            break;
+          }
+          case 32: {
+
+            contentsComplete_ = input.readBool();
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        values_ = java.util.Collections.unmodifiableList(values_);
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.class, org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.Builder.class);
+  }
+
+  public static final int ELEMENT_FIELD_NUMBER = 1;
+  private org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element_;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   * @return Whether the element field is set.
+   */
+  @java.lang.Override
+  public boolean hasElement() {
+    return element_ != null;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   * @return The element.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getElement() {
+    return element_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance() : element_;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getElementOrBuilder() {
+    return getElement();
+  }
+
+  public static final int PARENTINDEX_FIELD_NUMBER = 2;
+  private int parentIndex_;
+  /**
+   * <pre>
+   * Position of the container of this element within the stream (across all messages), or -1 for the root
+   * </pre>
+   *
+   * <code>sint32 parentIndex = 2;</code>
+   * @return The parentIndex.
+   */
+  @java.lang.Override
+  public int getParentIndex() {
+    return parentIndex_;
+  }
+
+  public static final int VALUES_FIELD_NUMBER = 3;
+  private java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> values_;
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getValuesList() {
+    return values_;
+  }
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  @java.lang.Override
+  public java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+      getValuesOrBuilderList() {
+    return values_;
+  }
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  @java.lang.Override
+  public int getValuesCount() {
+    return values_.size();
+  }
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValues(int index) {
+    return values_.get(index);
+  }
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValuesOrBuilder(
+      int index) {
+    return values_.get(index);
+  }
+
+  public static final int CONTENTSCOMPLETE_FIELD_NUMBER = 4;
+  private boolean contentsComplete_;
+  /**
+   * <pre>
+   * If true, all the contents of this element are in the stream
+   * </pre>
+   *
+   * <code>bool contentsComplete = 4;</code>
+   * @return The contentsComplete.
+   */
+  @java.lang.Override
+  public boolean getContentsComplete() {
+    return contentsComplete_;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (element_ != null) {
+      output.writeMessage(1, getElement());
+    }
+    if (parentIndex_ != 0) {
+      output.writeSInt32(2, parentIndex_);
+    }
+    for (int i = 0; i < values_.size(); i++) {
+      output.writeMessage(3, values_.get(i));
+    }
+    if (contentsComplete_ != false) {
+      output.writeBool(4, contentsComplete_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (element_ != null) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(1, getElement());
+    }
+    if (parentIndex_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeSInt32Size(2, parentIndex_);
+    }
+    for (int i = 0; i < values_.size(); i++) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(3, values_.get(i));
+    }
+    if (contentsComplete_ != false) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(4, contentsComplete_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode other = (org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode) obj;
+
+    if (hasElement() != other.hasElement()) return false;
+    if (hasElement()) {
+      if (!getElement()
+          .equals(other.getElement())) return false;
+    }
+    if (getParentIndex()
+        != other.getParentIndex()) return false;
+    if (!getValuesList()
+        .equals(other.getValuesList())) return false;
+    if (getContentsComplete()
+        != other.getContentsComplete()) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    if (hasElement()) {
+      hash = (37 * hash) + ELEMENT_FIELD_NUMBER;
+      hash = (53 * hash) + getElement().hashCode();
+    }
+    hash = (37 * hash) + PARENTINDEX_FIELD_NUMBER;
+    hash = (53 * hash) + getParentIndex();
+    if (getValuesCount() > 0) {
+      hash = (37 * hash) + VALUES_FIELD_NUMBER;
+      hash = (53 * hash) + getValuesList().hashCode();
+    }
+    hash = (37 * hash) + CONTENTSCOMPLETE_FIELD_NUMBER;
+    hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+        getContentsComplete());
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNodeOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.class, org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+        getValuesFieldBuilder();
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      if (elementBuilder_ == null) {
+        element_ = null;
+      } else {
+        element_ = null;
+        elementBuilder_ = null;
+      }
+      parentIndex_ = 0;
+
+      if (valuesBuilder_ == null) {
+        values_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      } else {
+        valuesBuilder_.clear();
+      }
+      contentsComplete_ = false;
+
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeNode_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode result = new org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode(this);
+      int from_bitField0_ = bitField0_;
+      if (elementBuilder_ == null) {
+        result.element_ = element_;
+      } else {
+        result.element_ = elementBuilder_.build();
+      }
+      result.parentIndex_ = parentIndex_;
+      if (valuesBuilder_ == null) {
+        if (((bitField0_ & 0x00000001) != 0)) {
+          values_ = java.util.Collections.unmodifiableList(values_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.values_ = values_;
+      } else {
+        result.values_ = valuesBuilder_.build();
+      }
+      result.contentsComplete_ = contentsComplete_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode.getDefaultInstance()) return this;
+      if (other.hasElement()) {
+        mergeElement(other.getElement());
+      }
+      if (other.getParentIndex() != 0) {
+        setParentIndex(other.getParentIndex());
+      }
+      if (valuesBuilder_ == null) {
+        if (!other.values_.isEmpty()) {
+          if (values_.isEmpty()) {
+            values_ = other.values_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensureValuesIsMutable();
+            values_.addAll(other.values_);
+          }
+          onChanged();
+        }
+      } else {
+        if (!other.values_.isEmpty()) {
+          if (valuesBuilder_.isEmpty()) {
+            valuesBuilder_.dispose();
+            valuesBuilder_ = null;
+            values_ = other.values_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+            valuesBuilder_ = 
+              com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                 getValuesFieldBuilder() : null;
+          } else {
+            valuesBuilder_.addAllMessages(other.values_);
+          }
+        }
+      }
+      if (other.getContentsComplete() != false) {
+        setContentsComplete(other.getContentsComplete());
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element_;
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder> elementBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     * @return Whether the element field is set.
+     */
+    public boolean hasElement() {
+      return elementBuilder_ != null || element_ != null;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     * @return The element.
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getElement() {
+      if (elementBuilder_ == null) {
+        return element_ == null ? org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance() : element_;
+      } else {
+        return elementBuilder_.getMessage();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    public Builder setElement(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement value) {
+      if (elementBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        element_ = value;
+        onChanged();
+      } else {
+        elementBuilder_.setMessage(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    public Builder setElement(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder builderForValue) {
+      if (elementBuilder_ == null) {
+        element_ = builderForValue.build();
+        onChanged();
+      } else {
+        elementBuilder_.setMessage(builderForValue.build());
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    public Builder mergeElement(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement value) {
+      if (elementBuilder_ == null) {
+        if (element_ != null) {
+          element_ =
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.newBuilder(element_).mergeFrom(value).buildPartial();
+        } else {
+          element_ = value;
+        }
+        onChanged();
+      } else {
+        elementBuilder_.mergeFrom(value);
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    public Builder clearElement() {
+      if (elementBuilder_ == null) {
+        element_ = null;
+        onChanged();
+      } else {
+        element_ = null;
+        elementBuilder_ = null;
+      }
+
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder getElementBuilder() {
+      
+      onChanged();
+      return getElementFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getElementOrBuilder() {
+      if (elementBuilder_ != null) {
+        return elementBuilder_.getMessageOrBuilder();
+      } else {
+        return element_ == null ?
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance() : element_;
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder> 
+        getElementFieldBuilder() {
+      if (elementBuilder_ == null) {
+        elementBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder>(
+                getElement(),
+                getParentForChildren(),
+                isClean());
+        element_ = null;
+      }
+      return elementBuilder_;
+    }
+
+    private int parentIndex_ ;
+    /**
+     * <pre>
+     * Position of the container of this element within the stream (across all messages), or -1 for the root
+     * </pre>
+     *
+     * <code>sint32 parentIndex = 2;</code>
+     * @return The parentIndex.
+     */
+    @java.lang.Override
+    public int getParentIndex() {
+      return parentIndex_;
+    }
+    /**
+     * <pre>
+     * Position of the container of this element within the stream (across all messages), or -1 for the root
+     * </pre>
+     *
+     * <code>sint32 parentIndex = 2;</code>
+     * @param value The parentIndex to set.
+     * @return This builder for chaining.
+     */
+    public Builder setParentIndex(int value) {
+      
+      parentIndex_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Position of the container of this element within the stream (across all messages), or -1 for the root
+     * </pre>
+     *
+     * <code>sint32 parentIndex = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearParentIndex() {
+      
+      parentIndex_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> values_ =
+      java.util.Collections.emptyList();
+    private void ensureValuesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        values_ = new java.util.ArrayList<org.eclipse.epsilon.emc.magicdraw.modelapi.Value>(values_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> valuesBuilder_;
+
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> getValuesList() {
+      if (valuesBuilder_ == null) {
+        return java.util.Collections.unmodifiableList(values_);
+      } else {
+        return valuesBuilder_.getMessageList();
+      }
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public int getValuesCount() {
+      if (valuesBuilder_ == null) {
+        return values_.size();
+      } else {
+        return valuesBuilder_.getCount();
+      }
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValues(int index) {
+      if (valuesBuilder_ == null) {
+        return values_.get(index);
+      } else {
+        return valuesBuilder_.getMessage(index);
+      }
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder setValues(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureValuesIsMutable();
+        values_.set(index, value);
+        onChanged();
+      } else {
+        valuesBuilder_.setMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder setValues(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder builderForValue) {
+      if (valuesBuilder_ == null) {
+        ensureValuesIsMutable();
+        values_.set(index, builderForValue.build());
+        onChanged();
+      } else {
+        valuesBuilder_.setMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder addValues(org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureValuesIsMutable();
+        values_.add(value);
+        onChanged();
+      } else {
+        valuesBuilder_.addMessage(value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder addValues(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.Value value) {
+      if (valuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensureValuesIsMutable();
+        values_.add(index, value);
+        onChanged();
+      } else {
+        valuesBuilder_.addMessage(index, value);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder addValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder builderForValue) {
+      if (valuesBuilder_ == null) {
+        ensureValuesIsMutable();
+        values_.add(builderForValue.build());
+        onChanged();
+      } else {
+        valuesBuilder_.addMessage(builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder addValues(
+        int index, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder builderForValue) {
+      if (valuesBuilder_ == null) {
+        ensureValuesIsMutable();
+        values_.add(index, builderForValue.build());
+        onChanged();
+      } else {
+        valuesBuilder_.addMessage(index, builderForValue.build());
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder addAllValues(
+        java.lang.Iterable<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.Value> values) {
+      if (valuesBuilder_ == null) {
+        ensureValuesIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, values_);
+        onChanged();
+      } else {
+        valuesBuilder_.addAllMessages(values);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder clearValues() {
+      if (valuesBuilder_ == null) {
+        values_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+      } else {
+        valuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public Builder removeValues(int index) {
+      if (valuesBuilder_ == null) {
+        ensureValuesIsMutable();
+        values_.remove(index);
+        onChanged();
+      } else {
+        valuesBuilder_.remove(index);
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder getValuesBuilder(
+        int index) {
+      return getValuesFieldBuilder().getBuilder(index);
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValuesOrBuilder(
+        int index) {
+      if (valuesBuilder_ == null) {
+        return values_.get(index);  } else {
+        return valuesBuilder_.getMessageOrBuilder(index);
+      }
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+         getValuesOrBuilderList() {
+      if (valuesBuilder_ != null) {
+        return valuesBuilder_.getMessageOrBuilderList();
+      } else {
+        return java.util.Collections.unmodifiableList(values_);
+      }
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder addValuesBuilder() {
+      return getValuesFieldBuilder().addBuilder(
+          org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder addValuesBuilder(
+        int index) {
+      return getValuesFieldBuilder().addBuilder(
+          index, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance());
+    }
+    /**
+     * <pre>
+     * Values of the projected features, in the same order as in the request
+     * </pre>
+     *
+     * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+     */
+    public java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder> 
+         getValuesBuilderList() {
+      return getValuesFieldBuilder().getBuilderList();
+    }
+    private com.google.protobuf.RepeatedFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+        getValuesFieldBuilder() {
+      if (valuesBuilder_ == null) {
+        valuesBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder>(
+                values_,
+                ((bitField0_ & 0x00000001) != 0),
+                getParentForChildren(),
+                isClean());
+        values_ = null;
+      }
+      return valuesBuilder_;
+    }
+
+    private boolean contentsComplete_ ;
+    /**
+     * <pre>
+     * If true, all the contents of this element are in the stream
+     * </pre>
+     *
+     * <code>bool contentsComplete = 4;</code>
+     * @return The contentsComplete.
+     */
+    @java.lang.Override
+    public boolean getContentsComplete() {
+      return contentsComplete_;
+    }
+    /**
+     * <pre>
+     * If true, all the contents of this element are in the stream
+     * </pre>
+     *
+     * <code>bool contentsComplete = 4;</code>
+     * @param value The contentsComplete to set.
+     * @return This builder for chaining.
+     */
+    public Builder setContentsComplete(boolean value) {
+      
+      contentsComplete_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If true, all the contents of this element are in the stream
+     * </pre>
+     *
+     * <code>bool contentsComplete = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearContentsComplete() {
+      
+      contentsComplete_ = false;
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubtreeNode>
+      PARSER = new com.google.protobuf.AbstractParser<SubtreeNode>() {
+    @java.lang.Override
+    public SubtreeNode parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SubtreeNode(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubtreeNode> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubtreeNode> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,88 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface SubtreeNodeOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeNode)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   * @return Whether the element field is set.
+   */
+  boolean hasElement();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   * @return The element.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getElement();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement element = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getElementOrBuilder();
+
+  /**
+   * <pre>
+   * Position of the container of this element within the stream (across all messages), or -1 for the root
+   * </pre>
+   *
+   * <code>sint32 parentIndex = 2;</code>
+   * @return The parentIndex.
+   */
+  int getParentIndex();
+
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.Value> 
+      getValuesList();
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.Value getValues(int index);
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  int getValuesCount();
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder> 
+      getValuesOrBuilderList();
+  /**
+   * <pre>
+   * Values of the projected features, in the same order as in the request
+   * </pre>
+   *
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.Value values = 3;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder getValuesOrBuilder(
+      int index);
+
+  /**
+   * <pre>
+   * If true, all the contents of this element are in the stream
+   * </pre>
+   *
+   * <code>bool contentsComplete = 4;</code>
+   * @return The contentsComplete.
+   */
+  boolean getContentsComplete();
+}
@@ -0,0 +1,1334 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * <pre>
+ * Fetches a containment subtree in breadth-first order. Every element comes
+ * after its container, and the contents of each element keep their order.
+ * </pre>
+ *
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest}
+ */
+public final class SubtreeRequest extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)
+    SubtreeRequestOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use SubtreeRequest.newBuilder() to construct.
+  private SubtreeRequest(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private SubtreeRequest() {
+    elementID_ = "";
+    rootElementHyperlink_ = "";
+    typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new SubtreeRequest();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private SubtreeRequest(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            elementID_ = s;
+            break;
+          }
+          case 18: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            rootElementHyperlink_ = s;
+            break;
+          }
+          case 24: {
+
+            maxDepth_ = input.readUInt32();
+            break;
+          }
+          case 34: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              typeNames_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            typeNames_.add(s);
+            break;
+          }
+          case 42: {
+            java.lang.String s = input.readStringRequireUtf8();
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              projectedFeatures_ = new com.google.protobuf.LazyStringArrayList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            projectedFeatures_.add(s);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        typeNames_ = typeNames_.getUnmodifiableView();
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        projectedFeatures_ = projectedFeatures_.getUnmodifiableView();
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.Builder.class);
+  }
+
+  public static final int ELEMENTID_FIELD_NUMBER = 1;
+  private volatile java.lang.Object elementID_;
+  /**
+   * <pre>
+   * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+   * </pre>
+   *
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  @java.lang.Override
+  public java.lang.String getElementID() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      elementID_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+   * </pre>
+   *
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getElementIDBytes() {
+    java.lang.Object ref = elementID_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      elementID_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int ROOTELEMENTHYPERLINK_FIELD_NUMBER = 2;
+  private volatile java.lang.Object rootElementHyperlink_;
+  /**
+   * <pre>
+   * Hyperlink to the root of the subtree: if omitted as well, the model is used
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  @java.lang.Override
+  public java.lang.String getRootElementHyperlink() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      rootElementHyperlink_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Hyperlink to the root of the subtree: if omitted as well, the model is used
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes() {
+    java.lang.Object ref = rootElementHyperlink_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      rootElementHyperlink_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int MAXDEPTH_FIELD_NUMBER = 3;
+  private int maxDepth_;
+  /**
+   * <pre>
+   * Maximum number of levels below the root to be visited (0 means no limit)
+   * </pre>
+   *
+   * <code>uint32 maxDepth = 3;</code>
+   * @return The maxDepth.
+   */
+  @java.lang.Override
+  public int getMaxDepth() {
+    return maxDepth_;
+  }
+
+  public static final int TYPENAMES_FIELD_NUMBER = 4;
+  private com.google.protobuf.LazyStringList typeNames_;
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @return A list containing the typeNames.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getTypeNamesList() {
+    return typeNames_;
+  }
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @return The count of typeNames.
+   */
+  public int getTypeNamesCount() {
+    return typeNames_.size();
+  }
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @param index The index of the element to return.
+   * @return The typeNames at the given index.
+   */
+  public java.lang.String getTypeNames(int index) {
+    return typeNames_.get(index);
+  }
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the typeNames at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getTypeNamesBytes(int index) {
+    return typeNames_.getByteString(index);
+  }
+
+  public static final int PROJECTEDFEATURES_FIELD_NUMBER = 5;
+  private com.google.protobuf.LazyStringList projectedFeatures_;
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return A list containing the projectedFeatures.
+   */
+  public com.google.protobuf.ProtocolStringList
+      getProjectedFeaturesList() {
+    return projectedFeatures_;
+  }
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return The count of projectedFeatures.
+   */
+  public int getProjectedFeaturesCount() {
+    return projectedFeatures_.size();
+  }
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the element to return.
+   * @return The projectedFeatures at the given index.
+   */
+  public java.lang.String getProjectedFeatures(int index) {
+    return projectedFeatures_.get(index);
+  }
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the projectedFeatures at the given index.
+   */
+  public com.google.protobuf.ByteString
+      getProjectedFeaturesBytes(int index) {
+    return projectedFeatures_.getByteString(index);
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, elementID_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 2, rootElementHyperlink_);
+    }
+    if (maxDepth_ != 0) {
+      output.writeUInt32(3, maxDepth_);
+    }
+    for (int i = 0; i < typeNames_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 4, typeNames_.getRaw(i));
+    }
+    for (int i = 0; i < projectedFeatures_.size(); i++) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 5, projectedFeatures_.getRaw(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(elementID_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, elementID_);
+    }
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(rootElementHyperlink_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, rootElementHyperlink_);
+    }
+    if (maxDepth_ != 0) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeUInt32Size(3, maxDepth_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < typeNames_.size(); i++) {
+        dataSize += computeStringSizeNoTag(typeNames_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getTypeNamesList().size();
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < projectedFeatures_.size(); i++) {
+        dataSize += computeStringSizeNoTag(projectedFeatures_.getRaw(i));
+      }
+      size += dataSize;
+      size += 1 * getProjectedFeaturesList().size();
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest other = (org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest) obj;
+
+    if (!getElementID()
+        .equals(other.getElementID())) return false;
+    if (!getRootElementHyperlink()
+        .equals(other.getRootElementHyperlink())) return false;
+    if (getMaxDepth()
+        != other.getMaxDepth()) return false;
+    if (!getTypeNamesList()
+        .equals(other.getTypeNamesList())) return false;
+    if (!getProjectedFeaturesList()
+        .equals(other.getProjectedFeaturesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + ELEMENTID_FIELD_NUMBER;
+    hash = (53 * hash) + getElementID().hashCode();
+    hash = (37 * hash) + ROOTELEMENTHYPERLINK_FIELD_NUMBER;
+    hash = (53 * hash) + getRootElementHyperlink().hashCode();
+    hash = (37 * hash) + MAXDEPTH_FIELD_NUMBER;
+    hash = (53 * hash) + getMaxDepth();
+    if (getTypeNamesCount() > 0) {
+      hash = (37 * hash) + TYPENAMES_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeNamesList().hashCode();
+    }
+    if (getProjectedFeaturesCount() > 0) {
+      hash = (37 * hash) + PROJECTEDFEATURES_FIELD_NUMBER;
+      hash = (53 * hash) + getProjectedFeaturesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * <pre>
+   * Fetches a containment subtree in breadth-first order. Every element comes
+   * after its container, and the contents of each element keep their order.
+   * </pre>
+   *
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequestOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.class, org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      elementID_ = "";
+
+      rootElementHyperlink_ = "";
+
+      maxDepth_ = 0;
+
+      typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_SubtreeRequest_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest result = new org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest(this);
+      int from_bitField0_ = bitField0_;
+      result.elementID_ = elementID_;
+      result.rootElementHyperlink_ = rootElementHyperlink_;
+      result.maxDepth_ = maxDepth_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        typeNames_ = typeNames_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.typeNames_ = typeNames_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        projectedFeatures_ = projectedFeatures_.getUnmodifiableView();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.projectedFeatures_ = projectedFeatures_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest.getDefaultInstance()) return this;
+      if (!other.getElementID().isEmpty()) {
+        elementID_ = other.elementID_;
+        onChanged();
+      }
+      if (!other.getRootElementHyperlink().isEmpty()) {
+        rootElementHyperlink_ = other.rootElementHyperlink_;
+        onChanged();
+      }
+      if (other.getMaxDepth() != 0) {
+        setMaxDepth(other.getMaxDepth());
+      }
+      if (!other.typeNames_.isEmpty()) {
+        if (typeNames_.isEmpty()) {
+          typeNames_ = other.typeNames_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureTypeNamesIsMutable();
+          typeNames_.addAll(other.typeNames_);
+        }
+        onChanged();
+      }
+      if (!other.projectedFeatures_.isEmpty()) {
+        if (projectedFeatures_.isEmpty()) {
+          projectedFeatures_ = other.projectedFeatures_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureProjectedFeaturesIsMutable();
+          projectedFeatures_.addAll(other.projectedFeatures_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object elementID_ = "";
+    /**
+     * <pre>
+     * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+     * </pre>
+     *
+     * <code>string elementID = 1;</code>
+     * @return The elementID.
+     */
+    public java.lang.String getElementID() {
+      java.lang.Object ref = elementID_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        elementID_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+     * </pre>
+     *
+     * <code>string elementID = 1;</code>
+     * @return The bytes for elementID.
+     */
+    public com.google.protobuf.ByteString
+        getElementIDBytes() {
+      java.lang.Object ref = elementID_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        elementID_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+     * </pre>
+     *
+     * <code>string elementID = 1;</code>
+     * @param value The elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementID(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+     * </pre>
+     *
+     * <code>string elementID = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearElementID() {
+      
+      elementID_ = getDefaultInstance().getElementID();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+     * </pre>
+     *
+     * <code>string elementID = 1;</code>
+     * @param value The bytes for elementID to set.
+     * @return This builder for chaining.
+     */
+    public Builder setElementIDBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      elementID_ = value;
+      onChanged();
+      return this;
+    }
+
+    private java.lang.Object rootElementHyperlink_ = "";
+    /**
+     * <pre>
+     * Hyperlink to the root of the subtree: if omitted as well, the model is used
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return The rootElementHyperlink.
+     */
+    public java.lang.String getRootElementHyperlink() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        rootElementHyperlink_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Hyperlink to the root of the subtree: if omitted as well, the model is used
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return The bytes for rootElementHyperlink.
+     */
+    public com.google.protobuf.ByteString
+        getRootElementHyperlinkBytes() {
+      java.lang.Object ref = rootElementHyperlink_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        rootElementHyperlink_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Hyperlink to the root of the subtree: if omitted as well, the model is used
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @param value The rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlink(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Hyperlink to the root of the subtree: if omitted as well, the model is used
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearRootElementHyperlink() {
+      
+      rootElementHyperlink_ = getDefaultInstance().getRootElementHyperlink();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Hyperlink to the root of the subtree: if omitted as well, the model is used
+     * </pre>
+     *
+     * <code>string rootElementHyperlink = 2;</code>
+     * @param value The bytes for rootElementHyperlink to set.
+     * @return This builder for chaining.
+     */
+    public Builder setRootElementHyperlinkBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      rootElementHyperlink_ = value;
+      onChanged();
+      return this;
+    }
+
+    private int maxDepth_ ;
+    /**
+     * <pre>
+     * Maximum number of levels below the root to be visited (0 means no limit)
+     * </pre>
+     *
+     * <code>uint32 maxDepth = 3;</code>
+     * @return The maxDepth.
+     */
+    @java.lang.Override
+    public int getMaxDepth() {
+      return maxDepth_;
+    }
+    /**
+     * <pre>
+     * Maximum number of levels below the root to be visited (0 means no limit)
+     * </pre>
+     *
+     * <code>uint32 maxDepth = 3;</code>
+     * @param value The maxDepth to set.
+     * @return This builder for chaining.
+     */
+    public Builder setMaxDepth(int value) {
+      
+      maxDepth_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Maximum number of levels below the root to be visited (0 means no limit)
+     * </pre>
+     *
+     * <code>uint32 maxDepth = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearMaxDepth() {
+      
+      maxDepth_ = 0;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureTypeNamesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        typeNames_ = new com.google.protobuf.LazyStringArrayList(typeNames_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @return A list containing the typeNames.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getTypeNamesList() {
+      return typeNames_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @return The count of typeNames.
+     */
+    public int getTypeNamesCount() {
+      return typeNames_.size();
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @param index The index of the element to return.
+     * @return The typeNames at the given index.
+     */
+    public java.lang.String getTypeNames(int index) {
+      return typeNames_.get(index);
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the typeNames at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getTypeNamesBytes(int index) {
+      return typeNames_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @param index The index to set the value at.
+     * @param value The typeNames to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeNames(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTypeNamesIsMutable();
+      typeNames_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @param value The typeNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTypeNames(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureTypeNamesIsMutable();
+      typeNames_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @param values The typeNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllTypeNames(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureTypeNamesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, typeNames_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeNames() {
+      typeNames_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+     * </pre>
+     *
+     * <code>repeated string typeNames = 4;</code>
+     * @param value The bytes of the typeNames to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTypeNamesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureTypeNamesIsMutable();
+      typeNames_.add(value);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.LazyStringList projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    private void ensureProjectedFeaturesIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        projectedFeatures_ = new com.google.protobuf.LazyStringArrayList(projectedFeatures_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @return A list containing the projectedFeatures.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getProjectedFeaturesList() {
+      return projectedFeatures_.getUnmodifiableView();
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @return The count of projectedFeatures.
+     */
+    public int getProjectedFeaturesCount() {
+      return projectedFeatures_.size();
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param index The index of the element to return.
+     * @return The projectedFeatures at the given index.
+     */
+    public java.lang.String getProjectedFeatures(int index) {
+      return projectedFeatures_.get(index);
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the projectedFeatures at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getProjectedFeaturesBytes(int index) {
+      return projectedFeatures_.getByteString(index);
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param index The index to set the value at.
+     * @param value The projectedFeatures to set.
+     * @return This builder for chaining.
+     */
+    public Builder setProjectedFeatures(
+        int index, java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureProjectedFeaturesIsMutable();
+      projectedFeatures_.set(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param value The projectedFeatures to add.
+     * @return This builder for chaining.
+     */
+    public Builder addProjectedFeatures(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureProjectedFeaturesIsMutable();
+      projectedFeatures_.add(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param values The projectedFeatures to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllProjectedFeatures(
+        java.lang.Iterable<java.lang.String> values) {
+      ensureProjectedFeaturesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, projectedFeatures_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearProjectedFeatures() {
+      projectedFeatures_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+     * </pre>
+     *
+     * <code>repeated string projectedFeatures = 5;</code>
+     * @param value The bytes of the projectedFeatures to add.
+     * @return This builder for chaining.
+     */
+    public Builder addProjectedFeaturesBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      ensureProjectedFeaturesIsMutable();
+      projectedFeatures_.add(value);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<SubtreeRequest>
+      PARSER = new com.google.protobuf.AbstractParser<SubtreeRequest>() {
+    @java.lang.Override
+    public SubtreeRequest parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new SubtreeRequest(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<SubtreeRequest> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<SubtreeRequest> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
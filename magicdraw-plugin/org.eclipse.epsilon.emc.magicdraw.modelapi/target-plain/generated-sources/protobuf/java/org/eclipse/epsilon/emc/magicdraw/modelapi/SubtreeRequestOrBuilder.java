@@ -0,0 +1,141 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface SubtreeRequestOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.SubtreeRequest)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+   * </pre>
+   *
+   * <code>string elementID = 1;</code>
+   * @return The elementID.
+   */
+  java.lang.String getElementID();
+  /**
+   * <pre>
+   * ID of the root of the subtree: if omitted, rootElementHyperlink is used instead
+   * </pre>
+   *
+   * <code>string elementID = 1;</code>
+   * @return The bytes for elementID.
+   */
+  com.google.protobuf.ByteString
+      getElementIDBytes();
+
+  /**
+   * <pre>
+   * Hyperlink to the root of the subtree: if omitted as well, the model is used
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The rootElementHyperlink.
+   */
+  java.lang.String getRootElementHyperlink();
+  /**
+   * <pre>
+   * Hyperlink to the root of the subtree: if omitted as well, the model is used
+   * </pre>
+   *
+   * <code>string rootElementHyperlink = 2;</code>
+   * @return The bytes for rootElementHyperlink.
+   */
+  com.google.protobuf.ByteString
+      getRootElementHyperlinkBytes();
+
+  /**
+   * <pre>
+   * Maximum number of levels below the root to be visited (0 means no limit)
+   * </pre>
+   *
+   * <code>uint32 maxDepth = 3;</code>
+   * @return The maxDepth.
+   */
+  int getMaxDepth();
+
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @return A list containing the typeNames.
+   */
+  java.util.List<java.lang.String>
+      getTypeNamesList();
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @return The count of typeNames.
+   */
+  int getTypeNamesCount();
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @param index The index of the element to return.
+   * @return The typeNames at the given index.
+   */
+  java.lang.String getTypeNames(int index);
+  /**
+   * <pre>
+   * If not empty, only elements of these types (or their subtypes) are visited, along with the root
+   * </pre>
+   *
+   * <code>repeated string typeNames = 4;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the typeNames at the given index.
+   */
+  com.google.protobuf.ByteString
+      getTypeNamesBytes(int index);
+
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return A list containing the projectedFeatures.
+   */
+  java.util.List<java.lang.String>
+      getProjectedFeaturesList();
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @return The count of projectedFeatures.
+   */
+  int getProjectedFeaturesCount();
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the element to return.
+   * @return The projectedFeatures at the given index.
+   */
+  java.lang.String getProjectedFeatures(int index);
+  /**
+   * <pre>
+   * Features whose values should be sent along with each element (encoded as in getFeatureValue)
+   * </pre>
+   *
+   * <code>repeated string projectedFeatures = 5;</code>
+   * @param index The index of the value to return.
+   * @return The bytes of the projectedFeatures at the given index.
+   */
+  com.google.protobuf.ByteString
+      getProjectedFeaturesBytes(int index);
+}
@@ -0,0 +1,1023 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent}
+ */
+public final class TypeExtent extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)
+    TypeExtentOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use TypeExtent.newBuilder() to construct.
+  private TypeExtent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private TypeExtent() {
+    typeName_ = "";
+    kindIndices_ = emptyIntList();
+    typeIndices_ = emptyIntList();
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new TypeExtent();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private TypeExtent(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    int mutable_bitField0_ = 0;
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+
+            typeName_ = s;
+            break;
+          }
+          case 16: {
+            if (!((mutable_bitField0_ & 0x00000001) != 0)) {
+              kindIndices_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            kindIndices_.addInt(input.readUInt32());
+            break;
+          }
+          case 18: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000001) != 0) && input.getBytesUntilLimit() > 0) {
+              kindIndices_ = newIntList();
+              mutable_bitField0_ |= 0x00000001;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              kindIndices_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          case 24: {
+            if (!((mutable_bitField0_ & 0x00000002) != 0)) {
+              typeIndices_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            typeIndices_.addInt(input.readUInt32());
+            break;
+          }
+          case 26: {
+            int length = input.readRawVarint32();
+            int limit = input.pushLimit(length);
+            if (!((mutable_bitField0_ & 0x00000002) != 0) && input.getBytesUntilLimit() > 0) {
+              typeIndices_ = newIntList();
+              mutable_bitField0_ |= 0x00000002;
+            }
+            while (input.getBytesUntilLimit() > 0) {
+              typeIndices_.addInt(input.readUInt32());
+            }
+            input.popLimit(limit);
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      if (((mutable_bitField0_ & 0x00000001) != 0)) {
+        kindIndices_.makeImmutable(); // C
+      }
+      if (((mutable_bitField0_ & 0x00000002) != 0)) {
+        typeIndices_.makeImmutable(); // C
+      }
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.class, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder.class);
+  }
+
+  public static final int TYPENAME_FIELD_NUMBER = 1;
+  private volatile java.lang.Object typeName_;
+  /**
+   * <pre>
+   * Type name, as given in the request
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The typeName.
+   */
+  @java.lang.Override
+  public java.lang.String getTypeName() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      typeName_ = s;
+      return s;
+    }
+  }
+  /**
+   * <pre>
+   * Type name, as given in the request
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The bytes for typeName.
+   */
+  @java.lang.Override
+  public com.google.protobuf.ByteString
+      getTypeNameBytes() {
+    java.lang.Object ref = typeName_;
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      typeName_ = b;
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int KINDINDICES_FIELD_NUMBER = 2;
+  private com.google.protobuf.Internal.IntList kindIndices_;
+  /**
+   * <pre>
+   * Positions within the elements of the response of all instances of the type (including subtypes)
+   * </pre>
+   *
+   * <code>repeated uint32 kindIndices = 2;</code>
+   * @return A list containing the kindIndices.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getKindIndicesList() {
+    return kindIndices_;
+  }
+  /**
+   * <pre>
+   * Positions within the elements of the response of all instances of the type (including subtypes)
+   * </pre>
+   *
+   * <code>repeated uint32 kindIndices = 2;</code>
+   * @return The count of kindIndices.
+   */
+  public int getKindIndicesCount() {
+    return kindIndices_.size();
+  }
+  /**
+   * <pre>
+   * Positions within the elements of the response of all instances of the type (including subtypes)
+   * </pre>
+   *
+   * <code>repeated uint32 kindIndices = 2;</code>
+   * @param index The index of the element to return.
+   * @return The kindIndices at the given index.
+   */
+  public int getKindIndices(int index) {
+    return kindIndices_.getInt(index);
+  }
+  private int kindIndicesMemoizedSerializedSize = -1;
+
+  public static final int TYPEINDICES_FIELD_NUMBER = 3;
+  private com.google.protobuf.Internal.IntList typeIndices_;
+  /**
+   * <pre>
+   * Positions within the elements of the response of the instances of exactly this type
+   * </pre>
+   *
+   * <code>repeated uint32 typeIndices = 3;</code>
+   * @return A list containing the typeIndices.
+   */
+  @java.lang.Override
+  public java.util.List<java.lang.Integer>
+      getTypeIndicesList() {
+    return typeIndices_;
+  }
+  /**
+   * <pre>
+   * Positions within the elements of the response of the instances of exactly this type
+   * </pre>
+   *
+   * <code>repeated uint32 typeIndices = 3;</code>
+   * @return The count of typeIndices.
+   */
+  public int getTypeIndicesCount() {
+    return typeIndices_.size();
+  }
+  /**
+   * <pre>
+   * Positions within the elements of the response of the instances of exactly this type
+   * </pre>
+   *
+   * <code>repeated uint32 typeIndices = 3;</code>
+   * @param index The index of the element to return.
+   * @return The typeIndices at the given index.
+   */
+  public int getTypeIndices(int index) {
+    return typeIndices_.getInt(index);
+  }
+  private int typeIndicesMemoizedSerializedSize = -1;
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    getSerializedSize();
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, typeName_);
+    }
+    if (getKindIndicesList().size() > 0) {
+      output.writeUInt32NoTag(18);
+      output.writeUInt32NoTag(kindIndicesMemoizedSerializedSize);
+    }
+    for (int i = 0; i < kindIndices_.size(); i++) {
+      output.writeUInt32NoTag(kindIndices_.getInt(i));
+    }
+    if (getTypeIndicesList().size() > 0) {
+      output.writeUInt32NoTag(26);
+      output.writeUInt32NoTag(typeIndicesMemoizedSerializedSize);
+    }
+    for (int i = 0; i < typeIndices_.size(); i++) {
+      output.writeUInt32NoTag(typeIndices_.getInt(i));
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(typeName_)) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, typeName_);
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < kindIndices_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(kindIndices_.getInt(i));
+      }
+      size += dataSize;
+      if (!getKindIndicesList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      kindIndicesMemoizedSerializedSize = dataSize;
+    }
+    {
+      int dataSize = 0;
+      for (int i = 0; i < typeIndices_.size(); i++) {
+        dataSize += com.google.protobuf.CodedOutputStream
+          .computeUInt32SizeNoTag(typeIndices_.getInt(i));
+      }
+      size += dataSize;
+      if (!getTypeIndicesList().isEmpty()) {
+        size += 1;
+        size += com.google.protobuf.CodedOutputStream
+            .computeInt32SizeNoTag(dataSize);
+      }
+      typeIndicesMemoizedSerializedSize = dataSize;
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent other = (org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent) obj;
+
+    if (!getTypeName()
+        .equals(other.getTypeName())) return false;
+    if (!getKindIndicesList()
+        .equals(other.getKindIndicesList())) return false;
+    if (!getTypeIndicesList()
+        .equals(other.getTypeIndicesList())) return false;
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    hash = (37 * hash) + TYPENAME_FIELD_NUMBER;
+    hash = (53 * hash) + getTypeName().hashCode();
+    if (getKindIndicesCount() > 0) {
+      hash = (37 * hash) + KINDINDICES_FIELD_NUMBER;
+      hash = (53 * hash) + getKindIndicesList().hashCode();
+    }
+    if (getTypeIndicesCount() > 0) {
+      hash = (37 * hash) + TYPEINDICES_FIELD_NUMBER;
+      hash = (53 * hash) + getTypeIndicesList().hashCode();
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtentOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.class, org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      typeName_ = "";
+
+      kindIndices_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      typeIndices_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_TypeExtent_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent result = new org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent(this);
+      int from_bitField0_ = bitField0_;
+      result.typeName_ = typeName_;
+      if (((bitField0_ & 0x00000001) != 0)) {
+        kindIndices_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000001);
+      }
+      result.kindIndices_ = kindIndices_;
+      if (((bitField0_ & 0x00000002) != 0)) {
+        typeIndices_.makeImmutable();
+        bitField0_ = (bitField0_ & ~0x00000002);
+      }
+      result.typeIndices_ = typeIndices_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent.getDefaultInstance()) return this;
+      if (!other.getTypeName().isEmpty()) {
+        typeName_ = other.typeName_;
+        onChanged();
+      }
+      if (!other.kindIndices_.isEmpty()) {
+        if (kindIndices_.isEmpty()) {
+          kindIndices_ = other.kindIndices_;
+          bitField0_ = (bitField0_ & ~0x00000001);
+        } else {
+          ensureKindIndicesIsMutable();
+          kindIndices_.addAll(other.kindIndices_);
+        }
+        onChanged();
+      }
+      if (!other.typeIndices_.isEmpty()) {
+        if (typeIndices_.isEmpty()) {
+          typeIndices_ = other.typeIndices_;
+          bitField0_ = (bitField0_ & ~0x00000002);
+        } else {
+          ensureTypeIndicesIsMutable();
+          typeIndices_.addAll(other.typeIndices_);
+        }
+        onChanged();
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int bitField0_;
+
+    private java.lang.Object typeName_ = "";
+    /**
+     * <pre>
+     * Type name, as given in the request
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @return The typeName.
+     */
+    public java.lang.String getTypeName() {
+      java.lang.Object ref = typeName_;
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        typeName_ = s;
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Type name, as given in the request
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @return The bytes for typeName.
+     */
+    public com.google.protobuf.ByteString
+        getTypeNameBytes() {
+      java.lang.Object ref = typeName_;
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        typeName_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <pre>
+     * Type name, as given in the request
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @param value The typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeName(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Type name, as given in the request
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeName() {
+      
+      typeName_ = getDefaultInstance().getTypeName();
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Type name, as given in the request
+     * </pre>
+     *
+     * <code>string typeName = 1;</code>
+     * @param value The bytes for typeName to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeNameBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      
+      typeName_ = value;
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList kindIndices_ = emptyIntList();
+    private void ensureKindIndicesIsMutable() {
+      if (!((bitField0_ & 0x00000001) != 0)) {
+        kindIndices_ = mutableCopy(kindIndices_);
+        bitField0_ |= 0x00000001;
+       }
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @return A list containing the kindIndices.
+     */
+    public java.util.List<java.lang.Integer>
+        getKindIndicesList() {
+      return ((bitField0_ & 0x00000001) != 0) ?
+               java.util.Collections.unmodifiableList(kindIndices_) : kindIndices_;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @return The count of kindIndices.
+     */
+    public int getKindIndicesCount() {
+      return kindIndices_.size();
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @param index The index of the element to return.
+     * @return The kindIndices at the given index.
+     */
+    public int getKindIndices(int index) {
+      return kindIndices_.getInt(index);
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @param index The index to set the value at.
+     * @param value The kindIndices to set.
+     * @return This builder for chaining.
+     */
+    public Builder setKindIndices(
+        int index, int value) {
+      ensureKindIndicesIsMutable();
+      kindIndices_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @param value The kindIndices to add.
+     * @return This builder for chaining.
+     */
+    public Builder addKindIndices(int value) {
+      ensureKindIndicesIsMutable();
+      kindIndices_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @param values The kindIndices to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllKindIndices(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureKindIndicesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, kindIndices_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of all instances of the type (including subtypes)
+     * </pre>
+     *
+     * <code>repeated uint32 kindIndices = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearKindIndices() {
+      kindIndices_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000001);
+      onChanged();
+      return this;
+    }
+
+    private com.google.protobuf.Internal.IntList typeIndices_ = emptyIntList();
+    private void ensureTypeIndicesIsMutable() {
+      if (!((bitField0_ & 0x00000002) != 0)) {
+        typeIndices_ = mutableCopy(typeIndices_);
+        bitField0_ |= 0x00000002;
+       }
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @return A list containing the typeIndices.
+     */
+    public java.util.List<java.lang.Integer>
+        getTypeIndicesList() {
+      return ((bitField0_ & 0x00000002) != 0) ?
+               java.util.Collections.unmodifiableList(typeIndices_) : typeIndices_;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @return The count of typeIndices.
+     */
+    public int getTypeIndicesCount() {
+      return typeIndices_.size();
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @param index The index of the element to return.
+     * @return The typeIndices at the given index.
+     */
+    public int getTypeIndices(int index) {
+      return typeIndices_.getInt(index);
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @param index The index to set the value at.
+     * @param value The typeIndices to set.
+     * @return This builder for chaining.
+     */
+    public Builder setTypeIndices(
+        int index, int value) {
+      ensureTypeIndicesIsMutable();
+      typeIndices_.setInt(index, value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @param value The typeIndices to add.
+     * @return This builder for chaining.
+     */
+    public Builder addTypeIndices(int value) {
+      ensureTypeIndicesIsMutable();
+      typeIndices_.addInt(value);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @param values The typeIndices to add.
+     * @return This builder for chaining.
+     */
+    public Builder addAllTypeIndices(
+        java.lang.Iterable<? extends java.lang.Integer> values) {
+      ensureTypeIndicesIsMutable();
+      com.google.protobuf.AbstractMessageLite.Builder.addAll(
+          values, typeIndices_);
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * Positions within the elements of the response of the instances of exactly this type
+     * </pre>
+     *
+     * <code>repeated uint32 typeIndices = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearTypeIndices() {
+      typeIndices_ = emptyIntList();
+      bitField0_ = (bitField0_ & ~0x00000002);
+      onChanged();
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<TypeExtent>
+      PARSER = new com.google.protobuf.AbstractParser<TypeExtent>() {
+    @java.lang.Override
+    public TypeExtent parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new TypeExtent(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<TypeExtent> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<TypeExtent> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
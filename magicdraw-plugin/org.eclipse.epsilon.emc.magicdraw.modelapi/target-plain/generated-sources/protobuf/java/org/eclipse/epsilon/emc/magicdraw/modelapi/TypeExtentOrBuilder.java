@@ -0,0 +1,87 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface TypeExtentOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.TypeExtent)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <pre>
+   * Type name, as given in the request
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The typeName.
+   */
+  java.lang.String getTypeName();
+  /**
+   * <pre>
+   * Type name, as given in the request
+   * </pre>
+   *
+   * <code>string typeName = 1;</code>
+   * @return The bytes for typeName.
+   */
+  com.google.protobuf.ByteString
+      getTypeNameBytes();
+
+  /**
+   * <pre>
+   * Positions within the elements of the response of all instances of the type (including subtypes)
+   * </pre>
+   *
+   * <code>repeated uint32 kindIndices = 2;</code>
+   * @return A list containing the kindIndices.
+   */
+  java.util.List<java.lang.Integer> getKindIndicesList();
+  /**
+   * <pre>
+   * Positions within the elements of the response of all instances of the type (including subtypes)
+   * </pre>
+   *
+   * <code>repeated uint32 kindIndices = 2;</code>
+   * @return The count of kindIndices.
+   */
+  int getKindIndicesCount();
+  /**
+   * <pre>
+   * Positions within the elements of the response of all instances of the type (including subtypes)
+   * </pre>
+   *
+   * <code>repeated uint32 kindIndices = 2;</code>
+   * @param index The index of the element to return.
+   * @return The kindIndices at the given index.
+   */
+  int getKindIndices(int index);
+
+  /**
+   * <pre>
+   * Positions within the elements of the response of the instances of exactly this type
+   * </pre>
+   *
+   * <code>repeated uint32 typeIndices = 3;</code>
+   * @return A list containing the typeIndices.
+   */
+  java.util.List<java.lang.Integer> getTypeIndicesList();
+  /**
+   * <pre>
+   * Positions within the elements of the response of the instances of exactly this type
+   * </pre>
+   *
+   * <code>repeated uint32 typeIndices = 3;</code>
+   * @return The count of typeIndices.
+   */
+  int getTypeIndicesCount();
+  /**
+   * <pre>
+   * Positions within the elements of the response of the instances of exactly this type
+   * </pre>
+   *
+   * <code>repeated uint32 typeIndices = 3;</code>
+   * @param index The index of the element to return.
+   * @return The typeIndices at the given index.
+   */
+  int getTypeIndices(int index);
+}
@@ -0,0 +1,33 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface TypeHistogramOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.TypeHistogram)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount counts = 1;</code>
+   */
+  java.util.List<org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount> 
+      getCountsList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount counts = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount getCounts(int index);
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount counts = 1;</code>
+   */
+  int getCountsCount();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount counts = 1;</code>
+   */
+  java.util.List<? extends org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCountOrBuilder> 
+      getCountsOrBuilderList();
+  /**
+   * <code>repeated .org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCount counts = 1;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.TypeCountOrBuilder getCountsOrBuilder(
+      int index);
+}
@@ -0,0 +1,4647 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+/**
+ * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.Value}
+ */
+public final class Value extends
+    com.google.protobuf.GeneratedMessageV3 implements
+    // @@protoc_insertion_point(message_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.Value)
+    ValueOrBuilder {
+private static final long serialVersionUID = 0L;
+  // Use Value.newBuilder() to construct.
+  private Value(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    super(builder);
+  }
+  private Value() {
+  }
+
+  @java.lang.Override
+  @SuppressWarnings({"unused"})
+  protected java.lang.Object newInstance(
+      UnusedPrivateParameter unused) {
+    return new Value();
+  }
+
+  @java.lang.Override
+  public final com.google.protobuf.UnknownFieldSet
+  getUnknownFields() {
+    return this.unknownFields;
+  }
+  private Value(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    this();
+    if (extensionRegistry == null) {
+      throw new java.lang.NullPointerException();
+    }
+    com.google.protobuf.UnknownFieldSet.Builder unknownFields =
+        com.google.protobuf.UnknownFieldSet.newBuilder();
+    try {
+      boolean done = false;
+      while (!done) {
+        int tag = input.readTag();
+        switch (tag) {
+          case 0:
+            done = true;
+            break;
+          case 10: {
+            java.lang.String s = input.readStringRequireUtf8();
+            valueCase_ = 1;
+            value_ = s;
+            break;
+          }
+          case 21: {
+            value_ = input.readFloat();
+            valueCase_ = 2;
+            break;
+          }
+          case 25: {
+            value_ = input.readDouble();
+            valueCase_ = 3;
+            break;
+          }
+          case 32: {
+            value_ = input.readSInt32();
+            valueCase_ = 4;
+            break;
+          }
+          case 40: {
+            value_ = input.readSInt32();
+            valueCase_ = 5;
+            break;
+          }
+          case 48: {
+            value_ = input.readSInt32();
+            valueCase_ = 6;
+            break;
+          }
+          case 56: {
+            value_ = input.readSInt64();
+            valueCase_ = 7;
+            break;
+          }
+          case 64: {
+            value_ = input.readBool();
+            valueCase_ = 8;
+            break;
+          }
+          case 74: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder subBuilder = null;
+            if (valueCase_ == 9) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 9;
+            break;
+          }
+          case 82: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.Builder subBuilder = null;
+            if (valueCase_ == 10) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 10;
+            break;
+          }
+          case 90: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.Builder subBuilder = null;
+            if (valueCase_ == 11) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 11;
+            break;
+          }
+          case 98: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.Builder subBuilder = null;
+            if (valueCase_ == 12) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 12;
+            break;
+          }
+          case 106: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.Builder subBuilder = null;
+            if (valueCase_ == 13) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 13;
+            break;
+          }
+          case 114: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder subBuilder = null;
+            if (valueCase_ == 14) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 14;
+            break;
+          }
+          case 122: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder subBuilder = null;
+            if (valueCase_ == 15) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 15;
+            break;
+          }
+          case 130: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder subBuilder = null;
+            if (valueCase_ == 16) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 16;
+            break;
+          }
+          case 138: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.Builder subBuilder = null;
+            if (valueCase_ == 17) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 17;
+            break;
+          }
+          case 146: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder subBuilder = null;
+            if (valueCase_ == 18) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 18;
+            break;
+          }
+          case 154: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder subBuilder = null;
+            if (valueCase_ == 19) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 19;
+            break;
+          }
+          case 162: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.Builder subBuilder = null;
+            if (valueCase_ == 20) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 20;
+            break;
+          }
+          case 168: {
+            value_ = input.readBool();
+            valueCase_ = 21;
+            break;
+          }
+          case 178: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder subBuilder = null;
+            if (valueCase_ == 22) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 22;
+            break;
+          }
+          case 186: {
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder subBuilder = null;
+            if (valueCase_ == 23) {
+              subBuilder = ((org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_).toBuilder();
+            }
+            value_ =
+                input.readMessage(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.parser(), extensionRegistry);
+            if (subBuilder != null) {
+              subBuilder.mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_);
+              value_ = subBuilder.buildPartial();
+            }
+            valueCase_ = 23;
+            break;
+          }
+          default: {
+            if (!parseUnknownField(
+                input, unknownFields, extensionRegistry, tag)) {
+              done = true;
+            }
+            break;
+          }
+        }
+      }
+    } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+      throw e.setUnfinishedMessage(this);
+    } catch (com.google.protobuf.UninitializedMessageException e) {
+      throw e.asInvalidProtocolBufferException().setUnfinishedMessage(this);
+    } catch (java.io.IOException e) {
+      throw new com.google.protobuf.InvalidProtocolBufferException(
+          e).setUnfinishedMessage(this);
+    } finally {
+      this.unknownFields = unknownFields.build();
+      makeExtensionsImmutable();
+    }
+  }
+  public static final com.google.protobuf.Descriptors.Descriptor
+      getDescriptor() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_descriptor;
+  }
+
+  @java.lang.Override
+  protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internalGetFieldAccessorTable() {
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_fieldAccessorTable
+        .ensureFieldAccessorsInitialized(
+            org.eclipse.epsilon.emc.magicdraw.modelapi.Value.class, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder.class);
+  }
+
+  private int valueCase_ = 0;
+  private java.lang.Object value_;
+  public enum ValueCase
+      implements com.google.protobuf.Internal.EnumLite,
+          com.google.protobuf.AbstractMessage.InternalOneOfEnum {
+    STRINGVALUE(1),
+    FLOATVALUE(2),
+    DOUBLEVALUE(3),
+    BYTEVALUE(4),
+    SHORTVALUE(5),
+    INTEGERVALUE(6),
+    LONGVALUE(7),
+    BOOLEANVALUE(8),
+    REFERENCEVALUE(9),
+    ENUMERATIONVALUE(10),
+    STRINGVALUES(11),
+    FLOATVALUES(12),
+    DOUBLEVALUES(13),
+    BYTEVALUES(14),
+    SHORTVALUES(15),
+    INTEGERVALUES(16),
+    LONGVALUES(17),
+    BOOLEANVALUES(18),
+    REFERENCEVALUES(19),
+    ENUMERATIONVALUES(20),
+    PROXYLIST(22),
+    CONTAINMENTLIST(23),
+    NOTDEFINED(21),
+    VALUE_NOT_SET(0);
+    private final int value;
+    private ValueCase(int value) {
+      this.value = value;
+    }
+    /**
+     * @param value The number of the enum to look for.
+     * @return The enum associated with the given number.
+     * @deprecated Use {@link #forNumber(int)} instead.
+     */
+    @java.lang.Deprecated
+    public static ValueCase valueOf(int value) {
+      return forNumber(value);
+    }
+
+    public static ValueCase forNumber(int value) {
+      switch (value) {
+        case 1: return STRINGVALUE;
+        case 2: return FLOATVALUE;
+        case 3: return DOUBLEVALUE;
+        case 4: return BYTEVALUE;
+        case 5: return SHORTVALUE;
+        case 6: return INTEGERVALUE;
+        case 7: return LONGVALUE;
+        case 8: return BOOLEANVALUE;
+        case 9: return REFERENCEVALUE;
+        case 10: return ENUMERATIONVALUE;
+        case 11: return STRINGVALUES;
+        case 12: return FLOATVALUES;
+        case 13: return DOUBLEVALUES;
+        case 14: return BYTEVALUES;
+        case 15: return SHORTVALUES;
+        case 16: return INTEGERVALUES;
+        case 17: return LONGVALUES;
+        case 18: return BOOLEANVALUES;
+        case 19: return REFERENCEVALUES;
+        case 20: return ENUMERATIONVALUES;
+        case 22: return PROXYLIST;
+        case 23: return CONTAINMENTLIST;
+        case 21: return NOTDEFINED;
+        case 0: return VALUE_NOT_SET;
+        default: return null;
+      }
+    }
+    public int getNumber() {
+      return this.value;
+    }
+  };
+
+  public ValueCase
+  getValueCase() {
+    return ValueCase.forNumber(
+        valueCase_);
+  }
+
+  public static final int STRINGVALUE_FIELD_NUMBER = 1;
+  /**
+   * <code>string stringValue = 1;</code>
+   * @return Whether the stringValue field is set.
+   */
+  public boolean hasStringValue() {
+    return valueCase_ == 1;
+  }
+  /**
+   * <code>string stringValue = 1;</code>
+   * @return The stringValue.
+   */
+  public java.lang.String getStringValue() {
+    java.lang.Object ref = "";
+    if (valueCase_ == 1) {
+      ref = value_;
+    }
+    if (ref instanceof java.lang.String) {
+      return (java.lang.String) ref;
+    } else {
+      com.google.protobuf.ByteString bs = 
+          (com.google.protobuf.ByteString) ref;
+      java.lang.String s = bs.toStringUtf8();
+      if (valueCase_ == 1) {
+        value_ = s;
+      }
+      return s;
+    }
+  }
+  /**
+   * <code>string stringValue = 1;</code>
+   * @return The bytes for stringValue.
+   */
+  public com.google.protobuf.ByteString
+      getStringValueBytes() {
+    java.lang.Object ref = "";
+    if (valueCase_ == 1) {
+      ref = value_;
+    }
+    if (ref instanceof java.lang.String) {
+      com.google.protobuf.ByteString b = 
+          com.google.protobuf.ByteString.copyFromUtf8(
+              (java.lang.String) ref);
+      if (valueCase_ == 1) {
+        value_ = b;
+      }
+      return b;
+    } else {
+      return (com.google.protobuf.ByteString) ref;
+    }
+  }
+
+  public static final int FLOATVALUE_FIELD_NUMBER = 2;
+  /**
+   * <code>float floatValue = 2;</code>
+   * @return Whether the floatValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasFloatValue() {
+    return valueCase_ == 2;
+  }
+  /**
+   * <code>float floatValue = 2;</code>
+   * @return The floatValue.
+   */
+  @java.lang.Override
+  public float getFloatValue() {
+    if (valueCase_ == 2) {
+      return (java.lang.Float) value_;
+    }
+    return 0F;
+  }
+
+  public static final int DOUBLEVALUE_FIELD_NUMBER = 3;
+  /**
+   * <code>double doubleValue = 3;</code>
+   * @return Whether the doubleValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasDoubleValue() {
+    return valueCase_ == 3;
+  }
+  /**
+   * <code>double doubleValue = 3;</code>
+   * @return The doubleValue.
+   */
+  @java.lang.Override
+  public double getDoubleValue() {
+    if (valueCase_ == 3) {
+      return (java.lang.Double) value_;
+    }
+    return 0D;
+  }
+
+  public static final int BYTEVALUE_FIELD_NUMBER = 4;
+  /**
+   * <code>sint32 byteValue = 4;</code>
+   * @return Whether the byteValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasByteValue() {
+    return valueCase_ == 4;
+  }
+  /**
+   * <code>sint32 byteValue = 4;</code>
+   * @return The byteValue.
+   */
+  @java.lang.Override
+  public int getByteValue() {
+    if (valueCase_ == 4) {
+      return (java.lang.Integer) value_;
+    }
+    return 0;
+  }
+
+  public static final int SHORTVALUE_FIELD_NUMBER = 5;
+  /**
+   * <code>sint32 shortValue = 5;</code>
+   * @return Whether the shortValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasShortValue() {
+    return valueCase_ == 5;
+  }
+  /**
+   * <code>sint32 shortValue = 5;</code>
+   * @return The shortValue.
+   */
+  @java.lang.Override
+  public int getShortValue() {
+    if (valueCase_ == 5) {
+      return (java.lang.Integer) value_;
+    }
+    return 0;
+  }
+
+  public static final int INTEGERVALUE_FIELD_NUMBER = 6;
+  /**
+   * <code>sint32 integerValue = 6;</code>
+   * @return Whether the integerValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasIntegerValue() {
+    return valueCase_ == 6;
+  }
+  /**
+   * <code>sint32 integerValue = 6;</code>
+   * @return The integerValue.
+   */
+  @java.lang.Override
+  public int getIntegerValue() {
+    if (valueCase_ == 6) {
+      return (java.lang.Integer) value_;
+    }
+    return 0;
+  }
+
+  public static final int LONGVALUE_FIELD_NUMBER = 7;
+  /**
+   * <code>sint64 longValue = 7;</code>
+   * @return Whether the longValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasLongValue() {
+    return valueCase_ == 7;
+  }
+  /**
+   * <code>sint64 longValue = 7;</code>
+   * @return The longValue.
+   */
+  @java.lang.Override
+  public long getLongValue() {
+    if (valueCase_ == 7) {
+      return (java.lang.Long) value_;
+    }
+    return 0L;
+  }
+
+  public static final int BOOLEANVALUE_FIELD_NUMBER = 8;
+  /**
+   * <code>bool booleanValue = 8;</code>
+   * @return Whether the booleanValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasBooleanValue() {
+    return valueCase_ == 8;
+  }
+  /**
+   * <code>bool booleanValue = 8;</code>
+   * @return The booleanValue.
+   */
+  @java.lang.Override
+  public boolean getBooleanValue() {
+    if (valueCase_ == 8) {
+      return (java.lang.Boolean) value_;
+    }
+    return false;
+  }
+
+  public static final int REFERENCEVALUE_FIELD_NUMBER = 9;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+   * @return Whether the referenceValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasReferenceValue() {
+    return valueCase_ == 9;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+   * @return The referenceValue.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getReferenceValue() {
+    if (valueCase_ == 9) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getReferenceValueOrBuilder() {
+    if (valueCase_ == 9) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance();
+  }
+
+  public static final int ENUMERATIONVALUE_FIELD_NUMBER = 10;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+   * @return Whether the enumerationValue field is set.
+   */
+  @java.lang.Override
+  public boolean hasEnumerationValue() {
+    return valueCase_ == 10;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+   * @return The enumerationValue.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue getEnumerationValue() {
+    if (valueCase_ == 10) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder getEnumerationValueOrBuilder() {
+    if (valueCase_ == 10) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance();
+  }
+
+  public static final int STRINGVALUES_FIELD_NUMBER = 11;
+  /**
+   * <pre>
+   * These should only be used by a client to send values:
+   * the server should only serve proxy lists.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+   * @return Whether the stringValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasStringValues() {
+    return valueCase_ == 11;
+  }
+  /**
+   * <pre>
+   * These should only be used by a client to send values:
+   * the server should only serve proxy lists.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+   * @return The stringValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection getStringValues() {
+    if (valueCase_ == 11) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * These should only be used by a client to send values:
+   * the server should only serve proxy lists.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollectionOrBuilder getStringValuesOrBuilder() {
+    if (valueCase_ == 11) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance();
+  }
+
+  public static final int FLOATVALUES_FIELD_NUMBER = 12;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+   * @return Whether the floatValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasFloatValues() {
+    return valueCase_ == 12;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+   * @return The floatValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection getFloatValues() {
+    if (valueCase_ == 12) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollectionOrBuilder getFloatValuesOrBuilder() {
+    if (valueCase_ == 12) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance();
+  }
+
+  public static final int DOUBLEVALUES_FIELD_NUMBER = 13;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+   * @return Whether the doubleValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasDoubleValues() {
+    return valueCase_ == 13;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+   * @return The doubleValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection getDoubleValues() {
+    if (valueCase_ == 13) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollectionOrBuilder getDoubleValuesOrBuilder() {
+    if (valueCase_ == 13) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance();
+  }
+
+  public static final int BYTEVALUES_FIELD_NUMBER = 14;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+   * @return Whether the byteValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasByteValues() {
+    return valueCase_ == 14;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+   * @return The byteValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getByteValues() {
+    if (valueCase_ == 14) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getByteValuesOrBuilder() {
+    if (valueCase_ == 14) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+  }
+
+  public static final int SHORTVALUES_FIELD_NUMBER = 15;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+   * @return Whether the shortValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasShortValues() {
+    return valueCase_ == 15;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+   * @return The shortValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getShortValues() {
+    if (valueCase_ == 15) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getShortValuesOrBuilder() {
+    if (valueCase_ == 15) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+  }
+
+  public static final int INTEGERVALUES_FIELD_NUMBER = 16;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+   * @return Whether the integerValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasIntegerValues() {
+    return valueCase_ == 16;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+   * @return The integerValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getIntegerValues() {
+    if (valueCase_ == 16) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getIntegerValuesOrBuilder() {
+    if (valueCase_ == 16) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+  }
+
+  public static final int LONGVALUES_FIELD_NUMBER = 17;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+   * @return Whether the longValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasLongValues() {
+    return valueCase_ == 17;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+   * @return The longValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection getLongValues() {
+    if (valueCase_ == 17) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollectionOrBuilder getLongValuesOrBuilder() {
+    if (valueCase_ == 17) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance();
+  }
+
+  public static final int BOOLEANVALUES_FIELD_NUMBER = 18;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+   * @return Whether the booleanValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasBooleanValues() {
+    return valueCase_ == 18;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+   * @return The booleanValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection getBooleanValues() {
+    if (valueCase_ == 18) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder getBooleanValuesOrBuilder() {
+    if (valueCase_ == 18) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+  }
+
+  public static final int REFERENCEVALUES_FIELD_NUMBER = 19;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+   * @return Whether the referenceValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasReferenceValues() {
+    return valueCase_ == 19;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+   * @return The referenceValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getReferenceValues() {
+    if (valueCase_ == 19) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder getReferenceValuesOrBuilder() {
+    if (valueCase_ == 19) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance();
+  }
+
+  public static final int ENUMERATIONVALUES_FIELD_NUMBER = 20;
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+   * @return Whether the enumerationValues field is set.
+   */
+  @java.lang.Override
+  public boolean hasEnumerationValues() {
+    return valueCase_ == 20;
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+   * @return The enumerationValues.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection getEnumerationValues() {
+    if (valueCase_ == 20) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance();
+  }
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollectionOrBuilder getEnumerationValuesOrBuilder() {
+    if (valueCase_ == 20) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance();
+  }
+
+  public static final int PROXYLIST_FIELD_NUMBER = 22;
+  /**
+   * <pre>
+   * The server will always send proxy lists for many-valued features,
+   * and reference collections for read-only ones computed on the fly
+   * (e.g. eReferrers).
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+   * @return Whether the proxyList field is set.
+   */
+  @java.lang.Override
+  public boolean hasProxyList() {
+    return valueCase_ == 22;
+  }
+  /**
+   * <pre>
+   * The server will always send proxy lists for many-valued features,
+   * and reference collections for read-only ones computed on the fly
+   * (e.g. eReferrers).
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+   * @return The proxyList.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getProxyList() {
+    if (valueCase_ == 22) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * The server will always send proxy lists for many-valued features,
+   * and reference collections for read-only ones computed on the fly
+   * (e.g. eReferrers).
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getProxyListOrBuilder() {
+    if (valueCase_ == 22) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance();
+  }
+
+  public static final int CONTAINMENTLIST_FIELD_NUMBER = 23;
+  /**
+   * <pre>
+   * The server sends these for eContents and eAllContents
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+   * @return Whether the containmentList field is set.
+   */
+  @java.lang.Override
+  public boolean hasContainmentList() {
+    return valueCase_ == 23;
+  }
+  /**
+   * <pre>
+   * The server sends these for eContents and eAllContents
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+   * @return The containmentList.
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getContainmentList() {
+    if (valueCase_ == 23) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+  }
+  /**
+   * <pre>
+   * The server sends these for eContents and eAllContents
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+   */
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder getContainmentListOrBuilder() {
+    if (valueCase_ == 23) {
+       return (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_;
+    }
+    return org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+  }
+
+  public static final int NOTDEFINED_FIELD_NUMBER = 21;
+  /**
+   * <pre>
+   * There is no such feature defined for the given object:
+   * this is different from the feature not being set (in which
+   * case, we would send a Value with value left unset).
+   * </pre>
+   *
+   * <code>bool notDefined = 21;</code>
+   * @return Whether the notDefined field is set.
+   */
+  @java.lang.Override
+  public boolean hasNotDefined() {
+    return valueCase_ == 21;
+  }
+  /**
+   * <pre>
+   * There is no such feature defined for the given object:
+   * this is different from the feature not being set (in which
+   * case, we would send a Value with value left unset).
+   * </pre>
+   *
+   * <code>bool notDefined = 21;</code>
+   * @return The notDefined.
+   */
+  @java.lang.Override
+  public boolean getNotDefined() {
+    if (valueCase_ == 21) {
+      return (java.lang.Boolean) value_;
+    }
+    return false;
+  }
+
+  private byte memoizedIsInitialized = -1;
+  @java.lang.Override
+  public final boolean isInitialized() {
+    byte isInitialized = memoizedIsInitialized;
+    if (isInitialized == 1) return true;
+    if (isInitialized == 0) return false;
+
+    memoizedIsInitialized = 1;
+    return true;
+  }
+
+  @java.lang.Override
+  public void writeTo(com.google.protobuf.CodedOutputStream output)
+                      throws java.io.IOException {
+    if (valueCase_ == 1) {
+      com.google.protobuf.GeneratedMessageV3.writeString(output, 1, value_);
+    }
+    if (valueCase_ == 2) {
+      output.writeFloat(
+          2, (float)((java.lang.Float) value_));
+    }
+    if (valueCase_ == 3) {
+      output.writeDouble(
+          3, (double)((java.lang.Double) value_));
+    }
+    if (valueCase_ == 4) {
+      output.writeSInt32(
+          4, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 5) {
+      output.writeSInt32(
+          5, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 6) {
+      output.writeSInt32(
+          6, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 7) {
+      output.writeSInt64(
+          7, (long)((java.lang.Long) value_));
+    }
+    if (valueCase_ == 8) {
+      output.writeBool(
+          8, (boolean)((java.lang.Boolean) value_));
+    }
+    if (valueCase_ == 9) {
+      output.writeMessage(9, (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_);
+    }
+    if (valueCase_ == 10) {
+      output.writeMessage(10, (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_);
+    }
+    if (valueCase_ == 11) {
+      output.writeMessage(11, (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_);
+    }
+    if (valueCase_ == 12) {
+      output.writeMessage(12, (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_);
+    }
+    if (valueCase_ == 13) {
+      output.writeMessage(13, (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_);
+    }
+    if (valueCase_ == 14) {
+      output.writeMessage(14, (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+    }
+    if (valueCase_ == 15) {
+      output.writeMessage(15, (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+    }
+    if (valueCase_ == 16) {
+      output.writeMessage(16, (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+    }
+    if (valueCase_ == 17) {
+      output.writeMessage(17, (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_);
+    }
+    if (valueCase_ == 18) {
+      output.writeMessage(18, (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_);
+    }
+    if (valueCase_ == 19) {
+      output.writeMessage(19, (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_);
+    }
+    if (valueCase_ == 20) {
+      output.writeMessage(20, (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_);
+    }
+    if (valueCase_ == 21) {
+      output.writeBool(
+          21, (boolean)((java.lang.Boolean) value_));
+    }
+    if (valueCase_ == 22) {
+      output.writeMessage(22, (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_);
+    }
+    if (valueCase_ == 23) {
+      output.writeMessage(23, (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_);
+    }
+    unknownFields.writeTo(output);
+  }
+
+  @java.lang.Override
+  public int getSerializedSize() {
+    int size = memoizedSize;
+    if (size != -1) return size;
+
+    size = 0;
+    if (valueCase_ == 1) {
+      size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, value_);
+    }
+    if (valueCase_ == 2) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeFloatSize(
+            2, (float)((java.lang.Float) value_));
+    }
+    if (valueCase_ == 3) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeDoubleSize(
+            3, (double)((java.lang.Double) value_));
+    }
+    if (valueCase_ == 4) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeSInt32Size(
+            4, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 5) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeSInt32Size(
+            5, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 6) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeSInt32Size(
+            6, (int)((java.lang.Integer) value_));
+    }
+    if (valueCase_ == 7) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeSInt64Size(
+            7, (long)((java.lang.Long) value_));
+    }
+    if (valueCase_ == 8) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(
+            8, (boolean)((java.lang.Boolean) value_));
+    }
+    if (valueCase_ == 9) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(9, (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_);
+    }
+    if (valueCase_ == 10) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(10, (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_);
+    }
+    if (valueCase_ == 11) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(11, (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_);
+    }
+    if (valueCase_ == 12) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(12, (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_);
+    }
+    if (valueCase_ == 13) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(13, (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_);
+    }
+    if (valueCase_ == 14) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(14, (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+    }
+    if (valueCase_ == 15) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(15, (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+    }
+    if (valueCase_ == 16) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(16, (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_);
+    }
+    if (valueCase_ == 17) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(17, (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_);
+    }
+    if (valueCase_ == 18) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(18, (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_);
+    }
+    if (valueCase_ == 19) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(19, (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_);
+    }
+    if (valueCase_ == 20) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(20, (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_);
+    }
+    if (valueCase_ == 21) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeBoolSize(
+            21, (boolean)((java.lang.Boolean) value_));
+    }
+    if (valueCase_ == 22) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(22, (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_);
+    }
+    if (valueCase_ == 23) {
+      size += com.google.protobuf.CodedOutputStream
+        .computeMessageSize(23, (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_);
+    }
+    size += unknownFields.getSerializedSize();
+    memoizedSize = size;
+    return size;
+  }
+
+  @java.lang.Override
+  public boolean equals(final java.lang.Object obj) {
+    if (obj == this) {
+     return true;
+    }
+    if (!(obj instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.Value)) {
+      return super.equals(obj);
+    }
+    org.eclipse.epsilon.emc.magicdraw.modelapi.Value other = (org.eclipse.epsilon.emc.magicdraw.modelapi.Value) obj;
+
+    if (!getValueCase().equals(other.getValueCase())) return false;
+    switch (valueCase_) {
+      case 1:
+        if (!getStringValue()
+            .equals(other.getStringValue())) return false;
+        break;
+      case 2:
+        if (java.lang.Float.floatToIntBits(getFloatValue())
+            != java.lang.Float.floatToIntBits(
+                other.getFloatValue())) return false;
+        break;
+      case 3:
+        if (java.lang.Double.doubleToLongBits(getDoubleValue())
+            != java.lang.Double.doubleToLongBits(
+                other.getDoubleValue())) return false;
+        break;
+      case 4:
+        if (getByteValue()
+            != other.getByteValue()) return false;
+        break;
+      case 5:
+        if (getShortValue()
+            != other.getShortValue()) return false;
+        break;
+      case 6:
+        if (getIntegerValue()
+            != other.getIntegerValue()) return false;
+        break;
+      case 7:
+        if (getLongValue()
+            != other.getLongValue()) return false;
+        break;
+      case 8:
+        if (getBooleanValue()
+            != other.getBooleanValue()) return false;
+        break;
+      case 9:
+        if (!getReferenceValue()
+            .equals(other.getReferenceValue())) return false;
+        break;
+      case 10:
+        if (!getEnumerationValue()
+            .equals(other.getEnumerationValue())) return false;
+        break;
+      case 11:
+        if (!getStringValues()
+            .equals(other.getStringValues())) return false;
+        break;
+      case 12:
+        if (!getFloatValues()
+            .equals(other.getFloatValues())) return false;
+        break;
+      case 13:
+        if (!getDoubleValues()
+            .equals(other.getDoubleValues())) return false;
+        break;
+      case 14:
+        if (!getByteValues()
+            .equals(other.getByteValues())) return false;
+        break;
+      case 15:
+        if (!getShortValues()
+            .equals(other.getShortValues())) return false;
+        break;
+      case 16:
+        if (!getIntegerValues()
+            .equals(other.getIntegerValues())) return false;
+        break;
+      case 17:
+        if (!getLongValues()
+            .equals(other.getLongValues())) return false;
+        break;
+      case 18:
+        if (!getBooleanValues()
+            .equals(other.getBooleanValues())) return false;
+        break;
+      case 19:
+        if (!getReferenceValues()
+            .equals(other.getReferenceValues())) return false;
+        break;
+      case 20:
+        if (!getEnumerationValues()
+            .equals(other.getEnumerationValues())) return false;
+        break;
+      case 22:
+        if (!getProxyList()
+            .equals(other.getProxyList())) return false;
+        break;
+      case 23:
+        if (!getContainmentList()
+            .equals(other.getContainmentList())) return false;
+        break;
+      case 21:
+        if (getNotDefined()
+            != other.getNotDefined()) return false;
+        break;
+      case 0:
+      default:
+    }
+    if (!unknownFields.equals(other.unknownFields)) return false;
+    return true;
+  }
+
+  @java.lang.Override
+  public int hashCode() {
+    if (memoizedHashCode != 0) {
+      return memoizedHashCode;
+    }
+    int hash = 41;
+    hash = (19 * hash) + getDescriptor().hashCode();
+    switch (valueCase_) {
+      case 1:
+        hash = (37 * hash) + STRINGVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getStringValue().hashCode();
+        break;
+      case 2:
+        hash = (37 * hash) + FLOATVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + java.lang.Float.floatToIntBits(
+            getFloatValue());
+        break;
+      case 3:
+        hash = (37 * hash) + DOUBLEVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            java.lang.Double.doubleToLongBits(getDoubleValue()));
+        break;
+      case 4:
+        hash = (37 * hash) + BYTEVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getByteValue();
+        break;
+      case 5:
+        hash = (37 * hash) + SHORTVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getShortValue();
+        break;
+      case 6:
+        hash = (37 * hash) + INTEGERVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getIntegerValue();
+        break;
+      case 7:
+        hash = (37 * hash) + LONGVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+            getLongValue());
+        break;
+      case 8:
+        hash = (37 * hash) + BOOLEANVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getBooleanValue());
+        break;
+      case 9:
+        hash = (37 * hash) + REFERENCEVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getReferenceValue().hashCode();
+        break;
+      case 10:
+        hash = (37 * hash) + ENUMERATIONVALUE_FIELD_NUMBER;
+        hash = (53 * hash) + getEnumerationValue().hashCode();
+        break;
+      case 11:
+        hash = (37 * hash) + STRINGVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getStringValues().hashCode();
+        break;
+      case 12:
+        hash = (37 * hash) + FLOATVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getFloatValues().hashCode();
+        break;
+      case 13:
+        hash = (37 * hash) + DOUBLEVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getDoubleValues().hashCode();
+        break;
+      case 14:
+        hash = (37 * hash) + BYTEVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getByteValues().hashCode();
+        break;
+      case 15:
+        hash = (37 * hash) + SHORTVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getShortValues().hashCode();
+        break;
+      case 16:
+        hash = (37 * hash) + INTEGERVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getIntegerValues().hashCode();
+        break;
+      case 17:
+        hash = (37 * hash) + LONGVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getLongValues().hashCode();
+        break;
+      case 18:
+        hash = (37 * hash) + BOOLEANVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getBooleanValues().hashCode();
+        break;
+      case 19:
+        hash = (37 * hash) + REFERENCEVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getReferenceValues().hashCode();
+        break;
+      case 20:
+        hash = (37 * hash) + ENUMERATIONVALUES_FIELD_NUMBER;
+        hash = (53 * hash) + getEnumerationValues().hashCode();
+        break;
+      case 22:
+        hash = (37 * hash) + PROXYLIST_FIELD_NUMBER;
+        hash = (53 * hash) + getProxyList().hashCode();
+        break;
+      case 23:
+        hash = (37 * hash) + CONTAINMENTLIST_FIELD_NUMBER;
+        hash = (53 * hash) + getContainmentList().hashCode();
+        break;
+      case 21:
+        hash = (37 * hash) + NOTDEFINED_FIELD_NUMBER;
+        hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+            getNotDefined());
+        break;
+      case 0:
+      default:
+    }
+    hash = (29 * hash) + unknownFields.hashCode();
+    memoizedHashCode = hash;
+    return hash;
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      java.nio.ByteBuffer data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      java.nio.ByteBuffer data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      com.google.protobuf.ByteString data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      com.google.protobuf.ByteString data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(byte[] data)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      byte[] data,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws com.google.protobuf.InvalidProtocolBufferException {
+    return PARSER.parseFrom(data, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseDelimitedFrom(java.io.InputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseDelimitedFrom(
+      java.io.InputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      com.google.protobuf.CodedInputStream input)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input);
+  }
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value parseFrom(
+      com.google.protobuf.CodedInputStream input,
+      com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+      throws java.io.IOException {
+    return com.google.protobuf.GeneratedMessageV3
+        .parseWithIOException(PARSER, input, extensionRegistry);
+  }
+
+  @java.lang.Override
+  public Builder newBuilderForType() { return newBuilder(); }
+  public static Builder newBuilder() {
+    return DEFAULT_INSTANCE.toBuilder();
+  }
+  public static Builder newBuilder(org.eclipse.epsilon.emc.magicdraw.modelapi.Value prototype) {
+    return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+  }
+  @java.lang.Override
+  public Builder toBuilder() {
+    return this == DEFAULT_INSTANCE
+        ? new Builder() : new Builder().mergeFrom(this);
+  }
+
+  @java.lang.Override
+  protected Builder newBuilderForType(
+      com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+    Builder builder = new Builder(parent);
+    return builder;
+  }
+  /**
+   * Protobuf type {@code org.eclipse.epsilon.emc.magicdraw.modelapi.Value}
+   */
+  public static final class Builder extends
+      com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+      // @@protoc_insertion_point(builder_implements:org.eclipse.epsilon.emc.magicdraw.modelapi.Value)
+      org.eclipse.epsilon.emc.magicdraw.modelapi.ValueOrBuilder {
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              org.eclipse.epsilon.emc.magicdraw.modelapi.Value.class, org.eclipse.epsilon.emc.magicdraw.modelapi.Value.Builder.class);
+    }
+
+    // Construct using org.eclipse.epsilon.emc.magicdraw.modelapi.Value.newBuilder()
+    private Builder() {
+      maybeForceBuilderInitialization();
+    }
+
+    private Builder(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      super(parent);
+      maybeForceBuilderInitialization();
+    }
+    private void maybeForceBuilderInitialization() {
+      if (com.google.protobuf.GeneratedMessageV3
+              .alwaysUseFieldBuilders) {
+      }
+    }
+    @java.lang.Override
+    public Builder clear() {
+      super.clear();
+      valueCase_ = 0;
+      value_ = null;
+      return this;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Descriptors.Descriptor
+        getDescriptorForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceOuterClass.internal_static_org_eclipse_epsilon_emc_magicdraw_modelapi_Value_descriptor;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getDefaultInstanceForType() {
+      return org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance();
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value build() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value result = buildPartial();
+      if (!result.isInitialized()) {
+        throw newUninitializedMessageException(result);
+      }
+      return result;
+    }
+
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.Value buildPartial() {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value result = new org.eclipse.epsilon.emc.magicdraw.modelapi.Value(this);
+      if (valueCase_ == 1) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 2) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 3) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 4) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 5) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 6) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 7) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 8) {
+        result.value_ = value_;
+      }
+      if (valueCase_ == 9) {
+        if (referenceValueBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = referenceValueBuilder_.build();
+        }
+      }
+      if (valueCase_ == 10) {
+        if (enumerationValueBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = enumerationValueBuilder_.build();
+        }
+      }
+      if (valueCase_ == 11) {
+        if (stringValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = stringValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 12) {
+        if (floatValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = floatValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 13) {
+        if (doubleValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = doubleValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 14) {
+        if (byteValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = byteValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 15) {
+        if (shortValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = shortValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 16) {
+        if (integerValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = integerValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 17) {
+        if (longValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = longValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 18) {
+        if (booleanValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = booleanValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 19) {
+        if (referenceValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = referenceValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 20) {
+        if (enumerationValuesBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = enumerationValuesBuilder_.build();
+        }
+      }
+      if (valueCase_ == 22) {
+        if (proxyListBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = proxyListBuilder_.build();
+        }
+      }
+      if (valueCase_ == 23) {
+        if (containmentListBuilder_ == null) {
+          result.value_ = value_;
+        } else {
+          result.value_ = containmentListBuilder_.build();
+        }
+      }
+      if (valueCase_ == 21) {
+        result.value_ = value_;
+      }
+      result.valueCase_ = valueCase_;
+      onBuilt();
+      return result;
+    }
+
+    @java.lang.Override
+    public Builder clone() {
+      return super.clone();
+    }
+    @java.lang.Override
+    public Builder setField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.setField(field, value);
+    }
+    @java.lang.Override
+    public Builder clearField(
+        com.google.protobuf.Descriptors.FieldDescriptor field) {
+      return super.clearField(field);
+    }
+    @java.lang.Override
+    public Builder clearOneof(
+        com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+      return super.clearOneof(oneof);
+    }
+    @java.lang.Override
+    public Builder setRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        int index, java.lang.Object value) {
+      return super.setRepeatedField(field, index, value);
+    }
+    @java.lang.Override
+    public Builder addRepeatedField(
+        com.google.protobuf.Descriptors.FieldDescriptor field,
+        java.lang.Object value) {
+      return super.addRepeatedField(field, value);
+    }
+    @java.lang.Override
+    public Builder mergeFrom(com.google.protobuf.Message other) {
+      if (other instanceof org.eclipse.epsilon.emc.magicdraw.modelapi.Value) {
+        return mergeFrom((org.eclipse.epsilon.emc.magicdraw.modelapi.Value)other);
+      } else {
+        super.mergeFrom(other);
+        return this;
+      }
+    }
+
+    public Builder mergeFrom(org.eclipse.epsilon.emc.magicdraw.modelapi.Value other) {
+      if (other == org.eclipse.epsilon.emc.magicdraw.modelapi.Value.getDefaultInstance()) return this;
+      switch (other.getValueCase()) {
+        case STRINGVALUE: {
+          valueCase_ = 1;
+          value_ = other.value_;
+          onChanged();
+          break;
+        }
+        case FLOATVALUE: {
+          setFloatValue(other.getFloatValue());
+          break;
+        }
+        case DOUBLEVALUE: {
+          setDoubleValue(other.getDoubleValue());
+          break;
+        }
+        case BYTEVALUE: {
+          setByteValue(other.getByteValue());
+          break;
+        }
+        case SHORTVALUE: {
+          setShortValue(other.getShortValue());
+          break;
+        }
+        case INTEGERVALUE: {
+          setIntegerValue(other.getIntegerValue());
+          break;
+        }
+        case LONGVALUE: {
+          setLongValue(other.getLongValue());
+          break;
+        }
+        case BOOLEANVALUE: {
+          setBooleanValue(other.getBooleanValue());
+          break;
+        }
+        case REFERENCEVALUE: {
+          mergeReferenceValue(other.getReferenceValue());
+          break;
+        }
+        case ENUMERATIONVALUE: {
+          mergeEnumerationValue(other.getEnumerationValue());
+          break;
+        }
+        case STRINGVALUES: {
+          mergeStringValues(other.getStringValues());
+          break;
+        }
+        case FLOATVALUES: {
+          mergeFloatValues(other.getFloatValues());
+          break;
+        }
+        case DOUBLEVALUES: {
+          mergeDoubleValues(other.getDoubleValues());
+          break;
+        }
+        case BYTEVALUES: {
+          mergeByteValues(other.getByteValues());
+          break;
+        }
+        case SHORTVALUES: {
+          mergeShortValues(other.getShortValues());
+          break;
+        }
+        case INTEGERVALUES: {
+          mergeIntegerValues(other.getIntegerValues());
+          break;
+        }
+        case LONGVALUES: {
+          mergeLongValues(other.getLongValues());
+          break;
+        }
+        case BOOLEANVALUES: {
+          mergeBooleanValues(other.getBooleanValues());
+          break;
+        }
+        case REFERENCEVALUES: {
+          mergeReferenceValues(other.getReferenceValues());
+          break;
+        }
+        case ENUMERATIONVALUES: {
+          mergeEnumerationValues(other.getEnumerationValues());
+          break;
+        }
+        case PROXYLIST: {
+          mergeProxyList(other.getProxyList());
+          break;
+        }
+        case CONTAINMENTLIST: {
+          mergeContainmentList(other.getContainmentList());
+          break;
+        }
+        case NOTDEFINED: {
+          setNotDefined(other.getNotDefined());
+          break;
+        }
+        case VALUE_NOT_SET: {
+          break;
+        }
+      }
+      this.mergeUnknownFields(other.unknownFields);
+      onChanged();
+      return this;
+    }
+
+    @java.lang.Override
+    public final boolean isInitialized() {
+      return true;
+    }
+
+    @java.lang.Override
+    public Builder mergeFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      org.eclipse.epsilon.emc.magicdraw.modelapi.Value parsedMessage = null;
+      try {
+        parsedMessage = PARSER.parsePartialFrom(input, extensionRegistry);
+      } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+        parsedMessage = (org.eclipse.epsilon.emc.magicdraw.modelapi.Value) e.getUnfinishedMessage();
+        throw e.unwrapIOException();
+      } finally {
+        if (parsedMessage != null) {
+          mergeFrom(parsedMessage);
+        }
+      }
+      return this;
+    }
+    private int valueCase_ = 0;
+    private java.lang.Object value_;
+    public ValueCase
+        getValueCase() {
+      return ValueCase.forNumber(
+          valueCase_);
+    }
+
+    public Builder clearValue() {
+      valueCase_ = 0;
+      value_ = null;
+      onChanged();
+      return this;
+    }
+
+
+    /**
+     * <code>string stringValue = 1;</code>
+     * @return Whether the stringValue field is set.
+     */
+    @java.lang.Override
+    public boolean hasStringValue() {
+      return valueCase_ == 1;
+    }
+    /**
+     * <code>string stringValue = 1;</code>
+     * @return The stringValue.
+     */
+    @java.lang.Override
+    public java.lang.String getStringValue() {
+      java.lang.Object ref = "";
+      if (valueCase_ == 1) {
+        ref = value_;
+      }
+      if (!(ref instanceof java.lang.String)) {
+        com.google.protobuf.ByteString bs =
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        if (valueCase_ == 1) {
+          value_ = s;
+        }
+        return s;
+      } else {
+        return (java.lang.String) ref;
+      }
+    }
+    /**
+     * <code>string stringValue = 1;</code>
+     * @return The bytes for stringValue.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getStringValueBytes() {
+      java.lang.Object ref = "";
+      if (valueCase_ == 1) {
+        ref = value_;
+      }
+      if (ref instanceof String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        if (valueCase_ == 1) {
+          value_ = b;
+        }
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+    /**
+     * <code>string stringValue = 1;</code>
+     * @param value The stringValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStringValue(
+        java.lang.String value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  valueCase_ = 1;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>string stringValue = 1;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearStringValue() {
+      if (valueCase_ == 1) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    /**
+     * <code>string stringValue = 1;</code>
+     * @param value The bytes for stringValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setStringValueBytes(
+        com.google.protobuf.ByteString value) {
+      if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+      valueCase_ = 1;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+
+    /**
+     * <code>float floatValue = 2;</code>
+     * @return Whether the floatValue field is set.
+     */
+    public boolean hasFloatValue() {
+      return valueCase_ == 2;
+    }
+    /**
+     * <code>float floatValue = 2;</code>
+     * @return The floatValue.
+     */
+    public float getFloatValue() {
+      if (valueCase_ == 2) {
+        return (java.lang.Float) value_;
+      }
+      return 0F;
+    }
+    /**
+     * <code>float floatValue = 2;</code>
+     * @param value The floatValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setFloatValue(float value) {
+      valueCase_ = 2;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>float floatValue = 2;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearFloatValue() {
+      if (valueCase_ == 2) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>double doubleValue = 3;</code>
+     * @return Whether the doubleValue field is set.
+     */
+    public boolean hasDoubleValue() {
+      return valueCase_ == 3;
+    }
+    /**
+     * <code>double doubleValue = 3;</code>
+     * @return The doubleValue.
+     */
+    public double getDoubleValue() {
+      if (valueCase_ == 3) {
+        return (java.lang.Double) value_;
+      }
+      return 0D;
+    }
+    /**
+     * <code>double doubleValue = 3;</code>
+     * @param value The doubleValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setDoubleValue(double value) {
+      valueCase_ = 3;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>double doubleValue = 3;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearDoubleValue() {
+      if (valueCase_ == 3) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>sint32 byteValue = 4;</code>
+     * @return Whether the byteValue field is set.
+     */
+    public boolean hasByteValue() {
+      return valueCase_ == 4;
+    }
+    /**
+     * <code>sint32 byteValue = 4;</code>
+     * @return The byteValue.
+     */
+    public int getByteValue() {
+      if (valueCase_ == 4) {
+        return (java.lang.Integer) value_;
+      }
+      return 0;
+    }
+    /**
+     * <code>sint32 byteValue = 4;</code>
+     * @param value The byteValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setByteValue(int value) {
+      valueCase_ = 4;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>sint32 byteValue = 4;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearByteValue() {
+      if (valueCase_ == 4) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>sint32 shortValue = 5;</code>
+     * @return Whether the shortValue field is set.
+     */
+    public boolean hasShortValue() {
+      return valueCase_ == 5;
+    }
+    /**
+     * <code>sint32 shortValue = 5;</code>
+     * @return The shortValue.
+     */
+    public int getShortValue() {
+      if (valueCase_ == 5) {
+        return (java.lang.Integer) value_;
+      }
+      return 0;
+    }
+    /**
+     * <code>sint32 shortValue = 5;</code>
+     * @param value The shortValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setShortValue(int value) {
+      valueCase_ = 5;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>sint32 shortValue = 5;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearShortValue() {
+      if (valueCase_ == 5) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>sint32 integerValue = 6;</code>
+     * @return Whether the integerValue field is set.
+     */
+    public boolean hasIntegerValue() {
+      return valueCase_ == 6;
+    }
+    /**
+     * <code>sint32 integerValue = 6;</code>
+     * @return The integerValue.
+     */
+    public int getIntegerValue() {
+      if (valueCase_ == 6) {
+        return (java.lang.Integer) value_;
+      }
+      return 0;
+    }
+    /**
+     * <code>sint32 integerValue = 6;</code>
+     * @param value The integerValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setIntegerValue(int value) {
+      valueCase_ = 6;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>sint32 integerValue = 6;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearIntegerValue() {
+      if (valueCase_ == 6) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>sint64 longValue = 7;</code>
+     * @return Whether the longValue field is set.
+     */
+    public boolean hasLongValue() {
+      return valueCase_ == 7;
+    }
+    /**
+     * <code>sint64 longValue = 7;</code>
+     * @return The longValue.
+     */
+    public long getLongValue() {
+      if (valueCase_ == 7) {
+        return (java.lang.Long) value_;
+      }
+      return 0L;
+    }
+    /**
+     * <code>sint64 longValue = 7;</code>
+     * @param value The longValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setLongValue(long value) {
+      valueCase_ = 7;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>sint64 longValue = 7;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearLongValue() {
+      if (valueCase_ == 7) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    /**
+     * <code>bool booleanValue = 8;</code>
+     * @return Whether the booleanValue field is set.
+     */
+    public boolean hasBooleanValue() {
+      return valueCase_ == 8;
+    }
+    /**
+     * <code>bool booleanValue = 8;</code>
+     * @return The booleanValue.
+     */
+    public boolean getBooleanValue() {
+      if (valueCase_ == 8) {
+        return (java.lang.Boolean) value_;
+      }
+      return false;
+    }
+    /**
+     * <code>bool booleanValue = 8;</code>
+     * @param value The booleanValue to set.
+     * @return This builder for chaining.
+     */
+    public Builder setBooleanValue(boolean value) {
+      valueCase_ = 8;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <code>bool booleanValue = 8;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearBooleanValue() {
+      if (valueCase_ == 8) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder> referenceValueBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     * @return Whether the referenceValue field is set.
+     */
+    @java.lang.Override
+    public boolean hasReferenceValue() {
+      return valueCase_ == 9;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     * @return The referenceValue.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getReferenceValue() {
+      if (referenceValueBuilder_ == null) {
+        if (valueCase_ == 9) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance();
+      } else {
+        if (valueCase_ == 9) {
+          return referenceValueBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    public Builder setReferenceValue(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement value) {
+      if (referenceValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        referenceValueBuilder_.setMessage(value);
+      }
+      valueCase_ = 9;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    public Builder setReferenceValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder builderForValue) {
+      if (referenceValueBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        referenceValueBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 9;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    public Builder mergeReferenceValue(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement value) {
+      if (referenceValueBuilder_ == null) {
+        if (valueCase_ == 9 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 9) {
+          referenceValueBuilder_.mergeFrom(value);
+        } else {
+          referenceValueBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 9;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    public Builder clearReferenceValue() {
+      if (referenceValueBuilder_ == null) {
+        if (valueCase_ == 9) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 9) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        referenceValueBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder getReferenceValueBuilder() {
+      return getReferenceValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getReferenceValueOrBuilder() {
+      if ((valueCase_ == 9) && (referenceValueBuilder_ != null)) {
+        return referenceValueBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 9) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder> 
+        getReferenceValueFieldBuilder() {
+      if (referenceValueBuilder_ == null) {
+        if (!(valueCase_ == 9)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.getDefaultInstance();
+        }
+        referenceValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 9;
+      onChanged();;
+      return referenceValueBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder> enumerationValueBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     * @return Whether the enumerationValue field is set.
+     */
+    @java.lang.Override
+    public boolean hasEnumerationValue() {
+      return valueCase_ == 10;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     * @return The enumerationValue.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue getEnumerationValue() {
+      if (enumerationValueBuilder_ == null) {
+        if (valueCase_ == 10) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance();
+      } else {
+        if (valueCase_ == 10) {
+          return enumerationValueBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    public Builder setEnumerationValue(org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue value) {
+      if (enumerationValueBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        enumerationValueBuilder_.setMessage(value);
+      }
+      valueCase_ = 10;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    public Builder setEnumerationValue(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.Builder builderForValue) {
+      if (enumerationValueBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        enumerationValueBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 10;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    public Builder mergeEnumerationValue(org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue value) {
+      if (enumerationValueBuilder_ == null) {
+        if (valueCase_ == 10 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 10) {
+          enumerationValueBuilder_.mergeFrom(value);
+        } else {
+          enumerationValueBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 10;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    public Builder clearEnumerationValue() {
+      if (enumerationValueBuilder_ == null) {
+        if (valueCase_ == 10) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 10) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        enumerationValueBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.Builder getEnumerationValueBuilder() {
+      return getEnumerationValueFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder getEnumerationValueOrBuilder() {
+      if ((valueCase_ == 10) && (enumerationValueBuilder_ != null)) {
+        return enumerationValueBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 10) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder> 
+        getEnumerationValueFieldBuilder() {
+      if (enumerationValueBuilder_ == null) {
+        if (!(valueCase_ == 10)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.getDefaultInstance();
+        }
+        enumerationValueBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 10;
+      onChanged();;
+      return enumerationValueBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollectionOrBuilder> stringValuesBuilder_;
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     * @return Whether the stringValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasStringValues() {
+      return valueCase_ == 11;
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     * @return The stringValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection getStringValues() {
+      if (stringValuesBuilder_ == null) {
+        if (valueCase_ == 11) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 11) {
+          return stringValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    public Builder setStringValues(org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection value) {
+      if (stringValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        stringValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 11;
+      return this;
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    public Builder setStringValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.Builder builderForValue) {
+      if (stringValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        stringValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 11;
+      return this;
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    public Builder mergeStringValues(org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection value) {
+      if (stringValuesBuilder_ == null) {
+        if (valueCase_ == 11 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 11) {
+          stringValuesBuilder_.mergeFrom(value);
+        } else {
+          stringValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 11;
+      return this;
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    public Builder clearStringValues() {
+      if (stringValuesBuilder_ == null) {
+        if (valueCase_ == 11) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 11) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        stringValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.Builder getStringValuesBuilder() {
+      return getStringValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollectionOrBuilder getStringValuesOrBuilder() {
+      if ((valueCase_ == 11) && (stringValuesBuilder_ != null)) {
+        return stringValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 11) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * These should only be used by a client to send values:
+     * the server should only serve proxy lists.
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollectionOrBuilder> 
+        getStringValuesFieldBuilder() {
+      if (stringValuesBuilder_ == null) {
+        if (!(valueCase_ == 11)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.getDefaultInstance();
+        }
+        stringValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 11;
+      onChanged();;
+      return stringValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollectionOrBuilder> floatValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     * @return Whether the floatValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasFloatValues() {
+      return valueCase_ == 12;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     * @return The floatValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection getFloatValues() {
+      if (floatValuesBuilder_ == null) {
+        if (valueCase_ == 12) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 12) {
+          return floatValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    public Builder setFloatValues(org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection value) {
+      if (floatValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        floatValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 12;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    public Builder setFloatValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.Builder builderForValue) {
+      if (floatValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        floatValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 12;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    public Builder mergeFloatValues(org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection value) {
+      if (floatValuesBuilder_ == null) {
+        if (valueCase_ == 12 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 12) {
+          floatValuesBuilder_.mergeFrom(value);
+        } else {
+          floatValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 12;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    public Builder clearFloatValues() {
+      if (floatValuesBuilder_ == null) {
+        if (valueCase_ == 12) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 12) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        floatValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.Builder getFloatValuesBuilder() {
+      return getFloatValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollectionOrBuilder getFloatValuesOrBuilder() {
+      if ((valueCase_ == 12) && (floatValuesBuilder_ != null)) {
+        return floatValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 12) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollectionOrBuilder> 
+        getFloatValuesFieldBuilder() {
+      if (floatValuesBuilder_ == null) {
+        if (!(valueCase_ == 12)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.getDefaultInstance();
+        }
+        floatValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 12;
+      onChanged();;
+      return floatValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollectionOrBuilder> doubleValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     * @return Whether the doubleValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasDoubleValues() {
+      return valueCase_ == 13;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     * @return The doubleValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection getDoubleValues() {
+      if (doubleValuesBuilder_ == null) {
+        if (valueCase_ == 13) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 13) {
+          return doubleValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    public Builder setDoubleValues(org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection value) {
+      if (doubleValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        doubleValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 13;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    public Builder setDoubleValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.Builder builderForValue) {
+      if (doubleValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        doubleValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 13;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    public Builder mergeDoubleValues(org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection value) {
+      if (doubleValuesBuilder_ == null) {
+        if (valueCase_ == 13 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 13) {
+          doubleValuesBuilder_.mergeFrom(value);
+        } else {
+          doubleValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 13;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    public Builder clearDoubleValues() {
+      if (doubleValuesBuilder_ == null) {
+        if (valueCase_ == 13) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 13) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        doubleValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.Builder getDoubleValuesBuilder() {
+      return getDoubleValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollectionOrBuilder getDoubleValuesOrBuilder() {
+      if ((valueCase_ == 13) && (doubleValuesBuilder_ != null)) {
+        return doubleValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 13) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollectionOrBuilder> 
+        getDoubleValuesFieldBuilder() {
+      if (doubleValuesBuilder_ == null) {
+        if (!(valueCase_ == 13)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.getDefaultInstance();
+        }
+        doubleValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 13;
+      onChanged();;
+      return doubleValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder> byteValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     * @return Whether the byteValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasByteValues() {
+      return valueCase_ == 14;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     * @return The byteValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getByteValues() {
+      if (byteValuesBuilder_ == null) {
+        if (valueCase_ == 14) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 14) {
+          return byteValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    public Builder setByteValues(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection value) {
+      if (byteValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        byteValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    public Builder setByteValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder builderForValue) {
+      if (byteValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        byteValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    public Builder mergeByteValues(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection value) {
+      if (byteValuesBuilder_ == null) {
+        if (valueCase_ == 14 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 14) {
+          byteValuesBuilder_.mergeFrom(value);
+        } else {
+          byteValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 14;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    public Builder clearByteValues() {
+      if (byteValuesBuilder_ == null) {
+        if (valueCase_ == 14) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 14) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        byteValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder getByteValuesBuilder() {
+      return getByteValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getByteValuesOrBuilder() {
+      if ((valueCase_ == 14) && (byteValuesBuilder_ != null)) {
+        return byteValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 14) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder> 
+        getByteValuesFieldBuilder() {
+      if (byteValuesBuilder_ == null) {
+        if (!(valueCase_ == 14)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+        }
+        byteValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 14;
+      onChanged();;
+      return byteValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder> shortValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     * @return Whether the shortValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasShortValues() {
+      return valueCase_ == 15;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     * @return The shortValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getShortValues() {
+      if (shortValuesBuilder_ == null) {
+        if (valueCase_ == 15) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 15) {
+          return shortValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    public Builder setShortValues(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection value) {
+      if (shortValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        shortValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    public Builder setShortValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder builderForValue) {
+      if (shortValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        shortValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    public Builder mergeShortValues(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection value) {
+      if (shortValuesBuilder_ == null) {
+        if (valueCase_ == 15 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 15) {
+          shortValuesBuilder_.mergeFrom(value);
+        } else {
+          shortValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 15;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    public Builder clearShortValues() {
+      if (shortValuesBuilder_ == null) {
+        if (valueCase_ == 15) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 15) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        shortValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder getShortValuesBuilder() {
+      return getShortValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getShortValuesOrBuilder() {
+      if ((valueCase_ == 15) && (shortValuesBuilder_ != null)) {
+        return shortValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 15) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder> 
+        getShortValuesFieldBuilder() {
+      if (shortValuesBuilder_ == null) {
+        if (!(valueCase_ == 15)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+        }
+        shortValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 15;
+      onChanged();;
+      return shortValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder> integerValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     * @return Whether the integerValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasIntegerValues() {
+      return valueCase_ == 16;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     * @return The integerValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getIntegerValues() {
+      if (integerValuesBuilder_ == null) {
+        if (valueCase_ == 16) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 16) {
+          return integerValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    public Builder setIntegerValues(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection value) {
+      if (integerValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        integerValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 16;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    public Builder setIntegerValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder builderForValue) {
+      if (integerValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        integerValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 16;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    public Builder mergeIntegerValues(org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection value) {
+      if (integerValuesBuilder_ == null) {
+        if (valueCase_ == 16 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 16) {
+          integerValuesBuilder_.mergeFrom(value);
+        } else {
+          integerValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 16;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    public Builder clearIntegerValues() {
+      if (integerValuesBuilder_ == null) {
+        if (valueCase_ == 16) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 16) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        integerValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder getIntegerValuesBuilder() {
+      return getIntegerValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getIntegerValuesOrBuilder() {
+      if ((valueCase_ == 16) && (integerValuesBuilder_ != null)) {
+        return integerValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 16) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder> 
+        getIntegerValuesFieldBuilder() {
+      if (integerValuesBuilder_ == null) {
+        if (!(valueCase_ == 16)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.getDefaultInstance();
+        }
+        integerValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 16;
+      onChanged();;
+      return integerValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollectionOrBuilder> longValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     * @return Whether the longValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasLongValues() {
+      return valueCase_ == 17;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     * @return The longValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection getLongValues() {
+      if (longValuesBuilder_ == null) {
+        if (valueCase_ == 17) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 17) {
+          return longValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    public Builder setLongValues(org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection value) {
+      if (longValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        longValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 17;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    public Builder setLongValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.Builder builderForValue) {
+      if (longValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        longValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 17;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    public Builder mergeLongValues(org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection value) {
+      if (longValuesBuilder_ == null) {
+        if (valueCase_ == 17 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 17) {
+          longValuesBuilder_.mergeFrom(value);
+        } else {
+          longValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 17;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    public Builder clearLongValues() {
+      if (longValuesBuilder_ == null) {
+        if (valueCase_ == 17) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 17) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        longValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.Builder getLongValuesBuilder() {
+      return getLongValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollectionOrBuilder getLongValuesOrBuilder() {
+      if ((valueCase_ == 17) && (longValuesBuilder_ != null)) {
+        return longValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 17) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollectionOrBuilder> 
+        getLongValuesFieldBuilder() {
+      if (longValuesBuilder_ == null) {
+        if (!(valueCase_ == 17)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.getDefaultInstance();
+        }
+        longValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 17;
+      onChanged();;
+      return longValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder> booleanValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     * @return Whether the booleanValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasBooleanValues() {
+      return valueCase_ == 18;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     * @return The booleanValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection getBooleanValues() {
+      if (booleanValuesBuilder_ == null) {
+        if (valueCase_ == 18) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 18) {
+          return booleanValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    public Builder setBooleanValues(org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection value) {
+      if (booleanValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        booleanValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 18;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    public Builder setBooleanValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder builderForValue) {
+      if (booleanValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        booleanValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 18;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    public Builder mergeBooleanValues(org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection value) {
+      if (booleanValuesBuilder_ == null) {
+        if (valueCase_ == 18 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 18) {
+          booleanValuesBuilder_.mergeFrom(value);
+        } else {
+          booleanValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 18;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    public Builder clearBooleanValues() {
+      if (booleanValuesBuilder_ == null) {
+        if (valueCase_ == 18) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 18) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        booleanValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder getBooleanValuesBuilder() {
+      return getBooleanValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder getBooleanValuesOrBuilder() {
+      if ((valueCase_ == 18) && (booleanValuesBuilder_ != null)) {
+        return booleanValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 18) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder> 
+        getBooleanValuesFieldBuilder() {
+      if (booleanValuesBuilder_ == null) {
+        if (!(valueCase_ == 18)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.getDefaultInstance();
+        }
+        booleanValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 18;
+      onChanged();;
+      return booleanValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder> referenceValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     * @return Whether the referenceValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasReferenceValues() {
+      return valueCase_ == 19;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     * @return The referenceValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getReferenceValues() {
+      if (referenceValuesBuilder_ == null) {
+        if (valueCase_ == 19) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 19) {
+          return referenceValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    public Builder setReferenceValues(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection value) {
+      if (referenceValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        referenceValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 19;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    public Builder setReferenceValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder builderForValue) {
+      if (referenceValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        referenceValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 19;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    public Builder mergeReferenceValues(org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection value) {
+      if (referenceValuesBuilder_ == null) {
+        if (valueCase_ == 19 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 19) {
+          referenceValuesBuilder_.mergeFrom(value);
+        } else {
+          referenceValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 19;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    public Builder clearReferenceValues() {
+      if (referenceValuesBuilder_ == null) {
+        if (valueCase_ == 19) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 19) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        referenceValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder getReferenceValuesBuilder() {
+      return getReferenceValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder getReferenceValuesOrBuilder() {
+      if ((valueCase_ == 19) && (referenceValuesBuilder_ != null)) {
+        return referenceValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 19) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder> 
+        getReferenceValuesFieldBuilder() {
+      if (referenceValuesBuilder_ == null) {
+        if (!(valueCase_ == 19)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.getDefaultInstance();
+        }
+        referenceValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 19;
+      onChanged();;
+      return referenceValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollectionOrBuilder> enumerationValuesBuilder_;
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     * @return Whether the enumerationValues field is set.
+     */
+    @java.lang.Override
+    public boolean hasEnumerationValues() {
+      return valueCase_ == 20;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     * @return The enumerationValues.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection getEnumerationValues() {
+      if (enumerationValuesBuilder_ == null) {
+        if (valueCase_ == 20) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance();
+      } else {
+        if (valueCase_ == 20) {
+          return enumerationValuesBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    public Builder setEnumerationValues(org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection value) {
+      if (enumerationValuesBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        enumerationValuesBuilder_.setMessage(value);
+      }
+      valueCase_ = 20;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    public Builder setEnumerationValues(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.Builder builderForValue) {
+      if (enumerationValuesBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        enumerationValuesBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 20;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    public Builder mergeEnumerationValues(org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection value) {
+      if (enumerationValuesBuilder_ == null) {
+        if (valueCase_ == 20 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 20) {
+          enumerationValuesBuilder_.mergeFrom(value);
+        } else {
+          enumerationValuesBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 20;
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    public Builder clearEnumerationValues() {
+      if (enumerationValuesBuilder_ == null) {
+        if (valueCase_ == 20) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 20) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        enumerationValuesBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.Builder getEnumerationValuesBuilder() {
+      return getEnumerationValuesFieldBuilder().getBuilder();
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollectionOrBuilder getEnumerationValuesOrBuilder() {
+      if ((valueCase_ == 20) && (enumerationValuesBuilder_ != null)) {
+        return enumerationValuesBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 20) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance();
+      }
+    }
+    /**
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollectionOrBuilder> 
+        getEnumerationValuesFieldBuilder() {
+      if (enumerationValuesBuilder_ == null) {
+        if (!(valueCase_ == 20)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.getDefaultInstance();
+        }
+        enumerationValuesBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollectionOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 20;
+      onChanged();;
+      return enumerationValuesBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder> proxyListBuilder_;
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     * @return Whether the proxyList field is set.
+     */
+    @java.lang.Override
+    public boolean hasProxyList() {
+      return valueCase_ == 22;
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     * @return The proxyList.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getProxyList() {
+      if (proxyListBuilder_ == null) {
+        if (valueCase_ == 22) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance();
+      } else {
+        if (valueCase_ == 22) {
+          return proxyListBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    public Builder setProxyList(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList value) {
+      if (proxyListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        proxyListBuilder_.setMessage(value);
+      }
+      valueCase_ = 22;
+      return this;
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    public Builder setProxyList(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder builderForValue) {
+      if (proxyListBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        proxyListBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 22;
+      return this;
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    public Builder mergeProxyList(org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList value) {
+      if (proxyListBuilder_ == null) {
+        if (valueCase_ == 22 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 22) {
+          proxyListBuilder_.mergeFrom(value);
+        } else {
+          proxyListBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 22;
+      return this;
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    public Builder clearProxyList() {
+      if (proxyListBuilder_ == null) {
+        if (valueCase_ == 22) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 22) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        proxyListBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder getProxyListBuilder() {
+      return getProxyListFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getProxyListOrBuilder() {
+      if ((valueCase_ == 22) && (proxyListBuilder_ != null)) {
+        return proxyListBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 22) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * The server will always send proxy lists for many-valued features,
+     * and reference collections for read-only ones computed on the fly
+     * (e.g. eReferrers).
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder> 
+        getProxyListFieldBuilder() {
+      if (proxyListBuilder_ == null) {
+        if (!(valueCase_ == 22)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.getDefaultInstance();
+        }
+        proxyListBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 22;
+      onChanged();;
+      return proxyListBuilder_;
+    }
+
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder> containmentListBuilder_;
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     * @return Whether the containmentList field is set.
+     */
+    @java.lang.Override
+    public boolean hasContainmentList() {
+      return valueCase_ == 23;
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     * @return The containmentList.
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getContainmentList() {
+      if (containmentListBuilder_ == null) {
+        if (valueCase_ == 23) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+      } else {
+        if (valueCase_ == 23) {
+          return containmentListBuilder_.getMessage();
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    public Builder setContainmentList(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList value) {
+      if (containmentListBuilder_ == null) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        value_ = value;
+        onChanged();
+      } else {
+        containmentListBuilder_.setMessage(value);
+      }
+      valueCase_ = 23;
+      return this;
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    public Builder setContainmentList(
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder builderForValue) {
+      if (containmentListBuilder_ == null) {
+        value_ = builderForValue.build();
+        onChanged();
+      } else {
+        containmentListBuilder_.setMessage(builderForValue.build());
+      }
+      valueCase_ = 23;
+      return this;
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    public Builder mergeContainmentList(org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList value) {
+      if (containmentListBuilder_ == null) {
+        if (valueCase_ == 23 &&
+            value_ != org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance()) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.newBuilder((org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_)
+              .mergeFrom(value).buildPartial();
+        } else {
+          value_ = value;
+        }
+        onChanged();
+      } else {
+        if (valueCase_ == 23) {
+          containmentListBuilder_.mergeFrom(value);
+        } else {
+          containmentListBuilder_.setMessage(value);
+        }
+      }
+      valueCase_ = 23;
+      return this;
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    public Builder clearContainmentList() {
+      if (containmentListBuilder_ == null) {
+        if (valueCase_ == 23) {
+          valueCase_ = 0;
+          value_ = null;
+          onChanged();
+        }
+      } else {
+        if (valueCase_ == 23) {
+          valueCase_ = 0;
+          value_ = null;
+        }
+        containmentListBuilder_.clear();
+      }
+      return this;
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder getContainmentListBuilder() {
+      return getContainmentListFieldBuilder().getBuilder();
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    @java.lang.Override
+    public org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder getContainmentListOrBuilder() {
+      if ((valueCase_ == 23) && (containmentListBuilder_ != null)) {
+        return containmentListBuilder_.getMessageOrBuilder();
+      } else {
+        if (valueCase_ == 23) {
+          return (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_;
+        }
+        return org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+      }
+    }
+    /**
+     * <pre>
+     * The server sends these for eContents and eAllContents
+     * </pre>
+     *
+     * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+     */
+    private com.google.protobuf.SingleFieldBuilderV3<
+        org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder> 
+        getContainmentListFieldBuilder() {
+      if (containmentListBuilder_ == null) {
+        if (!(valueCase_ == 23)) {
+          value_ = org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.getDefaultInstance();
+        }
+        containmentListBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+            org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList.Builder, org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder>(
+                (org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList) value_,
+                getParentForChildren(),
+                isClean());
+        value_ = null;
+      }
+      valueCase_ = 23;
+      onChanged();;
+      return containmentListBuilder_;
+    }
+
+    /**
+     * <pre>
+     * There is no such feature defined for the given object:
+     * this is different from the feature not being set (in which
+     * case, we would send a Value with value left unset).
+     * </pre>
+     *
+     * <code>bool notDefined = 21;</code>
+     * @return Whether the notDefined field is set.
+     */
+    public boolean hasNotDefined() {
+      return valueCase_ == 21;
+    }
+    /**
+     * <pre>
+     * There is no such feature defined for the given object:
+     * this is different from the feature not being set (in which
+     * case, we would send a Value with value left unset).
+     * </pre>
+     *
+     * <code>bool notDefined = 21;</code>
+     * @return The notDefined.
+     */
+    public boolean getNotDefined() {
+      if (valueCase_ == 21) {
+        return (java.lang.Boolean) value_;
+      }
+      return false;
+    }
+    /**
+     * <pre>
+     * There is no such feature defined for the given object:
+     * this is different from the feature not being set (in which
+     * case, we would send a Value with value left unset).
+     * </pre>
+     *
+     * <code>bool notDefined = 21;</code>
+     * @param value The notDefined to set.
+     * @return This builder for chaining.
+     */
+    public Builder setNotDefined(boolean value) {
+      valueCase_ = 21;
+      value_ = value;
+      onChanged();
+      return this;
+    }
+    /**
+     * <pre>
+     * There is no such feature defined for the given object:
+     * this is different from the feature not being set (in which
+     * case, we would send a Value with value left unset).
+     * </pre>
+     *
+     * <code>bool notDefined = 21;</code>
+     * @return This builder for chaining.
+     */
+    public Builder clearNotDefined() {
+      if (valueCase_ == 21) {
+        valueCase_ = 0;
+        value_ = null;
+        onChanged();
+      }
+      return this;
+    }
+    @java.lang.Override
+    public final Builder setUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.setUnknownFields(unknownFields);
+    }
+
+    @java.lang.Override
+    public final Builder mergeUnknownFields(
+        final com.google.protobuf.UnknownFieldSet unknownFields) {
+      return super.mergeUnknownFields(unknownFields);
+    }
+
+
+    // @@protoc_insertion_point(builder_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.Value)
+  }
+
+  // @@protoc_insertion_point(class_scope:org.eclipse.epsilon.emc.magicdraw.modelapi.Value)
+  private static final org.eclipse.epsilon.emc.magicdraw.modelapi.Value DEFAULT_INSTANCE;
+  static {
+    DEFAULT_INSTANCE = new org.eclipse.epsilon.emc.magicdraw.modelapi.Value();
+  }
+
+  public static org.eclipse.epsilon.emc.magicdraw.modelapi.Value getDefaultInstance() {
+    return DEFAULT_INSTANCE;
+  }
+
+  private static final com.google.protobuf.Parser<Value>
+      PARSER = new com.google.protobuf.AbstractParser<Value>() {
+    @java.lang.Override
+    public Value parsePartialFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return new Value(input, extensionRegistry);
+    }
+  };
+
+  public static com.google.protobuf.Parser<Value> parser() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public com.google.protobuf.Parser<Value> getParserForType() {
+    return PARSER;
+  }
+
+  @java.lang.Override
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value getDefaultInstanceForType() {
+    return DEFAULT_INSTANCE;
+  }
+
+}
+
@@ -0,0 +1,383 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: ModelService.proto
+
+package org.eclipse.epsilon.emc.magicdraw.modelapi;
+
+public interface ValueOrBuilder extends
+    // @@protoc_insertion_point(interface_extends:org.eclipse.epsilon.emc.magicdraw.modelapi.Value)
+    com.google.protobuf.MessageOrBuilder {
+
+  /**
+   * <code>string stringValue = 1;</code>
+   * @return Whether the stringValue field is set.
+   */
+  boolean hasStringValue();
+  /**
+   * <code>string stringValue = 1;</code>
+   * @return The stringValue.
+   */
+  java.lang.String getStringValue();
+  /**
+   * <code>string stringValue = 1;</code>
+   * @return The bytes for stringValue.
+   */
+  com.google.protobuf.ByteString
+      getStringValueBytes();
+
+  /**
+   * <code>float floatValue = 2;</code>
+   * @return Whether the floatValue field is set.
+   */
+  boolean hasFloatValue();
+  /**
+   * <code>float floatValue = 2;</code>
+   * @return The floatValue.
+   */
+  float getFloatValue();
+
+  /**
+   * <code>double doubleValue = 3;</code>
+   * @return Whether the doubleValue field is set.
+   */
+  boolean hasDoubleValue();
+  /**
+   * <code>double doubleValue = 3;</code>
+   * @return The doubleValue.
+   */
+  double getDoubleValue();
+
+  /**
+   * <code>sint32 byteValue = 4;</code>
+   * @return Whether the byteValue field is set.
+   */
+  boolean hasByteValue();
+  /**
+   * <code>sint32 byteValue = 4;</code>
+   * @return The byteValue.
+   */
+  int getByteValue();
+
+  /**
+   * <code>sint32 shortValue = 5;</code>
+   * @return Whether the shortValue field is set.
+   */
+  boolean hasShortValue();
+  /**
+   * <code>sint32 shortValue = 5;</code>
+   * @return The shortValue.
+   */
+  int getShortValue();
+
+  /**
+   * <code>sint32 integerValue = 6;</code>
+   * @return Whether the integerValue field is set.
+   */
+  boolean hasIntegerValue();
+  /**
+   * <code>sint32 integerValue = 6;</code>
+   * @return The integerValue.
+   */
+  int getIntegerValue();
+
+  /**
+   * <code>sint64 longValue = 7;</code>
+   * @return Whether the longValue field is set.
+   */
+  boolean hasLongValue();
+  /**
+   * <code>sint64 longValue = 7;</code>
+   * @return The longValue.
+   */
+  long getLongValue();
+
+  /**
+   * <code>bool booleanValue = 8;</code>
+   * @return Whether the booleanValue field is set.
+   */
+  boolean hasBooleanValue();
+  /**
+   * <code>bool booleanValue = 8;</code>
+   * @return The booleanValue.
+   */
+  boolean getBooleanValue();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+   * @return Whether the referenceValue field is set.
+   */
+  boolean hasReferenceValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+   * @return The referenceValue.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement getReferenceValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement referenceValue = 9;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementOrBuilder getReferenceValueOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+   * @return Whether the enumerationValue field is set.
+   */
+  boolean hasEnumerationValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+   * @return The enumerationValue.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue getEnumerationValue();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValue enumerationValue = 10;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueOrBuilder getEnumerationValueOrBuilder();
+
+  /**
+   * <pre>
+   * These should only be used by a client to send values:
+   * the server should only serve proxy lists.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+   * @return Whether the stringValues field is set.
+   */
+  boolean hasStringValues();
+  /**
+   * <pre>
+   * These should only be used by a client to send values:
+   * the server should only serve proxy lists.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+   * @return The stringValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection getStringValues();
+  /**
+   * <pre>
+   * These should only be used by a client to send values:
+   * the server should only serve proxy lists.
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollection stringValues = 11;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.StringCollectionOrBuilder getStringValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+   * @return Whether the floatValues field is set.
+   */
+  boolean hasFloatValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+   * @return The floatValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection getFloatValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollection floatValues = 12;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.FloatCollectionOrBuilder getFloatValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+   * @return Whether the doubleValues field is set.
+   */
+  boolean hasDoubleValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+   * @return The doubleValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection getDoubleValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollection doubleValues = 13;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.DoubleCollectionOrBuilder getDoubleValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+   * @return Whether the byteValues field is set.
+   */
+  boolean hasByteValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+   * @return The byteValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getByteValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection byteValues = 14;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getByteValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+   * @return Whether the shortValues field is set.
+   */
+  boolean hasShortValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+   * @return The shortValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getShortValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection shortValues = 15;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getShortValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+   * @return Whether the integerValues field is set.
+   */
+  boolean hasIntegerValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+   * @return The integerValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection getIntegerValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollection integerValues = 16;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.IntegerCollectionOrBuilder getIntegerValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+   * @return Whether the longValues field is set.
+   */
+  boolean hasLongValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+   * @return The longValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection getLongValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollection longValues = 17;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.LongCollectionOrBuilder getLongValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+   * @return Whether the booleanValues field is set.
+   */
+  boolean hasBooleanValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+   * @return The booleanValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection getBooleanValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollection booleanValues = 18;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.BooleanCollectionOrBuilder getBooleanValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+   * @return Whether the referenceValues field is set.
+   */
+  boolean hasReferenceValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+   * @return The referenceValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection getReferenceValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection referenceValues = 19;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollectionOrBuilder getReferenceValuesOrBuilder();
+
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+   * @return Whether the enumerationValues field is set.
+   */
+  boolean hasEnumerationValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+   * @return The enumerationValues.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection getEnumerationValues();
+  /**
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollection enumerationValues = 20;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.EnumerationValueCollectionOrBuilder getEnumerationValuesOrBuilder();
+
+  /**
+   * <pre>
+   * The server will always send proxy lists for many-valued features,
+   * and reference collections for read-only ones computed on the fly
+   * (e.g. eReferrers).
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+   * @return Whether the proxyList field is set.
+   */
+  boolean hasProxyList();
+  /**
+   * <pre>
+   * The server will always send proxy lists for many-valued features,
+   * and reference collections for read-only ones computed on the fly
+   * (e.g. eReferrers).
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+   * @return The proxyList.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList getProxyList();
+  /**
+   * <pre>
+   * The server will always send proxy lists for many-valued features,
+   * and reference collections for read-only ones computed on the fly
+   * (e.g. eReferrers).
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyList proxyList = 22;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ProxyListOrBuilder getProxyListOrBuilder();
+
+  /**
+   * <pre>
+   * The server sends these for eContents and eAllContents
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+   * @return Whether the containmentList field is set.
+   */
+  boolean hasContainmentList();
+  /**
+   * <pre>
+   * The server sends these for eContents and eAllContents
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+   * @return The containmentList.
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList getContainmentList();
+  /**
+   * <pre>
+   * The server sends these for eContents and eAllContents
+   * </pre>
+   *
+   * <code>.org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentList containmentList = 23;</code>
+   */
+  org.eclipse.epsilon.emc.magicdraw.modelapi.ContainmentListOrBuilder getContainmentListOrBuilder();
+
+  /**
+   * <pre>
+   * There is no such feature defined for the given object:
+   * this is different from the feature not being set (in which
+   * case, we would send a Value with value left unset).
+   * </pre>
+   *
+   * <code>bool notDefined = 21;</code>
+   * @return Whether the notDefined field is set.
+   */
+  boolean hasNotDefined();
+  /**
+   * <pre>
+   * There is no such feature defined for the given object:
+   * this is different from the feature not being set (in which
+   * case, we would send a Value with value left unset).
+   * </pre>
+   *
+   * <code>bool notDefined = 21;</code>
+   * @return The notDefined.
+   */
+  boolean getNotDefined();
+
+  public org.eclipse.epsilon.emc.magicdraw.modelapi.Value.ValueCase getValueCase();
+}
@@ -0,0 +1,182 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Test;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Tests for the deadlines, retries and hedging of the calls from the driver,
+ * using {@link StandInModelService}s listening on local TCP ports.
+ */
+public class CallPolicyTest {
+
+	private static final int CLASSES = 200;
+
+	private final StandInInstances instances = new StandInInstances();
+	private final CountDownLatch gate = new CountDownLatch(1);
+	private MagicDrawModel m;
+
+	@Test
+	public void defaultDeadlinesAreFinite() {
+		final MDCallPolicy policy = new MDCallPolicy();
+		assertEquals(MDCallPolicy.DEFAULT_DEADLINE_MILLIS, policy.getDeadlineMillis("getFeatureValue"));
+		assertEquals(MDCallPolicy.DEFAULT_LONG_RUNNING_DEADLINE_MILLIS, policy.getDeadlineMillis("allOf"));
+		assertEquals(EnumSet.of(Status.Code.UNAVAILABLE), policy.getRetryableCodes());
+	}
+
+	@Test
+	public void changesHaveNoDefaultDeadline() {
+		final MDCallPolicy policy = new MDCallPolicy();
+		assertEquals(0, policy.getDeadlineMillis("setFeatureValue"));
+		policy.setDeadlineMillis("setFeatureValue", 5_000);
+		assertEquals(5_000, policy.getDeadlineMillis("setFeatureValue"));
+	}
+
+	@Test
+	public void unavailableServerIsNotMissingType() throws Exception {
+		final MDCallPolicy policy = new MDCallPolicy();
+		policy.setMaxAttempts(1);
+		createModel(policy, 1);
+		m.load();
+		assertFalse(m.hasType("Missing"));
+
+		instances.stop(0);
+		final StatusRuntimeException ex = assertThrows(StatusRuntimeException.class, () -> m.hasType("Other"));
+		assertEquals(Status.Code.UNAVAILABLE, ex.getStatus().getCode());
+	}
+
+	@Test
+	public void stuckServerExceedsDeadline() throws Exception {
+		final MDCallPolicy policy = new MDCallPolicy();
+		policy.setDeadlineMillis("getFeatureValue", 200);
+		policy.setMaxAttempts(2);
+		createModel(policy, 1);
+		m.load();
+
+		getService(0).setFeatureReadGate(gate);
+		final MDModelElement c = m.getAllOfKind("Class").iterator().next();
+		final StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+			() -> m.getPropertyGetter().invoke(c, "name", null));
+
+		assertEquals(Status.Code.DEADLINE_EXCEEDED, ex.getStatus().getCode());
+		assertEquals("Reads which missed their deadline should not be retried by default", 1, getService(0).getFeatureReads());
+		assertEquals(0, m.getCallStatistics().getRetries());
+		assertEquals(1, m.getCallStatistics().getDeadlinesExceeded());
+	}
+
+	@Test
+	public void exceededDeadlineIsRetriedIfEnabled() throws Exception {
+		final MDCallPolicy policy = new MDCallPolicy();
+		policy.setDeadlineMillis("getFeatureValue", 200);
+		policy.setMaxAttempts(2);
+		policy.parseRetryableCodes("unavailable,deadline_exceeded");
+		createModel(policy, 1);
+		m.load();
+
+		getService(0).setFeatureReadGate(gate);
+		final MDModelElement c = m.getAllOfKind("Class").iterator().next();
+		final StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+			() -> m.getPropertyGetter().invoke(c, "name", null));
+
+		assertEquals(Status.Code.DEADLINE_EXCEEDED, ex.getStatus().getCode());
+		assertEquals("The read should have been retried once", 2, getService(0).getFeatureReads());
+		assertEquals(1, m.getCallStatistics().getDeadlinesExceeded());
+	}
+
+	@Test
+	public void unavailableReadIsRetried() throws Exception {
+		createModel(new MDCallPolicy(), 1);
+		m.load();
+
+		getService(0).setFeatureReadFailures(2);
+		final MDModelElement c = m.getAllOfKind("Class").iterator().next();
+		assertEquals(StandInModelService.getName(0), m.getPropertyGetter().invoke(c, "name", null));
+		assertEquals(2, m.getCallStatistics().getRetries());
+	}
+
+	@Test
+	public void noRetriesWithOneAttempt() throws Exception {
+		final MDCallPolicy policy = new MDCallPolicy();
+		policy.setMaxAttempts(1);
+		createModel(policy, 1);
+		m.load();
+
+		getService(0).setFeatureReadFailures(1);
+		final MDModelElement c = m.getAllOfKind("Class").iterator().next();
+		assertThrows(StatusRuntimeException.class, () -> m.getPropertyGetter().invoke(c, "name", null));
+		assertEquals(0, m.getCallStatistics().getRetries());
+	}
+
+	@Test
+	public void hedgingAvoidsStuckInstance() throws Exception {
+		final MDCallPolicy policy = new MDCallPolicy();
+		policy.setHedgingPercentile(90);
+		// Without hedging, the reads sent to the stuck instance would fail instead
+		policy.setDeadlineMillis("getFeatureValue", 10_000);
+		policy.setMaxAttempts(2);
+		createModel(policy, 2);
+		m.load();
+
+		// Hedging needs the recent latencies of the method
+		final List<MDModelElement> classes = new ArrayList<>(m.getAllOfKind("Class"));
+		for (MDModelElement c : classes.subList(0, CLASSES / 2)) {
+			m.getPropertyGetter().invoke(c, "name", null);
+		}
+
+		getService(0).setFeatureReadGate(gate);
+		for (int i = CLASSES / 2; i < CLASSES; i++) {
+			assertEquals(StandInModelService.getName(i), m.getPropertyGetter().invoke(classes.get(i), "name", null));
+		}
+
+		final MDCallPolicyChannel.Statistics stats = m.getCallStatistics();
+		assertTrue("Some hedged reads should have won over the stuck instance", stats.getHedgesWon() > 0);
+		assertEquals(0, stats.getDeadlinesExceeded());
+		assertTrue(stats.getPercentileMillis("getFeatureValue", 99) < 10_000);
+	}
+
+	/**
+	 * Starts the given number of stand-ins for the same project, and creates
+	 * a model which uses the first one as the main instance and the rest as
+	 * replicas.
+	 */
+	private void createModel(MDCallPolicy policy, int count) throws Exception {
+		for (int i = 0; i < count; i++) {
+			instances.start(new StandInModelService(CLASSES));
+		}
+		m = instances.createModel();
+		m.setCallPolicy(policy);
+	}
+
+	private StandInModelService getService(int i) {
+		return instances.getServices().get(i);
+	}
+
+	@After
+	public void teardown() throws Exception {
+		gate.countDown();
+		instances.shutdown();
+	}
+
+}
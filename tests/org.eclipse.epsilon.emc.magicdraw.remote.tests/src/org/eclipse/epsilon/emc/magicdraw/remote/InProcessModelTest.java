@@ -0,0 +1,70 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceTransports;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.Server;
+
+/**
+ * Tests for the in-process mode of the driver, using a {@link StandInModelService}
+ * registered in the same way as the MagicDraw plugin registers its service.
+ */
+public class InProcessModelTest {
+
+	private static final int CLASSES = 100;
+
+	private Server server;
+	private MagicDrawModel m;
+
+	@Test
+	public void readsThroughInProcessServer() throws Exception {
+		server = ModelServiceTransports.newInProcessServerBuilder()
+			.addService(new StandInModelService(CLASSES))
+			.build().start();
+		m.load();
+
+		assertEquals(CLASSES, m.getAllOfKind("Class").size());
+		final MDModelElement first = m.getAllOfKind("Class").iterator().next();
+		assertEquals(StandInModelService.getName(0), m.getPropertyGetter().invoke(first, "name", null));
+	}
+
+	@Test
+	public void failsWithoutInProcessServer() {
+		assertThrows(EolModelLoadingException.class, m::load);
+	}
+
+	@Before
+	public void setup() {
+		m = new MagicDrawModel();
+		m.setName("Model");
+		m.setInProcess(true);
+	}
+
+	@After
+	public void teardown() throws Exception {
+		m.dispose();
+		if (server != null) {
+			server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+		MDChannelRegistry.getDefault().shutdownIdle();
+	}
+
+}
@@ -0,0 +1,155 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Empty;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ManagedChannel;
+import io.grpc.MethodDescriptor;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+/**
+ * Tests for the sharing and reference counting of channels in {@link MDChannelRegistry}.
+ */
+public class MDChannelRegistryTest {
+
+	private String serverName;
+	private Server server;
+	private final List<ManagedChannel> created = new ArrayList<>();
+	private final List<AtomicInteger> callsPerChannel = new ArrayList<>();
+
+	@Test
+	public void sameKeySharesChannel() {
+		final MDChannelRegistry registry = new MDChannelRegistry(0);
+		try (MDChannelRegistry.Lease a = registry.acquire("key", 1, this::newChannel);
+			 MDChannelRegistry.Lease b = registry.acquire("key", 1, this::newChannel);
+			 MDChannelRegistry.Lease c = registry.acquire("other", 1, this::newChannel)) {
+			assertSame(a.getChannel(), b.getChannel());
+			assertNotSame(a.getChannel(), c.getChannel());
+			assertEquals(2, created.size());
+			assertEquals(2, registry.size());
+		}
+	}
+
+	@Test
+	public void lastReleaseShutsDown() {
+		final MDChannelRegistry registry = new MDChannelRegistry(0);
+		final MDChannelRegistry.Lease a = registry.acquire("key", 1, this::newChannel);
+		final MDChannelRegistry.Lease b = registry.acquire("key", 1, this::newChannel);
+
+		a.close();
+		a.close();
+		assertFalse("Releasing a lease twice should not release the other one", created.get(0).isShutdown());
+
+		b.close();
+		assertTrue(created.get(0).isShutdown());
+		assertEquals(0, registry.size());
+	}
+
+	@Test
+	public void idleChannelIsReused() {
+		final MDChannelRegistry registry = new MDChannelRegistry(TimeUnit.MINUTES.toMillis(1));
+		registry.acquire("key", 1, this::newChannel).close();
+		assertFalse("The channel should be kept open while idle", created.get(0).isShutdown());
+
+		registry.acquire("key", 1, this::newChannel).close();
+		assertEquals("The idle channel should have been reused", 1, created.size());
+
+		registry.shutdownIdle();
+		assertTrue(created.get(0).isShutdown());
+		assertEquals(0, registry.size());
+	}
+
+	@Test
+	public void externallyShutdownChannelIsReplaced() {
+		final MDChannelRegistry registry = new MDChannelRegistry(TimeUnit.MINUTES.toMillis(1));
+		registry.acquire("key", 1, this::newChannel).close();
+		created.get(0).shutdownNow();
+
+		try (MDChannelRegistry.Lease lease = registry.acquire("key", 1, this::newChannel)) {
+			assertEquals(2, created.size());
+			assertSame(created.get(1), lease.getChannel());
+		}
+		registry.shutdownIdle();
+	}
+
+	@Test
+	public void subChannelsAreUsedInTurn() {
+		final MDChannelRegistry registry = new MDChannelRegistry(0);
+		try (MDChannelRegistry.Lease lease = registry.acquire("key", 3, this::newChannel)) {
+			assertEquals(3, created.size());
+
+			final ModelServiceGrpc.ModelServiceBlockingStub client = ModelServiceGrpc.newBlockingStub(lease.getChannel());
+			for (int i = 0; i < 6; i++) {
+				client.ping(Empty.getDefaultInstance());
+			}
+		}
+
+		for (AtomicInteger calls : callsPerChannel) {
+			assertEquals("Each sub-channel should have carried the same number of calls", 2, calls.get());
+		}
+	}
+
+	private ManagedChannel newChannel() {
+		final AtomicInteger calls = new AtomicInteger();
+		callsPerChannel.add(calls);
+
+		final ManagedChannel channel = InProcessChannelBuilder.forName(serverName)
+			.intercept(new ClientInterceptor() {
+				@Override
+				public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method, CallOptions callOptions, Channel next) {
+					calls.incrementAndGet();
+					return next.newCall(method, callOptions);
+				}
+			})
+			.build();
+		created.add(channel);
+		return channel;
+	}
+
+	@Before
+	public void setup() throws Exception {
+		serverName = InProcessServerBuilder.generateName();
+		server = InProcessServerBuilder.forName(serverName)
+			.addService(new StandInModelService(1))
+			.build().start();
+	}
+
+	@After
+	public void teardown() throws Exception {
+		for (ManagedChannel channel : created) {
+			channel.shutdownNow();
+		}
+		server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+}
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.epsilon.eol.concurrent.EolModuleParallel;
+import org.eclipse.epsilon.eol.execute.context.concurrent.EolContextParallel;
+import org.eclipse.epsilon.evl.EvlModule;
+import org.eclipse.epsilon.evl.IEvlModule;
+import org.eclipse.epsilon.evl.concurrent.EvlModuleParallelElements;
+import org.eclipse.epsilon.evl.execute.UnsatisfiedConstraint;
+import org.eclipse.epsilon.evl.execute.context.concurrent.EvlContextParallel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+
+/**
+ * Stress tests for querying the model from several threads at once, using an
+ * in-process {@link StandInModelService} instead of MagicDraw.
+ */
+public class ParallelModelTest {
+
+	private static final int CLASSES = 2_000;
+	private static final int THREADS = 8;
+	private static final int ROUNDS = 5;
+
+	private static final String CONSTRAINTS = "context Class {"
+		+ "  constraint IsNamed { check: self.name.startsWith('Class') }"
+		+ "  constraint IsConcrete { check: not self.isAbstract }"
+		+ "}";
+
+	private StandInModelService service;
+	private Server server;
+	private MagicDrawModel m;
+
+	@Test
+	public void parallelEvlMatchesSequential() throws Exception {
+		final Set<String> expected = runEVL(new EvlModule());
+		assertEquals("Only the abstract classes should fail the constraints",
+			CLASSES / StandInModelService.ABSTRACT_EVERY, expected.size());
+
+		for (int i = 0; i < ROUNDS; i++) {
+			// Start every round from cold caches, so all threads race to fill them
+			m.clearCache();
+			m.featureValueCache.clear();
+			assertEquals("Parallel EVL should report the same unsatisfied constraints as sequential EVL",
+				expected, runEVL(new EvlModuleParallelElements(new EvlContextParallel(THREADS))));
+		}
+	}
+
+	@Test
+	public void parallelSelect() throws Exception {
+		for (int i = 0; i < ROUNDS; i++) {
+			m.clearCache();
+			m.featureValueCache.clear();
+
+			final EolModuleParallel module = new EolModuleParallel(new EolContextParallel(THREADS));
+			module.parse("return Class.all.parallelSelect(c | c.isAbstract).parallelCollect(c | c.name).asSet();");
+			module.getContext().getModelRepository().addModel(m);
+
+			final Set<String> expected = new HashSet<>();
+			for (int j = 0; j < CLASSES; j += StandInModelService.ABSTRACT_EVERY) {
+				expected.add(StandInModelService.getName(j));
+			}
+			assertEquals(expected, new HashSet<>((Collection<?>) module.execute()));
+		}
+	}
+
+	@Test
+	public void concurrentReadsOfSharedExtent() throws Exception {
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int i = 0; i < ROUNDS; i++) {
+				m.clearCache();
+				m.featureValueCache.clear();
+
+				// All threads share the same lazy extent and decode its elements on the fly
+				final Collection<MDModelElement> classes = m.getAllOfKind("Class");
+				assertTrue("Concurrent mode should keep the lazy extent, rather than copying it",
+					classes instanceof MDLazyExtent);
+				final List<Future<Integer>> results = new ArrayList<>();
+				for (int t = 0; t < THREADS; t++) {
+					// Start each thread at a different element, so their reads are not coalesced
+					final int offset = t * CLASSES / THREADS;
+					results.add(executor.submit(() -> {
+						final List<MDModelElement> elements = new ArrayList<>(classes);
+						int abstractCount = 0;
+						for (int j = 0; j < elements.size(); j++) {
+							final MDModelElement c = elements.get((offset + j) % elements.size());
+							final String name = (String) m.getPropertyGetter().invoke(c, "name", null);
+							final int index = Integer.parseInt(name.substring("Class".length()));
+							if ((boolean) m.getPropertyGetter().invoke(c, "isAbstract", null)) {
+								assertTrue(StandInModelService.isAbstract(index));
+								abstractCount++;
+							}
+						}
+						return abstractCount;
+					}));
+				}
+
+				for (Future<Integer> result : results) {
+					assertEquals(CLASSES / StandInModelService.ABSTRACT_EVERY, (int) result.get(1, TimeUnit.MINUTES));
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertTrue("The stand-in server should have served several reads at once",
+			service.getMaxInFlight() > 1 || Runtime.getRuntime().availableProcessors() == 1);
+	}
+
+	@Test
+	public void identicalReadsAreCoalesced() throws Exception {
+		final MDModelElement c = m.getAllOfKind("Class").iterator().next();
+		final CountDownLatch gate = new CountDownLatch(1);
+		service.setFeatureReadGate(gate);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			final List<Future<Object>> results = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				results.add(executor.submit(() -> m.getPropertyGetter().invoke(c, "name", null)));
+			}
+
+			// Hold the first read in the server until the other threads are waiting for it
+			waitForCoalesced(m.requestCoalescer, THREADS - 1);
+			gate.countDown();
+
+			for (Future<Object> result : results) {
+				assertEquals(StandInModelService.getName(0), result.get(1, TimeUnit.MINUTES));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals("Only one of the identical reads should reach the server", 1, service.getFeatureReads());
+		assertEquals(THREADS - 1, m.getCoalescingStatistics().getCoalesced());
+	}
+
+	@Test
+	public void asyncReadsFailAfterDispose() throws Exception {
+		final MDModelElement c = m.getAllOfKind("Class").iterator().next();
+		m.dispose();
+
+		final ExecutionException ex = assertThrows(ExecutionException.class,
+			() -> m.getFeatureValueAsync(c, "name").get(5, TimeUnit.SECONDS));
+		assertTrue(ex.getCause() instanceof IllegalStateException);
+		assertTrue(m.getAllOfKindAsync("Class").isCompletedExceptionally());
+	}
+
+	@Test
+	public void coalescedCallsShareExceptions() throws Exception {
+		final MDSingleFlight<String, String> flight = new MDSingleFlight<>();
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch release = new CountDownLatch(1);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final Future<String> first = executor.submit(() -> flight.call("key", () -> {
+				started.countDown();
+				Uninterruptibles.awaitUninterruptibly(release);
+				throw new IllegalStateException("Call failed");
+			}));
+			started.await();
+			final Future<String> second = executor.submit(() -> flight.call("key", () -> "should not run"));
+			waitForCoalesced(flight, 1);
+			release.countDown();
+
+			final ExecutionException firstEx = assertThrows(ExecutionException.class, () -> first.get(1, TimeUnit.MINUTES));
+			final ExecutionException secondEx = assertThrows(ExecutionException.class, () -> second.get(1, TimeUnit.MINUTES));
+			assertSame("The waiting thread should receive the same exception", firstEx.getCause(), secondEx.getCause());
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals("Calls after the failed one should run again", "ran", flight.call("key", () -> "ran"));
+		assertEquals(2, flight.getStatistics().getCalls());
+		assertEquals(1, flight.getStatistics().getCoalesced());
+	}
+
+	private void waitForCoalesced(MDSingleFlight<?, ?> flight, int expected) throws InterruptedException {
+		final long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+		while (flight.getStatistics().getCoalesced() < expected) {
+			assertTrue("Timed out waiting for coalesced calls", System.currentTimeMillis() < deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private Set<String> runEVL(IEvlModule module) throws Exception {
+		module.parse(CONSTRAINTS);
+		module.getContext().getModelRepository().addModel(m);
+		module.execute();
+
+		final Set<String> failures = new HashSet<>();
+		for (UnsatisfiedConstraint uc : module.getContext().getUnsatisfiedConstraints()) {
+			failures.add(uc.getConstraint().getName() + " " + ((MDModelElement) uc.getInstance()).getElementID());
+		}
+		return failures;
+	}
+
+	@Before
+	public void setup() throws Exception {
+		final String serverName = InProcessServerBuilder.generateName();
+		service = new StandInModelService(CLASSES);
+		server = InProcessServerBuilder.forName(serverName).addService(service).build().start();
+
+		m = new MagicDrawModel() {
+			@Override
+			protected ManagedChannel createChannel() {
+				return InProcessChannelBuilder.forName(serverName).build();
+			}
+
+			@Override
+			protected Object getChannelKey() {
+				return serverName;
+			}
+		};
+		m.setName("Model");
+		m.setConcurrent(true);
+		m.load();
+	}
+
+	@After
+	public void teardown() throws Exception {
+		if (m != null) {
+			m.dispose();
+		}
+		server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		MDChannelRegistry.getDefault().shutdownIdle();
+	}
+
+}
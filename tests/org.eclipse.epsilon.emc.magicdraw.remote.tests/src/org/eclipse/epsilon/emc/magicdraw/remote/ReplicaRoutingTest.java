@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.CreateInstanceRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc;
+import org.eclipse.epsilon.eol.exceptions.models.EolModelLoadingException;
+import org.junit.After;
+import org.junit.Test;
+
+import io.grpc.StatusRuntimeException;
+
+/**
+ * Tests for spreading reads over several MagicDraw instances, using
+ * {@link StandInModelService}s listening on local TCP ports.
+ */
+public class ReplicaRoutingTest {
+
+	private static final int CLASSES = 300;
+
+	private final StandInInstances instances = new StandInInstances();
+	private MagicDrawModel m;
+
+	@Test
+	public void readsAreSpreadOverReplicas() throws Exception {
+		createModel(StandInModelService.DEFAULT_PROJECT_NAME, StandInModelService.DEFAULT_PROJECT_NAME, StandInModelService.DEFAULT_PROJECT_NAME);
+		m.load();
+
+		for (MDModelElement c : m.getAllOfKind("Class")) {
+			m.getPropertyGetter().invoke(c, "name", null);
+		}
+
+		for (StandInModelService service : instances.getServices()) {
+			assertTrue("Each instance should have served about a third of the reads",
+				Math.abs(service.getFeatureReads() - CLASSES / instances.getServices().size()) <= 1);
+		}
+		assertEquals(3, m.getReplicaRouter().getSentCalls().size());
+	}
+
+	@Test
+	public void changesPinToPrimary() throws Exception {
+		createModel(StandInModelService.DEFAULT_PROJECT_NAME, StandInModelService.DEFAULT_PROJECT_NAME);
+		m.load();
+
+		final MDReplicaRouter router = m.getReplicaRouter();
+		assertFalse(router.isPrimaryOnly());
+
+		// The stand-in does not support changes, but the call is still routed
+		assertThrows(StatusRuntimeException.class, () -> ModelServiceGrpc.newBlockingStub(router)
+			.createInstance(CreateInstanceRequest.newBuilder().setTypeName("Class").build()));
+		assertTrue(router.isPrimaryOnly());
+
+		final StandInModelService replica = instances.getServices().get(1);
+		final int replicaReads = replica.getFeatureReads();
+		for (MDModelElement c : m.getAllOfKind("Class")) {
+			m.getPropertyGetter().invoke(c, "name", null);
+		}
+		assertEquals("No reads should go to the replica after a change", replicaReads, replica.getFeatureReads());
+	}
+
+	@Test
+	public void differentProjectFailsLoading() throws Exception {
+		createModel(StandInModelService.DEFAULT_PROJECT_NAME, "Other");
+		assertThrows(EolModelLoadingException.class, m::load);
+	}
+
+	@Test
+	public void failedLoadReleasesChannels() throws Exception {
+		createModel(StandInModelService.DEFAULT_PROJECT_NAME, "Other");
+		assertThrows(EolModelLoadingException.class, m::load);
+
+		MDChannelRegistry.getDefault().shutdownIdle();
+		assertEquals(0, MDChannelRegistry.getDefault().size());
+	}
+
+	@Test
+	public void replicaWithPrimaryAddressHasOwnChannel() throws Exception {
+		createModel(StandInModelService.DEFAULT_PROJECT_NAME);
+		m.setReplicas(Collections.singletonList(ModelServiceConstants.DEFAULT_HOST + ":" + m.getPort()));
+		m.load();
+
+		assertEquals(2, MDChannelRegistry.getDefault().size());
+		m.dispose();
+	}
+
+	@Test
+	public void reloadReleasesPreviousChannels() throws Exception {
+		createModel(StandInModelService.DEFAULT_PROJECT_NAME, StandInModelService.DEFAULT_PROJECT_NAME);
+		m.load();
+		m.load();
+		m.dispose();
+
+		MDChannelRegistry.getDefault().shutdownIdle();
+		assertEquals(0, MDChannelRegistry.getDefault().size());
+	}
+
+	/**
+	 * Starts one stand-in per project name (the first one is the main instance)
+	 * and creates a model which uses the rest as replicas.
+	 */
+	private void createModel(String... projectNames) throws Exception {
+		for (String projectName : projectNames) {
+			instances.start(new StandInModelService(CLASSES, projectName));
+		}
+		m = instances.createModel();
+	}
+
+	@After
+	public void teardown() throws Exception {
+		instances.shutdown();
+	}
+
+}
@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceTransports;
+
+import io.grpc.Server;
+
+/**
+ * Runs several {@link StandInModelService}s listening on local TCP ports, and
+ * creates models which use the first one as the main instance and the rest
+ * as read replicas.
+ */
+class StandInInstances {
+
+	private final List<Server> servers = new ArrayList<>();
+	private final List<StandInModelService> services = new ArrayList<>();
+	private final List<MagicDrawModel> models = new ArrayList<>();
+
+	/**
+	 * Starts a server for the given stand-in, on a free port.
+	 */
+	StandInModelService start(StandInModelService service) throws IOException {
+		servers.add(ModelServiceTransports.newServerBuilder(ModelServiceConstants.DEFAULT_HOST, 0, null)
+			.addService(service)
+			.build().start());
+		services.add(service);
+		return service;
+	}
+
+	/**
+	 * Stops the server of the {@code i}-th stand-in, as if MagicDraw had exited.
+	 */
+	void stop(int i) throws InterruptedException {
+		servers.get(i).shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	List<StandInModelService> getServices() {
+		return Collections.unmodifiableList(services);
+	}
+
+	/**
+	 * Creates a model (without loading it) which uses the first stand-in as the
+	 * main instance and the rest as replicas. Adaptive prefetching is disabled,
+	 * so the reads sent to each stand-in are only those made by the test.
+	 */
+	MagicDrawModel createModel() {
+		final MagicDrawModel m = new MagicDrawModel();
+		m.setName("Model");
+		m.setPort(servers.get(0).getPort());
+		m.setAdaptivePrefetchThreshold(0);
+
+		final List<String> replicas = new ArrayList<>();
+		for (Server replica : servers.subList(1, servers.size())) {
+			replicas.add(ModelServiceConstants.DEFAULT_HOST + ":" + replica.getPort());
+		}
+		m.setReplicas(replicas);
+
+		models.add(m);
+		return m;
+	}
+
+	/**
+	 * Disposes of the models and stops the servers.
+	 */
+	void shutdown() throws InterruptedException {
+		for (MagicDrawModel m : models) {
+			m.dispose();
+		}
+		for (Server server : servers) {
+			server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+		MDChannelRegistry.getDefault().shutdownIdle();
+	}
+
+}
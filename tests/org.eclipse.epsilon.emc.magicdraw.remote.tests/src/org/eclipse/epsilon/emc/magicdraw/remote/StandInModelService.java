@@ -0,0 +1,248 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.AllOfRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Empty;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.FeatureValuesResult;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetTypeRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementCollection;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElementType;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc.ModelServiceImplBase;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectInfo;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ProjectedElement;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SingleBoolean;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.SingleInteger;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Value;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * <p>Stand-in for the MagicDraw plugin, which serves a fixed model made of
+ * {@code uml::Class} instances named {@code Class0}, {@code Class1} and so on.
+ * Every {@link #ABSTRACT_EVERY}-th class is abstract.</p>
+ *
+ * <p>Only the requests needed to find the classes and read their {@code name}
+ * and {@code isAbstract} features, and to identify the project, are supported:
+ * the rest fail with {@code UNIMPLEMENTED}. This is meant to be served locally
+ * (in-process or over TCP), to test the driver without a running MagicDraw.</p>
+ */
+class StandInModelService extends ModelServiceImplBase {
+
+	static final String METAMODEL_URI = "http://www.omg.org/spec/UML/20131001";
+	static final String CLASS_TYPE = "uml::Class";
+	static final int ABSTRACT_EVERY = 10;
+	static final String DEFAULT_PROJECT_NAME = "StandIn";
+
+	private static final List<String> CLASS_TYPE_NAMES = Arrays.asList("Class", CLASS_TYPE);
+	private static final String ID_PREFIX = "_standin_";
+
+	private final List<ModelElement> classes = new ArrayList<>();
+	private final String projectName;
+
+	private final AtomicInteger featureReads = new AtomicInteger();
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicInteger maxInFlight = new AtomicInteger();
+	private final AtomicInteger featureReadFailures = new AtomicInteger();
+	private volatile CountDownLatch featureReadGate;
+
+	StandInModelService(int classCount) {
+		this(classCount, DEFAULT_PROJECT_NAME);
+	}
+
+	/**
+	 * Creates a stand-in whose project has the given name. Stand-ins with the
+	 * same project name are considered to have the same project open.
+	 */
+	StandInModelService(int classCount, String projectName) {
+		this.projectName = projectName;
+		for (int i = 0; i < classCount; i++) {
+			classes.add(ModelElement.newBuilder()
+				.setElementID(ID_PREFIX + i)
+				.setMetamodelUri(METAMODEL_URI)
+				.setTypeName(CLASS_TYPE)
+				.build());
+		}
+	}
+
+	static String getName(int i) {
+		return "Class" + i;
+	}
+
+	static boolean isAbstract(int i) {
+		return i % ABSTRACT_EVERY == 0;
+	}
+
+	/**
+	 * Makes single feature reads wait until {@code gate} is released. {@code null}
+	 * stops them from waiting.
+	 */
+	void setFeatureReadGate(CountDownLatch gate) {
+		this.featureReadGate = gate;
+	}
+
+	/**
+	 * Makes the next {@code count} single feature reads fail with {@code UNAVAILABLE},
+	 * as if MagicDraw could not be reached.
+	 */
+	void setFeatureReadFailures(int count) {
+		featureReadFailures.set(count);
+	}
+
+	/**
+	 * Returns the number of single feature reads received so far.
+	 */
+	int getFeatureReads() {
+		return featureReads.get();
+	}
+
+	/**
+	 * Returns the highest number of feature reads that were being served at the same time.
+	 */
+	int getMaxInFlight() {
+		return maxInFlight.get();
+	}
+
+	@Override
+	public void ping(Empty request, StreamObserver<Empty> responseObserver) {
+		responseObserver.onNext(Empty.getDefaultInstance());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void getProjectInfo(Empty request, StreamObserver<ProjectInfo> responseObserver) {
+		responseObserver.onNext(ProjectInfo.newBuilder()
+			.setName(projectName)
+			.setPrimaryModelID(ID_PREFIX + "model_" + projectName)
+			.build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void getType(GetTypeRequest request, StreamObserver<ModelElementType> responseObserver) {
+		if (CLASS_TYPE_NAMES.contains(request.getTypeName())) {
+			responseObserver.onNext(ModelElementType.newBuilder()
+				.setMetamodelUri(METAMODEL_URI)
+				.setTypeName(CLASS_TYPE)
+				.build());
+			responseObserver.onCompleted();
+		} else {
+			responseObserver.onError(Status.INVALID_ARGUMENT
+				.withDescription("Cannot find type " + request.getTypeName())
+				.asRuntimeException());
+		}
+	}
+
+	@Override
+	public void allOf(AllOfRequest request, StreamObserver<ModelElementCollection> responseObserver) {
+		responseObserver.onNext(ModelElementCollection.newBuilder().addAllValues(findAll(request)).build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void count(AllOfRequest request, StreamObserver<SingleInteger> responseObserver) {
+		responseObserver.onNext(SingleInteger.newBuilder().setValue(findAll(request).size()).build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void exists(AllOfRequest request, StreamObserver<SingleBoolean> responseObserver) {
+		responseObserver.onNext(SingleBoolean.newBuilder().setValue(!findAll(request).isEmpty()).build());
+		responseObserver.onCompleted();
+	}
+
+	@Override
+	public void getFeatureValue(GetFeatureValueRequest request, StreamObserver<Value> responseObserver) {
+		featureReads.incrementAndGet();
+		final int current = inFlight.incrementAndGet();
+		maxInFlight.accumulateAndGet(current, Math::max);
+		try {
+			if (featureReadFailures.getAndUpdate(n -> Math.max(0, n - 1)) > 0) {
+				responseObserver.onError(Status.UNAVAILABLE.withDescription("Simulated failure").asRuntimeException());
+				return;
+			}
+
+			final CountDownLatch gate = featureReadGate;
+			if (gate != null) {
+				Uninterruptibles.awaitUninterruptibly(gate);
+			}
+			responseObserver.onNext(getValue(request.getElementID(), request.getFeatureName()));
+			responseObserver.onCompleted();
+		} catch (IllegalArgumentException ex) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException());
+		} finally {
+			inFlight.decrementAndGet();
+		}
+	}
+
+	@Override
+	public void getFeatureValues(FeatureValuesRequest request, StreamObserver<FeatureValuesResult> responseObserver) {
+		try {
+			final FeatureValuesResult.Builder result = FeatureValuesResult.newBuilder();
+			for (String elementID : request.getElementIDsList()) {
+				final ProjectedElement.Builder pe = ProjectedElement.newBuilder()
+					.setElement(classes.get(getIndex(elementID)));
+				for (String featureName : request.getFeatureNamesList()) {
+					pe.addValues(getValue(elementID, featureName));
+				}
+				result.addElements(pe);
+			}
+			responseObserver.onNext(result.build());
+			responseObserver.onCompleted();
+		} catch (IllegalArgumentException ex) {
+			responseObserver.onError(Status.INVALID_ARGUMENT.withDescription(ex.getMessage()).asRuntimeException());
+		}
+	}
+
+	private List<ModelElement> findAll(AllOfRequest request) {
+		if (request.getTypeName().isEmpty() || CLASS_TYPE_NAMES.contains(request.getTypeName())) {
+			return classes;
+		}
+		return new ArrayList<>();
+	}
+
+	private Value getValue(String elementID, String featureName) {
+		final int i = getIndex(elementID);
+		switch (featureName) {
+		case "name":
+			return Value.newBuilder().setStringValue(getName(i)).build();
+		case "isAbstract":
+			return Value.newBuilder().setBooleanValue(isAbstract(i)).build();
+		default:
+			return Value.newBuilder().setNotDefined(true).build();
+		}
+	}
+
+	private int getIndex(String elementID) {
+		try {
+			final int i = Integer.parseInt(elementID.substring(ID_PREFIX.length()));
+			if (elementID.startsWith(ID_PREFIX) && i >= 0 && i < classes.size()) {
+				return i;
+			}
+		} catch (IndexOutOfBoundsException | NumberFormatException ex) {
+			// fall through
+		}
+		throw new IllegalArgumentException("Cannot find element with ID " + elementID);
+	}
+
+}
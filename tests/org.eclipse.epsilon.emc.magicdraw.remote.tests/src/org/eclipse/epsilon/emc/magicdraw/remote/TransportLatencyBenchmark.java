@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2022 University of York.
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *    Antonio Garcia-Dominguez - initial API and implementation
+ *******************************************************************************/
+package org.eclipse.epsilon.emc.magicdraw.remote;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.epsilon.emc.magicdraw.modelapi.Empty;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.GetFeatureValueRequest;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceConstants;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceGrpc.ModelServiceBlockingStub;
+import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelServiceTransports;
+import org.junit.Test;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+
+/**
+ * <p>Compares the latency of small requests over TCP loopback and over a Unix
+ * domain socket, using a {@link StandInModelService}. Only runs on platforms
+ * with domain sockets (Linux).</p>
+ *
+ * <p>This is not part of the regular test suite (its name does not end in
+ * {@code Test}): run it explicitly, and check the percentiles that it prints.</p>
+ */
+public class TransportLatencyBenchmark {
+
+	private static final int WARMUP_CALLS = 5_000;
+	private static final int MEASURED_CALLS = 20_000;
+
+	@Test
+	public void compareTransports() throws Exception {
+		assumeTrue("Unix domain sockets are not available on this platform",
+			ModelServiceTransports.isDomainSocketAvailable());
+
+		final long[] tcp = measure(null);
+
+		final Path socketDir = Files.createTempDirectory("emc-magicdraw");
+		final long[] uds;
+		try {
+			uds = measure(socketDir.resolve("bench.sock").toString());
+		} finally {
+			Files.deleteIfExists(socketDir.resolve("bench.sock"));
+			Files.delete(socketDir);
+		}
+
+		report("TCP loopback", tcp);
+		report("Unix domain socket", uds);
+	}
+
+	/**
+	 * Sends alternating {@code ping} and {@code getFeatureValue} requests and
+	 * returns their sorted round-trip times in nanoseconds. Uses TCP if
+	 * {@code socketPath} is {@code null}.
+	 */
+	private long[] measure(String socketPath) throws Exception {
+		final Server server = ModelServiceTransports
+			.newServerBuilder(ModelServiceConstants.DEFAULT_HOST, 0, socketPath)
+			.addService(new StandInModelService(1))
+			.build().start();
+		final ManagedChannel channel = ModelServiceTransports
+			.newChannelBuilder(ModelServiceConstants.DEFAULT_HOST, server.getPort(), socketPath)
+			.build();
+
+		try {
+			final ModelServiceBlockingStub client = ModelServiceGrpc.newBlockingStub(channel);
+			final Empty ping = Empty.getDefaultInstance();
+			final GetFeatureValueRequest getName = GetFeatureValueRequest.newBuilder()
+				.setElementID("_standin_0").setFeatureName("name").build();
+
+			for (int i = 0; i < WARMUP_CALLS; i++) {
+				client.ping(ping);
+			}
+
+			final long[] latencies = new long[MEASURED_CALLS];
+			for (int i = 0; i < MEASURED_CALLS; i++) {
+				final long start = System.nanoTime();
+				if (i % 2 == 0) {
+					client.ping(ping);
+				} else {
+					assertEquals(StandInModelService.getName(0), client.getFeatureValue(getName).getStringValue());
+				}
+				latencies[i] = System.nanoTime() - start;
+			}
+			Arrays.sort(latencies);
+			return latencies;
+		} finally {
+			channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+			server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+		}
+	}
+
+	private void report(String transport, long[] sortedLatencies) {
+		System.out.println(String.format("%-20s p50 = %6.1f us, p90 = %6.1f us, p99 = %6.1f us",
+			transport,
+			percentile(sortedLatencies, 0.50),
+			percentile(sortedLatencies, 0.90),
+			percentile(sortedLatencies, 0.99)));
+	}
+
+	private double percentile(long[] sortedLatencies, double p) {
+		final int index = Math.min(sortedLatencies.length - 1, (int) Math.ceil(p * sortedLatencies.length) - 1);
+		return sortedLatencies[index] / 1_000.0;
+	}
+
+}
@@ -15,12 +15,23 @@ import static org.hamcrest.core.StringStartsWith.startsWith;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeNoException;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.epsilon.emc.magicdraw.modelapi.ModelElement;
 import org.eclipse.epsilon.eol.EolModule;
@@ -34,6 +45,11 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.util.concurrent.SettableFuture;
+
+import io.grpc.Status.Code;
+import io.grpc.StatusRuntimeException;
+
 /**
  * Tests for MagicDraw model loading and saving, with MagicDraw running on the
  * <code>resources/example-zoo.mdzip</code> project.
@@ -55,6 +71,390 @@ public class ZooModelTest {
 		assertEquals("1 ProtocolStateMachine object (exact type) should be visible from the sample Zoo model", 1, m.getAllOfType("ProtocolStateMachine").size());
 	}
 
+	@Test
+	public void lazyAndEagerDecodingAgree() throws Exception {
+		m.setLazyExtents(false);
+		Collection<MDModelElement> lazyClasses = m.getAllOfType("Class");
+		assertTrue("Lazy decoding should be enabled by default", lazyClasses instanceof MDModelElementList);
+
+		m.clearCache();
+		m.setLazyDecoding(false);
+		Collection<MDModelElement> eagerClasses = m.getAllOfType("Class");
+		assertEquals("Lazy and eager decoding should produce the same elements",
+			new ArrayList<>(eagerClasses), new ArrayList<>(lazyClasses));
+	}
+
+	@Test
+	public void prefetchedExtentsMatchAllOf() throws Exception {
+		final Collection<MDModelElement> classKind = new ArrayList<>(m.getAllOfKind("Class"));
+		final Collection<MDModelElement> classType = new ArrayList<>(m.getAllOfType("Class"));
+		final Collection<MDModelElement> packages = new ArrayList<>(m.getAllOfKind("Package"));
+
+		m.clearCache();
+		m.prefetchExtents(Arrays.asList("Class", "Package"));
+		assertEquals(classKind, new ArrayList<>(m.getAllOfKind("Class")));
+		assertEquals(classType, new ArrayList<>(m.getAllOfType("Class")));
+		assertEquals(packages, new ArrayList<>(m.getAllOfKind("Package")));
+	}
+
+	@Test(expected=EolModelElementTypeNotFoundException.class)
+	public void prefetchMissingType() throws Exception {
+		m.prefetchExtents(Arrays.asList("Class", "IDoNotExist"));
+	}
+
+	@Test
+	public void selectWithPredicate() throws Exception {
+		final MDPredicates p = m.getPredicates();
+		final List<MDModelElement> animals = m.selectAllOfKind("Class",
+			p.and(p.startsWith("name", "ani", true), p.eq("isAbstract", false)));
+		assertEquals(1, animals.size());
+
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.select(c|c.name.toLowerCase().startsWith('ani') and not c.isAbstract);");
+		assertEquals("Pushed down filters should match the EOL equivalent",
+			new ArrayList<>((Collection<?>) module.execute()), new ArrayList<>(animals));
+
+		assertEquals("Negating the filter should select the remaining classes",
+			classCount() - 1, m.selectAllOfKind("Class", p.not(p.startsWith("name", "Animal"))).size());
+	}
+
+	@Test
+	public void selectWithEnumerationPredicate() throws Exception {
+		final MDPredicates p = m.getPredicates();
+		final Object publicVisibility = m.getEnumerationValue("uml::VisibilityKind", "public");
+		final MDModelElement animal = m.selectAllOfKind("Class", p.eq("name", "Animal")).get(0);
+		assertTrue("Animal should be among the public classes",
+			m.selectAllOfKind("Class", p.eq("visibility", publicVisibility)).contains(animal));
+	}
+
+	@Test
+	public void selectNotEqualsWithMissingFeature() throws Exception {
+		final MDPredicates p = m.getPredicates();
+		assertTrue("Comparisons on missing features should be false",
+			m.selectAllOfKind("Class", p.ne("iDoNotExist", "Lion")).isEmpty());
+	}
+
+	@Test
+	public void selectNotEqualsWithManyValuedFeature() throws Exception {
+		final MDPredicates p = m.getPredicates();
+		final MDModelElement animal = m.selectAllOfKind("Class", p.eq("name", "Animal")).get(0);
+		final List<MDModelElement> selected = m.selectAllOfKind("Class", p.ne("general", animal));
+
+		EolModule module = createEOLModule();
+		module.parse("var animal = Class.all.selectOne(c|c.name = 'Animal');"
+			+ "return Class.all.select(c|c.general.exists(g|g <> animal));");
+		assertEquals("Classes should be selected if any of their superclasses is not Animal",
+			new ArrayList<>((Collection<?>) module.execute()), new ArrayList<>(selected));
+		assertFalse("Animal has no superclasses, so it should not be selected", selected.contains(animal));
+	}
+
+	@Test(expected=EolModelElementTypeNotFoundException.class)
+	public void selectWithMissingType() throws Exception {
+		final MDPredicates p = m.getPredicates();
+		m.selectAllOfKind("Class", p.isKindOf("IDoNotExist"));
+	}
+
+	@Test
+	public void countsWithoutFetching() throws Exception {
+		Collection<MDModelElement> classes = m.getAllOfKind("Class");
+		assertTrue("Extents should be lazy by default", classes instanceof MDLazyExtent);
+		assertEquals(5, classes.size());
+		assertFalse(classes.isEmpty());
+		assertFalse("Computing the size should not fetch the elements", ((MDLazyExtent) classes).isLoaded());
+
+		assertEquals(5, m.countAllOfKind("Class"));
+		assertEquals(EXPECTED_CLASSES, m.countAllOfType("Class"));
+		assertEquals("Iterating should fetch the same number of elements", 5, new ArrayList<>(classes).size());
+	}
+
+	@Test
+	public void typeHistogram() throws Exception {
+		final Map<String, Integer> histogram = m.getTypeHistogram();
+		assertEquals(Integer.valueOf(EXPECTED_CLASSES), histogram.get("uml::Class"));
+	}
+
+	@Test
+	public void navigateAncestors() throws Exception {
+		final MDModelElement lion = m.selectAllOfKind("Class", m.getPredicates().eq("name", "Lion")).get(0);
+		final List<MDModelElement> ancestors = m.getAncestors(lion);
+		assertFalse("Lion should have at least one container", ancestors.isEmpty());
+		assertEquals("Model", m.getPropertyGetter().invoke(ancestors.get(0), "name", null));
+	}
+
+	@Test
+	public void navigateGeneralizations() throws Exception {
+		final MDModelElement lion = m.selectAllOfKind("Class", m.getPredicates().eq("name", "Lion")).get(0);
+		final List<MDModelElement> generals = m.getAllGenerals(lion);
+		assertEquals("Lion should only have Animal as a superclass", 1, generals.size());
+		assertEquals("Animal", m.getPropertyGetter().invoke(generals.get(0), "name", null));
+	}
+
+	@Test
+	public void navigateWithProjection() throws Exception {
+		final MDModelElement lion = m.selectAllOfKind("Class", m.getPredicates().eq("name", "Lion")).get(0);
+		final Map<MDModelElement, Map<String, Object>> reached = m.navigate(Arrays.asList(lion),
+			Arrays.asList("generalization", "general"), false, 0, Arrays.asList("name", "iDoNotExist"));
+		assertEquals(1, reached.size());
+
+		final Map<String, Object> values = reached.values().iterator().next();
+		assertEquals("Animal", values.get("name"));
+		assertTrue(values.containsKey("iDoNotExist"));
+		assertEquals(null, values.get("iDoNotExist"));
+	}
+
+	@Test
+	public void referrersByFeature() throws Exception {
+		final MDModelElement animal = m.selectAllOfKind("Class", m.getPredicates().eq("name", "Animal")).get(0);
+		final List<MDModelElement> referrers = m.getReferrers(animal, Arrays.asList("general"));
+		assertFalse("Animal should be referenced by the generalization from Lion", referrers.isEmpty());
+		for (MDModelElement referrer : referrers) {
+			assertEquals("Generalization", referrer.getTypeName());
+		}
+
+		assertTrue("Unfiltered referrers should include those through 'general'",
+			m.getReferrers(animal).containsAll(referrers));
+		assertTrue("No references should go through a missing feature",
+			m.getReferrers(animal, Arrays.asList("iDoNotExist")).isEmpty());
+	}
+
+	@Test
+	public void referrersFromEOL() throws Exception {
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.selectOne(c|c.name = 'Animal').eReferrers"
+			+ ".select(r|r.isKindOf(Generalization)).collect(g|g.specific.name);");
+		assertTrue(((Collection<?>) module.execute()).contains("Lion"));
+	}
+
+	@Test
+	public void elementsByName() throws Exception {
+		final List<MDModelElement> lions = m.getElementsByName("Lion");
+		assertEquals(1, lions.size());
+		assertEquals("Lion", m.getPropertyGetter().invoke(lions.get(0), "name", null));
+
+		assertEquals("Case-insensitive lookups should ignore case",
+			lions, m.getElementsByName("lION", "Class", false, true));
+		assertTrue("Exact lookups should not match prefixes",
+			m.getElementsByName("Li").isEmpty());
+		assertTrue("Prefix lookups should match longer names",
+			m.getElementsByName("Li", "Class", true, false).containsAll(lions));
+		assertTrue("Type filters should be applied",
+			m.getElementsByName("Lion", "Package", false, false).isEmpty());
+	}
+
+	@Test(expected=EolModelElementTypeNotFoundException.class)
+	public void elementsByNameWithMissingType() throws Exception {
+		m.getElementsByName("Lion", "IDoNotExist", false, false);
+	}
+
+	@Test
+	public void elementByQualifiedName() throws Exception {
+		final MDModelElement lion = m.getElementsByName("Lion").get(0);
+		final String qualifiedName = (String) m.getPropertyGetter().invoke(lion, "qualifiedName", null);
+		assertEquals(lion, m.getElementByQualifiedName(qualifiedName));
+		assertNull(m.getElementByQualifiedName(qualifiedName + "DoesNotExist"));
+	}
+
+	@Test
+	public void adaptivePrefetch() throws Exception {
+		m.setAdaptivePrefetchThreshold(1);
+
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.first().name;");
+		module.execute();
+		m.getAccessProfiler().awaitPrefetches(10, TimeUnit.SECONDS);
+
+		final MDAccessProfiler.Statistics stats = m.getAccessProfiler().getStatistics();
+		assertEquals("Reading the name of a class should prefetch it for the others", 1, stats.getPrefetches());
+		assertTrue(stats.getPrefetchedValues() > 0);
+		assertEquals(0, stats.getHits());
+
+		module = createEOLModule();
+		module.parse("return Class.all.collect(c|c.name);");
+		module.execute();
+		assertTrue("Later reads should use the prefetched names",
+			m.getAccessProfiler().getStatistics().getHits() > 0);
+	}
+
+	@Test
+	public void adaptivePrefetchDisabled() throws Exception {
+		m.setAdaptivePrefetchThreshold(0);
+
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.collect(c|c.name);");
+		module.execute();
+		assertEquals(0, m.getAccessProfiler().getStatistics().getPrefetches());
+	}
+
+	@Test
+	public void accessPlanIsFetchedOnLoad() throws Exception {
+		m.close();
+		m = new MagicDrawModel();
+		m.setName("Model");
+		m.setProjectURL(new File("resources/example-zoo.mdzip").getAbsoluteFile().toURI().toString());
+		m.setAccessPlan(MDAccessPlan.parse("Class.name, Class.isAbstract"));
+		m.setReadOnLoad(true);
+		m.setStoredOnDisposal(false);
+		m.load();
+
+		final Collection<MDModelElement> classes = m.getAllOfKind("Class");
+		assertFalse(classes.isEmpty());
+		for (MDModelElement c : classes) {
+			assertTrue(m.featureValueCache.contains(c, "name"));
+			assertTrue(m.featureValueCache.contains(c, "isAbstract"));
+		}
+	}
+
+	@Test
+	public void accessPlanRoundTrip() {
+		final MDAccessPlan plan = MDAccessPlan.parse(" Class.name, uml::Property.type ,Package ");
+		assertEquals(Arrays.asList("Class", "uml::Property", "Package"), plan.getTypeNames());
+		assertEquals(Arrays.asList("type"), plan.getFeatureNames("uml::Property"));
+		assertTrue(plan.getFeatureNames("Package").isEmpty());
+		assertEquals("Class.name, uml::Property.type, Package", plan.toString());
+		assertEquals(plan.toString(), MDAccessPlan.parse(plan.toString()).toString());
+
+		assertThrows(IllegalArgumentException.class, () -> MDAccessPlan.parse("Class."));
+	}
+
+	@Test
+	public void asyncFeatureValues() throws Exception {
+		final List<MDModelElement> classes = m.getAllOfKindAsync("Class").get(10, TimeUnit.SECONDS);
+		assertEquals(classCount(), classes.size());
+
+		final List<CompletableFuture<Object>> names = new ArrayList<>();
+		for (MDModelElement c : classes) {
+			names.add(m.getFeatureValueAsync(c, "name"));
+		}
+		for (int i = 0; i < classes.size(); i++) {
+			assertEquals(m.getPropertyGetter().invoke(classes.get(i), "name", null), names.get(i).get(10, TimeUnit.SECONDS));
+		}
+
+		assertEquals("Properties not defined by MagicDraw should be read from the proxy",
+			classes.get(0).getTypeName(), m.getFeatureValueAsync(classes.get(0), "typeName").get(10, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void asyncListAndElementById() throws Exception {
+		final MDModelElement animal = m.getElementsByName("Animal").get(0);
+		final MDModelElement byId = m.getElementByIdAsync(animal.getElementID()).get(10, TimeUnit.SECONDS);
+		assertEquals(animal, byId);
+
+		final MDProxyList attributes = (MDProxyList) m.getPropertyGetter().invoke(animal, "ownedAttribute", null);
+		final int size = m.getListSizeAsync(attributes).get(10, TimeUnit.SECONDS);
+		assertEquals(attributes.size(), size);
+		if (size > 0) {
+			assertEquals(attributes.get(0), m.getListElementAsync(attributes, 0).get(10, TimeUnit.SECONDS));
+		}
+	}
+
+	@Test
+	public void asyncMissingType() throws Exception {
+		final ExecutionException ex = assertThrows(ExecutionException.class,
+			() -> m.getAllOfKindAsync("IDoNotExist").get(10, TimeUnit.SECONDS));
+		assertTrue(ex.getCause() instanceof EolModelElementTypeNotFoundException);
+	}
+
+	@Test
+	public void dispatcherBoundsConcurrency() throws Exception {
+		final MDRequestDispatcher dispatcher = new MDRequestDispatcher(2);
+		final List<SettableFuture<Integer>> calls = new ArrayList<>();
+		final List<CompletableFuture<Integer>> results = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			results.add(dispatcher.submit(() -> {
+				SettableFuture<Integer> call = SettableFuture.create();
+				calls.add(call);
+				return call;
+			}));
+		}
+		assertEquals(2, dispatcher.getInFlight());
+		assertEquals(3, dispatcher.getQueued());
+
+		results.get(2).cancel(true);
+		calls.get(0).set(0);
+		assertEquals(Integer.valueOf(0), results.get(0).get());
+		assertEquals("The cancelled request should be skipped", 3, calls.size());
+		assertEquals(2, dispatcher.getInFlight());
+		assertEquals(1, dispatcher.getQueued());
+
+		calls.get(1).set(1);
+		assertEquals(4, calls.size());
+		calls.get(2).set(3);
+		calls.get(3).set(4);
+		assertEquals(Integer.valueOf(4), results.get(4).get());
+		assertEquals(0, dispatcher.getInFlight());
+		assertEquals(0, dispatcher.getQueued());
+	}
+
+	@Test
+	public void fetchSubtreeAnswersLocally() throws Exception {
+		final List<MDModelElement> subtree = m.fetchSubtree(null, 1, Collections.emptyList(), Arrays.asList("name"));
+		assertTrue("The subtree should include the root and its contents", subtree.size() > 1);
+
+		final MDModelElement root = subtree.get(0);
+		@SuppressWarnings("unchecked")
+		final List<MDModelElement> children = (List<MDModelElement>) m.getPropertyGetter().invoke(root, "eContents", null);
+		assertEquals(subtree.subList(1, subtree.size()), children);
+		for (MDModelElement child : children) {
+			assertEquals(root, m.getPropertyGetter().invoke(child, "eContainer", null));
+		}
+		assertTrue(m.featureValueCache.contains(root, "name"));
+	}
+
+	@Test
+	public void fetchSubtreeWithTypeFilter() throws Exception {
+		final List<MDModelElement> subtree = m.fetchSubtree(null, 0, Arrays.asList("Class"), Collections.emptyList());
+		assertTrue("The subtree should have the root and some classes", subtree.size() > 1);
+		assertTrue("Classes within other elements should be skipped", subtree.size() <= classCount() + 1);
+		assertFalse("The root has other contents, so its eContents should not be cached",
+			m.featureValueCache.contains(subtree.get(0), "eContents"));
+	}
+
+	@Test
+	public void changesClearFeatureValueCache() throws Exception {
+		final List<MDModelElement> subtree = m.fetchSubtree(null, 1, Collections.emptyList(), Arrays.asList("name"));
+		assertTrue(m.featureValueCache.size() > 0);
+
+		EolModule module = createEOLModule();
+		module.parse("Class.all.selectOne(c|c.name = 'Animal').name = 'AnimalChanged';");
+		module.execute();
+		assertEquals(0, m.featureValueCache.size());
+		assertFalse(m.featureValueCache.contains(subtree.get(0), "name"));
+	}
+
+	@Test
+	public void runRemoteScalar() throws Exception {
+		assertEquals(EXPECTED_CLASSES, m.runRemote("return Class.allOfType().size();", null));
+	}
+
+	@Test
+	public void runRemoteCollectionWithParameters() throws Exception {
+		Object result = m.runRemote(
+			"return Class.all.select(c | c.name.startsWith(prefix)).collect(c | c.name);",
+			Collections.singletonMap("prefix", "Anim"));
+		assertEquals(Arrays.asList("Animal"), result);
+	}
+
+	@Test
+	public void runRemoteElements() throws Exception {
+		Object result = m.runRemote("return Class.all.selectOne(c | c.name = 'Animal');", null);
+		assertTrue(result instanceof MDModelElement);
+		assertEquals("Animal", m.getPropertyGetter().invoke(result, "name", null));
+	}
+
+	@Test
+	public void runRemoteTimeout() throws Exception {
+		StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+			() -> m.runRemote("while (true) { Class.all.size(); }", null, 500));
+		assertEquals(Code.DEADLINE_EXCEEDED, ex.getStatus().getCode());
+	}
+
+	@Test
+	public void runRemoteParseError() throws Exception {
+		StatusRuntimeException ex = assertThrows(StatusRuntimeException.class,
+			() -> m.runRemote("return Class.all.size(", null));
+		assertEquals(Code.INVALID_ARGUMENT, ex.getStatus().getCode());
+	}
+
 	@Test
 	public void allContents() throws Exception {
 		Collection<MDModelElement> contents = m.allContents();
@@ -105,6 +505,16 @@ public class ZooModelTest {
 		assertNotNull(literal);
 	}
 
+	@Test
+	public void enumLiteralCached() throws Exception {
+		Object first = m.getEnumerationValue("uml::VisibilityKind", "private");
+		Object second = m.getEnumerationValue("uml::VisibilityKind", "private");
+		assertSame("Literals should be reused after the first lookup", first, second);
+
+		MDEnumerationLiteral pkg = (MDEnumerationLiteral) m.getEnumerationValue("uml::VisibilityKind", "package");
+		assertEquals("package", pkg.getName());
+	}
+
 	@Test(expected=EolEnumerationValueNotFoundException.class)
 	public void enumLiteralNotFound() throws Exception {
 		m.getEnumerationValue("something", "else");
@@ -150,6 +560,23 @@ public class ZooModelTest {
 			originalClassCount + 1, classCount());
 	}
 
+	@Test
+	public void createClassWithUnfetchedExtent() throws Exception {
+		final Collection<MDModelElement> classes = m.getAllOfKind("Class");
+		final int originalClassCount = classes.size();
+		assertFalse(((MDLazyExtent) classes).isLoaded());
+
+		m.createInstance("Class");
+		assertEquals("The cached extent should have one more class", originalClassCount + 1, classes.size());
+		assertEquals("The new class should not be repeated once the extent is fetched",
+			originalClassCount + 1, new HashSet<>(classes).size());
+		assertEquals(originalClassCount + 1, new ArrayList<>(classes).size());
+
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.size();");
+		assertEquals(originalClassCount + 1, module.execute());
+	}
+
 	@Test
 	public void createClassWithinChildPackage() throws Exception {
 		// Originally, this package should be empty
@@ -554,6 +981,39 @@ public class ZooModelTest {
 		assertEquals("The size of the contents of the Animal class should be 5", 5, module.execute());
 	}
 
+	@Test
+	public void eContentsIsPaged() throws Exception {
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.selectOne(c|c.name = 'Animal').eContents;");
+		Object contents = module.execute();
+		assertTrue("eContents should be fetched lazily", contents instanceof MDContainmentList);
+		assertEquals(5, ((List<?>) contents).size());
+		assertEquals("Reading all elements should match the size", 5, new ArrayList<>((List<?>) contents).size());
+	}
+
+	@Test
+	public void eAllContents() throws Exception {
+		EolModule module = createEOLModule();
+		module.parse("var m = Class.all.selectOne(c|c.name = 'Animal').owningPackage; "
+			+ "return m.eAllContents.size() > m.eContents.size();");
+		assertEquals("The model should have indirect contents", true, module.execute());
+	}
+
+	@Test
+	public void contentsOfType() throws Exception {
+		final MDModelElement animal = m.selectAllOfKind("Class", m.getPredicates().eq("name", "Animal")).get(0);
+		final MDModelElement root = (MDModelElement) m.getPropertyGetter().invoke(animal, "owningPackage", null);
+		assertEquals("Classes directly within the model should be among all the classes",
+			true, m.getContents(root, "Class", false).size() <= m.getContents(root, "Class", true).size());
+		assertEquals(classCount(), m.getContents(root, "Class", true).size());
+	}
+
+	@Test(expected=EolModelElementTypeNotFoundException.class)
+	public void contentsOfMissingType() throws Exception {
+		final MDModelElement animal = m.selectAllOfKind("Class", m.getPredicates().eq("name", "Animal")).get(0);
+		m.getContents(animal, "IDoNotExist", false);
+	}
+
 	@Test
 	public void eClass() throws Exception {
 		EolModule module = createEOLModule();
@@ -561,6 +1021,16 @@ public class ZooModelTest {
 		assertEquals("Class", module.execute());
 	}
 
+	@Test
+	public void eClassIDsAreStable() throws Exception {
+		EolModule module = createEOLModule();
+		module.parse("return Class.all.collect(c|c.eClass).asSet().size();");
+		assertEquals("All classes should report the same metaclass", 1, module.execute());
+
+		module.parse("var eClass = Class.all.first.eClass; return Model.getElementById(Model.getElementId(eClass)) == eClass;");
+		assertEquals(true, module.execute());
+	}
+
 	@Test
 	public void getPredefinedProfile() throws Exception {
 		EolModule module = createEOLModule();
@@ -575,6 +1045,18 @@ public class ZooModelTest {
 		assertEquals("Auxiliary", module.execute());
 	}
 
+	@Test
+	public void stereotypeLookupsAreMemoised() throws Exception {
+		final String standardProfile = "http://www.omg.org/spec/UML/20131001/StandardProfile";
+		MDModelElement first = m.getStereotype(standardProfile, "Auxiliary");
+		assertSame(first, m.getStereotype(standardProfile, "Auxiliary"));
+		assertSame(m.getProfile(standardProfile), m.getProfile(standardProfile));
+
+		m.invalidateProfileCaches();
+		assertEquals("Lookups after invalidation should find the same stereotype",
+			first, m.getStereotype(standardProfile, "Auxiliary"));
+	}
+
 	@Test
 	public void allProfiles() throws Exception {
 		EolModule module = createEOLModule();